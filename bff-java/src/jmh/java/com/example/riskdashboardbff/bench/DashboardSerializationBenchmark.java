@@ -0,0 +1,142 @@
+package com.example.riskdashboardbff.bench;
+
+import com.example.riskdashboardbff.api.DashboardViewModelEncoder;
+import com.example.riskdashboardbff.model.DashboardViewModel;
+import com.example.riskdashboardbff.model.DashboardViewModel.AccountBalance;
+import com.example.riskdashboardbff.model.DashboardViewModel.EnrichedAccount;
+import com.example.riskdashboardbff.model.DashboardViewModel.LatencyMetrics;
+import com.example.riskdashboardbff.model.DashboardViewModel.RiskAccount;
+import com.example.riskdashboardbff.model.DashboardViewModel.RiskMetric;
+import com.example.riskdashboardbff.model.DashboardViewModel.RiskSummary;
+import com.example.riskdashboardbff.model.DashboardViewModel.RiskyAccount;
+import com.example.riskdashboardbff.model.DashboardViewModel.SectionStatus;
+import com.example.riskdashboardbff.model.DashboardViewModel.SystemHealth;
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingFill;
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingOrder;
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingSummary;
+import com.example.riskdashboardbff.model.DashboardViewModel.Transaction;
+import com.example.riskdashboardbff.model.columnar.ColumnarLists;
+import com.example.riskdashboardbff.service.AccountEnrichment;
+import com.example.riskdashboardbff.service.ChartAggregator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares encoding a {@link DashboardViewModel} into a pooled Netty buffer with the
+ * default WebFlux path (Jackson2JsonEncoder + reflective record serialization) against
+ * {@link DashboardViewModelEncoder}, for record lists and for columnar lists.
+ * Run with {@code -prof gc} to compare allocation rates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DashboardSerializationBenchmark {
+
+    private static final ResolvableType TYPE = ResolvableType.forClass(DashboardViewModel.class);
+    private static final String[] SYMBOLS = {"AAPL", "MSFT", "TSLA", "NVDA", "AMZN", "GOOG", "META", "NFLX"};
+    private static final String[] CURRENCIES = {"USD", "EUR", "GBP", "JPY"};
+
+    @JsonSerialize(using = JsonSerializer.None.class)
+    private interface ReflectiveSerialization {}
+
+    @Param({"100", "10000"})
+    public int rows;
+
+    @Param({"false", "true"})
+    public boolean columnar;
+
+    private final NettyDataBufferFactory bufferFactory = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+    private Jackson2JsonEncoder defaultEncoder;
+    private DashboardViewModelEncoder dedicatedEncoder;
+    private DashboardViewModel viewModel;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper reflective = new ObjectMapper().addMixIn(DashboardViewModel.class, ReflectiveSerialization.class);
+        defaultEncoder = new Jackson2JsonEncoder(reflective);
+        dedicatedEncoder = new DashboardViewModelEncoder(new ObjectMapper().getFactory());
+        viewModel = viewModel(rows, columnar);
+    }
+
+    @Benchmark
+    public int defaultJacksonEncoder() {
+        return encodeAndRelease(defaultEncoder.encodeValue(viewModel, bufferFactory, TYPE, MediaType.APPLICATION_JSON, Map.of()));
+    }
+
+    @Benchmark
+    public int dedicatedEncoder() {
+        return encodeAndRelease(dedicatedEncoder.encodeValue(viewModel, bufferFactory, TYPE, MediaType.APPLICATION_JSON, Map.of()));
+    }
+
+    private static int encodeAndRelease(DataBuffer buffer) {
+        int size = buffer.readableByteCount();
+        DataBufferUtils.release(buffer);
+        return size;
+    }
+
+    private static DashboardViewModel viewModel(int rows, boolean columnar) {
+        List<RiskAccount> riskAccounts = new ArrayList<>(rows);
+        List<TradingOrder> orders = new ArrayList<>(rows);
+        List<TradingFill> fills = new ArrayList<>(rows);
+        List<AccountBalance> balances = new ArrayList<>(rows);
+        List<Transaction> transactions = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            String symbol = SYMBOLS[i % SYMBOLS.length];
+            String side = i % 2 == 0 ? "BUY" : "SELL";
+            String account = String.format("ACC-%03d", i % 1_000);
+            String currency = CURRENCIES[i % CURRENCIES.length];
+            riskAccounts.add(new RiskAccount(account, "EQUITIES", 1_000_000.0 + i, (i % 100) / 100.0));
+            orders.add(new TradingOrder(String.format("ORD-%06d", i), symbol, side, 100 + i % 900, 100.0 + i * 0.01, "NEW"));
+            fills.add(new TradingFill(String.format("FILL-%06d", i), symbol, side, 10 + i % 90, 100.0 + i * 0.01, i * 0.5 - 100));
+            balances.add(new AccountBalance(account, currency, 1_000_000.0 + i, 250_000.0, 750_000.0 - i));
+            transactions.add(new Transaction(String.format("TX-%06d", i), account, "DEPOSIT", currency, 10_000.0 + i, "COMPLETED"));
+        }
+        List<EnrichedAccount> enriched = AccountEnrichment.join(riskAccounts, balances, transactions);
+        Map<String, SectionStatus> status = new LinkedHashMap<>();
+        status.put("openOrders", SectionStatus.live());
+        return new DashboardViewModel(
+                List.of(new RiskyAccount("ACC-001", "EQUITIES", 1_500_000.0, 0.82)),
+                new SystemHealth("HEALTHY", 120.0, 5, 5),
+                new RiskSummary(2_000_000.0, 0.82),
+                new TradingSummary(rows, rows, 12_345.0),
+                new LatencyMetrics(10.0, 20.0, 30.0),
+                columnar ? ColumnarLists.compact(riskAccounts) : riskAccounts,
+                List.of(new RiskMetric("VAR_95", 125_000.0, "OK")),
+                columnar ? ColumnarLists.compact(orders) : orders,
+                columnar ? ColumnarLists.compact(fills) : fills,
+                columnar ? ColumnarLists.compact(balances) : balances,
+                columnar ? ColumnarLists.compact(transactions) : transactions,
+                columnar ? enriched : new ArrayList<>(enriched),
+                new ChartAggregator(10, 10).aggregate(riskAccounts, orders, fills, balances, transactions),
+                status
+        );
+    }
+}
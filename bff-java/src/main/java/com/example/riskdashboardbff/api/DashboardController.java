@@ -1,23 +1,103 @@
 package com.example.riskdashboardbff.api;
 
 import com.example.riskdashboardbff.model.DashboardViewModel;
+import com.example.riskdashboardbff.service.AdaptiveConcurrencyLimiter;
 import com.example.riskdashboardbff.service.DashboardAggregationService;
+import com.example.riskdashboardbff.service.DashboardFilter;
+import com.example.riskdashboardbff.service.DeskViewCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 
 @RestController
 public class DashboardController {
 
+    static final String SNAPSHOT_HEADER = "X-Dashboard-Snapshot";
+
     private final DashboardAggregationService aggregationService;
+    private final DeskViewCache deskViews;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final boolean serveSnapshotWhenShed;
+    private final Duration retryAfter;
 
-    public DashboardController(DashboardAggregationService aggregationService) {
+    public DashboardController(
+            DashboardAggregationService aggregationService,
+            DeskViewCache deskViews,
+            AdaptiveConcurrencyLimiter limiter,
+            @Value("${dashboard.limiter.serve-snapshot-when-shed:true}") boolean serveSnapshotWhenShed,
+            @Value("${dashboard.limiter.retry-after:PT1S}") Duration retryAfter
+    ) {
         this.aggregationService = aggregationService;
+        this.deskViews = deskViews;
+        this.limiter = limiter;
+        this.serveSnapshotWhenShed = serveSnapshotWhenShed;
+        this.retryAfter = retryAfter;
     }
 
+    /**
+     * The dashboard, optionally restricted to a desk view with {@code book} and/or
+     * {@code accountId} (comma-separated or repeated) values.
+     */
     @GetMapping("/api/dashboard")
-    public Mono<DashboardViewModel> getDashboard() {
-        return aggregationService.aggregate();
+    public Mono<ResponseEntity<DashboardViewModel>> getDashboard(
+            @RequestParam(name = "book", required = false) List<String> books,
+            @RequestParam(name = "accountId", required = false) List<String> accountIds
+    ) {
+        DashboardFilter filter = DashboardFilter.of(values(books), values(accountIds));
+        // A fresh desk view costs no aggregation: it takes no permit and is no RTT sample.
+        Optional<DashboardViewModel> cached = deskViews.fresh(filter);
+        if (cached.isPresent()) {
+            return Mono.just(ResponseEntity.ok(cached.get()));
+        }
+        if (!limiter.tryAcquire()) {
+            return shed(filter);
+        }
+        long start = System.nanoTime();
+        return deskViews.aggregate(filter)
+                .map(ResponseEntity::ok)
+                .doFinally(signal -> {
+                    if (signal == SignalType.ON_COMPLETE) {
+                        limiter.onSuccess(System.nanoTime() - start);
+                    } else {
+                        limiter.onIgnore();
+                    }
+                });
     }
-}
 
+    private Mono<ResponseEntity<DashboardViewModel>> shed(DashboardFilter filter) {
+        if (serveSnapshotWhenShed) {
+            Optional<DashboardViewModel> fallback = filter.isEmpty()
+                    ? aggregationService.lastSnapshot()
+                    : deskViews.peek(filter);
+            return fallback
+                    .map(snapshot -> Mono.just(ResponseEntity.ok()
+                            .header(SNAPSHOT_HEADER, "true")
+                            .body(snapshot)))
+                    .orElseGet(() -> Mono.error(new DashboardOverloadedException(retryAfter)));
+        }
+        return Mono.error(new DashboardOverloadedException(retryAfter));
+    }
+
+    private static List<String> values(List<String> params) {
+        List<String> result = new ArrayList<>();
+        if (params != null) {
+            for (String value : params) {
+                for (String part : value.split(",")) {
+                    if (!part.isBlank()) {
+                        result.add(part.trim());
+                    }
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.riskdashboardbff.api;
+
+import java.time.Duration;
+
+/**
+ * Raised when a dashboard request is shed by the concurrency limiter and no
+ * snapshot is available to answer it. Mapped to 503 with a Retry-After header.
+ */
+public class DashboardOverloadedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public DashboardOverloadedException(Duration retryAfter) {
+        super("Dashboard concurrency limit reached");
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.riskdashboardbff.api;
+
+import com.example.riskdashboardbff.service.DashboardPushService;
+import com.example.riskdashboardbff.service.PushSubscriber;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.socket.CloseStatus;
+import org.springframework.web.reactive.socket.WebSocketHandler;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebSocket endpoint {@code /api/dashboard/stream}: sends the dashboard as a JSON text
+ * frame (same body as {@code /api/dashboard}) whenever it changes.
+ * <p>
+ * The next frame is only requested once the previous one has been written to the
+ * socket, so frames never pile up in the channel; a client that reads slower than
+ * the refresh interval just receives fewer, always current, snapshots. Inbound
+ * messages are ignored.
+ */
+@Component
+public class DashboardStreamHandler implements WebSocketHandler {
+
+    private final DashboardPushService pushService;
+
+    public DashboardStreamHandler(DashboardPushService pushService) {
+        this.pushService = pushService;
+    }
+
+    @Override
+    public Mono<Void> handle(WebSocketSession session) {
+        PushSubscriber subscriber = pushService.subscribe(session.getId());
+        if (subscriber == null) {
+            return session.close(CloseStatus.SERVICE_OVERLOAD);
+        }
+        Mono<Void> outbound = subscriber.frames()
+                .concatMap(frame -> session.send(Mono.just(new WebSocketMessage(
+                                WebSocketMessage.Type.TEXT, session.bufferFactory().wrap(frame))))
+                        .doOnSubscribe(s -> subscriber.writing(true))
+                        .doFinally(signal -> subscriber.writing(false)), 0)
+                .then();
+        Mono<Void> inbound = session.receive().then();
+        return Mono.firstWithSignal(outbound, inbound);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.riskdashboardbff.api;
+
+import com.example.riskdashboardbff.service.DashboardTracer;
+import com.example.riskdashboardbff.service.RequestTrace;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Traces {@code GET /api/dashboard} requests from arrival until the response is
+ * written, so the trace covers serialization as well as the aggregation. The trace id
+ * is returned in {@value #TRACE_ID_HEADER} to look the request up in the
+ * {@code dashboardtraces} actuator endpoint.
+ */
+@Component
+public class DashboardTraceFilter implements WebFilter {
+
+    static final String TRACE_ID_HEADER = "X-Dashboard-Trace-Id";
+
+    private final DashboardTracer tracer;
+
+    public DashboardTraceFilter(DashboardTracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!tracer.isEnabled() || !"/api/dashboard".equals(request.getPath().value())) {
+            return chain.filter(exchange);
+        }
+        String query = request.getURI().getRawQuery();
+        RequestTrace trace = tracer.start(
+                request.getMethod().name() + " " + request.getPath().value() + (query != null ? "?" + query : ""),
+                request.getHeaders().getFirst(DashboardTracer.TRACEPARENT_HEADER));
+        exchange.getResponse().getHeaders().set(TRACE_ID_HEADER, trace.traceId());
+        ServerHttpResponseDecorator response = new ServerHttpResponseDecorator(exchange.getResponse()) {
+            @Override
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                return super.writeWith(Flux.from(body).doOnNext(buffer -> trace.onBodyReady()));
+            }
+        };
+        return chain.filter(exchange.mutate().response(response).build())
+                .doFinally(signal -> tracer.finish(trace, signal == SignalType.ON_ERROR))
+                .contextWrite(RequestTrace.context(trace));
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.riskdashboardbff.api;
+
+import com.example.riskdashboardbff.model.TraceSummary;
+import com.example.riskdashboardbff.service.DashboardTracer;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Actuator endpoint {@code /actuator/dashboardtraces}: how often each source gated a
+ * dashboard request, the slowest recent requests and the sampled ones, each with its
+ * critical path. {@code /actuator/dashboardtraces/{traceId}} returns a single kept
+ * trace.
+ */
+@Component
+@Endpoint(id = "dashboardtraces")
+public class DashboardTracesEndpoint {
+
+    private final DashboardTracer tracer;
+
+    public DashboardTracesEndpoint(DashboardTracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @ReadOperation
+    public Traces traces() {
+        return new Traces(tracer.gatingCounts(), tracer.slowest(), tracer.sampled());
+    }
+
+    @ReadOperation
+    public TraceSummary trace(@Selector String traceId) {
+        return tracer.find(traceId).orElse(null);
+    }
+
+    public record Traces(
+            Map<String, Long> gatingSources,
+            List<TraceSummary> slowest,
+            List<TraceSummary> sampled
+    ) {}
+}
@@ -0,0 +1,94 @@
+package com.example.riskdashboardbff.api;
+
+import com.example.riskdashboardbff.jfr.SerializationEvent;
+import com.example.riskdashboardbff.model.DashboardViewModel;
+import com.example.riskdashboardbff.model.DashboardViewModelSerializer;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractEncoder;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Encodes {@link DashboardViewModel} responses with {@link DashboardViewModelSerializer},
+ * generating JSON directly into a (pooled) response {@link DataBuffer} instead of an
+ * intermediate byte array. The buffer is sized from the previous response so that it
+ * rarely has to grow. Row-level lists can be cut to {@code maxListRows} rows (see
+ * {@link DashboardViewModelSerializer#write(DashboardViewModel, JsonGenerator, int)}).
+ */
+public class DashboardViewModelEncoder extends AbstractEncoder<DashboardViewModel> {
+
+    private static final int MIN_BUFFER_SIZE = 4096;
+
+    private final JsonFactory jsonFactory;
+    private final int maxListRows;
+    private volatile int sizeHint = MIN_BUFFER_SIZE;
+
+    public DashboardViewModelEncoder(JsonFactory jsonFactory) {
+        this(jsonFactory, Integer.MAX_VALUE);
+    }
+
+    public DashboardViewModelEncoder(JsonFactory jsonFactory, int maxListRows) {
+        super(MediaType.APPLICATION_JSON);
+        this.jsonFactory = jsonFactory;
+        this.maxListRows = maxListRows;
+    }
+
+    @Override
+    public boolean canEncode(ResolvableType elementType, MimeType mimeType) {
+        return DashboardViewModel.class.isAssignableFrom(elementType.toClass()) && super.canEncode(elementType, mimeType);
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(
+            Publisher<? extends DashboardViewModel> inputStream,
+            DataBufferFactory bufferFactory,
+            ResolvableType elementType,
+            MimeType mimeType,
+            Map<String, Object> hints
+    ) {
+        return Flux.from(inputStream).map(value -> encodeValue(value, bufferFactory, elementType, mimeType, hints));
+    }
+
+    @Override
+    public DataBuffer encodeValue(
+            DashboardViewModel value,
+            DataBufferFactory bufferFactory,
+            ResolvableType valueType,
+            MimeType mimeType,
+            Map<String, Object> hints
+    ) {
+        SerializationEvent event = new SerializationEvent();
+        event.begin();
+        DataBuffer buffer = bufferFactory.allocateBuffer(sizeHint);
+        boolean release = true;
+        try (JsonGenerator gen = jsonFactory.createGenerator(buffer.asOutputStream(), JsonEncoding.UTF8)) {
+            DashboardViewModelSerializer.write(value, gen, maxListRows);
+            release = false;
+        } catch (IOException e) {
+            throw new EncodingException("Could not write dashboard view model: " + e.getMessage(), e);
+        } finally {
+            if (release) {
+                DataBufferUtils.release(buffer);
+            }
+        }
+        sizeHint = Math.max(MIN_BUFFER_SIZE, buffer.readableByteCount() + buffer.readableByteCount() / 8);
+        if (event.shouldCommit()) {
+            event.target = "http";
+            event.bytes = buffer.readableByteCount();
+            event.commit();
+        }
+        return buffer;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.riskdashboardbff.api;
+
+import com.example.riskdashboardbff.model.DashboardViewModel.SectionStatus;
+import com.example.riskdashboardbff.service.ArrowExportService;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+
+/**
+ * Bulk export of the list sections in the Arrow IPC streaming format, e.g.
+ * {@code /api/export/orders?batchRows=10000}, readable with
+ * {@code pyarrow.ipc.open_stream} or any other Arrow implementation.
+ */
+@RestController
+public class ExportController {
+
+    static final String ARROW_STREAM = "application/vnd.apache.arrow.stream";
+    static final String DATA_STATE_HEADER = "X-Dashboard-Data-State";
+    static final String DATA_AS_OF_HEADER = "X-Dashboard-Data-As-Of";
+
+    private final ArrowExportService exportService;
+
+    public ExportController(ArrowExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    @GetMapping("/api/export")
+    public Set<String> datasets() {
+        return exportService.datasets();
+    }
+
+    /**
+     * Streams the dataset. The state of the exported value (LIVE, STALE or DEFAULT, see
+     * {@link SectionStatus}) is sent in {@value #DATA_STATE_HEADER} and, when it was not
+     * fetched for this request, the time it was fetched in {@value #DATA_AS_OF_HEADER}.
+     */
+    @GetMapping(value = "/api/export/{dataset}", produces = ARROW_STREAM)
+    public Mono<ResponseEntity<Flux<DataBuffer>>> export(
+            @PathVariable String dataset,
+            @RequestParam(required = false) Integer batchRows
+    ) {
+        return exportService.export(dataset, batchRows).map(export -> {
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            ContentDisposition.attachment().filename(dataset + ".arrows").build().toString())
+                    .header(DATA_STATE_HEADER, export.status().state());
+            if (export.status().asOf() != null) {
+                response.header(DATA_AS_OF_HEADER, export.status().asOf());
+            }
+            return response.body(export.messages().<DataBuffer>map(DefaultDataBufferFactory.sharedInstance::wrap));
+        });
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.riskdashboardbff.api;
+
+import com.example.riskdashboardbff.model.FlightRecordingStatus;
+import com.example.riskdashboardbff.service.FlightRecorderService;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Actuator endpoint {@code /actuator/flightrecording} controlling the on-demand JDK
+ * Flight Recorder recording:
+ * <ul>
+ *   <li>{@code GET} returns its status,</li>
+ *   <li>{@code POST /start} starts it, optionally with {@code {"duration": "PT5M"}},</li>
+ *   <li>{@code POST /stop} stops it,</li>
+ *   <li>{@code GET /dump} downloads the data recorded so far as a {@code .jfr} file
+ *   (404 before the first recording).</li>
+ * </ul>
+ * A dump includes the environment variables and system properties of the process, so
+ * the endpoint is not exposed over HTTP by default; enable it only on a management port
+ * that is not reachable from outside.
+ */
+@Component
+@Endpoint(id = "flightrecording")
+public class FlightRecordingEndpoint {
+
+    private final FlightRecorderService recorder;
+
+    public FlightRecordingEndpoint(FlightRecorderService recorder) {
+        this.recorder = recorder;
+    }
+
+    @ReadOperation
+    public FlightRecordingStatus status() {
+        return recorder.status();
+    }
+
+    @WriteOperation
+    public FlightRecordingStatus control(@Selector String action, @Nullable Duration duration) {
+        return switch (action) {
+            case "start" -> recorder.start(duration);
+            case "stop" -> recorder.stop();
+            default -> throw new InvalidEndpointRequestException(
+                    "Unknown action '" + action + "', expected start or stop", "Unknown action");
+        };
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public Resource dump(@Selector String name) {
+        if (!"dump".equals(name) || "NEW".equals(recorder.status().state())) {
+            return null;
+        }
+        return new FileSystemResource(recorder.dump());
+    }
+}
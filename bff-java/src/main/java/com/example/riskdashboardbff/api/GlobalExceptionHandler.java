@@ -2,6 +2,7 @@ package com.example.riskdashboardbff.api;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -49,6 +50,37 @@ public class GlobalExceptionHandler {
                 ));
     }
 
+    /**
+     * Handle requests shed by the adaptive concurrency limiter.
+     */
+    @ExceptionHandler(DashboardOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleOverloaded(DashboardOverloadedException ex) {
+        log.debug("Request shed: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(ErrorResponse.of(
+                        "SERVICE_UNAVAILABLE",
+                        "Dashboard is overloaded, please retry later",
+                        HttpStatus.SERVICE_UNAVAILABLE.value()
+                ));
+    }
+
+    /**
+     * Handle malformed or unknown query parameters.
+     */
+    @ExceptionHandler(InvalidQueryException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidQuery(InvalidQueryException ex) {
+        log.debug("Invalid query: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ErrorResponse.of(
+                        "BAD_REQUEST",
+                        ex.getMessage(),
+                        HttpStatus.BAD_REQUEST.value()
+                ));
+    }
+
     /**
      * Handle WebClient errors from downstream services.
      */
@@ -0,0 +1,90 @@
+package com.example.riskdashboardbff.api;
+
+import com.example.riskdashboardbff.model.HistorySeries;
+import com.example.riskdashboardbff.service.DashboardKpi;
+import com.example.riskdashboardbff.service.HistoryResolution;
+import com.example.riskdashboardbff.service.KpiHistory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * History of the summary KPIs, e.g.
+ * {@code /api/dashboard/history?kpi=riskSummary.totalNetExposure&resolution=1m&from=2025-01-01T09:00:00Z}.
+ * {@code kpi} takes comma-separated or repeated keys and defaults to all KPIs;
+ * {@code from} and {@code to} take ISO-8601 instants or epoch millis and default to the
+ * retention of the chosen resolution up to now; without {@code resolution} the finest
+ * one still covering {@code from} is used.
+ */
+@RestController
+public class HistoryController {
+
+    private final KpiHistory history;
+
+    public HistoryController(KpiHistory history) {
+        this.history = history;
+    }
+
+    @GetMapping("/api/dashboard/history")
+    public List<HistorySeries> history(
+            @RequestParam(name = "kpi", required = false) List<String> kpiKeys,
+            @RequestParam(required = false) String resolution,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to
+    ) {
+        HistoryResolution requested = null;
+        if (resolution != null) {
+            requested = HistoryResolution.fromKey(resolution);
+            if (requested == null) {
+                throw new InvalidQueryException("Unknown resolution '" + resolution + "', expected one of "
+                        + Arrays.stream(HistoryResolution.values()).map(HistoryResolution::key).toList());
+            }
+        }
+        long now = System.currentTimeMillis();
+        long toMillis = to == null ? now : parseInstant("to", to);
+        HistoryResolution defaultWindow = requested != null ? requested : HistoryResolution.SECOND;
+        long fromMillis = from == null ? toMillis - defaultWindow.retentionMillis() : parseInstant("from", from);
+        try {
+            return history.query(kpis(kpiKeys), requested, fromMillis, toMillis, now);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidQueryException(e.getMessage());
+        }
+    }
+
+    private static List<DashboardKpi> kpis(List<String> keys) {
+        if (keys == null) {
+            return List.of(DashboardKpi.values());
+        }
+        List<DashboardKpi> result = new ArrayList<>();
+        for (String value : keys) {
+            for (String key : value.split(",")) {
+                if (key.isBlank()) {
+                    continue;
+                }
+                DashboardKpi kpi = DashboardKpi.fromKey(key.trim());
+                if (kpi == null) {
+                    throw new InvalidQueryException("Unknown kpi '" + key.trim() + "', expected one of "
+                            + Arrays.stream(DashboardKpi.values()).map(DashboardKpi::key).toList());
+                }
+                result.add(kpi);
+            }
+        }
+        return result.isEmpty() ? List.of(DashboardKpi.values()) : result;
+    }
+
+    private static long parseInstant(String name, String value) {
+        try {
+            return value.chars().allMatch(Character::isDigit)
+                    ? Long.parseLong(value)
+                    : Instant.parse(value).toEpochMilli();
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new InvalidQueryException(name + " must be an ISO-8601 instant or epoch millis");
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.riskdashboardbff.api;
+
+/**
+ * Raised for a query naming an unknown dataset, filter or sort field, or carrying
+ * malformed parameters. Mapped to 400.
+ */
+public class InvalidQueryException extends RuntimeException {
+
+    public InvalidQueryException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.riskdashboardbff.api;
+
+import com.example.riskdashboardbff.model.PushSubscriberStats;
+import com.example.riskdashboardbff.service.DashboardPushService;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Per-subscriber delivery statistics of {@code /api/dashboard/stream}, most conflated
+ * first. Node-wide totals are published as {@code dashboard.push.*} metrics.
+ */
+@RestController
+public class PushController {
+
+    private final DashboardPushService pushService;
+
+    public PushController(DashboardPushService pushService) {
+        this.pushService = pushService;
+    }
+
+    @GetMapping("/api/dashboard/stream/subscribers")
+    public List<PushSubscriberStats> subscribers(@RequestParam(defaultValue = "100") int limit) {
+        return pushService.subscriberStats(limit);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.riskdashboardbff.api;
+
+import com.example.riskdashboardbff.model.QueryResult;
+import com.example.riskdashboardbff.service.DashboardQueryService;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Server-side filtering of the order, fill and transaction lists, e.g.
+ * {@code /api/query/orders?symbol=AAPL,MSFT&side=BUY&sort=price&order=desc&limit=50}.
+ * Every parameter other than {@code sort}, {@code order} and {@code limit} is a filter
+ * on the field of that name; comma-separated or repeated values match any of them.
+ */
+@RestController
+public class QueryController {
+
+    private static final Set<String> RESERVED = Set.of("sort", "order", "limit");
+    private static final int DEFAULT_LIMIT = 100;
+
+    private final DashboardQueryService queryService;
+
+    public QueryController(DashboardQueryService queryService) {
+        this.queryService = queryService;
+    }
+
+    @GetMapping("/api/query")
+    public Set<String> datasets() {
+        return queryService.datasets();
+    }
+
+    @GetMapping("/api/query/{dataset}")
+    public Mono<QueryResult<?>> query(
+            @PathVariable String dataset,
+            @RequestParam MultiValueMap<String, String> params
+    ) {
+        Map<String, List<String>> filters = new LinkedHashMap<>();
+        params.forEach((name, values) -> {
+            List<String> accepted = split(values);
+            if (!RESERVED.contains(name) && !accepted.isEmpty()) {
+                filters.put(name, accepted);
+            }
+        });
+        String order = params.getFirst("order");
+        if (order != null && !order.equals("asc") && !order.equals("desc")) {
+            return Mono.error(new InvalidQueryException("order must be 'asc' or 'desc'"));
+        }
+        int limit;
+        try {
+            String value = params.getFirst("limit");
+            limit = value == null ? DEFAULT_LIMIT : Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            return Mono.error(new InvalidQueryException("limit must be an integer"));
+        }
+        return queryService.query(dataset, filters, params.getFirst("sort"), "desc".equals(order), limit);
+    }
+
+    private static List<String> split(List<String> values) {
+        List<String> result = new ArrayList<>();
+        for (String value : values) {
+            for (String part : value.split(",")) {
+                if (!part.isBlank()) {
+                    result.add(part.trim());
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.riskdashboardbff.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ClassUtils;
+import reactor.blockhound.BlockHound;
+
+/**
+ * Development mode that makes a blocking call on a non-blocking thread (a Netty event
+ * loop or a Reactor parallel scheduler, including {@code dashboard-cpu}) fail with a
+ * {@code BlockingOperationError} instead of silently stalling every connection on
+ * that thread.
+ * <p>
+ * Enabled with {@code dashboard.blocking-detection.enabled}. BlockHound is an optional
+ * dependency that is on the classpath of {@code mvn spring-boot:run} but not packaged,
+ * and the JVM needs {@code -XX:+AllowRedefinitionToAddDeleteMethods}. The test suite
+ * installs it for every test through {@code blockhound-junit-platform}.
+ */
+@Configuration
+public class BlockingCallDetection {
+
+    private static final Logger log = LoggerFactory.getLogger(BlockingCallDetection.class);
+
+    public BlockingCallDetection(@Value("${dashboard.blocking-detection.enabled:false}") boolean enabled) {
+        if (!enabled) {
+            return;
+        }
+        if (!ClassUtils.isPresent("reactor.blockhound.BlockHound", getClass().getClassLoader())) {
+            throw new IllegalStateException(
+                    "dashboard.blocking-detection.enabled requires io.projectreactor.tools:blockhound on the classpath");
+        }
+        Installer.install();
+        log.info("Blocking calls on non-blocking threads will fail (BlockHound installed)");
+    }
+
+    /**
+     * Holds the BlockHound references, so that they are only resolved when enabled.
+     */
+    private static final class Installer {
+
+        static void install() {
+            BlockHound.install(new DashboardBlockHoundIntegration());
+        }
+    }
+}
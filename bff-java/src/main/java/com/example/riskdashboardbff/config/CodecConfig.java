@@ -0,0 +1,29 @@
+package com.example.riskdashboardbff.config;
+
+import com.example.riskdashboardbff.api.DashboardViewModelEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * Registers the dedicated {@link DashboardViewModelEncoder} ahead of the generic
+ * Jackson encoder; all other bodies are still written by Jackson.
+ */
+@Configuration
+public class CodecConfig implements WebFluxConfigurer {
+
+    private final ObjectMapper objectMapper;
+    private final int maxListRows;
+
+    public CodecConfig(ObjectMapper objectMapper, @Value("${dashboard.charts.max-list-rows:0}") int maxListRows) {
+        this.objectMapper = objectMapper;
+        this.maxListRows = maxListRows;
+    }
+
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        configurer.customCodecs().register(new DashboardViewModelEncoder(objectMapper.getFactory(), maxListRows));
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.riskdashboardbff.config;
+
+import reactor.blockhound.BlockHound;
+import reactor.blockhound.integration.BlockHoundIntegration;
+
+/**
+ * Blocking calls BlockHound tolerates on non-blocking threads in this application.
+ * Applied by {@link BlockingCallDetection} and, through the service loader, by the
+ * test suite.
+ */
+public class DashboardBlockHoundIntegration implements BlockHoundIntegration {
+
+    @Override
+    public void applyTo(BlockHound.Builder builder) {
+        // Log statements on event loops take logback's stream lock and write to stdout.
+        builder.allowBlockingCallsInside("ch.qos.logback.core.OutputStreamAppender", "writeBytes");
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.riskdashboardbff.config;
+
+import com.example.riskdashboardbff.service.DashboardTracer;
+import com.example.riskdashboardbff.service.DownstreamPoolMetrics;
+import com.example.riskdashboardbff.service.RetryBudget;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ReactorResourceFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Shared connection pool for all downstream WebClients. Pool metrics are exposed
+ * through {@link DownstreamPoolMetrics} so that pending connection acquisitions can
+ * be used as a load signal. Requests made while a dashboard source is being traced
+ * are recorded by {@link DashboardTracer} and carry its trace context. Successful
+ * responses fund the per-host {@link RetryBudget}.
+ */
+@Configuration
+public class WebClientConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider downstreamConnectionProvider(
+            DownstreamPoolMetrics poolMetrics,
+            @Value("${downstream.pool.max-connections:200}") int maxConnections,
+            @Value("${downstream.pool.pending-acquire-max-count:1000}") int pendingAcquireMaxCount
+    ) {
+        return ConnectionProvider.builder("downstream")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .metrics(true, () -> poolMetrics)
+                .build();
+    }
+
+    @Bean
+    public WebClientCustomizer downstreamConnectorCustomizer(
+            ConnectionProvider downstreamConnectionProvider,
+            ReactorResourceFactory resourceFactory,
+            DashboardTracer tracer,
+            RetryBudget retryBudget
+    ) {
+        HttpClient httpClient = HttpClient.create(downstreamConnectionProvider)
+                .runOn(resourceFactory.getLoopResources())
+                .doOnRequest(tracer::onRequestSent);
+        return builder -> builder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter(tracer.exchangeFilter())
+                .filter(retryBudget.exchangeFilter());
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.riskdashboardbff.config;
+
+import com.example.riskdashboardbff.api.DashboardStreamHandler;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.reactive.handler.SimpleUrlHandlerMapping;
+
+import java.util.Map;
+
+/**
+ * Maps the WebSocket endpoints ahead of the annotated controllers.
+ */
+@Configuration
+public class WebSocketConfig {
+
+    @Bean
+    public HandlerMapping webSocketHandlerMapping(DashboardStreamHandler dashboardStreamHandler) {
+        return new SimpleUrlHandlerMapping(Map.of("/api/dashboard/stream", dashboardStreamHandler), -1);
+    }
+}
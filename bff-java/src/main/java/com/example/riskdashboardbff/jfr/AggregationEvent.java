@@ -0,0 +1,38 @@
+package com.example.riskdashboardbff.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One dashboard aggregation, from subscription until the view model is assembled.
+ */
+@Name(AggregationEvent.NAME)
+@Label("Dashboard Aggregation")
+@Category("Risk Dashboard")
+@Description("Assembly of the dashboard view model from all sources")
+@StackTrace(false)
+public class AggregationEvent extends Event {
+
+    public static final String NAME = "com.example.riskdashboardbff.Aggregation";
+
+    @Label("Trace Id")
+    public String traceId;
+
+    @Label("Filter")
+    @Description("Desk view filter key, empty for the full dashboard")
+    public String filter;
+
+    @Label("Load Level")
+    public String loadLevel;
+
+    @Label("Degraded Sections")
+    @Description("Sections not served live (stale, skipped or default)")
+    public int degradedSections;
+
+    @Label("Failed")
+    public boolean failed;
+}
@@ -0,0 +1,41 @@
+package com.example.riskdashboardbff.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A lookup in one of the BFF's caches.
+ */
+@Name(CacheLookupEvent.NAME)
+@Label("Dashboard Cache Lookup")
+@Category("Risk Dashboard")
+@StackTrace(false)
+public class CacheLookupEvent extends Event {
+
+    public static final String NAME = "com.example.riskdashboardbff.CacheLookup";
+
+    @Label("Cache")
+    public String cache;
+
+    @Label("Key")
+    public String key;
+
+    @Label("Hit")
+    public boolean hit;
+
+    /**
+     * Records a lookup if the event is enabled.
+     */
+    public static void record(String cache, String key, boolean hit) {
+        CacheLookupEvent event = new CacheLookupEvent();
+        if (event.shouldCommit()) {
+            event.cache = cache;
+            event.key = key;
+            event.hit = hit;
+            event.commit();
+        }
+    }
+}
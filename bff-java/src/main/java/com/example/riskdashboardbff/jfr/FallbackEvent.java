@@ -0,0 +1,41 @@
+package com.example.riskdashboardbff.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A section served from the last-known-good cache or its default instead of the
+ * downstream service.
+ */
+@Name(FallbackEvent.NAME)
+@Label("Dashboard Fallback")
+@Category("Risk Dashboard")
+@Description("Downstream call replaced by the last-known-good or default value")
+@StackTrace(false)
+public class FallbackEvent extends Event {
+
+    public static final String NAME = "com.example.riskdashboardbff.Fallback";
+
+    @Label("Section")
+    public String section;
+
+    @Label("Reason")
+    @Description("error: the call failed; negative-cache: a recent failure skipped the call")
+    public String reason;
+
+    @Label("Error")
+    public String error;
+
+    @Label("Served")
+    @Description("stale or default")
+    public String served;
+
+    @Label("Age")
+    @Timespan(Timespan.MILLISECONDS)
+    public long age;
+}
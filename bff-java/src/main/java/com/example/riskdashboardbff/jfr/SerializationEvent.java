@@ -0,0 +1,27 @@
+package com.example.riskdashboardbff.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Encoding of one dashboard view model to JSON.
+ */
+@Name(SerializationEvent.NAME)
+@Label("Dashboard Serialization")
+@Category("Risk Dashboard")
+@StackTrace(false)
+public class SerializationEvent extends Event {
+
+    public static final String NAME = "com.example.riskdashboardbff.Serialization";
+
+    @Label("Target")
+    public String target;
+
+    @Label("Size")
+    @DataAmount
+    public long bytes;
+}
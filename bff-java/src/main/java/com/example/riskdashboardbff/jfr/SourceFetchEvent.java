@@ -0,0 +1,35 @@
+package com.example.riskdashboardbff.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Production of one dashboard section during an aggregation.
+ */
+@Name(SourceFetchEvent.NAME)
+@Label("Dashboard Source Fetch")
+@Category("Risk Dashboard")
+@Description("One section of an aggregation, from subscription until its value is available")
+@StackTrace(false)
+public class SourceFetchEvent extends Event {
+
+    public static final String NAME = "com.example.riskdashboardbff.SourceFetch";
+
+    @Label("Source")
+    public String source;
+
+    @Label("Origin")
+    @Description("Where the value came from: downstream, stream, cluster, cache, skipped, or live for a section that is never degraded")
+    public String origin;
+
+    @Label("Rows")
+    @Description("Rows of a list section, -1 for other sections")
+    public int rows;
+
+    @Label("Failed")
+    public boolean failed;
+}
@@ -1,12 +1,17 @@
 package com.example.riskdashboardbff.model;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
 import java.util.List;
+import java.util.Map;
 
 /**
  * View model returned to the SSR frontend. It intentionally aggregates data
  * from multiple (mocked) downstream services to demonstrate a WebFlux-based
- * high-concurrency BFF.
+ * high-concurrency BFF. It is written by {@link DashboardViewModelSerializer}, which
+ * must be kept in sync when components are added.
  */
+@JsonSerialize(using = DashboardViewModelSerializer.class)
 public record DashboardViewModel(
         List<RiskyAccount> topRiskyAccounts,
         SystemHealth health,
@@ -18,9 +23,23 @@ public record DashboardViewModel(
         List<TradingOrder> openOrders,
         List<TradingFill> recentFills,
         List<AccountBalance> accountBalances,
-        List<Transaction> recentTransactions
+        List<Transaction> recentTransactions,
+        List<EnrichedAccount> enrichedAccounts,
+        ChartAggregates charts,
+        Map<String, SectionStatus> sectionStatus
 ) {
 
+    /**
+     * Returns a copy of this view model with different section metadata.
+     */
+    public DashboardViewModel withSectionStatus(Map<String, SectionStatus> status) {
+        return new DashboardViewModel(
+                topRiskyAccounts, health, riskSummary, tradingSummary, latencyMetrics,
+                riskAccounts, riskMetrics, openOrders, recentFills, accountBalances,
+                recentTransactions, enrichedAccounts, charts, status
+        );
+    }
+
     public record RiskyAccount(
             String accountId,
             String book,
@@ -108,5 +127,78 @@ public record DashboardViewModel(
             double amount,
             String status
     ) {}
-}
 
+    /**
+     * Risk account joined with its ledger balance and pending (unsettled) transactions.
+     * Computed by the BFF, so it is only as fresh as the sections it is joined from.
+     * Amounts are in the account's {@code currency}, the currency of its first balance;
+     * balances and pending transactions in other currencies are not converted and are
+     * left out of the amounts, though they still count towards
+     * {@code pendingTransactionCount}. {@code currency} is {@code null} for an account
+     * without a balance.
+     */
+    public record EnrichedAccount(
+            String accountId,
+            String book,
+            double exposure,
+            double utilization,
+            String currency,
+            double cashBalance,
+            double availableMargin,
+            int pendingTransactionCount,
+            double pendingTransactionAmount
+    ) {}
+
+    /**
+     * Chart-ready aggregates of the list sections, computed by the BFF when a section
+     * refreshes, so charts stay the same size however many rows the lists have.
+     * Groups are ordered by descending total.
+     */
+    public record ChartAggregates(
+            List<GroupTotal> topExposures,
+            List<GroupTotal> exposureByBook,
+            Histogram utilization,
+            List<GroupTotal> pnlBySymbol,
+            List<GroupTotal> ordersByStatus,
+            List<GroupTotal> cashByCurrency,
+            List<GroupTotal> transactionAmountByType,
+            List<GroupTotal> transactionAmountByCurrency
+    ) {}
+
+    public record GroupTotal(
+            String key,
+            double total,
+            long count
+    ) {}
+
+    /**
+     * Equal-width histogram over {@code [min, max]}; values outside the range are
+     * counted in the first or last bucket.
+     */
+    public record Histogram(
+            double min,
+            double max,
+            long[] counts
+    ) {}
+
+    /**
+     * Freshness of a single section. LIVE sections were fetched for this request,
+     * STALE sections were served from the last-known-good cache (as of {@code asOf}),
+     * DEFAULT sections carry placeholder values because nothing was available, and
+     * SKIPPED sections were deliberately left empty to shed load.
+     */
+    public record SectionStatus(
+            String state,
+            String asOf,
+            long ageMs
+    ) {
+        public static final String LIVE = "LIVE";
+        public static final String STALE = "STALE";
+        public static final String DEFAULT = "DEFAULT";
+        public static final String SKIPPED = "SKIPPED";
+
+        public static SectionStatus live() {
+            return new SectionStatus(LIVE, null, 0);
+        }
+    }
+}
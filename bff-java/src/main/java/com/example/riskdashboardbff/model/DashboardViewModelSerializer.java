@@ -0,0 +1,434 @@
+package com.example.riskdashboardbff.model;
+
+import com.example.riskdashboardbff.model.DashboardViewModel.AccountBalance;
+import com.example.riskdashboardbff.model.DashboardViewModel.ChartAggregates;
+import com.example.riskdashboardbff.model.DashboardViewModel.EnrichedAccount;
+import com.example.riskdashboardbff.model.DashboardViewModel.GroupTotal;
+import com.example.riskdashboardbff.model.DashboardViewModel.Histogram;
+import com.example.riskdashboardbff.model.DashboardViewModel.LatencyMetrics;
+import com.example.riskdashboardbff.model.DashboardViewModel.RiskAccount;
+import com.example.riskdashboardbff.model.DashboardViewModel.RiskMetric;
+import com.example.riskdashboardbff.model.DashboardViewModel.RiskSummary;
+import com.example.riskdashboardbff.model.DashboardViewModel.RiskyAccount;
+import com.example.riskdashboardbff.model.DashboardViewModel.SectionStatus;
+import com.example.riskdashboardbff.model.DashboardViewModel.SystemHealth;
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingFill;
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingOrder;
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingSummary;
+import com.example.riskdashboardbff.model.DashboardViewModel.Transaction;
+import com.example.riskdashboardbff.model.columnar.ColumnarList;
+import com.example.riskdashboardbff.model.columnar.ColumnarListSerializer;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hand-written serializer for {@link DashboardViewModel} and its nested records. It
+ * writes the same JSON as Jackson's reflective record serializer, but with pre-encoded
+ * field names and without per-property serializer lookups, which matters once the
+ * lists are large. Columnar and raw passthrough lists are written by their own
+ * serializers.
+ */
+public class DashboardViewModelSerializer extends StdSerializer<DashboardViewModel> {
+
+    private static final SerializedString TOP_RISKY_ACCOUNTS = new SerializedString("topRiskyAccounts");
+    private static final SerializedString HEALTH = new SerializedString("health");
+    private static final SerializedString RISK_SUMMARY = new SerializedString("riskSummary");
+    private static final SerializedString TRADING_SUMMARY = new SerializedString("tradingSummary");
+    private static final SerializedString LATENCY_METRICS = new SerializedString("latencyMetrics");
+    private static final SerializedString RISK_ACCOUNTS = new SerializedString("riskAccounts");
+    private static final SerializedString RISK_METRICS = new SerializedString("riskMetrics");
+    private static final SerializedString OPEN_ORDERS = new SerializedString("openOrders");
+    private static final SerializedString RECENT_FILLS = new SerializedString("recentFills");
+    private static final SerializedString ACCOUNT_BALANCES = new SerializedString("accountBalances");
+    private static final SerializedString RECENT_TRANSACTIONS = new SerializedString("recentTransactions");
+    private static final SerializedString ENRICHED_ACCOUNTS = new SerializedString("enrichedAccounts");
+    private static final SerializedString CHARTS = new SerializedString("charts");
+    private static final SerializedString SECTION_STATUS = new SerializedString("sectionStatus");
+    private static final SerializedString LIST_ROWS = new SerializedString("listRows");
+
+    private static final SerializedString ACCOUNT_ID = new SerializedString("accountId");
+    private static final SerializedString BOOK = new SerializedString("book");
+    private static final SerializedString NET_EXPOSURE = new SerializedString("netExposure");
+    private static final SerializedString MARGIN_UTILIZATION = new SerializedString("marginUtilization");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString AVG_LATENCY_MS = new SerializedString("avgLatencyMs");
+    private static final SerializedString DOWNSTREAM_HEALTHY_COUNT = new SerializedString("downstreamHealthyCount");
+    private static final SerializedString DOWNSTREAM_TOTAL_COUNT = new SerializedString("downstreamTotalCount");
+    private static final SerializedString TOTAL_NET_EXPOSURE = new SerializedString("totalNetExposure");
+    private static final SerializedString MAX_MARGIN_UTILIZATION = new SerializedString("maxMarginUtilization");
+    private static final SerializedString FILLED_TODAY = new SerializedString("filledToday");
+    private static final SerializedString REALIZED_PNL = new SerializedString("realizedPnl");
+    private static final SerializedString RISK_SERVICE_MS = new SerializedString("riskServiceMs");
+    private static final SerializedString TRADING_SERVICE_MS = new SerializedString("tradingServiceMs");
+    private static final SerializedString LEDGER_SERVICE_MS = new SerializedString("ledgerServiceMs");
+    private static final SerializedString EXPOSURE = new SerializedString("exposure");
+    private static final SerializedString UTILIZATION = new SerializedString("utilization");
+    private static final SerializedString METRIC_TYPE = new SerializedString("metricType");
+    private static final SerializedString VALUE = new SerializedString("value");
+    private static final SerializedString ORDER_ID = new SerializedString("orderId");
+    private static final SerializedString FILL_ID = new SerializedString("fillId");
+    private static final SerializedString SYMBOL = new SerializedString("symbol");
+    private static final SerializedString SIDE = new SerializedString("side");
+    private static final SerializedString QUANTITY = new SerializedString("quantity");
+    private static final SerializedString PRICE = new SerializedString("price");
+    private static final SerializedString PNL = new SerializedString("pnl");
+    private static final SerializedString CURRENCY = new SerializedString("currency");
+    private static final SerializedString CASH_BALANCE = new SerializedString("cashBalance");
+    private static final SerializedString MARGIN_USED = new SerializedString("marginUsed");
+    private static final SerializedString AVAILABLE_MARGIN = new SerializedString("availableMargin");
+    private static final SerializedString PENDING_TRANSACTION_COUNT = new SerializedString("pendingTransactionCount");
+    private static final SerializedString PENDING_TRANSACTION_AMOUNT = new SerializedString("pendingTransactionAmount");
+    private static final SerializedString TRANSACTION_ID = new SerializedString("transactionId");
+    private static final SerializedString TRANSACTION_TYPE = new SerializedString("transactionType");
+    private static final SerializedString AMOUNT = new SerializedString("amount");
+    private static final SerializedString TOP_EXPOSURES = new SerializedString("topExposures");
+    private static final SerializedString EXPOSURE_BY_BOOK = new SerializedString("exposureByBook");
+    private static final SerializedString PNL_BY_SYMBOL = new SerializedString("pnlBySymbol");
+    private static final SerializedString ORDERS_BY_STATUS = new SerializedString("ordersByStatus");
+    private static final SerializedString CASH_BY_CURRENCY = new SerializedString("cashByCurrency");
+    private static final SerializedString TRANSACTION_AMOUNT_BY_TYPE = new SerializedString("transactionAmountByType");
+    private static final SerializedString TRANSACTION_AMOUNT_BY_CURRENCY = new SerializedString("transactionAmountByCurrency");
+    private static final SerializedString KEY = new SerializedString("key");
+    private static final SerializedString TOTAL = new SerializedString("total");
+    private static final SerializedString COUNT = new SerializedString("count");
+    private static final SerializedString MIN = new SerializedString("min");
+    private static final SerializedString MAX = new SerializedString("max");
+    private static final SerializedString COUNTS = new SerializedString("counts");
+    private static final SerializedString STATE = new SerializedString("state");
+    private static final SerializedString AS_OF = new SerializedString("asOf");
+    private static final SerializedString AGE_MS = new SerializedString("ageMs");
+
+    public DashboardViewModelSerializer() {
+        super(DashboardViewModel.class);
+    }
+
+    @Override
+    public void serialize(DashboardViewModel value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        write(value, gen);
+    }
+
+    /**
+     * Writes the view model to the generator; usable without an {@code ObjectMapper}.
+     */
+    public static void write(DashboardViewModel vm, JsonGenerator gen) throws IOException {
+        write(vm, gen, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Writes the view model with each row-level list (risk accounts, orders, fills,
+     * balances, transactions and enriched accounts) cut to its first
+     * {@code maxListRows} rows; zero or less writes every row. Charts are computed from
+     * the full lists and are written whole. When the lists are bounded, a {@code listRows}
+     * object with the full size of each of those lists follows them, so counts stay exact.
+     */
+    public static void write(DashboardViewModel vm, JsonGenerator gen, int maxListRows) throws IOException {
+        if (maxListRows <= 0) {
+            maxListRows = Integer.MAX_VALUE;
+        }
+        gen.writeStartObject(vm);
+        gen.writeFieldName(TOP_RISKY_ACCOUNTS);
+        writeList(vm.topRiskyAccounts(), gen, DashboardViewModelSerializer::writeRiskyAccount);
+        gen.writeFieldName(HEALTH);
+        writeHealth(vm.health(), gen);
+        gen.writeFieldName(RISK_SUMMARY);
+        writeRiskSummary(vm.riskSummary(), gen);
+        gen.writeFieldName(TRADING_SUMMARY);
+        writeTradingSummary(vm.tradingSummary(), gen);
+        gen.writeFieldName(LATENCY_METRICS);
+        writeLatencyMetrics(vm.latencyMetrics(), gen);
+        gen.writeFieldName(RISK_ACCOUNTS);
+        writeList(vm.riskAccounts(), gen, DashboardViewModelSerializer::writeRiskAccount, maxListRows);
+        gen.writeFieldName(RISK_METRICS);
+        writeList(vm.riskMetrics(), gen, DashboardViewModelSerializer::writeRiskMetric);
+        gen.writeFieldName(OPEN_ORDERS);
+        writeList(vm.openOrders(), gen, DashboardViewModelSerializer::writeOrder, maxListRows);
+        gen.writeFieldName(RECENT_FILLS);
+        writeList(vm.recentFills(), gen, DashboardViewModelSerializer::writeFill, maxListRows);
+        gen.writeFieldName(ACCOUNT_BALANCES);
+        writeList(vm.accountBalances(), gen, DashboardViewModelSerializer::writeBalance, maxListRows);
+        gen.writeFieldName(RECENT_TRANSACTIONS);
+        writeList(vm.recentTransactions(), gen, DashboardViewModelSerializer::writeTransaction, maxListRows);
+        gen.writeFieldName(ENRICHED_ACCOUNTS);
+        writeList(vm.enrichedAccounts(), gen, DashboardViewModelSerializer::writeEnrichedAccount, maxListRows);
+        gen.writeFieldName(CHARTS);
+        writeCharts(vm.charts(), gen);
+        gen.writeFieldName(SECTION_STATUS);
+        writeSectionStatus(vm.sectionStatus(), gen);
+        if (maxListRows < Integer.MAX_VALUE) {
+            gen.writeFieldName(LIST_ROWS);
+            gen.writeStartObject();
+            writeRows(gen, RISK_ACCOUNTS, vm.riskAccounts());
+            writeRows(gen, OPEN_ORDERS, vm.openOrders());
+            writeRows(gen, RECENT_FILLS, vm.recentFills());
+            writeRows(gen, ACCOUNT_BALANCES, vm.accountBalances());
+            writeRows(gen, RECENT_TRANSACTIONS, vm.recentTransactions());
+            writeRows(gen, ENRICHED_ACCOUNTS, vm.enrichedAccounts());
+            gen.writeEndObject();
+        }
+        gen.writeEndObject();
+    }
+
+    private static void writeRows(JsonGenerator gen, SerializedString name, List<?> rows) throws IOException {
+        gen.writeFieldName(name);
+        gen.writeNumber(rows == null ? 0 : rows.size());
+    }
+
+    @FunctionalInterface
+    private interface RowWriter<T> {
+        void write(T row, JsonGenerator gen) throws IOException;
+    }
+
+    private static <T> void writeList(List<T> rows, JsonGenerator gen, RowWriter<T> writer) throws IOException {
+        writeList(rows, gen, writer, Integer.MAX_VALUE);
+    }
+
+    private static <T> void writeList(List<T> rows, JsonGenerator gen, RowWriter<T> writer, int maxRows)
+            throws IOException {
+        if (rows == null) {
+            gen.writeNull();
+        } else if (rows instanceof ColumnarList<?> columnar) {
+            ColumnarListSerializer.writeHead(columnar, gen, maxRows);
+        } else if (rows instanceof RawJsonList<?> raw) {
+            RawJsonListSerializer.writeHead(raw, gen, maxRows);
+        } else {
+            int size = Math.min(maxRows, rows.size());
+            gen.writeStartArray(rows, size);
+            for (int i = 0; i < size; i++) {
+                T row = rows.get(i);
+                if (row == null) {
+                    gen.writeNull();
+                } else {
+                    writer.write(row, gen);
+                }
+            }
+            gen.writeEndArray();
+        }
+    }
+
+    private static void writeString(JsonGenerator gen, SerializedString name, String value) throws IOException {
+        gen.writeFieldName(name);
+        gen.writeString(value);
+    }
+
+    private static void writeNumber(JsonGenerator gen, SerializedString name, double value) throws IOException {
+        gen.writeFieldName(name);
+        gen.writeNumber(value);
+    }
+
+    private static void writeNumber(JsonGenerator gen, SerializedString name, long value) throws IOException {
+        gen.writeFieldName(name);
+        gen.writeNumber(value);
+    }
+
+    private static void writeRiskyAccount(RiskyAccount account, JsonGenerator gen) throws IOException {
+        gen.writeStartObject();
+        writeString(gen, ACCOUNT_ID, account.accountId());
+        writeString(gen, BOOK, account.book());
+        writeNumber(gen, NET_EXPOSURE, account.netExposure());
+        writeNumber(gen, MARGIN_UTILIZATION, account.marginUtilization());
+        gen.writeEndObject();
+    }
+
+    private static void writeHealth(SystemHealth health, JsonGenerator gen) throws IOException {
+        if (health == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject();
+        writeString(gen, STATUS, health.status());
+        writeNumber(gen, AVG_LATENCY_MS, health.avgLatencyMs());
+        writeNumber(gen, DOWNSTREAM_HEALTHY_COUNT, health.downstreamHealthyCount());
+        writeNumber(gen, DOWNSTREAM_TOTAL_COUNT, health.downstreamTotalCount());
+        gen.writeEndObject();
+    }
+
+    private static void writeRiskSummary(RiskSummary summary, JsonGenerator gen) throws IOException {
+        if (summary == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject();
+        writeNumber(gen, TOTAL_NET_EXPOSURE, summary.totalNetExposure());
+        writeNumber(gen, MAX_MARGIN_UTILIZATION, summary.maxMarginUtilization());
+        gen.writeEndObject();
+    }
+
+    private static void writeTradingSummary(TradingSummary summary, JsonGenerator gen) throws IOException {
+        if (summary == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject();
+        writeNumber(gen, OPEN_ORDERS, summary.openOrders());
+        writeNumber(gen, FILLED_TODAY, summary.filledToday());
+        writeNumber(gen, REALIZED_PNL, summary.realizedPnl());
+        gen.writeEndObject();
+    }
+
+    private static void writeLatencyMetrics(LatencyMetrics metrics, JsonGenerator gen) throws IOException {
+        if (metrics == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject();
+        writeNumber(gen, RISK_SERVICE_MS, metrics.riskServiceMs());
+        writeNumber(gen, TRADING_SERVICE_MS, metrics.tradingServiceMs());
+        writeNumber(gen, LEDGER_SERVICE_MS, metrics.ledgerServiceMs());
+        gen.writeEndObject();
+    }
+
+    private static void writeRiskAccount(RiskAccount account, JsonGenerator gen) throws IOException {
+        gen.writeStartObject();
+        writeString(gen, ACCOUNT_ID, account.accountId());
+        writeString(gen, BOOK, account.book());
+        writeNumber(gen, EXPOSURE, account.exposure());
+        writeNumber(gen, UTILIZATION, account.utilization());
+        gen.writeEndObject();
+    }
+
+    private static void writeRiskMetric(RiskMetric metric, JsonGenerator gen) throws IOException {
+        gen.writeStartObject();
+        writeString(gen, METRIC_TYPE, metric.metricType());
+        writeNumber(gen, VALUE, metric.value());
+        writeString(gen, STATUS, metric.status());
+        gen.writeEndObject();
+    }
+
+    private static void writeOrder(TradingOrder order, JsonGenerator gen) throws IOException {
+        gen.writeStartObject();
+        writeString(gen, ORDER_ID, order.orderId());
+        writeString(gen, SYMBOL, order.symbol());
+        writeString(gen, SIDE, order.side());
+        gen.writeFieldName(QUANTITY);
+        gen.writeNumber(order.quantity());
+        writeNumber(gen, PRICE, order.price());
+        writeString(gen, STATUS, order.status());
+        gen.writeEndObject();
+    }
+
+    private static void writeFill(TradingFill fill, JsonGenerator gen) throws IOException {
+        gen.writeStartObject();
+        writeString(gen, FILL_ID, fill.fillId());
+        writeString(gen, SYMBOL, fill.symbol());
+        writeString(gen, SIDE, fill.side());
+        gen.writeFieldName(QUANTITY);
+        gen.writeNumber(fill.quantity());
+        writeNumber(gen, PRICE, fill.price());
+        writeNumber(gen, PNL, fill.pnl());
+        gen.writeEndObject();
+    }
+
+    private static void writeBalance(AccountBalance balance, JsonGenerator gen) throws IOException {
+        gen.writeStartObject();
+        writeString(gen, ACCOUNT_ID, balance.accountId());
+        writeString(gen, CURRENCY, balance.currency());
+        writeNumber(gen, CASH_BALANCE, balance.cashBalance());
+        writeNumber(gen, MARGIN_USED, balance.marginUsed());
+        writeNumber(gen, AVAILABLE_MARGIN, balance.availableMargin());
+        gen.writeEndObject();
+    }
+
+    private static void writeTransaction(Transaction transaction, JsonGenerator gen) throws IOException {
+        gen.writeStartObject();
+        writeString(gen, TRANSACTION_ID, transaction.transactionId());
+        writeString(gen, ACCOUNT_ID, transaction.accountId());
+        writeString(gen, TRANSACTION_TYPE, transaction.transactionType());
+        writeString(gen, CURRENCY, transaction.currency());
+        writeNumber(gen, AMOUNT, transaction.amount());
+        writeString(gen, STATUS, transaction.status());
+        gen.writeEndObject();
+    }
+
+    private static void writeEnrichedAccount(EnrichedAccount account, JsonGenerator gen) throws IOException {
+        gen.writeStartObject();
+        writeString(gen, ACCOUNT_ID, account.accountId());
+        writeString(gen, BOOK, account.book());
+        writeNumber(gen, EXPOSURE, account.exposure());
+        writeNumber(gen, UTILIZATION, account.utilization());
+        writeString(gen, CURRENCY, account.currency());
+        writeNumber(gen, CASH_BALANCE, account.cashBalance());
+        writeNumber(gen, AVAILABLE_MARGIN, account.availableMargin());
+        writeNumber(gen, PENDING_TRANSACTION_COUNT, account.pendingTransactionCount());
+        writeNumber(gen, PENDING_TRANSACTION_AMOUNT, account.pendingTransactionAmount());
+        gen.writeEndObject();
+    }
+
+    private static void writeCharts(ChartAggregates charts, JsonGenerator gen) throws IOException {
+        if (charts == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject();
+        gen.writeFieldName(TOP_EXPOSURES);
+        writeList(charts.topExposures(), gen, DashboardViewModelSerializer::writeGroupTotal);
+        gen.writeFieldName(EXPOSURE_BY_BOOK);
+        writeList(charts.exposureByBook(), gen, DashboardViewModelSerializer::writeGroupTotal);
+        gen.writeFieldName(UTILIZATION);
+        writeHistogram(charts.utilization(), gen);
+        gen.writeFieldName(PNL_BY_SYMBOL);
+        writeList(charts.pnlBySymbol(), gen, DashboardViewModelSerializer::writeGroupTotal);
+        gen.writeFieldName(ORDERS_BY_STATUS);
+        writeList(charts.ordersByStatus(), gen, DashboardViewModelSerializer::writeGroupTotal);
+        gen.writeFieldName(CASH_BY_CURRENCY);
+        writeList(charts.cashByCurrency(), gen, DashboardViewModelSerializer::writeGroupTotal);
+        gen.writeFieldName(TRANSACTION_AMOUNT_BY_TYPE);
+        writeList(charts.transactionAmountByType(), gen, DashboardViewModelSerializer::writeGroupTotal);
+        gen.writeFieldName(TRANSACTION_AMOUNT_BY_CURRENCY);
+        writeList(charts.transactionAmountByCurrency(), gen, DashboardViewModelSerializer::writeGroupTotal);
+        gen.writeEndObject();
+    }
+
+    private static void writeGroupTotal(GroupTotal group, JsonGenerator gen) throws IOException {
+        gen.writeStartObject();
+        writeString(gen, KEY, group.key());
+        writeNumber(gen, TOTAL, group.total());
+        writeNumber(gen, COUNT, group.count());
+        gen.writeEndObject();
+    }
+
+    private static void writeHistogram(Histogram histogram, JsonGenerator gen) throws IOException {
+        if (histogram == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject();
+        writeNumber(gen, MIN, histogram.min());
+        writeNumber(gen, MAX, histogram.max());
+        gen.writeFieldName(COUNTS);
+        long[] counts = histogram.counts();
+        if (counts == null) {
+            gen.writeNull();
+        } else {
+            gen.writeArray(counts, 0, counts.length);
+        }
+        gen.writeEndObject();
+    }
+
+    private static void writeSectionStatus(Map<String, SectionStatus> statuses, JsonGenerator gen) throws IOException {
+        if (statuses == null) {
+            gen.writeNull();
+            return;
+        }
+        gen.writeStartObject();
+        for (Map.Entry<String, SectionStatus> entry : statuses.entrySet()) {
+            gen.writeFieldName(entry.getKey());
+            SectionStatus status = entry.getValue();
+            if (status == null) {
+                gen.writeNull();
+                continue;
+            }
+            gen.writeStartObject();
+            writeString(gen, STATE, status.state());
+            writeString(gen, AS_OF, status.asOf());
+            writeNumber(gen, AGE_MS, status.ageMs());
+            gen.writeEndObject();
+        }
+        gen.writeEndObject();
+    }
+}
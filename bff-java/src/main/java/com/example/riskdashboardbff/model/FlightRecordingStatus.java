@@ -0,0 +1,16 @@
+package com.example.riskdashboardbff.model;
+
+/**
+ * State of the on-demand flight recording: {@code NEW} if none has been started,
+ * else the JFR recording state ({@code RUNNING}, {@code STOPPED}, ...). Durations are
+ * ISO-8601; {@code stopsAt} is when a running recording stops by itself.
+ */
+public record FlightRecordingStatus(
+        String state,
+        String settings,
+        String startedAt,
+        String stopsAt,
+        String maxAge,
+        long maxSizeBytes,
+        long sizeBytes
+) {}
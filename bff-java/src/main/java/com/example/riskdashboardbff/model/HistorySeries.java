@@ -0,0 +1,26 @@
+package com.example.riskdashboardbff.model;
+
+import java.util.List;
+
+/**
+ * History of one dashboard KPI at one resolution, oldest bucket first. Buckets in
+ * which the KPI was not observed are left out.
+ */
+public record HistorySeries(
+        String kpi,
+        String resolution,
+        List<Point> points
+) {
+
+    /**
+     * Samples of one bucket starting at {@code timestamp} (epoch millis).
+     */
+    public record Point(
+            long timestamp,
+            long count,
+            double min,
+            double max,
+            double avg,
+            double last
+    ) {}
+}
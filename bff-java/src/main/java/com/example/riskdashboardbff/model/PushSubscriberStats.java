@@ -0,0 +1,14 @@
+package com.example.riskdashboardbff.model;
+
+/**
+ * Delivery statistics of one dashboard push subscriber. {@code queueDepth} counts the
+ * frame being written plus the one waiting behind it (at most 2); {@code conflated}
+ * counts frames that were replaced by a newer one before the subscriber could take them.
+ */
+public record PushSubscriberStats(
+        String id,
+        String connectedAt,
+        long sent,
+        long conflated,
+        int queueDepth
+) {}
@@ -0,0 +1,19 @@
+package com.example.riskdashboardbff.model;
+
+import com.example.riskdashboardbff.model.DashboardViewModel.SectionStatus;
+
+import java.util.List;
+
+/**
+ * Result of a server-side query over one of the dashboard lists: the selected rows
+ * plus how many rows the dataset has and how many matched the filters before the
+ * limit was applied, and how fresh the list they were selected from is.
+ */
+public record QueryResult<T>(
+        String dataset,
+        int total,
+        int matched,
+        List<T> rows,
+        SectionStatus status,
+        long tookMicros
+) {}
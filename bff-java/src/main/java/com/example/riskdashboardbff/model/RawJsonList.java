@@ -0,0 +1,196 @@
+package com.example.riskdashboardbff.model;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+/**
+ * A view model list kept as the raw JSON array received from a downstream service.
+ * It is spliced unchanged into the outgoing JSON by {@link RawJsonListSerializer};
+ * rows are only decoded if the list is accessed element-wise. The size is counted
+ * when the list is wrapped, so sizing and weighing the list does not decode it.
+ */
+@JsonSerialize(using = RawJsonListSerializer.class)
+public final class RawJsonList<T> extends AbstractList<T> implements RandomAccess {
+
+    private final byte[] json;
+    private final int size;
+    private final ObjectReader reader;
+    private volatile List<T> decoded;
+    private volatile List<T> columnar;
+
+    private RawJsonList(byte[] json, int size, ObjectReader reader) {
+        this.json = json;
+        this.size = size;
+        this.reader = reader;
+    }
+
+    /**
+     * Wraps a UTF-8 encoded JSON array. {@code reader} must read the whole array into a
+     * {@code List<T>}; it is only used on element access.
+     *
+     * @throws IllegalArgumentException if {@code json} is not a JSON array
+     */
+    public static <T> RawJsonList<T> of(byte[] json, ObjectReader reader) {
+        int size = countElements(json);
+        if (size < 0) {
+            throw new IllegalArgumentException("Downstream body is not a JSON array");
+        }
+        return new RawJsonList<>(json, size, reader);
+    }
+
+    /**
+     * The raw UTF-8 JSON array. Callers must not modify it.
+     */
+    public byte[] json() {
+        return json;
+    }
+
+    /**
+     * The raw UTF-8 JSON array of the first {@code rows} rows, cut from {@link #json()}
+     * without decoding them; {@link #json()} itself if the list is no longer than that.
+     */
+    public byte[] head(int rows) {
+        if (rows >= size) {
+            return json;
+        }
+        int end = rows == 0 ? indexOf(json, (byte) '[') + 1 : topLevelComma(json, rows);
+        byte[] head = Arrays.copyOf(json, end + 1);
+        head[end] = ']';
+        return head;
+    }
+
+    @Override
+    public T get(int index) {
+        return decoded().get(index);
+    }
+
+    /**
+     * A columnar form of the rows, built by {@code build} from the raw bytes on first use
+     * and kept with the list, so every consumer of this value (joins, aggregates,
+     * exports) shares one conversion. {@code build} must read {@link #json()} itself
+     * rather than access the elements, which would decode them.
+     */
+    @SuppressWarnings("unchecked")
+    public <C extends List<T>> C columnar(Function<? super RawJsonList<T>, C> build) {
+        List<T> rows = columnar;
+        if (rows == null) {
+            synchronized (this) {
+                rows = columnar;
+                if (rows == null) {
+                    rows = build.apply(this);
+                    columnar = rows;
+                }
+            }
+        }
+        return (C) rows;
+    }
+
+    /**
+     * The number of rows, counted when the list was wrapped; does not decode them.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private List<T> decoded() {
+        List<T> rows = decoded;
+        if (rows == null) {
+            try {
+                rows = List.copyOf(reader.<List<T>>readValue(json));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            decoded = rows;
+        }
+        return rows;
+    }
+
+    /**
+     * Number of top-level elements of a JSON array, or -1 if {@code json} is not one.
+     * Only brackets, braces, commas and string boundaries are looked at; the elements
+     * themselves are validated when they are decoded.
+     */
+    private static int countElements(byte[] json) {
+        int start = 0;
+        int end = json.length - 1;
+        while (start <= end && isWhitespace(json[start])) {
+            start++;
+        }
+        while (end >= start && isWhitespace(json[end])) {
+            end--;
+        }
+        if (start >= end || json[start] != '[' || json[end] != ']') {
+            return -1;
+        }
+        int count = 0;
+        int depth = 0;
+        boolean empty = true;
+        for (int i = start + 1; i < end; i++) {
+            byte b = json[i];
+            if (b == '"') {
+                // Skip the string; a backslash escapes the next byte.
+                for (i++; i < end && json[i] != '"'; i++) {
+                    if (json[i] == '\\') {
+                        i++;
+                    }
+                }
+                empty = false;
+            } else if (b == '{' || b == '[') {
+                depth++;
+                empty = false;
+            } else if (b == '}' || b == ']') {
+                depth--;
+            } else if (b == ',' && depth == 0) {
+                count++;
+            } else if (!isWhitespace(b)) {
+                empty = false;
+            }
+        }
+        return empty ? 0 : count + 1;
+    }
+
+    /**
+     * Index of the {@code n}th comma between top-level elements, which must exist.
+     */
+    private static int topLevelComma(byte[] json, int n) {
+        int depth = 0;
+        for (int i = indexOf(json, (byte) '[') + 1; i < json.length; i++) {
+            byte b = json[i];
+            if (b == '"') {
+                for (i++; i < json.length && json[i] != '"'; i++) {
+                    if (json[i] == '\\') {
+                        i++;
+                    }
+                }
+            } else if (b == '{' || b == '[') {
+                depth++;
+            } else if (b == '}' || b == ']') {
+                depth--;
+            } else if (b == ',' && depth == 0 && --n == 0) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("JSON array has fewer elements than counted");
+    }
+
+    private static int indexOf(byte[] json, byte value) {
+        int i = 0;
+        while (json[i] != value) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.riskdashboardbff.model;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes a {@link RawJsonList} by copying its bytes into the generator output as a raw
+ * value, without decoding or re-encoding the rows.
+ */
+@SuppressWarnings("rawtypes")
+public class RawJsonListSerializer extends StdSerializer<RawJsonList> {
+
+    public RawJsonListSerializer() {
+        super(RawJsonList.class);
+    }
+
+    @Override
+    public void serialize(RawJsonList value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeRawValue(new RawUtf8(value.json()));
+    }
+
+    /**
+     * Writes the first {@code rows} rows of {@code value} (all of them if it has fewer),
+     * still without decoding them.
+     */
+    public static void writeHead(RawJsonList<?> value, JsonGenerator gen, int rows) throws IOException {
+        gen.writeRawValue(new RawUtf8(value.head(rows)));
+    }
+
+    /**
+     * Pre-encoded UTF-8 JSON. Byte-oriented generators append it directly; only
+     * character-oriented generators fall back to decoding it.
+     */
+    private record RawUtf8(byte[] bytes) implements SerializableString {
+
+        @Override
+        public String getValue() {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public int charLength() {
+            return getValue().length();
+        }
+
+        @Override
+        public char[] asQuotedChars() {
+            return getValue().toCharArray();
+        }
+
+        @Override
+        public byte[] asUnquotedUTF8() {
+            return bytes;
+        }
+
+        @Override
+        public byte[] asQuotedUTF8() {
+            return bytes;
+        }
+
+        @Override
+        public int appendQuotedUTF8(byte[] buffer, int offset) {
+            return appendUnquotedUTF8(buffer, offset);
+        }
+
+        @Override
+        public int appendQuoted(char[] buffer, int offset) {
+            return appendUnquoted(buffer, offset);
+        }
+
+        @Override
+        public int appendUnquotedUTF8(byte[] buffer, int offset) {
+            if (offset + bytes.length > buffer.length) {
+                return -1;
+            }
+            System.arraycopy(bytes, 0, buffer, offset, bytes.length);
+            return bytes.length;
+        }
+
+        @Override
+        public int appendUnquoted(char[] buffer, int offset) {
+            String value = getValue();
+            if (offset + value.length() > buffer.length) {
+                return -1;
+            }
+            value.getChars(0, value.length(), buffer, offset);
+            return value.length();
+        }
+
+        @Override
+        public int writeQuotedUTF8(OutputStream out) throws IOException {
+            return writeUnquotedUTF8(out);
+        }
+
+        @Override
+        public int writeUnquotedUTF8(OutputStream out) throws IOException {
+            out.write(bytes);
+            return bytes.length;
+        }
+
+        @Override
+        public int putQuotedUTF8(ByteBuffer buffer) {
+            return putUnquotedUTF8(buffer);
+        }
+
+        @Override
+        public int putUnquotedUTF8(ByteBuffer buffer) {
+            if (buffer.remaining() < bytes.length) {
+                return -1;
+            }
+            buffer.put(bytes);
+            return bytes.length;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.riskdashboardbff.model;
+
+import java.util.List;
+
+/**
+ * One traced dashboard request: a span per aggregated source and the critical path
+ * through them. Times are milliseconds; span start times are offsets from the start of
+ * the request, and values that do not apply (e.g. first byte of a section served
+ * locally) are -1.
+ */
+public record TraceSummary(
+        String traceId,
+        String name,
+        String startedAt,
+        double totalMillis,
+        boolean failed,
+        CriticalPath criticalPath,
+        List<Span> spans
+) {
+
+    /**
+     * Where the time of the request went. The gating source is the last one to
+     * complete, which the response had to wait for; {@code slackMillis} is how much
+     * earlier the next-slowest source completed. Its own time is split into retries
+     * (earlier attempts and backoff), waiting for a pooled connection, the downstream
+     * service up to the first response byte, body transfer and decoding.
+     * {@code assemblyMillis} covers building the view model after the last source,
+     * {@code serializationMillis} encoding the response.
+     */
+    public record CriticalPath(
+            String gatingSource,
+            double gatingMillis,
+            double slackMillis,
+            int retries,
+            double retryMillis,
+            double poolAcquireMillis,
+            double serverMillis,
+            double transferMillis,
+            double decodeMillis,
+            double assemblyMillis,
+            double serializationMillis
+    ) {}
+
+    public record Span(
+            String source,
+            String spanId,
+            double startMillis,
+            double durationMillis,
+            int attempts,
+            double poolAcquireMillis,
+            double firstByteMillis,
+            double decodeMillis,
+            boolean failed
+    ) {}
+}
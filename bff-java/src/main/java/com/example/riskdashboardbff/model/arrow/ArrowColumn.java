@@ -0,0 +1,26 @@
+package com.example.riskdashboardbff.model.arrow;
+
+import com.example.riskdashboardbff.model.columnar.DictionaryColumn;
+
+import java.util.function.IntFunction;
+
+/**
+ * A column of an {@link ArrowIpcStream}, read directly from the arrays of a columnar
+ * list.
+ */
+public sealed interface ArrowColumn {
+
+    String name();
+
+    /** Nullable {@code utf8} column; used for high-cardinality ids. */
+    record Utf8(String name, IntFunction<String> values) implements ArrowColumn {}
+
+    /** Nullable dictionary-encoded {@code utf8} column with {@code int32} indices. */
+    record Dictionary(String name, DictionaryColumn values) implements ArrowColumn {}
+
+    /** Non-null {@code float64} column. */
+    record Float64(String name, double[] values) implements ArrowColumn {}
+
+    /** Non-null {@code int32} column. */
+    record Int32(String name, int[] values) implements ArrowColumn {}
+}
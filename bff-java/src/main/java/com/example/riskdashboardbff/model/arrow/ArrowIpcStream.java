@@ -0,0 +1,320 @@
+package com.example.riskdashboardbff.model.arrow;
+
+import com.example.riskdashboardbff.model.columnar.DictionaryColumn;
+import com.google.flatbuffers.FlatBufferBuilder;
+import org.apache.arrow.flatbuf.Buffer;
+import org.apache.arrow.flatbuf.DictionaryBatch;
+import org.apache.arrow.flatbuf.DictionaryEncoding;
+import org.apache.arrow.flatbuf.DictionaryKind;
+import org.apache.arrow.flatbuf.Endianness;
+import org.apache.arrow.flatbuf.Field;
+import org.apache.arrow.flatbuf.FieldNode;
+import org.apache.arrow.flatbuf.FloatingPoint;
+import org.apache.arrow.flatbuf.Int;
+import org.apache.arrow.flatbuf.Message;
+import org.apache.arrow.flatbuf.MessageHeader;
+import org.apache.arrow.flatbuf.MetadataVersion;
+import org.apache.arrow.flatbuf.Precision;
+import org.apache.arrow.flatbuf.RecordBatch;
+import org.apache.arrow.flatbuf.Schema;
+import org.apache.arrow.flatbuf.Type;
+import org.apache.arrow.flatbuf.Utf8;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+
+/**
+ * Encodes a table of {@link ArrowColumn}s as an Arrow IPC stream: the schema, one
+ * dictionary batch per dictionary column, record batches of at most {@code batchRows}
+ * rows and the end-of-stream marker.
+ * <p>
+ * Iterating yields one encoded message at a time and encodes the next only when asked
+ * for it, so a consumer that writes each message before taking the next holds a single
+ * batch in memory however large the table is. Buffers are 8-byte aligned and
+ * little-endian, so readers can map them without copying.
+ */
+public final class ArrowIpcStream implements Iterable<byte[]> {
+
+    private static final byte[] END_OF_STREAM = {-1, -1, -1, -1, 0, 0, 0, 0};
+
+    private final int rows;
+    private final List<ArrowColumn> columns;
+    private final List<ArrowColumn.Dictionary> dictionaries = new ArrayList<>();
+    private final int batchRows;
+
+    public ArrowIpcStream(int rows, List<ArrowColumn> columns, int batchRows) {
+        if (batchRows <= 0) {
+            throw new IllegalArgumentException("batchRows must be positive");
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.batchRows = batchRows;
+        for (ArrowColumn column : columns) {
+            if (column instanceof ArrowColumn.Dictionary dictionary) {
+                dictionaries.add(dictionary);
+            }
+        }
+    }
+
+    @Override
+    public Iterator<byte[]> iterator() {
+        return new Iterator<>() {
+            // -1: schema, then dictionaries, then batches, then end of stream.
+            private int next = -1;
+            private int batchStart;
+            private boolean done;
+
+            @Override
+            public boolean hasNext() {
+                return !done;
+            }
+
+            @Override
+            public byte[] next() {
+                if (done) {
+                    throw new NoSuchElementException();
+                }
+                if (next == -1) {
+                    next++;
+                    return schema();
+                }
+                if (next < dictionaries.size()) {
+                    return dictionaryBatch(next, dictionaries.get(next++).values());
+                }
+                if (batchStart < rows) {
+                    int end = Math.min(rows, batchStart + batchRows);
+                    byte[] batch = recordBatch(batchStart, end);
+                    batchStart = end;
+                    return batch;
+                }
+                done = true;
+                return END_OF_STREAM.clone();
+            }
+        };
+    }
+
+    private byte[] schema() {
+        FlatBufferBuilder builder = new FlatBufferBuilder(1024);
+        int[] fields = new int[columns.size()];
+        for (int i = 0; i < fields.length; i++) {
+            ArrowColumn column = columns.get(i);
+            int name = builder.createString(column.name());
+            byte typeType;
+            int type;
+            int dictionary = 0;
+            switch (column) {
+                case ArrowColumn.Utf8 utf8 -> {
+                    typeType = Type.Utf8;
+                    type = utf8Type(builder);
+                }
+                case ArrowColumn.Dictionary encoded -> {
+                    typeType = Type.Utf8;
+                    type = utf8Type(builder);
+                    int indexType = Int.createInt(builder, 32, true);
+                    dictionary = DictionaryEncoding.createDictionaryEncoding(
+                            builder, dictionaries.indexOf(encoded), indexType, false, DictionaryKind.DenseArray);
+                }
+                case ArrowColumn.Float64 float64 -> {
+                    typeType = Type.FloatingPoint;
+                    type = FloatingPoint.createFloatingPoint(builder, Precision.DOUBLE);
+                }
+                case ArrowColumn.Int32 int32 -> {
+                    typeType = Type.Int;
+                    type = Int.createInt(builder, 32, true);
+                }
+            }
+            boolean nullable = column instanceof ArrowColumn.Utf8 || column instanceof ArrowColumn.Dictionary;
+            int children = Field.createChildrenVector(builder, new int[0]);
+            fields[i] = Field.createField(builder, name, nullable, typeType, type, dictionary, children, 0);
+        }
+        int schema = Schema.createSchema(builder, Endianness.Little, Schema.createFieldsVector(builder, fields), 0, 0);
+        return message(builder, MessageHeader.Schema, schema, new Body(0));
+    }
+
+    private static byte[] dictionaryBatch(long id, DictionaryColumn dictionary) {
+        int size = dictionary.cardinality();
+        Body body = new Body(size * 16);
+        body.utf8(size, dictionary::value);
+        FlatBufferBuilder builder = new FlatBufferBuilder(256);
+        int data = body.recordBatch(builder, size);
+        int batch = DictionaryBatch.createDictionaryBatch(builder, id, data, false);
+        return message(builder, MessageHeader.DictionaryBatch, batch, body);
+    }
+
+    private byte[] recordBatch(int from, int to) {
+        int length = to - from;
+        Body body = new Body(length * columns.size() * 8);
+        for (ArrowColumn column : columns) {
+            switch (column) {
+                case ArrowColumn.Utf8 utf8 -> body.utf8(length, row -> utf8.values().apply(from + row));
+                case ArrowColumn.Dictionary encoded -> {
+                    DictionaryColumn values = encoded.values();
+                    body.node(length, body.validity(length, row -> values.code(from + row) < 0));
+                    int start = body.begin(length * 4);
+                    for (int row = from; row < to; row++) {
+                        body.bytes.putInt(Math.max(0, values.code(row)));
+                    }
+                    body.end(start);
+                }
+                case ArrowColumn.Float64 float64 -> {
+                    body.node(length, body.validity(length, row -> false));
+                    int start = body.begin(length * 8);
+                    for (int row = from; row < to; row++) {
+                        body.bytes.putDouble(float64.values()[row]);
+                    }
+                    body.end(start);
+                }
+                case ArrowColumn.Int32 int32 -> {
+                    body.node(length, body.validity(length, row -> false));
+                    int start = body.begin(length * 4);
+                    for (int row = from; row < to; row++) {
+                        body.bytes.putInt(int32.values()[row]);
+                    }
+                    body.end(start);
+                }
+            }
+        }
+        FlatBufferBuilder builder = new FlatBufferBuilder(256);
+        int batch = body.recordBatch(builder, length);
+        return message(builder, MessageHeader.RecordBatch, batch, body);
+    }
+
+    private static int utf8Type(FlatBufferBuilder builder) {
+        Utf8.startUtf8(builder);
+        return Utf8.endUtf8(builder);
+    }
+
+    /**
+     * Frames a message: continuation marker, metadata length, the {@code Message}
+     * flatbuffer padded to 8 bytes, then the body.
+     */
+    private static byte[] message(FlatBufferBuilder builder, byte headerType, int header, Body body) {
+        int bodyLength = body.bytes.position();
+        builder.finish(Message.createMessage(builder, MetadataVersion.V5, headerType, header, bodyLength, 0));
+        byte[] metadata = builder.sizedByteArray();
+        int paddedMetadata = align(metadata.length);
+        ByteBuffer out = ByteBuffer.allocate(8 + paddedMetadata + bodyLength).order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(-1);
+        out.putInt(paddedMetadata);
+        out.put(metadata);
+        out.position(8 + paddedMetadata);
+        out.put(body.bytes.array(), 0, bodyLength);
+        return out.array();
+    }
+
+    private static int align(int length) {
+        return (length + 7) & ~7;
+    }
+
+    /**
+     * Body of a batch under construction: the buffers, each 8-byte aligned, and the
+     * field nodes and buffer locations describing them.
+     */
+    private static final class Body {
+
+        private ByteBuffer bytes;
+        private final List<long[]> nodes = new ArrayList<>();
+        private final List<long[]> buffers = new ArrayList<>();
+
+        Body(int expectedBytes) {
+            this.bytes = ByteBuffer.allocate(Math.max(64, expectedBytes)).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        void node(int length, int nullCount) {
+            nodes.add(new long[]{length, nullCount});
+        }
+
+        /**
+         * Writes the validity bitmap, or an empty buffer if no row is null, and returns
+         * the null count.
+         */
+        int validity(int length, IntPredicate isNull) {
+            int nullCount = 0;
+            for (int row = 0; row < length; row++) {
+                if (isNull.test(row)) {
+                    nullCount++;
+                }
+            }
+            if (nullCount == 0) {
+                end(begin(0));
+                return 0;
+            }
+            int start = begin((length + 7) / 8);
+            for (int first = 0; first < length; first += 8) {
+                int bits = 0;
+                for (int bit = 0; bit < 8 && first + bit < length; bit++) {
+                    if (!isNull.test(first + bit)) {
+                        bits |= 1 << bit;
+                    }
+                }
+                bytes.put((byte) bits);
+            }
+            end(start);
+            return nullCount;
+        }
+
+        void utf8(int length, IntFunction<String> values) {
+            byte[][] encoded = new byte[length][];
+            int dataLength = 0;
+            for (int row = 0; row < length; row++) {
+                String value = values.apply(row);
+                if (value != null) {
+                    encoded[row] = value.getBytes(StandardCharsets.UTF_8);
+                    dataLength += encoded[row].length;
+                }
+            }
+            node(length, validity(length, row -> encoded[row] == null));
+            int start = begin((length + 1) * 4);
+            int offset = 0;
+            bytes.putInt(offset);
+            for (byte[] value : encoded) {
+                offset += value == null ? 0 : value.length;
+                bytes.putInt(offset);
+            }
+            end(start);
+            start = begin(dataLength);
+            for (byte[] value : encoded) {
+                if (value != null) {
+                    bytes.put(value);
+                }
+            }
+            end(start);
+        }
+
+        int begin(int length) {
+            if (bytes.remaining() < align(length)) {
+                ByteBuffer grown = ByteBuffer.allocate(Math.max(bytes.capacity() * 2, bytes.position() + align(length)))
+                        .order(ByteOrder.LITTLE_ENDIAN);
+                grown.put(bytes.array(), 0, bytes.position());
+                bytes = grown;
+            }
+            return bytes.position();
+        }
+
+        void end(int start) {
+            buffers.add(new long[]{start, bytes.position() - start});
+            bytes.position(align(bytes.position()));
+        }
+
+        int recordBatch(FlatBufferBuilder builder, long length) {
+            RecordBatch.startNodesVector(builder, nodes.size());
+            for (int i = nodes.size() - 1; i >= 0; i--) {
+                FieldNode.createFieldNode(builder, nodes.get(i)[0], nodes.get(i)[1]);
+            }
+            int nodesVector = builder.endVector();
+            RecordBatch.startBuffersVector(builder, buffers.size());
+            for (int i = buffers.size() - 1; i >= 0; i--) {
+                Buffer.createBuffer(builder, buffers.get(i)[0], buffers.get(i)[1]);
+            }
+            int buffersVector = builder.endVector();
+            return RecordBatch.createRecordBatch(builder, length, nodesVector, buffersVector, 0, 0);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.riskdashboardbff.model.columnar;
+
+/**
+ * Bitmap index over a {@link DictionaryColumn}: one row bitmap per dictionary value,
+ * so an equality or IN filter is an OR of a few bitmaps and a conjunction of filters
+ * an AND, both a word at a time. It takes {@code cardinality * rows / 8} bytes and is
+ * meant for the low-cardinality columns the dictionary encoding is used for.
+ */
+final class BitmapIndex {
+
+    private final long[][] bitmaps;
+
+    private BitmapIndex(long[][] bitmaps) {
+        this.bitmaps = bitmaps;
+    }
+
+    static BitmapIndex build(int[] codes, int cardinality) {
+        long[][] bitmaps = new long[cardinality][Bitmaps.words(codes.length)];
+        for (int row = 0; row < codes.length; row++) {
+            int code = codes[row];
+            if (code >= 0) {
+                Bitmaps.set(bitmaps[code], row);
+            }
+        }
+        return new BitmapIndex(bitmaps);
+    }
+
+    /**
+     * Rows holding the value with the given dictionary code. Must not be modified.
+     */
+    long[] bitmap(int code) {
+        return bitmaps[code];
+    }
+}
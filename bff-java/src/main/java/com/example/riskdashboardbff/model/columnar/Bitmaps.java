@@ -0,0 +1,81 @@
+package com.example.riskdashboardbff.model.columnar;
+
+import java.util.Arrays;
+
+/**
+ * Operations on row sets stored as plain bitmaps: bit {@code i % 64} of word
+ * {@code i / 64} is set when row {@code i} is in the set. Bits beyond the row count
+ * are always clear, so counts and iteration need no bound checks.
+ */
+public final class Bitmaps {
+
+    private Bitmaps() {
+    }
+
+    public static int words(int rows) {
+        return (rows + 63) >>> 6;
+    }
+
+    public static long[] none(int rows) {
+        return new long[words(rows)];
+    }
+
+    public static long[] all(int rows) {
+        long[] bits = new long[words(rows)];
+        Arrays.fill(bits, -1L);
+        if ((rows & 63) != 0) {
+            bits[bits.length - 1] = (1L << rows) - 1;
+        }
+        return bits;
+    }
+
+    public static void set(long[] bits, int row) {
+        bits[row >>> 6] |= 1L << row;
+    }
+
+    /**
+     * Intersects {@code target} with {@code other} in place.
+     */
+    public static void and(long[] target, long[] other) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] &= other[i];
+        }
+    }
+
+    /**
+     * Adds the rows of {@code other} to {@code target} in place.
+     */
+    public static void or(long[] target, long[] other) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] |= other[i];
+        }
+    }
+
+    public static int count(long[] bits) {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the first row in the set at or after {@code from}, or -1.
+     */
+    public static int next(long[] bits, int from) {
+        int index = from >>> 6;
+        if (index >= bits.length) {
+            return -1;
+        }
+        long word = bits[index] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                return (index << 6) + Long.numberOfTrailingZeros(word);
+            }
+            if (++index == bits.length) {
+                return -1;
+            }
+            word = bits[index];
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.riskdashboardbff.model.columnar;
+
+import com.example.riskdashboardbff.model.DashboardViewModel.AccountBalance;
+import com.example.riskdashboardbff.model.RawJsonList;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Columnar form of an {@link AccountBalance} list.
+ */
+public final class ColumnarBalances extends ColumnarList<AccountBalance> {
+
+    private static final SerializedString ACCOUNT_ID = new SerializedString("accountId");
+    private static final SerializedString CURRENCY = new SerializedString("currency");
+    private static final SerializedString CASH_BALANCE = new SerializedString("cashBalance");
+    private static final SerializedString MARGIN_USED = new SerializedString("marginUsed");
+    private static final SerializedString AVAILABLE_MARGIN = new SerializedString("availableMargin");
+
+    private final IdColumn accountId;
+    private final DictionaryColumn currency;
+    private final double[] cashBalance;
+    private final double[] marginUsed;
+    private final double[] availableMargin;
+
+    private ColumnarBalances(
+            IdColumn accountId,
+            DictionaryColumn currency,
+            double[] cashBalance,
+            double[] marginUsed,
+            double[] availableMargin
+    ) {
+        super(cashBalance.length);
+        this.accountId = accountId;
+        this.currency = currency;
+        this.cashBalance = cashBalance;
+        this.marginUsed = marginUsed;
+        this.availableMargin = availableMargin;
+    }
+
+    /**
+     * The columnar form of {@code rows}. A raw passthrough list is read from its bytes
+     * once, and the result is shared by every caller (see {@link RawJsonList#columnar}).
+     */
+    public static ColumnarBalances of(List<AccountBalance> rows) {
+        if (rows instanceof RawJsonList<AccountBalance> raw) {
+            return raw.columnar(ColumnarBalances::parse);
+        }
+        double[] cashBalance = new double[rows.size()];
+        double[] marginUsed = new double[rows.size()];
+        double[] availableMargin = new double[rows.size()];
+        for (int i = 0; i < cashBalance.length; i++) {
+            AccountBalance balance = rows.get(i);
+            cashBalance[i] = balance.cashBalance();
+            marginUsed[i] = balance.marginUsed();
+            availableMargin[i] = balance.availableMargin();
+        }
+        return new ColumnarBalances(
+                IdColumn.encode(rows, AccountBalance::accountId),
+                DictionaryColumn.encode(rows, AccountBalance::currency),
+                cashBalance, marginUsed, availableMargin);
+    }
+
+    private static ColumnarBalances parse(RawJsonList<AccountBalance> rows) {
+        IdColumn.Builder accountId = new IdColumn.Builder(rows.size());
+        DictionaryColumn.Builder currency = new DictionaryColumn.Builder(rows.size());
+        double[] cashBalance = new double[rows.size()];
+        double[] marginUsed = new double[rows.size()];
+        double[] availableMargin = new double[rows.size()];
+        JsonRows.read(rows, (row, field, parser) -> {
+            switch (field) {
+                case "accountId" -> accountId.set(row, parser.getValueAsString());
+                case "currency" -> currency.set(row, parser.getValueAsString());
+                case "cashBalance" -> cashBalance[row] = parser.getValueAsDouble();
+                case "marginUsed" -> marginUsed[row] = parser.getValueAsDouble();
+                case "availableMargin" -> availableMargin[row] = parser.getValueAsDouble();
+                default -> parser.skipChildren();
+            }
+        });
+        return new ColumnarBalances(accountId.build(), currency.build(), cashBalance, marginUsed, availableMargin);
+    }
+
+    public IdColumn accountId() {
+        return accountId;
+    }
+
+    public DictionaryColumn currency() {
+        return currency;
+    }
+
+    public double[] cashBalance() {
+        return cashBalance;
+    }
+
+    public double[] marginUsed() {
+        return marginUsed;
+    }
+
+    public double[] availableMargin() {
+        return availableMargin;
+    }
+
+    @Override
+    protected AccountBalance row(int i) {
+        return new AccountBalance(accountId.get(i), currency.get(i), cashBalance[i], marginUsed[i], availableMargin[i]);
+    }
+
+    @Override
+    protected void writeRow(int i, JsonGenerator gen, char[] scratch) throws IOException {
+        gen.writeStartObject();
+        gen.writeFieldName(ACCOUNT_ID);
+        accountId.write(i, gen, scratch);
+        gen.writeFieldName(CURRENCY);
+        writeString(gen, currency.serialized(i));
+        gen.writeFieldName(CASH_BALANCE);
+        gen.writeNumber(cashBalance[i]);
+        gen.writeFieldName(MARGIN_USED);
+        gen.writeNumber(marginUsed[i]);
+        gen.writeFieldName(AVAILABLE_MARGIN);
+        gen.writeNumber(availableMargin[i]);
+        gen.writeEndObject();
+    }
+}
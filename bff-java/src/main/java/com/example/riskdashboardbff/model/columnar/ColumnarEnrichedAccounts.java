@@ -0,0 +1,106 @@
+package com.example.riskdashboardbff.model.columnar;
+
+import com.example.riskdashboardbff.model.DashboardViewModel.EnrichedAccount;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+
+/**
+ * Columnar form of an {@link EnrichedAccount} list. The account columns are shared
+ * with the {@link ColumnarRiskAccounts} the accounts were joined from; only the joined
+ * ledger columns are owned by this list.
+ */
+public final class ColumnarEnrichedAccounts extends ColumnarList<EnrichedAccount> {
+
+    private static final SerializedString ACCOUNT_ID = new SerializedString("accountId");
+    private static final SerializedString BOOK = new SerializedString("book");
+    private static final SerializedString EXPOSURE = new SerializedString("exposure");
+    private static final SerializedString UTILIZATION = new SerializedString("utilization");
+    private static final SerializedString CURRENCY = new SerializedString("currency");
+    private static final SerializedString CASH_BALANCE = new SerializedString("cashBalance");
+    private static final SerializedString AVAILABLE_MARGIN = new SerializedString("availableMargin");
+    private static final SerializedString PENDING_TRANSACTION_COUNT = new SerializedString("pendingTransactionCount");
+    private static final SerializedString PENDING_TRANSACTION_AMOUNT = new SerializedString("pendingTransactionAmount");
+
+    private final ColumnarRiskAccounts accounts;
+    private final DictionaryColumn currency;
+    private final double[] cashBalance;
+    private final double[] availableMargin;
+    private final int[] pendingTransactionCount;
+    private final double[] pendingTransactionAmount;
+
+    public ColumnarEnrichedAccounts(
+            ColumnarRiskAccounts accounts,
+            DictionaryColumn currency,
+            double[] cashBalance,
+            double[] availableMargin,
+            int[] pendingTransactionCount,
+            double[] pendingTransactionAmount
+    ) {
+        super(accounts.size());
+        this.accounts = accounts;
+        this.currency = currency;
+        this.cashBalance = cashBalance;
+        this.availableMargin = availableMargin;
+        this.pendingTransactionCount = pendingTransactionCount;
+        this.pendingTransactionAmount = pendingTransactionAmount;
+    }
+
+    public ColumnarRiskAccounts accounts() {
+        return accounts;
+    }
+
+    public DictionaryColumn currency() {
+        return currency;
+    }
+
+    public double[] cashBalance() {
+        return cashBalance;
+    }
+
+    public double[] availableMargin() {
+        return availableMargin;
+    }
+
+    public int[] pendingTransactionCount() {
+        return pendingTransactionCount;
+    }
+
+    public double[] pendingTransactionAmount() {
+        return pendingTransactionAmount;
+    }
+
+    @Override
+    protected EnrichedAccount row(int i) {
+        return new EnrichedAccount(
+                accounts.accountId().get(i), accounts.book().get(i),
+                accounts.exposure()[i], accounts.utilization()[i],
+                currency.get(i), cashBalance[i], availableMargin[i],
+                pendingTransactionCount[i], pendingTransactionAmount[i]);
+    }
+
+    @Override
+    protected void writeRow(int i, JsonGenerator gen, char[] scratch) throws IOException {
+        gen.writeStartObject();
+        gen.writeFieldName(ACCOUNT_ID);
+        accounts.accountId().write(i, gen, scratch);
+        gen.writeFieldName(BOOK);
+        writeString(gen, accounts.book().serialized(i));
+        gen.writeFieldName(EXPOSURE);
+        gen.writeNumber(accounts.exposure()[i]);
+        gen.writeFieldName(UTILIZATION);
+        gen.writeNumber(accounts.utilization()[i]);
+        gen.writeFieldName(CURRENCY);
+        writeString(gen, currency.serialized(i));
+        gen.writeFieldName(CASH_BALANCE);
+        gen.writeNumber(cashBalance[i]);
+        gen.writeFieldName(AVAILABLE_MARGIN);
+        gen.writeNumber(availableMargin[i]);
+        gen.writeFieldName(PENDING_TRANSACTION_COUNT);
+        gen.writeNumber(pendingTransactionCount[i]);
+        gen.writeFieldName(PENDING_TRANSACTION_AMOUNT);
+        gen.writeNumber(pendingTransactionAmount[i]);
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.riskdashboardbff.model.columnar;
+
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingFill;
+import com.example.riskdashboardbff.model.RawJsonList;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Columnar form of a {@link TradingFill} list.
+ */
+public final class ColumnarFills extends ColumnarList<TradingFill> {
+
+    private static final SerializedString FILL_ID = new SerializedString("fillId");
+    private static final SerializedString SYMBOL = new SerializedString("symbol");
+    private static final SerializedString SIDE = new SerializedString("side");
+    private static final SerializedString QUANTITY = new SerializedString("quantity");
+    private static final SerializedString PRICE = new SerializedString("price");
+    private static final SerializedString PNL = new SerializedString("pnl");
+
+    private final IdColumn fillId;
+    private final DictionaryColumn symbol;
+    private final DictionaryColumn side;
+    private final int[] quantity;
+    private final double[] price;
+    private final double[] pnl;
+
+    private ColumnarFills(
+            IdColumn fillId,
+            DictionaryColumn symbol,
+            DictionaryColumn side,
+            int[] quantity,
+            double[] price,
+            double[] pnl
+    ) {
+        super(quantity.length);
+        this.fillId = fillId;
+        this.symbol = symbol;
+        this.side = side;
+        this.quantity = quantity;
+        this.price = price;
+        this.pnl = pnl;
+    }
+
+    /**
+     * The columnar form of {@code rows}. A raw passthrough list is read from its bytes
+     * once, and the result is shared by every caller (see {@link RawJsonList#columnar}).
+     */
+    public static ColumnarFills of(List<TradingFill> rows) {
+        if (rows instanceof RawJsonList<TradingFill> raw) {
+            return raw.columnar(ColumnarFills::parse);
+        }
+        int[] quantity = new int[rows.size()];
+        double[] price = new double[rows.size()];
+        double[] pnl = new double[rows.size()];
+        for (int i = 0; i < quantity.length; i++) {
+            TradingFill fill = rows.get(i);
+            quantity[i] = fill.quantity();
+            price[i] = fill.price();
+            pnl[i] = fill.pnl();
+        }
+        return new ColumnarFills(
+                IdColumn.encode(rows, TradingFill::fillId),
+                DictionaryColumn.encode(rows, TradingFill::symbol),
+                DictionaryColumn.encode(rows, TradingFill::side),
+                quantity, price, pnl);
+    }
+
+    private static ColumnarFills parse(RawJsonList<TradingFill> rows) {
+        IdColumn.Builder fillId = new IdColumn.Builder(rows.size());
+        DictionaryColumn.Builder symbol = new DictionaryColumn.Builder(rows.size());
+        DictionaryColumn.Builder side = new DictionaryColumn.Builder(rows.size());
+        int[] quantity = new int[rows.size()];
+        double[] price = new double[rows.size()];
+        double[] pnl = new double[rows.size()];
+        JsonRows.read(rows, (row, field, parser) -> {
+            switch (field) {
+                case "fillId" -> fillId.set(row, parser.getValueAsString());
+                case "symbol" -> symbol.set(row, parser.getValueAsString());
+                case "side" -> side.set(row, parser.getValueAsString());
+                case "quantity" -> quantity[row] = parser.getValueAsInt();
+                case "price" -> price[row] = parser.getValueAsDouble();
+                case "pnl" -> pnl[row] = parser.getValueAsDouble();
+                default -> parser.skipChildren();
+            }
+        });
+        return new ColumnarFills(fillId.build(), symbol.build(), side.build(), quantity, price, pnl);
+    }
+
+    public IdColumn fillId() {
+        return fillId;
+    }
+
+    public DictionaryColumn symbol() {
+        return symbol;
+    }
+
+    public DictionaryColumn side() {
+        return side;
+    }
+
+    public int[] quantity() {
+        return quantity;
+    }
+
+    public double[] price() {
+        return price;
+    }
+
+    public double[] pnl() {
+        return pnl;
+    }
+
+    @Override
+    protected TradingFill row(int i) {
+        return new TradingFill(fillId.get(i), symbol.get(i), side.get(i), quantity[i], price[i], pnl[i]);
+    }
+
+    @Override
+    protected void writeRow(int i, JsonGenerator gen, char[] scratch) throws IOException {
+        gen.writeStartObject();
+        gen.writeFieldName(FILL_ID);
+        fillId.write(i, gen, scratch);
+        gen.writeFieldName(SYMBOL);
+        writeString(gen, symbol.serialized(i));
+        gen.writeFieldName(SIDE);
+        writeString(gen, side.serialized(i));
+        gen.writeFieldName(QUANTITY);
+        gen.writeNumber(quantity[i]);
+        gen.writeFieldName(PRICE);
+        gen.writeNumber(price[i]);
+        gen.writeFieldName(PNL);
+        gen.writeNumber(pnl[i]);
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.riskdashboardbff.model.columnar;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Immutable struct-of-arrays list of view model rows. Rows are only materialized as
+ * records when accessed through {@link #get(int)}; JSON is written directly from the
+ * columns by {@link ColumnarListSerializer} and is identical to the JSON of the
+ * equivalent list of records.
+ */
+@JsonSerialize(using = ColumnarListSerializer.class)
+public abstract class ColumnarList<T> extends AbstractList<T> implements RandomAccess {
+
+    private final int size;
+
+    protected ColumnarList(int size) {
+        this.size = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+        return row(index);
+    }
+
+    protected abstract T row(int index);
+
+    /**
+     * Writes one row as a JSON object. {@code scratch} is a per-call buffer for
+     * formatting ids without allocating.
+     */
+    protected abstract void writeRow(int index, JsonGenerator gen, char[] scratch) throws IOException;
+
+    protected static void writeString(JsonGenerator gen, SerializableString value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+}
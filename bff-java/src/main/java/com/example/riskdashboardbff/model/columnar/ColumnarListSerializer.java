@@ -0,0 +1,42 @@
+package com.example.riskdashboardbff.model.columnar;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Writes a {@link ColumnarList} as a JSON array straight from its columns.
+ */
+@SuppressWarnings("rawtypes")
+public class ColumnarListSerializer extends StdSerializer<ColumnarList> {
+
+    public ColumnarListSerializer() {
+        super(ColumnarList.class);
+    }
+
+    @Override
+    public void serialize(ColumnarList value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        writeHead(value, gen, value.size());
+    }
+
+    /**
+     * Writes the first {@code rows} rows of {@code value} (all of them if it has fewer)
+     * as a JSON array.
+     */
+    public static void writeHead(ColumnarList<?> value, JsonGenerator gen, int rows) throws IOException {
+        int size = Math.min(rows, value.size());
+        char[] scratch = new char[32];
+        gen.writeStartArray(value, size);
+        for (int i = 0; i < size; i++) {
+            value.writeRow(i, gen, scratch);
+        }
+        gen.writeEndArray();
+    }
+
+    @Override
+    public boolean isEmpty(SerializerProvider provider, ColumnarList value) {
+        return value.isEmpty();
+    }
+}
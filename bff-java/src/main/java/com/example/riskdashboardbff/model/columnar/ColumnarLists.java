@@ -0,0 +1,49 @@
+package com.example.riskdashboardbff.model.columnar;
+
+import com.example.riskdashboardbff.model.DashboardViewModel.AccountBalance;
+import com.example.riskdashboardbff.model.DashboardViewModel.RiskAccount;
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingFill;
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingOrder;
+import com.example.riskdashboardbff.model.DashboardViewModel.Transaction;
+import com.example.riskdashboardbff.model.RawJsonList;
+
+import java.util.List;
+
+/**
+ * Converts large view model lists into their columnar form.
+ */
+public final class ColumnarLists {
+
+    private ColumnarLists() {
+    }
+
+    /**
+     * Returns the columnar form of {@code value} if it is a non-empty list of a row type
+     * with a columnar representation, and {@code value} itself otherwise. Raw passthrough
+     * lists are left as they are, since converting them would mean decoding them.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T compact(T value) {
+        if (!(value instanceof List<?> list) || list.isEmpty() || list instanceof ColumnarList<?>
+                || list instanceof RawJsonList<?>) {
+            return value;
+        }
+        Object first = list.get(0);
+        if (first instanceof TradingOrder) {
+            return (T) ColumnarOrders.of((List<TradingOrder>) list);
+        }
+        if (first instanceof TradingFill) {
+            return (T) ColumnarFills.of((List<TradingFill>) list);
+        }
+        if (first instanceof AccountBalance) {
+            return (T) ColumnarBalances.of((List<AccountBalance>) list);
+        }
+        if (first instanceof Transaction) {
+            return (T) ColumnarTransactions.of((List<Transaction>) list);
+        }
+        if (first instanceof RiskAccount) {
+            return (T) ColumnarRiskAccounts.of((List<RiskAccount>) list);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.riskdashboardbff.model.columnar;
+
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingOrder;
+import com.example.riskdashboardbff.model.RawJsonList;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Columnar form of a {@link TradingOrder} list.
+ */
+public final class ColumnarOrders extends ColumnarList<TradingOrder> {
+
+    private static final SerializedString ORDER_ID = new SerializedString("orderId");
+    private static final SerializedString SYMBOL = new SerializedString("symbol");
+    private static final SerializedString SIDE = new SerializedString("side");
+    private static final SerializedString QUANTITY = new SerializedString("quantity");
+    private static final SerializedString PRICE = new SerializedString("price");
+    private static final SerializedString STATUS = new SerializedString("status");
+
+    private final IdColumn orderId;
+    private final DictionaryColumn symbol;
+    private final DictionaryColumn side;
+    private final int[] quantity;
+    private final double[] price;
+    private final DictionaryColumn status;
+
+    private ColumnarOrders(
+            IdColumn orderId,
+            DictionaryColumn symbol,
+            DictionaryColumn side,
+            int[] quantity,
+            double[] price,
+            DictionaryColumn status
+    ) {
+        super(quantity.length);
+        this.orderId = orderId;
+        this.symbol = symbol;
+        this.side = side;
+        this.quantity = quantity;
+        this.price = price;
+        this.status = status;
+    }
+
+    /**
+     * The columnar form of {@code rows}. A raw passthrough list is read from its bytes
+     * once, and the result is shared by every caller (see {@link RawJsonList#columnar}).
+     */
+    public static ColumnarOrders of(List<TradingOrder> rows) {
+        if (rows instanceof RawJsonList<TradingOrder> raw) {
+            return raw.columnar(ColumnarOrders::parse);
+        }
+        int[] quantity = new int[rows.size()];
+        double[] price = new double[rows.size()];
+        for (int i = 0; i < quantity.length; i++) {
+            TradingOrder order = rows.get(i);
+            quantity[i] = order.quantity();
+            price[i] = order.price();
+        }
+        return new ColumnarOrders(
+                IdColumn.encode(rows, TradingOrder::orderId),
+                DictionaryColumn.encode(rows, TradingOrder::symbol),
+                DictionaryColumn.encode(rows, TradingOrder::side),
+                quantity, price,
+                DictionaryColumn.encode(rows, TradingOrder::status));
+    }
+
+    private static ColumnarOrders parse(RawJsonList<TradingOrder> rows) {
+        IdColumn.Builder orderId = new IdColumn.Builder(rows.size());
+        DictionaryColumn.Builder symbol = new DictionaryColumn.Builder(rows.size());
+        DictionaryColumn.Builder side = new DictionaryColumn.Builder(rows.size());
+        DictionaryColumn.Builder status = new DictionaryColumn.Builder(rows.size());
+        int[] quantity = new int[rows.size()];
+        double[] price = new double[rows.size()];
+        JsonRows.read(rows, (row, field, parser) -> {
+            switch (field) {
+                case "orderId" -> orderId.set(row, parser.getValueAsString());
+                case "symbol" -> symbol.set(row, parser.getValueAsString());
+                case "side" -> side.set(row, parser.getValueAsString());
+                case "quantity" -> quantity[row] = parser.getValueAsInt();
+                case "price" -> price[row] = parser.getValueAsDouble();
+                case "status" -> status.set(row, parser.getValueAsString());
+                default -> parser.skipChildren();
+            }
+        });
+        return new ColumnarOrders(orderId.build(), symbol.build(), side.build(), quantity, price, status.build());
+    }
+
+    public IdColumn orderId() {
+        return orderId;
+    }
+
+    public DictionaryColumn symbol() {
+        return symbol;
+    }
+
+    public DictionaryColumn side() {
+        return side;
+    }
+
+    public int[] quantity() {
+        return quantity;
+    }
+
+    public double[] price() {
+        return price;
+    }
+
+    public DictionaryColumn status() {
+        return status;
+    }
+
+    @Override
+    protected TradingOrder row(int i) {
+        return new TradingOrder(orderId.get(i), symbol.get(i), side.get(i), quantity[i], price[i], status.get(i));
+    }
+
+    @Override
+    protected void writeRow(int i, JsonGenerator gen, char[] scratch) throws IOException {
+        gen.writeStartObject();
+        gen.writeFieldName(ORDER_ID);
+        orderId.write(i, gen, scratch);
+        gen.writeFieldName(SYMBOL);
+        writeString(gen, symbol.serialized(i));
+        gen.writeFieldName(SIDE);
+        writeString(gen, side.serialized(i));
+        gen.writeFieldName(QUANTITY);
+        gen.writeNumber(quantity[i]);
+        gen.writeFieldName(PRICE);
+        gen.writeNumber(price[i]);
+        gen.writeFieldName(STATUS);
+        writeString(gen, status.serialized(i));
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.riskdashboardbff.model.columnar;
+
+import com.example.riskdashboardbff.model.DashboardViewModel.RiskAccount;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Columnar form of a {@link RiskAccount} list.
+ */
+public final class ColumnarRiskAccounts extends ColumnarList<RiskAccount> {
+
+    private static final SerializedString ACCOUNT_ID = new SerializedString("accountId");
+    private static final SerializedString BOOK = new SerializedString("book");
+    private static final SerializedString EXPOSURE = new SerializedString("exposure");
+    private static final SerializedString UTILIZATION = new SerializedString("utilization");
+
+    private final IdColumn accountId;
+    private final DictionaryColumn book;
+    private final double[] exposure;
+    private final double[] utilization;
+
+    private ColumnarRiskAccounts(List<RiskAccount> rows) {
+        super(rows.size());
+        this.accountId = IdColumn.encode(rows, RiskAccount::accountId);
+        this.book = DictionaryColumn.encode(rows, RiskAccount::book);
+        this.exposure = new double[rows.size()];
+        this.utilization = new double[rows.size()];
+        for (int i = 0; i < exposure.length; i++) {
+            RiskAccount account = rows.get(i);
+            exposure[i] = account.exposure();
+            utilization[i] = account.utilization();
+        }
+    }
+
+    public static ColumnarRiskAccounts of(List<RiskAccount> rows) {
+        return new ColumnarRiskAccounts(rows);
+    }
+
+    public IdColumn accountId() {
+        return accountId;
+    }
+
+    public DictionaryColumn book() {
+        return book;
+    }
+
+    public double[] exposure() {
+        return exposure;
+    }
+
+    public double[] utilization() {
+        return utilization;
+    }
+
+    @Override
+    protected RiskAccount row(int i) {
+        return new RiskAccount(accountId.get(i), book.get(i), exposure[i], utilization[i]);
+    }
+
+    @Override
+    protected void writeRow(int i, JsonGenerator gen, char[] scratch) throws IOException {
+        gen.writeStartObject();
+        gen.writeFieldName(ACCOUNT_ID);
+        accountId.write(i, gen, scratch);
+        gen.writeFieldName(BOOK);
+        writeString(gen, book.serialized(i));
+        gen.writeFieldName(EXPOSURE);
+        gen.writeNumber(exposure[i]);
+        gen.writeFieldName(UTILIZATION);
+        gen.writeNumber(utilization[i]);
+        gen.writeEndObject();
+    }
+}
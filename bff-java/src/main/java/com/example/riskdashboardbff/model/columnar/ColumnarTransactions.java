@@ -0,0 +1,137 @@
+package com.example.riskdashboardbff.model.columnar;
+
+import com.example.riskdashboardbff.model.DashboardViewModel.Transaction;
+import com.example.riskdashboardbff.model.RawJsonList;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Columnar form of a {@link Transaction} list.
+ */
+public final class ColumnarTransactions extends ColumnarList<Transaction> {
+
+    private static final SerializedString TRANSACTION_ID = new SerializedString("transactionId");
+    private static final SerializedString ACCOUNT_ID = new SerializedString("accountId");
+    private static final SerializedString TRANSACTION_TYPE = new SerializedString("transactionType");
+    private static final SerializedString CURRENCY = new SerializedString("currency");
+    private static final SerializedString AMOUNT = new SerializedString("amount");
+    private static final SerializedString STATUS = new SerializedString("status");
+
+    private final IdColumn transactionId;
+    private final IdColumn accountId;
+    private final DictionaryColumn transactionType;
+    private final DictionaryColumn currency;
+    private final double[] amount;
+    private final DictionaryColumn status;
+
+    private ColumnarTransactions(
+            IdColumn transactionId,
+            IdColumn accountId,
+            DictionaryColumn transactionType,
+            DictionaryColumn currency,
+            double[] amount,
+            DictionaryColumn status
+    ) {
+        super(amount.length);
+        this.transactionId = transactionId;
+        this.accountId = accountId;
+        this.transactionType = transactionType;
+        this.currency = currency;
+        this.amount = amount;
+        this.status = status;
+    }
+
+    /**
+     * The columnar form of {@code rows}. A raw passthrough list is read from its bytes
+     * once, and the result is shared by every caller (see {@link RawJsonList#columnar}).
+     */
+    public static ColumnarTransactions of(List<Transaction> rows) {
+        if (rows instanceof RawJsonList<Transaction> raw) {
+            return raw.columnar(ColumnarTransactions::parse);
+        }
+        double[] amount = new double[rows.size()];
+        for (int i = 0; i < amount.length; i++) {
+            amount[i] = rows.get(i).amount();
+        }
+        return new ColumnarTransactions(
+                IdColumn.encode(rows, Transaction::transactionId),
+                IdColumn.encode(rows, Transaction::accountId),
+                DictionaryColumn.encode(rows, Transaction::transactionType),
+                DictionaryColumn.encode(rows, Transaction::currency),
+                amount,
+                DictionaryColumn.encode(rows, Transaction::status));
+    }
+
+    private static ColumnarTransactions parse(RawJsonList<Transaction> rows) {
+        IdColumn.Builder transactionId = new IdColumn.Builder(rows.size());
+        IdColumn.Builder accountId = new IdColumn.Builder(rows.size());
+        DictionaryColumn.Builder transactionType = new DictionaryColumn.Builder(rows.size());
+        DictionaryColumn.Builder currency = new DictionaryColumn.Builder(rows.size());
+        double[] amount = new double[rows.size()];
+        DictionaryColumn.Builder status = new DictionaryColumn.Builder(rows.size());
+        JsonRows.read(rows, (row, field, parser) -> {
+            switch (field) {
+                case "transactionId" -> transactionId.set(row, parser.getValueAsString());
+                case "accountId" -> accountId.set(row, parser.getValueAsString());
+                case "transactionType" -> transactionType.set(row, parser.getValueAsString());
+                case "currency" -> currency.set(row, parser.getValueAsString());
+                case "amount" -> amount[row] = parser.getValueAsDouble();
+                case "status" -> status.set(row, parser.getValueAsString());
+                default -> parser.skipChildren();
+            }
+        });
+        return new ColumnarTransactions(transactionId.build(), accountId.build(), transactionType.build(),
+                currency.build(), amount, status.build());
+    }
+
+    public IdColumn transactionId() {
+        return transactionId;
+    }
+
+    public IdColumn accountId() {
+        return accountId;
+    }
+
+    public DictionaryColumn transactionType() {
+        return transactionType;
+    }
+
+    public DictionaryColumn currency() {
+        return currency;
+    }
+
+    public double[] amount() {
+        return amount;
+    }
+
+    public DictionaryColumn status() {
+        return status;
+    }
+
+    @Override
+    protected Transaction row(int i) {
+        return new Transaction(transactionId.get(i), accountId.get(i), transactionType.get(i),
+                currency.get(i), amount[i], status.get(i));
+    }
+
+    @Override
+    protected void writeRow(int i, JsonGenerator gen, char[] scratch) throws IOException {
+        gen.writeStartObject();
+        gen.writeFieldName(TRANSACTION_ID);
+        transactionId.write(i, gen, scratch);
+        gen.writeFieldName(ACCOUNT_ID);
+        accountId.write(i, gen, scratch);
+        gen.writeFieldName(TRANSACTION_TYPE);
+        writeString(gen, transactionType.serialized(i));
+        gen.writeFieldName(CURRENCY);
+        writeString(gen, currency.serialized(i));
+        gen.writeFieldName(AMOUNT);
+        gen.writeNumber(amount[i]);
+        gen.writeFieldName(STATUS);
+        writeString(gen, status.serialized(i));
+        gen.writeEndObject();
+    }
+}
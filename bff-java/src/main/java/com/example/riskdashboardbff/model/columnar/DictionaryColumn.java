@@ -0,0 +1,156 @@
+package com.example.riskdashboardbff.model.columnar;
+
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Dictionary-encoded string column for low-cardinality fields (symbol, side, status,
+ * currency, book, ...). Each distinct value is stored once; rows hold an int code.
+ * Dictionary entries are kept pre-encoded so JSON output does not re-escape them.
+ */
+public final class DictionaryColumn {
+
+    private final String[] dictionary;
+    private final SerializedString[] encoded;
+    private final int[] codes;
+    private volatile BitmapIndex index;
+
+    private DictionaryColumn(String[] dictionary, int[] codes) {
+        this.dictionary = dictionary;
+        this.codes = codes;
+        this.encoded = new SerializedString[dictionary.length];
+        for (int i = 0; i < dictionary.length; i++) {
+            encoded[i] = new SerializedString(dictionary[i]);
+        }
+    }
+
+    private DictionaryColumn(DictionaryColumn source, int[] codes) {
+        this.dictionary = source.dictionary;
+        this.encoded = source.encoded;
+        this.codes = codes;
+    }
+
+    /**
+     * Column of {@code size} rows that are all {@code null}.
+     */
+    public static DictionaryColumn nulls(int size) {
+        return new Builder(size).build();
+    }
+
+    public static <T> DictionaryColumn encode(List<T> rows, Function<T, String> field) {
+        Builder builder = new Builder(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            builder.set(i, field.apply(rows.get(i)));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Fills a column of a known size row by row, for sources that are not a list of
+     * records. Rows that are never set hold {@code null}.
+     */
+    static final class Builder {
+
+        private final Map<String, Integer> index = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+        private final int[] codes;
+
+        Builder(int size) {
+            this.codes = new int[size];
+            Arrays.fill(codes, -1);
+        }
+
+        void set(int row, String value) {
+            if (value == null) {
+                codes[row] = -1;
+                return;
+            }
+            Integer code = index.get(value);
+            if (code == null) {
+                code = values.size();
+                index.put(value, code);
+                values.add(value);
+            }
+            codes[row] = code;
+        }
+
+        DictionaryColumn build() {
+            return new DictionaryColumn(values.toArray(new String[0]), codes);
+        }
+    }
+
+    public String get(int row) {
+        int code = codes[row];
+        return code < 0 ? null : dictionary[code];
+    }
+
+    /**
+     * Pre-encoded value of the row, or {@code null}.
+     */
+    public SerializedString serialized(int row) {
+        int code = codes[row];
+        return code < 0 ? null : encoded[code];
+    }
+
+    public int code(int row) {
+        return codes[row];
+    }
+
+    /**
+     * Code of the given value, or -1 if it does not occur in this column.
+     */
+    public int codeOf(String value) {
+        for (int i = 0; i < dictionary.length; i++) {
+            if (dictionary[i].equals(value)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Column of the given codes over this column's dictionary; -1 is {@code null}.
+     */
+    public DictionaryColumn withCodes(int[] codes) {
+        return new DictionaryColumn(this, codes);
+    }
+
+    /**
+     * Rows holding any of the given values, as a bitmap (see {@link Bitmaps}). Answered
+     * from a {@link BitmapIndex} that is built on first use.
+     */
+    public long[] rowsOf(Collection<String> values) {
+        BitmapIndex current = index;
+        if (current == null) {
+            current = BitmapIndex.build(codes, dictionary.length);
+            index = current;
+        }
+        long[] rows = Bitmaps.none(codes.length);
+        for (String value : values) {
+            int code = codeOf(value);
+            if (code >= 0) {
+                Bitmaps.or(rows, current.bitmap(code));
+            }
+        }
+        return rows;
+    }
+
+    public int size() {
+        return codes.length;
+    }
+
+    public int cardinality() {
+        return dictionary.length;
+    }
+
+    public String value(int code) {
+        return dictionary[code];
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.riskdashboardbff.model.columnar;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Column for high-cardinality identifiers of the form {@code PREFIX-000123} (order,
+ * fill, transaction and account ids). Each id is split into a dictionary-encoded
+ * prefix, a numeric part and its zero-padded width, so no per-row {@code String} is
+ * kept. Ids that do not follow the pattern are stored as-is.
+ */
+public final class IdColumn {
+
+    private static final int MAX_DIGITS = 18;
+
+    private final String[] prefixes;
+    private final int[] prefixCodes;
+    private final long[] numbers;
+    private final byte[] widths;
+    private final String[] irregular;
+    private volatile Postings postings;
+
+    private IdColumn(String[] prefixes, int[] prefixCodes, long[] numbers, byte[] widths, String[] irregular) {
+        this.prefixes = prefixes;
+        this.prefixCodes = prefixCodes;
+        this.numbers = numbers;
+        this.widths = widths;
+        this.irregular = irregular;
+    }
+
+    public static <T> IdColumn encode(List<T> rows, Function<T, String> field) {
+        Builder builder = new Builder(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            builder.set(i, field.apply(rows.get(i)));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Fills a column of a known size row by row, for sources that are not a list of
+     * records. Rows that are never set hold a {@code null} id.
+     */
+    static final class Builder {
+
+        private final Map<String, Integer> index = new HashMap<>();
+        private final List<String> prefixes = new ArrayList<>();
+        private final int[] prefixCodes;
+        private final long[] numbers;
+        private final byte[] widths;
+        private String[] irregular;
+
+        Builder(int size) {
+            this.prefixCodes = new int[size];
+            this.numbers = new long[size];
+            this.widths = new byte[size];
+            Arrays.fill(prefixCodes, -1);
+        }
+
+        void set(int row, String id) {
+            if (!isRegular(id)) {
+                if (irregular == null) {
+                    irregular = new String[prefixCodes.length];
+                }
+                irregular[row] = id;
+                prefixCodes[row] = -1;
+                return;
+            }
+            int dash = id.lastIndexOf('-');
+            String prefix = id.substring(0, dash + 1);
+            Integer code = index.get(prefix);
+            if (code == null) {
+                code = prefixes.size();
+                index.put(prefix, code);
+                prefixes.add(prefix);
+            }
+            prefixCodes[row] = code;
+            numbers[row] = Long.parseLong(id, dash + 1, id.length(), 10);
+            widths[row] = (byte) (id.length() - dash - 1);
+        }
+
+        IdColumn build() {
+            if (irregular == null) {
+                for (int code : prefixCodes) {
+                    if (code < 0) {
+                        irregular = new String[prefixCodes.length];
+                        break;
+                    }
+                }
+            }
+            return new IdColumn(prefixes.toArray(new String[0]), prefixCodes, numbers, widths, irregular);
+        }
+    }
+
+    public String get(int row) {
+        int code = prefixCodes[row];
+        if (code < 0) {
+            return irregular[row];
+        }
+        char[] chars = new char[prefixes[code].length() + widths[row]];
+        return new String(chars, 0, format(row, chars));
+    }
+
+    /**
+     * Numeric part of the id (e.g. 123 for {@code ACC-123}), or -1 for irregular ids.
+     */
+    public long number(int row) {
+        return prefixCodes[row] < 0 ? -1 : numbers[row];
+    }
+
+    /**
+     * Whether this column's id at {@code row} equals {@code other}'s id at
+     * {@code otherRow}, compared without formatting either id.
+     */
+    public boolean sameId(int row, IdColumn other, int otherRow) {
+        int code = prefixCodes[row];
+        int otherCode = other.prefixCodes[otherRow];
+        if (code < 0 || otherCode < 0) {
+            return code < 0 && otherCode < 0 && Objects.equals(irregular[row], other.irregular[otherRow]);
+        }
+        return numbers[row] == other.numbers[otherRow]
+                && widths[row] == other.widths[otherRow]
+                && prefixes[code].equals(other.prefixes[otherCode]);
+    }
+
+    /**
+     * Rows holding {@code id}, as a bitmap (see {@link Bitmaps}). Regular ids are looked
+     * up through a number-to-rows index that is built on first use.
+     */
+    public long[] rowsOf(String id) {
+        long[] rows = Bitmaps.none(numbers.length);
+        if (isRegular(id)) {
+            int dash = id.lastIndexOf('-');
+            long number = Long.parseLong(id, dash + 1, id.length(), 10);
+            Postings index = postings();
+            for (int row = index.heads().get(number); row >= 0; row = index.next()[row]) {
+                int code = prefixCodes[row];
+                if (prefixes[code].length() == dash + 1 && widths[row] == id.length() - dash - 1
+                        && id.startsWith(prefixes[code])) {
+                    Bitmaps.set(rows, row);
+                }
+            }
+        } else if (irregular != null) {
+            for (int row = 0; row < irregular.length; row++) {
+                if (prefixCodes[row] < 0 && Objects.equals(irregular[row], id)) {
+                    Bitmaps.set(rows, row);
+                }
+            }
+        }
+        return rows;
+    }
+
+    private Postings postings() {
+        Postings current = postings;
+        if (current == null) {
+            // Rows with the same number are chained through next[], in row order.
+            LongIntHashMap heads = new LongIntHashMap(numbers.length);
+            int[] next = new int[numbers.length];
+            for (int row = numbers.length - 1; row >= 0; row--) {
+                next[row] = prefixCodes[row] < 0 ? LongIntHashMap.MISSING : heads.put(numbers[row], row);
+            }
+            current = new Postings(heads, next);
+            postings = current;
+        }
+        return current;
+    }
+
+    /**
+     * Writes the id as a JSON string using the caller's scratch buffer.
+     */
+    public void write(int row, JsonGenerator gen, char[] scratch) throws IOException {
+        int code = prefixCodes[row];
+        if (code < 0) {
+            gen.writeString(irregular[row]);
+            return;
+        }
+        if (prefixes[code].length() + widths[row] > scratch.length) {
+            gen.writeString(get(row));
+            return;
+        }
+        gen.writeString(scratch, 0, format(row, scratch));
+    }
+
+    private int format(int row, char[] out) {
+        String prefix = prefixes[prefixCodes[row]];
+        int length = prefix.length();
+        prefix.getChars(0, length, out, 0);
+        long value = numbers[row];
+        int width = widths[row];
+        for (int i = length + width - 1; i >= length; i--) {
+            out[i] = (char) ('0' + (value % 10));
+            value /= 10;
+        }
+        return length + width;
+    }
+
+    private static boolean isRegular(String id) {
+        int dash = id == null ? -1 : id.lastIndexOf('-');
+        int digits = id == null ? 0 : id.length() - dash - 1;
+        return dash >= 0 && digits > 0 && digits <= MAX_DIGITS && allDigits(id, dash + 1);
+    }
+
+    private static boolean allDigits(String value, int from) {
+        for (int i = from; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record Postings(LongIntHashMap heads, int[] next) {}
+}
@@ -0,0 +1,63 @@
+package com.example.riskdashboardbff.model.columnar;
+
+import com.example.riskdashboardbff.model.RawJsonList;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Streams the rows of a {@link RawJsonList} field by field with a token parser, so a
+ * columnar list can be filled straight from the downstream bytes without a record or
+ * a {@code List} of the rows ever being built.
+ */
+final class JsonRows {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private JsonRows() {
+    }
+
+    @FunctionalInterface
+    interface FieldReader {
+
+        /**
+         * Reads the value of {@code field} of row {@code row}; the parser is positioned on
+         * the value. Values of unknown fields must be skipped with
+         * {@link JsonParser#skipChildren()}.
+         */
+        void read(int row, String field, JsonParser parser) throws IOException;
+    }
+
+    /**
+     * Passes every field of every row of {@code rows} to {@code reader}. Elements that
+     * are not objects are skipped, leaving their row unset.
+     */
+    static void read(RawJsonList<?> rows, FieldReader reader) {
+        try (JsonParser parser = FACTORY.createParser(rows.json())) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalStateException("Raw list is not a JSON array");
+            }
+            int row = 0;
+            for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                if (row == rows.size()) {
+                    throw new IllegalStateException("Raw list has more rows than counted");
+                }
+                if (token == JsonToken.START_OBJECT) {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String field = parser.currentName();
+                        parser.nextToken();
+                        reader.read(row, field, parser);
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+                row++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
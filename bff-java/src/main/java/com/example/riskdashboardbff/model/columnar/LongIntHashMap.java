@@ -0,0 +1,111 @@
+package com.example.riskdashboardbff.model.columnar;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from non-negative {@code long} keys to {@code int} values
+ * (typically row numbers), with linear probing over two flat arrays. It boxes
+ * nothing, so building and probing it for 100k+ keys allocates only the arrays.
+ * Entries cannot be removed.
+ */
+public final class LongIntHashMap {
+
+    /**
+     * Returned by lookups for absent keys.
+     */
+    public static final int MISSING = -1;
+
+    private static final long EMPTY = -1;
+
+    private final long[] keys;
+    private final int[] values;
+    private final int mask;
+    private int size;
+
+    /**
+     * Creates a map that holds {@code expectedSize} keys at a load factor of at most 0.5.
+     */
+    public LongIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(2, expectedSize) * 2 - 1) << 1;
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+        this.mask = capacity - 1;
+        Arrays.fill(keys, EMPTY);
+    }
+
+    /**
+     * Returns the value of {@code key}, or {@link #MISSING}.
+     */
+    public int get(long key) {
+        if (key < 0) {
+            return MISSING;
+        }
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            long current = keys[slot];
+            if (current == key) {
+                return values[slot];
+            }
+            if (current == EMPTY) {
+                return MISSING;
+            }
+        }
+    }
+
+    /**
+     * Associates {@code value} with {@code key} unless the key is already present.
+     *
+     * @return the existing value, or {@link #MISSING} if {@code value} was stored
+     */
+    public int putIfAbsent(long key, int value) {
+        return insert(key, value, false);
+    }
+
+    /**
+     * Associates {@code value} with {@code key}, replacing any existing value.
+     *
+     * @return the previous value, or {@link #MISSING}
+     */
+    public int put(long key, int value) {
+        return insert(key, value, true);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private int insert(long key, int value, boolean replace) {
+        if (key < 0) {
+            throw new IllegalArgumentException("Keys must be non-negative: " + key);
+        }
+        for (int slot = slot(key); ; slot = (slot + 1) & mask) {
+            long current = keys[slot];
+            if (current == key) {
+                int previous = values[slot];
+                if (replace) {
+                    values[slot] = value;
+                }
+                return previous;
+            }
+            if (current == EMPTY) {
+                if (size == mask) {
+                    throw new IllegalStateException("Map is full (" + size + " keys)");
+                }
+                keys[slot] = key;
+                values[slot] = value;
+                size++;
+                return MISSING;
+            }
+        }
+    }
+
+    private int slot(long key) {
+        // Murmur3 finalizer, so sequential ids spread over the whole table.
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.riskdashboardbff.model.columnar;
+
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Selects the first {@code k} rows of a row bitmap by a numeric sort key with a
+ * bounded binary heap, in {@code O(n log k)} time and {@code O(k)} space instead of
+ * sorting all matching rows. Ties are broken by row number, so results are stable.
+ */
+public final class TopK {
+
+    private TopK() {
+    }
+
+    /**
+     * Returns up to {@code limit} rows of {@code rows} ordered by {@code key}, largest
+     * first if {@code descending}.
+     */
+    public static int[] select(long[] rows, IntToDoubleFunction key, boolean descending, int limit) {
+        if (limit <= 0) {
+            return new int[0];
+        }
+        double sign = descending ? 1 : -1;
+        // Heap of the best rows seen so far, worst at the root, keyed by sign * key so
+        // that larger is always better.
+        int[] heapRows = new int[limit];
+        double[] heapKeys = new double[limit];
+        int size = 0;
+        for (int row = Bitmaps.next(rows, 0); row >= 0; row = Bitmaps.next(rows, row + 1)) {
+            double value = sign * key.applyAsDouble(row);
+            if (size < limit) {
+                heapRows[size] = row;
+                heapKeys[size] = value;
+                siftUp(heapRows, heapKeys, size++);
+            } else if (value > heapKeys[0]) {
+                // Rows come in ascending order, so an equal key never beats the root.
+                heapRows[0] = row;
+                heapKeys[0] = value;
+                siftDown(heapRows, heapKeys, size);
+            }
+        }
+        int[] result = new int[size];
+        for (int i = size - 1; i >= 0; i--) {
+            result[i] = heapRows[0];
+            heapRows[0] = heapRows[i];
+            heapKeys[0] = heapKeys[i];
+            siftDown(heapRows, heapKeys, i);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the first {@code limit} rows of {@code rows} in row order.
+     */
+    public static int[] first(long[] rows, int limit) {
+        int[] result = new int[Math.max(0, Math.min(limit, Bitmaps.count(rows)))];
+        int row = -1;
+        for (int i = 0; i < result.length; i++) {
+            row = Bitmaps.next(rows, row + 1);
+            result[i] = row;
+        }
+        return result;
+    }
+
+    private static boolean worse(int[] rows, double[] keys, int a, int b) {
+        return keys[a] < keys[b] || (keys[a] == keys[b] && rows[a] > rows[b]);
+    }
+
+    private static void siftUp(int[] rows, double[] keys, int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!worse(rows, keys, i, parent)) {
+                return;
+            }
+            swap(rows, keys, i, parent);
+            i = parent;
+        }
+    }
+
+    private static void siftDown(int[] rows, double[] keys, int size) {
+        int i = 0;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) {
+                return;
+            }
+            if (child + 1 < size && worse(rows, keys, child + 1, child)) {
+                child++;
+            }
+            if (!worse(rows, keys, child, i)) {
+                return;
+            }
+            swap(rows, keys, i, child);
+            i = child;
+        }
+    }
+
+    private static void swap(int[] rows, double[] keys, int a, int b) {
+        int row = rows[a];
+        rows[a] = rows[b];
+        rows[b] = row;
+        double key = keys[a];
+        keys[a] = keys[b];
+        keys[b] = key;
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.riskdashboardbff.service;
+
+import com.example.riskdashboardbff.model.DashboardViewModel.AccountBalance;
+import com.example.riskdashboardbff.model.DashboardViewModel.EnrichedAccount;
+import com.example.riskdashboardbff.model.DashboardViewModel.RiskAccount;
+import com.example.riskdashboardbff.model.DashboardViewModel.Transaction;
+import com.example.riskdashboardbff.model.columnar.ColumnarBalances;
+import com.example.riskdashboardbff.model.columnar.ColumnarEnrichedAccounts;
+import com.example.riskdashboardbff.model.columnar.ColumnarRiskAccounts;
+import com.example.riskdashboardbff.model.columnar.ColumnarTransactions;
+import com.example.riskdashboardbff.model.columnar.DictionaryColumn;
+import com.example.riskdashboardbff.model.columnar.IdColumn;
+import com.example.riskdashboardbff.model.columnar.LongIntHashMap;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Joins risk accounts with their ledger balances and pending transactions into one
+ * row per account.
+ * <p>
+ * This is a hash join built on the risk accounts: each account is indexed by the
+ * numeric part of its id (123 for {@code ACC-123}) in a {@link LongIntHashMap}, and
+ * the balances and transactions are probed against it column by column. Cached
+ * sections are already columnar, so neither side materializes a {@code String} or a
+ * row record per account; the work is linear in the three list sizes. Ids without a
+ * numeric part, or whose number is shared with a differently prefixed id, fall back to
+ * a {@code HashMap} keyed by the full id.
+ * <p>
+ * Amounts are not converted between currencies: an account reports the currency of its
+ * first balance, and only balances and pending transactions in that currency are summed.
+ */
+public final class AccountEnrichment {
+
+    private static final String PENDING = "PENDING";
+    /** Currency code of an account that has no balance yet. */
+    private static final int NO_BALANCE = -2;
+    /** Currency code of a transaction currency no balance is held in. */
+    private static final int OTHER_CURRENCY = -3;
+
+    private AccountEnrichment() {
+    }
+
+    /**
+     * Returns one enriched row per risk account, in risk account order. Accounts without
+     * a balance report no currency, zero cash and available margin, and a zero pending
+     * amount.
+     */
+    public static List<EnrichedAccount> join(
+            List<RiskAccount> riskAccounts,
+            List<AccountBalance> balances,
+            List<Transaction> transactions
+    ) {
+        if (riskAccounts == null || riskAccounts.isEmpty()) {
+            return List.of();
+        }
+        ColumnarRiskAccounts accounts = riskAccounts instanceof ColumnarRiskAccounts columnar
+                ? columnar : ColumnarRiskAccounts.of(riskAccounts);
+        Index index = new Index(accounts.accountId(), accounts.size());
+
+        int size = accounts.size();
+        int[] currency = new int[size];
+        Arrays.fill(currency, NO_BALANCE);
+        DictionaryColumn currencies = null;
+        double[] cashBalance = new double[size];
+        double[] availableMargin = new double[size];
+        int[] pendingCount = new int[size];
+        double[] pendingAmount = new double[size];
+
+        if (balances != null && !balances.isEmpty()) {
+            ColumnarBalances ledger = balances instanceof ColumnarBalances columnar
+                    ? columnar : ColumnarBalances.of(balances);
+            IdColumn ids = ledger.accountId();
+            currencies = ledger.currency();
+            double[] cash = ledger.cashBalance();
+            double[] available = ledger.availableMargin();
+            for (int i = 0; i < ledger.size(); i++) {
+                int row = index.find(ids, i);
+                if (row < 0) {
+                    continue;
+                }
+                if (currency[row] == NO_BALANCE) {
+                    currency[row] = currencies.code(i);
+                }
+                if (currency[row] == currencies.code(i)) {
+                    cashBalance[row] += cash[i];
+                    availableMargin[row] += available[i];
+                }
+            }
+        }
+
+        if (transactions != null && !transactions.isEmpty()) {
+            ColumnarTransactions ledger = transactions instanceof ColumnarTransactions columnar
+                    ? columnar : ColumnarTransactions.of(transactions);
+            DictionaryColumn status = ledger.status();
+            int pending = status.codeOf(PENDING);
+            if (pending >= 0) {
+                IdColumn ids = ledger.accountId();
+                double[] amount = ledger.amount();
+                int[] toBalanceCurrency = toCodesOf(ledger.currency(), currencies);
+                for (int i = 0; i < ledger.size(); i++) {
+                    if (status.code(i) != pending) {
+                        continue;
+                    }
+                    int row = index.find(ids, i);
+                    if (row < 0) {
+                        continue;
+                    }
+                    pendingCount[row]++;
+                    int code = ledger.currency().code(i);
+                    if (currency[row] == (code < 0 ? code : toBalanceCurrency[code])) {
+                        pendingAmount[row] += amount[i];
+                    }
+                }
+            }
+        }
+
+        for (int row = 0; row < size; row++) {
+            if (currency[row] == NO_BALANCE) {
+                currency[row] = -1;
+            }
+        }
+        return new ColumnarEnrichedAccounts(
+                accounts,
+                currencies == null ? DictionaryColumn.nulls(size) : currencies.withCodes(currency),
+                cashBalance, availableMargin, pendingCount, pendingAmount);
+    }
+
+    /**
+     * Maps each code of {@code column} to the code of the same value in {@code target},
+     * or to {@link #OTHER_CURRENCY} if {@code target} does not hold it.
+     */
+    private static int[] toCodesOf(DictionaryColumn column, DictionaryColumn target) {
+        int[] codes = new int[column.cardinality()];
+        for (int code = 0; code < codes.length; code++) {
+            int found = target == null ? -1 : target.codeOf(column.value(code));
+            codes[code] = found < 0 ? OTHER_CURRENCY : found;
+        }
+        return codes;
+    }
+
+    /**
+     * Build side of the join: account id to risk account row. The first row of an
+     * account wins if the same id occurs more than once.
+     */
+    private static final class Index {
+
+        private final IdColumn ids;
+        private final LongIntHashMap byNumber;
+        private Map<String, Integer> byId;
+
+        Index(IdColumn ids, int size) {
+            this.ids = ids;
+            this.byNumber = new LongIntHashMap(size);
+            for (int row = 0; row < size; row++) {
+                long number = ids.number(row);
+                int existing = number < 0 ? LongIntHashMap.MISSING : byNumber.putIfAbsent(number, row);
+                if (number < 0 || (existing != LongIntHashMap.MISSING && !ids.sameId(existing, ids, row))) {
+                    if (byId == null) {
+                        byId = new HashMap<>();
+                    }
+                    byId.putIfAbsent(ids.get(row), row);
+                }
+            }
+        }
+
+        /**
+         * Returns the risk account row of {@code probe}'s id at {@code probeRow}, or -1.
+         */
+        int find(IdColumn probe, int probeRow) {
+            long number = probe.number(probeRow);
+            if (number >= 0) {
+                int row = byNumber.get(number);
+                if (row != LongIntHashMap.MISSING && ids.sameId(row, probe, probeRow)) {
+                    return row;
+                }
+            }
+            if (byId == null) {
+                return -1;
+            }
+            return byId.getOrDefault(probe.get(probeRow), -1);
+        }
+    }
+}
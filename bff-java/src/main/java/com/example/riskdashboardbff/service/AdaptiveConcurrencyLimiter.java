@@ -0,0 +1,131 @@
+package com.example.riskdashboardbff.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Gradient-style adaptive concurrency limiter for dashboard aggregation.
+ * <p>
+ * The limit tracks the ratio between a long-term RTT baseline and the latest observed
+ * {@code aggregate()} latency: while latency stays near the baseline the limit grows
+ * by a queue allowance of {@code sqrt(limit)}, and when latency rises the limit shrinks
+ * proportionally. Requests above the limit are rejected immediately instead of piling
+ * more downstream calls onto saturated connection pools and event loops.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    // Number of samples over which the long-term RTT baseline is averaged.
+    private static final double LONG_WINDOW = 600;
+
+    private final boolean enabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double tolerance;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter rejected;
+    private volatile double estimatedLimit;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimiter(
+            @Value("${dashboard.limiter.enabled:true}") boolean enabled,
+            @Value("${dashboard.limiter.initial-limit:20}") int initialLimit,
+            @Value("${dashboard.limiter.min-limit:4}") int minLimit,
+            @Value("${dashboard.limiter.max-limit:200}") int maxLimit,
+            @Value("${dashboard.limiter.smoothing:0.2}") double smoothing,
+            @Value("${dashboard.limiter.rtt-tolerance:1.5}") double tolerance,
+            MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.tolerance = tolerance;
+        this.estimatedLimit = initialLimit;
+        this.rejected = Counter.builder("dashboard.limiter.rejected")
+                .description("Dashboard requests rejected by the adaptive concurrency limit")
+                .register(meterRegistry);
+        Gauge.builder("dashboard.limiter.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit for /api/dashboard")
+                .register(meterRegistry);
+        Gauge.builder("dashboard.limiter.inflight", inFlight, AtomicInteger::get)
+                .description("Dashboard requests currently being aggregated")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Tries to admit a request. Every successful acquire must be followed by exactly one
+     * call to {@link #onSuccess(long)} or {@link #onIgnore()}.
+     */
+    public boolean tryAcquire() {
+        if (!enabled) {
+            inFlight.incrementAndGet();
+            return true;
+        }
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) estimatedLimit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Releases a permit and feeds the observed latency into the limit estimate.
+     */
+    public void onSuccess(long rttNanos) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        if (enabled && rttNanos > 0) {
+            update(rttNanos, inFlightAtCompletion);
+        }
+    }
+
+    /**
+     * Releases a permit without sampling (cancelled or failed requests).
+     */
+    public void onIgnore() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) estimatedLimit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void update(long rttNanos, int inFlightAtCompletion) {
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+        } else {
+            longRttNanos += (rttNanos - longRttNanos) / LONG_WINDOW;
+        }
+        // Let the baseline recover quickly once a latency excursion is over.
+        if (longRttNanos > 2 * rttNanos) {
+            longRttNanos = (longRttNanos + rttNanos) / 2;
+        }
+
+        // Don't grow the limit when the service is not actually using it.
+        double limit = estimatedLimit;
+        if (inFlightAtCompletion < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRttNanos / rttNanos));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        newLimit = limit * (1 - smoothing) + newLimit * smoothing;
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.riskdashboardbff.service;
+
+import com.example.riskdashboardbff.api.InvalidQueryException;
+import com.example.riskdashboardbff.model.DashboardViewModel.AccountBalance;
+import com.example.riskdashboardbff.model.DashboardViewModel.RiskAccount;
+import com.example.riskdashboardbff.model.DashboardViewModel.SectionStatus;
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingFill;
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingOrder;
+import com.example.riskdashboardbff.model.DashboardViewModel.Transaction;
+import com.example.riskdashboardbff.model.arrow.ArrowColumn;
+import com.example.riskdashboardbff.model.arrow.ArrowIpcStream;
+import com.example.riskdashboardbff.model.columnar.ColumnarBalances;
+import com.example.riskdashboardbff.model.columnar.ColumnarFills;
+import com.example.riskdashboardbff.model.columnar.ColumnarOrders;
+import com.example.riskdashboardbff.model.columnar.ColumnarRiskAccounts;
+import com.example.riskdashboardbff.model.columnar.ColumnarTransactions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bulk export of the list sections as Arrow IPC streams, for notebooks and analytics
+ * tools that want whole datasets rather than dashboard pages.
+ * <p>
+ * Exports read the same current section value as queries (the stream-fed view if one
+ * is in sync, else the last-known-good value if it is recent enough, else a fresh
+ * fetch), report that value's freshness alongside the stream, and encode straight
+ * from its columnar form: numeric arrays become Arrow data buffers as they are, and
+ * dictionary-encoded columns keep their codes as Arrow dictionary indices. Record
+ * batches are encoded one at a time on the CPU scheduler as the response is written,
+ * so an export holds one batch of output however many rows it has.
+ */
+@Service
+public class ArrowExportService {
+
+    private final LastKnownGoodCache lastKnownGood;
+    private final StreamIngestionService streamViews;
+    private final CpuOffloadPolicy cpuWork;
+    private final Duration maxCacheAge;
+    private final int defaultBatchRows;
+    private final int maxBatchRows;
+    private final Map<String, Export<?>> exports;
+
+    public ArrowExportService(
+            LastKnownGoodCache lastKnownGood,
+            StreamIngestionService streamViews,
+            RiskServiceClient riskServiceClient,
+            TradingServiceClient tradingServiceClient,
+            LedgerServiceClient ledgerServiceClient,
+            CpuOffloadPolicy cpuWork,
+            @Value("${dashboard.export.max-cache-age:PT5S}") Duration maxCacheAge,
+            @Value("${dashboard.export.batch-rows:65536}") int defaultBatchRows,
+            @Value("${dashboard.export.max-batch-rows:1048576}") int maxBatchRows
+    ) {
+        this.lastKnownGood = lastKnownGood;
+        this.streamViews = streamViews;
+        this.cpuWork = cpuWork;
+        this.maxCacheAge = maxCacheAge;
+        this.defaultBatchRows = defaultBatchRows;
+        this.maxBatchRows = maxBatchRows;
+        this.exports = Map.of(
+                "accounts", new Export<RiskAccount>(
+                        DashboardSection.RISK_ACCOUNTS, riskServiceClient::fetchRiskAccounts,
+                        ArrowExportService::accounts),
+                "orders", new Export<TradingOrder>(
+                        DashboardSection.OPEN_ORDERS, tradingServiceClient::fetchOpenOrders,
+                        ArrowExportService::orders),
+                "fills", new Export<TradingFill>(
+                        DashboardSection.RECENT_FILLS, tradingServiceClient::fetchRecentFills,
+                        ArrowExportService::fills),
+                "balances", new Export<AccountBalance>(
+                        DashboardSection.ACCOUNT_BALANCES, ledgerServiceClient::fetchAccountBalances,
+                        ArrowExportService::balances),
+                "transactions", new Export<Transaction>(
+                        DashboardSection.RECENT_TRANSACTIONS, ledgerServiceClient::fetchRecentTransactions,
+                        ArrowExportService::transactions)
+        );
+    }
+
+    public Set<String> datasets() {
+        return new TreeSet<>(exports.keySet());
+    }
+
+    /**
+     * Resolves a dataset's current value and returns its freshness with the Arrow IPC
+     * messages that stream it, one element per message. Unknown datasets and
+     * non-positive batch sizes are rejected with an {@link InvalidQueryException}.
+     *
+     * @param batchRows rows per record batch, or {@code null} for the configured
+     *                  default; capped at the configured maximum
+     */
+    public Mono<ArrowExport> export(String dataset, Integer batchRows) {
+        Export<?> export = exports.get(dataset);
+        if (export == null) {
+            return Mono.error(new InvalidQueryException(
+                    "Unknown dataset '" + dataset + "', expected one of " + datasets()));
+        }
+        if (batchRows != null && batchRows <= 0) {
+            return Mono.error(new InvalidQueryException("batchRows must be positive"));
+        }
+        int rows = batchRows == null ? defaultBatchRows : Math.min(batchRows, maxBatchRows);
+        Map<String, SectionStatus> statuses = new ConcurrentHashMap<>();
+        return export.table(streamViews, lastKnownGood, maxCacheAge, statuses, cpuWork)
+                .map(table -> new ArrowExport(
+                        statuses.getOrDefault(export.section().key(), SectionStatus.live()),
+                        Flux.fromIterable(new ArrowIpcStream(table.rows(), table.columns(), rows))
+                                .subscribeOn(cpuWork.scheduler())));
+    }
+
+    /**
+     * An export ready to stream: the freshness of the exported value and its Arrow IPC
+     * messages.
+     */
+    public record ArrowExport(SectionStatus status, Flux<byte[]> messages) {}
+
+    private static Table accounts(List<RiskAccount> rows) {
+        ColumnarRiskAccounts accounts = rows instanceof ColumnarRiskAccounts columnar
+                ? columnar : ColumnarRiskAccounts.of(rows);
+        return new Table(accounts.size(), List.of(
+                new ArrowColumn.Utf8("accountId", accounts.accountId()::get),
+                new ArrowColumn.Dictionary("book", accounts.book()),
+                new ArrowColumn.Float64("exposure", accounts.exposure()),
+                new ArrowColumn.Float64("utilization", accounts.utilization())));
+    }
+
+    private static Table orders(List<TradingOrder> rows) {
+        ColumnarOrders orders = rows instanceof ColumnarOrders columnar ? columnar : ColumnarOrders.of(rows);
+        return new Table(orders.size(), List.of(
+                new ArrowColumn.Utf8("orderId", orders.orderId()::get),
+                new ArrowColumn.Dictionary("symbol", orders.symbol()),
+                new ArrowColumn.Dictionary("side", orders.side()),
+                new ArrowColumn.Int32("quantity", orders.quantity()),
+                new ArrowColumn.Float64("price", orders.price()),
+                new ArrowColumn.Dictionary("status", orders.status())));
+    }
+
+    private static Table fills(List<TradingFill> rows) {
+        ColumnarFills fills = rows instanceof ColumnarFills columnar ? columnar : ColumnarFills.of(rows);
+        return new Table(fills.size(), List.of(
+                new ArrowColumn.Utf8("fillId", fills.fillId()::get),
+                new ArrowColumn.Dictionary("symbol", fills.symbol()),
+                new ArrowColumn.Dictionary("side", fills.side()),
+                new ArrowColumn.Int32("quantity", fills.quantity()),
+                new ArrowColumn.Float64("price", fills.price()),
+                new ArrowColumn.Float64("pnl", fills.pnl())));
+    }
+
+    private static Table balances(List<AccountBalance> rows) {
+        ColumnarBalances balances = rows instanceof ColumnarBalances columnar ? columnar : ColumnarBalances.of(rows);
+        return new Table(balances.size(), List.of(
+                new ArrowColumn.Utf8("accountId", balances.accountId()::get),
+                new ArrowColumn.Dictionary("currency", balances.currency()),
+                new ArrowColumn.Float64("cashBalance", balances.cashBalance()),
+                new ArrowColumn.Float64("marginUsed", balances.marginUsed()),
+                new ArrowColumn.Float64("availableMargin", balances.availableMargin())));
+    }
+
+    private static Table transactions(List<Transaction> rows) {
+        ColumnarTransactions ledger = rows instanceof ColumnarTransactions columnar
+                ? columnar : ColumnarTransactions.of(rows);
+        return new Table(ledger.size(), List.of(
+                new ArrowColumn.Utf8("transactionId", ledger.transactionId()::get),
+                new ArrowColumn.Utf8("accountId", ledger.accountId()::get),
+                new ArrowColumn.Dictionary("transactionType", ledger.transactionType()),
+                new ArrowColumn.Dictionary("currency", ledger.currency()),
+                new ArrowColumn.Float64("amount", ledger.amount()),
+                new ArrowColumn.Dictionary("status", ledger.status())));
+    }
+
+    /**
+     * Exportable section: where its current value comes from and how it maps to columns.
+     */
+    private record Export<T>(
+            DashboardSection section,
+            Supplier<Mono<List<T>>> fetch,
+            Function<List<T>, Table> toTable
+    ) {
+
+        Mono<Table> table(
+                StreamIngestionService streamViews,
+                LastKnownGoodCache lastKnownGood,
+                Duration maxCacheAge,
+                Map<String, SectionStatus> statuses,
+                CpuOffloadPolicy cpuWork
+        ) {
+            Mono<List<T>> current = Mono.defer(() -> {
+                List<T> value = streamViews.materialized(section);
+                if (value == null) {
+                    value = lastKnownGood.peekFresh(section, maxCacheAge, statuses);
+                }
+                return value != null ? Mono.just(value) : fetch.get().contextWrite(LastKnownGoodCache.track(statuses));
+            });
+            return cpuWork.map(current, List::size, toTable);
+        }
+    }
+
+    private record Table(int rows, List<ArrowColumn> columns) {}
+}
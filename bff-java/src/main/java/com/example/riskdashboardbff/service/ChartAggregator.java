@@ -0,0 +1,196 @@
+package com.example.riskdashboardbff.service;
+
+import com.example.riskdashboardbff.model.DashboardViewModel.AccountBalance;
+import com.example.riskdashboardbff.model.DashboardViewModel.ChartAggregates;
+import com.example.riskdashboardbff.model.DashboardViewModel.GroupTotal;
+import com.example.riskdashboardbff.model.DashboardViewModel.Histogram;
+import com.example.riskdashboardbff.model.DashboardViewModel.RiskAccount;
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingFill;
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingOrder;
+import com.example.riskdashboardbff.model.DashboardViewModel.Transaction;
+import com.example.riskdashboardbff.model.columnar.Bitmaps;
+import com.example.riskdashboardbff.model.columnar.ColumnarBalances;
+import com.example.riskdashboardbff.model.columnar.ColumnarFills;
+import com.example.riskdashboardbff.model.columnar.ColumnarOrders;
+import com.example.riskdashboardbff.model.columnar.ColumnarRiskAccounts;
+import com.example.riskdashboardbff.model.columnar.ColumnarTransactions;
+import com.example.riskdashboardbff.model.columnar.DictionaryColumn;
+import com.example.riskdashboardbff.model.columnar.TopK;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Computes the {@link ChartAggregates} of the dashboard from the list sections.
+ * <p>
+ * Each group of aggregates is derived from one section and cached against the
+ * identity of the section value it was computed from. Section values are immutable
+ * and replaced on every refresh, so aggregates are recomputed once per refresh of
+ * their own section rather than once per request. Grouping runs over the
+ * dictionary codes of the columnar form, summing into arrays indexed by code.
+ */
+@Component
+public class ChartAggregator {
+
+    private final int topAccounts;
+    private final int utilizationBuckets;
+
+    private final AtomicReference<Cached<RiskCharts>> risk = new AtomicReference<>();
+    private final AtomicReference<Cached<List<GroupTotal>>> fills = new AtomicReference<>();
+    private final AtomicReference<Cached<List<GroupTotal>>> orders = new AtomicReference<>();
+    private final AtomicReference<Cached<List<GroupTotal>>> balances = new AtomicReference<>();
+    private final AtomicReference<Cached<LedgerCharts>> transactions = new AtomicReference<>();
+
+    public ChartAggregator(
+            @Value("${dashboard.charts.top-accounts:10}") int topAccounts,
+            @Value("${dashboard.charts.utilization-buckets:10}") int utilizationBuckets
+    ) {
+        this.topAccounts = topAccounts;
+        this.utilizationBuckets = utilizationBuckets;
+    }
+
+    public ChartAggregates aggregate(
+            List<RiskAccount> riskAccounts,
+            List<TradingOrder> openOrders,
+            List<TradingFill> recentFills,
+            List<AccountBalance> accountBalances,
+            List<Transaction> recentTransactions
+    ) {
+        RiskCharts riskCharts = cached(risk, orEmpty(riskAccounts), this::riskCharts);
+        LedgerCharts ledgerCharts = cached(transactions, orEmpty(recentTransactions), ChartAggregator::ledgerCharts);
+        return new ChartAggregates(
+                riskCharts.topExposures(),
+                riskCharts.exposureByBook(),
+                riskCharts.utilization(),
+                cached(fills, orEmpty(recentFills), ChartAggregator::pnlBySymbol),
+                cached(orders, orEmpty(openOrders), ChartAggregator::ordersByStatus),
+                cached(balances, orEmpty(accountBalances), ChartAggregator::cashByCurrency),
+                ledgerCharts.amountByType(),
+                ledgerCharts.amountByCurrency()
+        );
+    }
+
+    /**
+     * Computes the aggregates without reading or updating the per-section cache, for
+     * one-off lists such as a filtered desk view.
+     */
+    public ChartAggregates compute(
+            List<RiskAccount> riskAccounts,
+            List<TradingOrder> openOrders,
+            List<TradingFill> recentFills,
+            List<AccountBalance> accountBalances,
+            List<Transaction> recentTransactions
+    ) {
+        RiskCharts riskCharts = riskCharts(orEmpty(riskAccounts));
+        LedgerCharts ledgerCharts = ledgerCharts(orEmpty(recentTransactions));
+        return new ChartAggregates(
+                riskCharts.topExposures(),
+                riskCharts.exposureByBook(),
+                riskCharts.utilization(),
+                pnlBySymbol(orEmpty(recentFills)),
+                ordersByStatus(orEmpty(openOrders)),
+                cashByCurrency(orEmpty(accountBalances)),
+                ledgerCharts.amountByType(),
+                ledgerCharts.amountByCurrency()
+        );
+    }
+
+    private RiskCharts riskCharts(List<RiskAccount> rows) {
+        ColumnarRiskAccounts accounts = rows instanceof ColumnarRiskAccounts columnar
+                ? columnar : ColumnarRiskAccounts.of(rows);
+        double[] exposure = accounts.exposure();
+
+        int[] top = TopK.select(Bitmaps.all(accounts.size()), row -> exposure[row], true, topAccounts);
+        List<GroupTotal> topExposures = new ArrayList<>(top.length);
+        for (int row : top) {
+            topExposures.add(new GroupTotal(accounts.accountId().get(row), exposure[row], 1));
+        }
+
+        long[] counts = new long[utilizationBuckets];
+        for (double utilization : accounts.utilization()) {
+            int bucket = (int) (utilization * utilizationBuckets);
+            counts[Math.max(0, Math.min(utilizationBuckets - 1, bucket))]++;
+        }
+
+        return new RiskCharts(
+                topExposures,
+                groupBy(accounts.book(), row -> exposure[row]),
+                new Histogram(0.0, 1.0, counts));
+    }
+
+    private static List<GroupTotal> pnlBySymbol(List<TradingFill> rows) {
+        ColumnarFills fills = rows instanceof ColumnarFills columnar ? columnar : ColumnarFills.of(rows);
+        double[] pnl = fills.pnl();
+        return groupBy(fills.symbol(), row -> pnl[row]);
+    }
+
+    private static List<GroupTotal> ordersByStatus(List<TradingOrder> rows) {
+        ColumnarOrders orders = rows instanceof ColumnarOrders columnar ? columnar : ColumnarOrders.of(rows);
+        int[] quantity = orders.quantity();
+        return groupBy(orders.status(), row -> quantity[row]);
+    }
+
+    private static List<GroupTotal> cashByCurrency(List<AccountBalance> rows) {
+        ColumnarBalances balances = rows instanceof ColumnarBalances columnar ? columnar : ColumnarBalances.of(rows);
+        double[] cash = balances.cashBalance();
+        return groupBy(balances.currency(), row -> cash[row]);
+    }
+
+    private static LedgerCharts ledgerCharts(List<Transaction> rows) {
+        ColumnarTransactions ledger = rows instanceof ColumnarTransactions columnar
+                ? columnar : ColumnarTransactions.of(rows);
+        double[] amount = ledger.amount();
+        return new LedgerCharts(
+                groupBy(ledger.transactionType(), row -> amount[row]),
+                groupBy(ledger.currency(), row -> amount[row]));
+    }
+
+    /**
+     * Sums {@code value} and counts rows per key; rows without a key are left out.
+     */
+    static List<GroupTotal> groupBy(DictionaryColumn keys, IntToDoubleFunction value) {
+        int cardinality = keys.cardinality();
+        double[] totals = new double[cardinality];
+        long[] counts = new long[cardinality];
+        int size = keys.size();
+        for (int row = 0; row < size; row++) {
+            int code = keys.code(row);
+            if (code >= 0) {
+                totals[code] += value.applyAsDouble(row);
+                counts[code]++;
+            }
+        }
+        List<GroupTotal> groups = new ArrayList<>(cardinality);
+        for (int code = 0; code < cardinality; code++) {
+            groups.add(new GroupTotal(keys.value(code), totals[code], counts[code]));
+        }
+        groups.sort(Comparator.comparingDouble(GroupTotal::total).reversed());
+        return groups;
+    }
+
+    private static <T> List<T> orEmpty(List<T> rows) {
+        return rows == null ? List.of() : rows;
+    }
+
+    private static <S, R> R cached(AtomicReference<Cached<R>> cache, S source, Function<S, R> compute) {
+        Cached<R> current = cache.get();
+        if (current != null && current.source() == source) {
+            return current.result();
+        }
+        R result = compute.apply(source);
+        cache.set(new Cached<>(source, result));
+        return result;
+    }
+
+    private record Cached<R>(Object source, R result) {}
+
+    private record RiskCharts(List<GroupTotal> topExposures, List<GroupTotal> exposureByBook, Histogram utilization) {}
+
+    private record LedgerCharts(List<GroupTotal> amountByType, List<GroupTotal> amountByCurrency) {}
+}
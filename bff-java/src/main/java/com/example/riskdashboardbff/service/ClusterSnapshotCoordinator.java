@@ -0,0 +1,239 @@
+package com.example.riskdashboardbff.service;
+
+import com.example.riskdashboardbff.jfr.CacheLookupEvent;
+import com.example.riskdashboardbff.model.DashboardViewModel.AccountBalance;
+import com.example.riskdashboardbff.model.DashboardViewModel.RiskAccount;
+import com.example.riskdashboardbff.model.DashboardViewModel.RiskMetric;
+import com.example.riskdashboardbff.model.DashboardViewModel.RiskSummary;
+import com.example.riskdashboardbff.model.DashboardViewModel.SectionStatus;
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingFill;
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingOrder;
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingSummary;
+import com.example.riskdashboardbff.model.DashboardViewModel.Transaction;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Shares downstream section snapshots across BFF replicas through Redis.
+ * <p>
+ * Every refresh interval each replica tries to take a short Redis lease per section;
+ * only the winner calls the downstream service, stores the gzip-compressed result in
+ * Redis and announces it on a pub/sub channel. All other replicas load the announced
+ * snapshot into their {@link LastKnownGoodCache} and serve it while it is fresh, so
+ * downstream load stays constant regardless of the number of replicas.
+ */
+@Service
+public class ClusterSnapshotCoordinator {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterSnapshotCoordinator.class);
+    private static final String LEASE_KEY_PREFIX = "dashboard:lease:";
+    private static final String SNAPSHOT_KEY_PREFIX = "dashboard:snapshot:";
+    private static final String CHANNEL = "dashboard:snapshots";
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final LastKnownGoodCache lastKnownGood;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Duration refreshInterval;
+    private final Duration freshFor;
+    private final Duration snapshotTtl;
+    private final String replicaId = UUID.randomUUID().toString();
+
+    private final Map<DashboardSection, SharedSource> sources;
+    private final Map<DashboardSection, Long> sharedAt = new ConcurrentHashMap<>();
+    private final Disposable.Composite subscriptions = Disposables.composite();
+
+    public ClusterSnapshotCoordinator(
+            ReactiveStringRedisTemplate redisTemplate,
+            LastKnownGoodCache lastKnownGood,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            RiskServiceClient riskServiceClient,
+            TradingServiceClient tradingServiceClient,
+            LedgerServiceClient ledgerServiceClient,
+            @Value("${dashboard.cluster.enabled:false}") boolean enabled,
+            @Value("${dashboard.cluster.refresh-interval:PT2S}") Duration refreshInterval,
+            @Value("${dashboard.cluster.fresh-for:PT5S}") Duration freshFor,
+            @Value("${dashboard.cluster.snapshot-ttl:PT10M}") Duration snapshotTtl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.lastKnownGood = lastKnownGood;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.refreshInterval = refreshInterval;
+        this.freshFor = freshFor;
+        this.snapshotTtl = snapshotTtl;
+
+        TypeFactory types = objectMapper.getTypeFactory();
+        this.sources = Map.of(
+                DashboardSection.RISK_SUMMARY, new SharedSource(
+                        riskServiceClient::fetchRiskSummary, types.constructType(RiskSummary.class)),
+                DashboardSection.TRADING_SUMMARY, new SharedSource(
+                        tradingServiceClient::fetchTradingSummary, types.constructType(TradingSummary.class)),
+                DashboardSection.RISK_ACCOUNTS, new SharedSource(
+                        riskServiceClient::fetchRiskAccounts, types.constructCollectionType(List.class, RiskAccount.class)),
+                DashboardSection.RISK_METRICS, new SharedSource(
+                        riskServiceClient::fetchRiskMetrics, types.constructCollectionType(List.class, RiskMetric.class)),
+                DashboardSection.OPEN_ORDERS, new SharedSource(
+                        tradingServiceClient::fetchOpenOrders, types.constructCollectionType(List.class, TradingOrder.class)),
+                DashboardSection.RECENT_FILLS, new SharedSource(
+                        tradingServiceClient::fetchRecentFills, types.constructCollectionType(List.class, TradingFill.class)),
+                DashboardSection.ACCOUNT_BALANCES, new SharedSource(
+                        ledgerServiceClient::fetchAccountBalances, types.constructCollectionType(List.class, AccountBalance.class)),
+                DashboardSection.RECENT_TRANSACTIONS, new SharedSource(
+                        ledgerServiceClient::fetchRecentTransactions, types.constructCollectionType(List.class, Transaction.class))
+        );
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        log.info("Cluster snapshot sharing enabled, replica {}", replicaId);
+        subscriptions.add(redisTemplate.listenToChannel(CHANNEL)
+                .flatMap(message -> applyAnnouncement(message.getMessage()))
+                .subscribe());
+        subscriptions.add(Flux.interval(refreshInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> Flux.fromIterable(sources.keySet())
+                        .flatMap(this::refreshIfLeaseWon)
+                        .then())
+                .subscribe());
+    }
+
+    @PreDestroy
+    public void stop() {
+        subscriptions.dispose();
+    }
+
+    /**
+     * Returns the shared snapshot for the section if another replica (or this one)
+     * refreshed it recently enough that calling the downstream service is unnecessary.
+     */
+    public <T> T freshValue(DashboardSection section, Map<String, SectionStatus> statuses) {
+        if (!enabled) {
+            return null;
+        }
+        Long at = sharedAt.get(section);
+        long now = System.currentTimeMillis();
+        if (at == null || now - at > freshFor.toMillis()) {
+            CacheLookupEvent.record("cluster-snapshot", section.key(), false);
+            return null;
+        }
+        T value = lastKnownGood.peek(section);
+        CacheLookupEvent.record("cluster-snapshot", section.key(), value != null);
+        if (value != null) {
+            statuses.put(section.key(), new SectionStatus(SectionStatus.LIVE, Instant.ofEpochMilli(at).toString(), now - at));
+        }
+        return value;
+    }
+
+    private Mono<Void> refreshIfLeaseWon(DashboardSection section) {
+        return redisTemplate.opsForValue()
+                .setIfAbsent(LEASE_KEY_PREFIX + section.key(), replicaId, refreshInterval)
+                .filter(Boolean.TRUE::equals)
+                .flatMap(won -> refresh(section))
+                .onErrorResume(e -> {
+                    log.warn("Shared refresh of {} failed: {}", section.key(), e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Void> refresh(DashboardSection section) {
+        Map<String, SectionStatus> statuses = new ConcurrentHashMap<>();
+        return sources.get(section).fetch().get()
+                .contextWrite(LastKnownGoodCache.track(statuses))
+                // Only publish values that were actually fetched, never fallbacks.
+                .filter(value -> !statuses.containsKey(section.key()))
+                .publishOn(Schedulers.parallel())
+                .map(this::encode)
+                .flatMap(encoded -> redisTemplate.opsForValue()
+                        .set(SNAPSHOT_KEY_PREFIX + section.key(), encoded, snapshotTtl))
+                .flatMap(stored -> {
+                    sharedAt.put(section, System.currentTimeMillis());
+                    meterRegistry.counter("dashboard.cluster.refreshes", "section", section.key()).increment();
+                    return redisTemplate.convertAndSend(CHANNEL, replicaId + "|" + section.key());
+                })
+                .then();
+    }
+
+    private Mono<Void> applyAnnouncement(String message) {
+        int separator = message.indexOf('|');
+        if (separator < 0 || message.startsWith(replicaId + "|")) {
+            return Mono.empty();
+        }
+        String key = message.substring(separator + 1);
+        DashboardSection section = DashboardSection.fromKey(key);
+        SharedSource source = section == null ? null : sources.get(section);
+        if (source == null) {
+            return Mono.empty();
+        }
+        return redisTemplate.opsForValue()
+                .get(SNAPSHOT_KEY_PREFIX + key)
+                .publishOn(Schedulers.parallel())
+                .map(encoded -> decode(encoded, source.type()))
+                .doOnNext(value -> {
+                    lastKnownGood.put(section, value);
+                    sharedAt.put(section, System.currentTimeMillis());
+                    meterRegistry.counter("dashboard.cluster.snapshots.applied", "section", key).increment();
+                })
+                .onErrorResume(e -> {
+                    log.warn("Failed to apply shared snapshot of {}: {}", key, e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private String encode(Object value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzip, value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    private Object decode(String encoded, JavaType type) {
+        byte[] compressed = Base64.getDecoder().decode(encoded);
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return objectMapper.readValue(gzip, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record SharedSource(Supplier<Mono<?>> fetch, JavaType type) {}
+}
@@ -0,0 +1,82 @@
+package com.example.riskdashboardbff.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Decides where CPU-bound post-processing of fetched data (sorting, joins, chart
+ * aggregation, query filtering) runs.
+ * <p>
+ * Work over at least {@code offload-min-rows} rows is moved off the thread that
+ * delivered the data, usually a Netty event loop, onto a bounded parallel scheduler
+ * ({@code dashboard-cpu}, one thread per core unless configured), so that assembling a
+ * large dashboard does not delay the I/O of every other connection on that loop.
+ * Smaller work stays inline, where it costs less than the thread hop would.
+ */
+@Component
+public class CpuOffloadPolicy {
+
+    private final Scheduler scheduler;
+    private final int offloadMinRows;
+    private final Counter offloaded;
+    private final Counter inline;
+
+    public CpuOffloadPolicy(
+            MeterRegistry meterRegistry,
+            @Value("${dashboard.cpu.parallelism:0}") int parallelism,
+            @Value("${dashboard.cpu.offload-min-rows:500}") int offloadMinRows
+    ) {
+        this.scheduler = Schedulers.newParallel("dashboard-cpu",
+                parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors(), true);
+        this.offloadMinRows = offloadMinRows;
+        this.offloaded = Counter.builder("dashboard.cpu.work").tag("placement", "offloaded")
+                .description("CPU-bound work moved to the dashboard-cpu scheduler")
+                .register(meterRegistry);
+        this.inline = Counter.builder("dashboard.cpu.work").tag("placement", "inline")
+                .description("CPU-bound work small enough to run on the calling thread")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Applies {@code work} to the value of {@code source}, on the CPU scheduler if
+     * {@code rows} of the value reach the offload threshold.
+     */
+    public <T, R> Mono<R> map(Mono<T> source, ToIntFunction<T> rows, Function<T, R> work) {
+        return source.flatMap(value -> compute(rows.applyAsInt(value), () -> work.apply(value)));
+    }
+
+    /**
+     * Runs {@code work} over {@code rows} rows on subscription, on the CPU scheduler if
+     * they reach the offload threshold.
+     */
+    public <R> Mono<R> compute(int rows, Supplier<R> work) {
+        if (rows < offloadMinRows) {
+            inline.increment();
+            return Mono.fromSupplier(work);
+        }
+        offloaded.increment();
+        return Mono.fromSupplier(work).subscribeOn(scheduler);
+    }
+
+    /**
+     * The bounded scheduler, for pipelines whose every step is CPU-bound.
+     */
+    public Scheduler scheduler() {
+        return scheduler;
+    }
+
+    @PreDestroy
+    public void dispose() {
+        scheduler.dispose();
+    }
+}
@@ -12,6 +12,14 @@ import com.example.riskdashboardbff.model.DashboardViewModel.TradingOrder;
 import com.example.riskdashboardbff.model.DashboardViewModel.TradingFill;
 import com.example.riskdashboardbff.model.DashboardViewModel.AccountBalance;
 import com.example.riskdashboardbff.model.DashboardViewModel.Transaction;
+import com.example.riskdashboardbff.model.DashboardViewModel.SectionStatus;
+import com.example.riskdashboardbff.model.DashboardViewModel.ChartAggregates;
+import com.example.riskdashboardbff.model.DashboardViewModel.EnrichedAccount;
+import com.example.riskdashboardbff.service.DashboardSource.CachePolicy;
+import com.example.riskdashboardbff.service.DashboardSource.SourceRequest;
+import com.example.riskdashboardbff.jfr.AggregationEvent;
+import com.example.riskdashboardbff.jfr.SourceFetchEvent;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Range;
 import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.stereotype.Service;
@@ -19,86 +27,430 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
 @Service
 public class DashboardAggregationService {
 
     private static final String TOP_RISK_KEY = "top:risky:accounts";
 
+    private static final SourceKey<List<RiskyAccount>> TOP_RISKY_ACCOUNTS = SourceKey.of(DashboardSection.TOP_RISKY_ACCOUNTS);
+    private static final SourceKey<SystemHealth> HEALTH = SourceKey.of(DashboardSection.HEALTH);
+    private static final SourceKey<RiskSummary> RISK_SUMMARY = SourceKey.of(DashboardSection.RISK_SUMMARY);
+    private static final SourceKey<TradingSummary> TRADING_SUMMARY = SourceKey.of(DashboardSection.TRADING_SUMMARY);
+    private static final SourceKey<LatencyMetrics> LATENCY_METRICS = SourceKey.of(DashboardSection.LATENCY_METRICS);
+    private static final SourceKey<List<RiskAccount>> RISK_ACCOUNTS = SourceKey.of(DashboardSection.RISK_ACCOUNTS);
+    private static final SourceKey<List<RiskMetric>> RISK_METRICS = SourceKey.of(DashboardSection.RISK_METRICS);
+    private static final SourceKey<List<TradingOrder>> OPEN_ORDERS = SourceKey.of(DashboardSection.OPEN_ORDERS);
+    private static final SourceKey<List<TradingFill>> RECENT_FILLS = SourceKey.of(DashboardSection.RECENT_FILLS);
+    private static final SourceKey<List<AccountBalance>> ACCOUNT_BALANCES = SourceKey.of(DashboardSection.ACCOUNT_BALANCES);
+    private static final SourceKey<List<Transaction>> RECENT_TRANSACTIONS = SourceKey.of(DashboardSection.RECENT_TRANSACTIONS);
+    // Derived steps.
+    private static final SourceKey<Optional<Set<String>>> BOOK_SCOPE = SourceKey.of("bookScope");
+    private static final SourceKey<List<AccountBalance>> DESK_BALANCES = SourceKey.of("deskAccountBalances");
+    private static final SourceKey<List<Transaction>> DESK_TRANSACTIONS = SourceKey.of("deskTransactions");
+    private static final SourceKey<List<EnrichedAccount>> ENRICHED_ACCOUNTS = SourceKey.of("enrichedAccounts");
+    private static final SourceKey<ChartAggregates> CHARTS = SourceKey.of("charts");
+
     private final ReactiveStringRedisTemplate redisTemplate;
+    private final RedisClientCache redisCache;
     private final RiskServiceClient riskServiceClient;
     private final TradingServiceClient tradingServiceClient;
     private final LatencyMetricsClient latencyMetricsClient;
     private final LedgerServiceClient ledgerServiceClient;
+    private final LastKnownGoodCache lastKnownGood;
+    private final LoadPressureMonitor loadPressureMonitor;
+    private final ClusterSnapshotCoordinator clusterSnapshots;
+    private final StreamIngestionService streamViews;
+    private final ChartAggregator chartAggregator;
+    private final KpiHistory kpiHistory;
+    private final DashboardTracer tracer;
+    private final CpuOffloadPolicy cpuWork;
+    private final SourceGraph sources;
+    private final AtomicReference<Snapshot> lastSnapshot = new AtomicReference<>();
 
     public DashboardAggregationService(
             ReactiveStringRedisTemplate redisTemplate,
+            RedisClientCache redisCache,
             RiskServiceClient riskServiceClient,
             TradingServiceClient tradingServiceClient,
             LatencyMetricsClient latencyMetricsClient,
-            LedgerServiceClient ledgerServiceClient
+            LedgerServiceClient ledgerServiceClient,
+            LastKnownGoodCache lastKnownGood,
+            LoadPressureMonitor loadPressureMonitor,
+            ClusterSnapshotCoordinator clusterSnapshots,
+            StreamIngestionService streamViews,
+            ChartAggregator chartAggregator,
+            KpiHistory kpiHistory,
+            DashboardTracer tracer,
+            CpuOffloadPolicy cpuWork,
+            @Value("${dashboard.sources.timeout:PT10S}") Duration sourceTimeout
     ) {
         this.redisTemplate = redisTemplate;
+        this.redisCache = redisCache;
         this.riskServiceClient = riskServiceClient;
         this.tradingServiceClient = tradingServiceClient;
         this.latencyMetricsClient = latencyMetricsClient;
         this.ledgerServiceClient = ledgerServiceClient;
+        this.lastKnownGood = lastKnownGood;
+        this.loadPressureMonitor = loadPressureMonitor;
+        this.clusterSnapshots = clusterSnapshots;
+        this.streamViews = streamViews;
+        this.chartAggregator = chartAggregator;
+        this.kpiHistory = kpiHistory;
+        this.tracer = tracer;
+        this.cpuWork = cpuWork;
+        this.sources = sources(sourceTimeout);
     }
 
     public Mono<DashboardViewModel> aggregate() {
-        // 1) Accounts: Redis-backed Top N, seeded from in-memory mock data if empty.
-        Flux<RiskyAccount> accountsFlux = loadTopAccountsFromRedis()
-                .switchIfEmpty(seedAndLoadTopAccounts());
-        Mono<List<RiskyAccount>> accounts = accountsFlux.collectList();
-
-        // 2) Multiple concurrent calls to downstream services via non-blocking IO.
-        // This demonstrates true fan-out/fan-in behavior with real HTTP I/O.
-        Mono<SystemHealth> health = loadSystemHealth();
-        Mono<RiskSummary> riskSummary = riskServiceClient.fetchRiskSummary();
-        Mono<TradingSummary> tradingSummary = tradingServiceClient.fetchTradingSummary();
-        Mono<LatencyMetrics> latencyMetrics = latencyMetricsClient.measureLatencies();
-
-        // 3) Additional data fetches from each service to show rich data aggregation.
-        Mono<List<RiskAccount>> riskAccounts = riskServiceClient.fetchRiskAccounts();
-        Mono<List<RiskMetric>> riskMetrics = riskServiceClient.fetchRiskMetrics();
-        Mono<List<TradingOrder>> openOrders = tradingServiceClient.fetchOpenOrders();
-        Mono<List<TradingFill>> recentFills = tradingServiceClient.fetchRecentFills();
-        Mono<List<AccountBalance>> accountBalances = ledgerServiceClient.fetchAccountBalances();
-        Mono<List<Transaction>> recentTransactions = ledgerServiceClient.fetchRecentTransactions();
-
-        // 4) Zip all Mono sources together to demonstrate concurrent aggregation.
-        // Mono.zip() with Function accepts variable arguments (up to 16), perfect for 11 sources
-        return Mono.zip(
-                tuple -> new DashboardViewModel(
-                        (List<RiskyAccount>) tuple[0],           // accounts
-                        (SystemHealth) tuple[1],                 // health
-                        (RiskSummary) tuple[2],                  // riskSummary
-                        (TradingSummary) tuple[3],               // tradingSummary
-                        (LatencyMetrics) tuple[4],               // latencyMetrics
-                        (List<RiskAccount>) tuple[5],            // riskAccounts
-                        (List<RiskMetric>) tuple[6],             // riskMetrics
-                        (List<TradingOrder>) tuple[7],           // openOrders
-                        (List<TradingFill>) tuple[8],            // recentFills
-                        (List<AccountBalance>) tuple[9],         // accountBalances
-                        (List<Transaction>) tuple[10]             // recentTransactions
-                ),
-                accounts,
-                health,
-                riskSummary,
-                tradingSummary,
-                latencyMetrics,
-                riskAccounts,
-                riskMetrics,
-                openOrders,
-                recentFills,
-                accountBalances,
-                recentTransactions
+        return aggregate(DashboardFilter.NONE);
+    }
+
+    /**
+     * Assembles the dashboard, restricted to a desk view unless the filter is empty.
+     * <p>
+     * Sections that carry accounts (top risky accounts, risk accounts, balances,
+     * transactions and what is derived from them) are narrowed; summaries, metrics,
+     * orders and fills are not attributable to accounts and stay global. A section that
+     * has to be fetched is fetched with the filter pushed down to the downstream list
+     * endpoint (books only to the risk service, the ledger does not know them); values
+     * that are already local are narrowed here. Only unfiltered views become the last
+     * snapshot and are recorded into the KPI history.
+     * <p>
+     * The sections and the steps derived from them are declared as {@link DashboardSource}s
+     * and run by a {@link SourceGraph}: all fetches at once, each derived step as soon as
+     * its inputs are in. Each section is traced as a span of the request (see
+     * {@link DashboardTracer}) and, while a flight recording is running, recorded as a
+     * {@link SourceFetchEvent}; the aggregation as a whole is an {@link AggregationEvent}.
+     */
+    public Mono<DashboardViewModel> aggregate(DashboardFilter filter) {
+        // Clients report sections served from the last-known-good cache into the status map.
+        Map<String, SectionStatus> statuses = new ConcurrentHashMap<>();
+        LoadLevel level = loadPressureMonitor.currentLevel();
+        SourceRequest request = new SourceRequest(filter, level, statuses);
+        return tracer.traceAggregation(recorded(filter, level, sources.run(request, this::produce)
+                        .map(results -> assemble(results, statuses))))
+                .doOnNext(viewModel -> {
+                    if (!filter.isEmpty()) {
+                        return;
+                    }
+                    long now = System.currentTimeMillis();
+                    lastSnapshot.set(new Snapshot(viewModel, now));
+                    kpiHistory.record(viewModel, now);
+                })
+                .contextWrite(LastKnownGoodCache.track(statuses));
+    }
+
+    /**
+     * Returns the most recently assembled view model with every section marked STALE,
+     * for callers that must answer without running a new aggregation (e.g. load shedding).
+     */
+    public Optional<DashboardViewModel> lastSnapshot() {
+        Snapshot snapshot = lastSnapshot.get();
+        if (snapshot == null) {
+            return Optional.empty();
+        }
+        return Optional.of(stale(snapshot.viewModel(), snapshot.assembledAtMillis()));
+    }
+
+    /**
+     * The view model with every section marked STALE as of {@code assembledAtMillis}.
+     */
+    static DashboardViewModel stale(DashboardViewModel viewModel, long assembledAtMillis) {
+        SectionStatus stale = new SectionStatus(
+                SectionStatus.STALE,
+                Instant.ofEpochMilli(assembledAtMillis).toString(),
+                System.currentTimeMillis() - assembledAtMillis
+        );
+        Map<String, SectionStatus> status = new LinkedHashMap<>();
+        for (DashboardSection section : DashboardSection.values()) {
+            status.put(section.key(), stale);
+        }
+        return viewModel.withSectionStatus(status);
+    }
+
+    /**
+     * The most recently assembled view model as assembled, or {@code null}.
+     */
+    Snapshot latestSnapshot() {
+        return lastSnapshot.get();
+    }
+
+    /**
+     * Installs a view model assembled before a restart as the last snapshot, unless one
+     * has been assembled since.
+     */
+    void restoreSnapshot(DashboardViewModel viewModel, long assembledAtMillis) {
+        lastSnapshot.compareAndSet(null, new Snapshot(viewModel, assembledAtMillis));
+    }
+
+    /**
+     * Produces the value of a source. A derived step is computed from its inputs; a
+     * section is degraded according to its cache policy (see {@link #select}), given up
+     * after its timeout like a cache-only section, and traced as a span of the request.
+     */
+    private <T> Mono<T> produce(DashboardSource<T> source, SourceRequest request, SourceResults inputs) {
+        DashboardSection section = source.section();
+        if (section == null) {
+            return source.fetcher().fetch(request, inputs);
+        }
+        Supplier<Mono<T>> live = () -> source.fetcher().fetch(request, inputs);
+        UnaryOperator<T> narrow = value -> source.narrow().apply(request.filter(), value);
+        Mono<T> value = source.cachePolicy() == CachePolicy.LAST_KNOWN_GOOD
+                ? select(section, source.priority(), request.level(), request.statuses(), live, narrow, source.empty())
+                : fetched(section, "live", Mono.defer(live).map(narrow));
+        if (source.timeout() != null) {
+            value = value.timeout(source.timeout(), Mono.fromSupplier(() -> timedOut(source, request, narrow)));
+        }
+        return tracer.traceSource(section.key(), value);
+    }
+
+    /**
+     * Produces a section according to the degradation policy of the current load level:
+     * fetched live, served from the last-known-good cache only, or skipped. A live section
+     * is read from its stream-fed materialized view when one is in sync, or from a shared
+     * snapshot that any replica of the cluster refreshed recently, before falling back to
+     * calling the downstream service. For a desk view, values held locally are narrowed
+     * with {@code narrow}, and so is the live result in case the downstream service
+     * ignored the pushed-down filter.
+     */
+    private <T> Mono<T> select(
+            DashboardSection section,
+            SectionPriority priority,
+            LoadLevel level,
+            Map<String, SectionStatus> statuses,
+            Supplier<Mono<T>> live,
+            UnaryOperator<T> narrow,
+            T empty
+    ) {
+        LoadLevel.SectionMode mode = level.modeFor(priority);
+        if (mode == LoadLevel.SectionMode.LIVE) {
+            T materialized = streamViews.materialized(section);
+            if (materialized != null) {
+                return fetched(section, "stream", Mono.just(narrow.apply(materialized)));
+            }
+            T shared = clusterSnapshots.freshValue(section, statuses);
+            return shared != null
+                    ? fetched(section, "cluster", Mono.just(narrow.apply(shared)))
+                    : fetched(section, "downstream", live.get().map(narrow));
+        }
+        if (mode == LoadLevel.SectionMode.CACHE_ONLY) {
+            T cached = lastKnownGood.serveCached(section, statuses);
+            if (cached != null) {
+                return fetched(section, "cache", Mono.just(narrow.apply(cached)));
+            }
+        }
+        statuses.put(section.key(), new SectionStatus(SectionStatus.SKIPPED, null, -1));
+        return fetched(section, "skipped", Mono.just(empty));
+    }
+
+    /**
+     * Value of a section that did not produce one within its timeout: the last-known-good
+     * value if its cache policy allows one, else the section is skipped.
+     */
+    private <T> T timedOut(DashboardSource<T> source, SourceRequest request, UnaryOperator<T> narrow) {
+        if (source.cachePolicy() == CachePolicy.LAST_KNOWN_GOOD) {
+            T cached = lastKnownGood.serveCached(source.section(), request.statuses());
+            if (cached != null) {
+                return narrow.apply(cached);
+            }
+        }
+        request.statuses().put(source.section().key(), new SectionStatus(SectionStatus.SKIPPED, null, -1));
+        return source.empty();
+    }
+
+    /**
+     * Records the production of a section as a {@link SourceFetchEvent} while a flight
+     * recording is running.
+     */
+    private static <T> Mono<T> fetched(DashboardSection section, String origin, Mono<T> value) {
+        return Mono.defer(() -> {
+            SourceFetchEvent event = new SourceFetchEvent();
+            if (!event.isEnabled()) {
+                return value;
+            }
+            event.source = section.key();
+            event.origin = origin;
+            event.rows = -1;
+            event.begin();
+            return value
+                    .doOnSuccess(result -> {
+                        if (result instanceof List<?> rows) {
+                            event.rows = rows.size();
+                        }
+                        event.commit();
+                    })
+                    .doOnError(e -> {
+                        event.failed = true;
+                        event.commit();
+                    });
+        });
+    }
+
+    /**
+     * The sources of the dashboard. Sections are fetched with the filter pushed down
+     * to the downstream list endpoint where one takes it (books only to the risk
+     * service, the ledger does not know them). The derived steps then narrow the ledger
+     * sections to the accounts in the filtered books, and join and aggregate the
+     * results on the {@link CpuOffloadPolicy} as soon as their inputs are in.
+     */
+    private SourceGraph sources(Duration timeout) {
+        return SourceGraph.of(List.of(
+                // Redis-backed Top N, seeded from in-memory mock data if empty.
+                DashboardSource.live(DashboardSection.TOP_RISKY_ACCOUNTS, timeout, List.of(),
+                        (request, inputs) -> loadTopAccountsFromRedis()
+                                .switchIfEmpty(seedAndLoadTopAccounts())
+                                .collectList(),
+                        (filter, rows) -> filter.narrow(rows, RiskyAccount::accountId, RiskyAccount::book)),
+                DashboardSource.live(DashboardSection.HEALTH, timeout, new SystemHealth("UNKNOWN", 0.0, 0, 0),
+                        (request, inputs) -> loadSystemHealth()),
+                DashboardSource.cached(DashboardSection.RISK_SUMMARY, timeout, new RiskSummary(0.0, 0.0),
+                        (request, inputs) -> riskServiceClient.fetchRiskSummary()),
+                DashboardSource.cached(DashboardSection.TRADING_SUMMARY, timeout, new TradingSummary(0, 0, 0.0),
+                        (request, inputs) -> tradingServiceClient.fetchTradingSummary()),
+                DashboardSource.cached(DashboardSection.LATENCY_METRICS, timeout, new LatencyMetrics(0.0, 0.0, 0.0),
+                        (request, inputs) -> latencyMetricsClient.measureLatencies()),
+                DashboardSource.cached(DashboardSection.RISK_ACCOUNTS, timeout, List.of(),
+                        (request, inputs) -> request.filter().isEmpty()
+                                ? riskServiceClient.fetchRiskAccounts()
+                                : riskServiceClient.fetchRiskAccounts(request.filter()),
+                        (filter, rows) -> filter.narrow(rows, RiskAccount::accountId, RiskAccount::book)),
+                DashboardSource.cached(DashboardSection.RISK_METRICS, timeout, List.of(),
+                        (request, inputs) -> riskServiceClient.fetchRiskMetrics()),
+                DashboardSource.cached(DashboardSection.OPEN_ORDERS, timeout, List.of(),
+                        (request, inputs) -> tradingServiceClient.fetchOpenOrders()),
+                DashboardSource.cached(DashboardSection.RECENT_FILLS, timeout, List.of(),
+                        (request, inputs) -> tradingServiceClient.fetchRecentFills()),
+                DashboardSource.cached(DashboardSection.ACCOUNT_BALANCES, timeout, List.of(),
+                        (request, inputs) -> request.filter().accountIds().isEmpty()
+                                ? ledgerServiceClient.fetchAccountBalances()
+                                : ledgerServiceClient.fetchAccountBalances(request.filter()),
+                        (filter, rows) -> filter.narrowByAccount(rows, AccountBalance::accountId)),
+                DashboardSource.cached(DashboardSection.RECENT_TRANSACTIONS, timeout, List.of(),
+                        (request, inputs) -> request.filter().accountIds().isEmpty()
+                                ? ledgerServiceClient.fetchRecentTransactions()
+                                : ledgerServiceClient.fetchRecentTransactions(request.filter()),
+                        (filter, rows) -> filter.narrowByAccount(rows, Transaction::accountId)),
+
+                // A book filter reaches the ledger sections through the accounts in those books.
+                DashboardSource.derived(BOOK_SCOPE, List.of(RISK_ACCOUNTS),
+                        (request, inputs) -> Mono.just(request.filter().books().isEmpty()
+                                ? Optional.empty()
+                                : Optional.of(request.filter().accountScope(inputs.get(RISK_ACCOUNTS))))),
+                DashboardSource.derived(DESK_BALANCES, List.of(ACCOUNT_BALANCES, BOOK_SCOPE),
+                        (request, inputs) -> Mono.just(DashboardFilter.narrowTo(inputs.get(ACCOUNT_BALANCES),
+                                AccountBalance::accountId, inputs.get(BOOK_SCOPE).orElse(null)))),
+                DashboardSource.derived(DESK_TRANSACTIONS, List.of(RECENT_TRANSACTIONS, BOOK_SCOPE),
+                        (request, inputs) -> Mono.just(DashboardFilter.narrowTo(inputs.get(RECENT_TRANSACTIONS),
+                                Transaction::accountId, inputs.get(BOOK_SCOPE).orElse(null)))),
+                DashboardSource.derived(ENRICHED_ACCOUNTS, List.of(RISK_ACCOUNTS, DESK_BALANCES, DESK_TRANSACTIONS),
+                        (request, inputs) -> cpuWork.compute(
+                                rows(inputs, RISK_ACCOUNTS, DESK_BALANCES, DESK_TRANSACTIONS),
+                                () -> AccountEnrichment.join(
+                                        inputs.get(RISK_ACCOUNTS),
+                                        inputs.get(DESK_BALANCES),
+                                        inputs.get(DESK_TRANSACTIONS)))),
+                DashboardSource.derived(CHARTS,
+                        List.of(RISK_ACCOUNTS, OPEN_ORDERS, RECENT_FILLS, DESK_BALANCES, DESK_TRANSACTIONS),
+                        (request, inputs) -> cpuWork.compute(
+                                rows(inputs, RISK_ACCOUNTS, OPEN_ORDERS, RECENT_FILLS, DESK_BALANCES, DESK_TRANSACTIONS),
+                                () -> request.filter().isEmpty()
+                                        ? chartAggregator.aggregate(
+                                                inputs.get(RISK_ACCOUNTS),
+                                                inputs.get(OPEN_ORDERS),
+                                                inputs.get(RECENT_FILLS),
+                                                inputs.get(DESK_BALANCES),
+                                                inputs.get(DESK_TRANSACTIONS))
+                                        : chartAggregator.compute(
+                                                inputs.get(RISK_ACCOUNTS),
+                                                inputs.get(OPEN_ORDERS),
+                                                inputs.get(RECENT_FILLS),
+                                                inputs.get(DESK_BALANCES),
+                                                inputs.get(DESK_TRANSACTIONS))))
+        ));
+    }
+
+    private static DashboardViewModel assemble(SourceResults results, Map<String, SectionStatus> statuses) {
+        return new DashboardViewModel(
+                results.get(TOP_RISKY_ACCOUNTS),
+                results.get(HEALTH),
+                results.get(RISK_SUMMARY),
+                results.get(TRADING_SUMMARY),
+                results.get(LATENCY_METRICS),
+                results.get(RISK_ACCOUNTS),
+                results.get(RISK_METRICS),
+                results.get(OPEN_ORDERS),
+                results.get(RECENT_FILLS),
+                results.get(DESK_BALANCES),
+                results.get(DESK_TRANSACTIONS),
+                results.get(ENRICHED_ACCOUNTS),
+                results.get(CHARTS),
+                sectionStatus(statuses)
         );
     }
 
+    /**
+     * Rows of the list inputs a derived step works through.
+     */
+    @SafeVarargs
+    private static int rows(SourceResults inputs, SourceKey<? extends List<?>>... keys) {
+        int rows = 0;
+        for (SourceKey<? extends List<?>> key : keys) {
+            rows += inputs.get(key).size();
+        }
+        return rows;
+    }
+
+    /**
+     * Records an aggregation as an {@link AggregationEvent} while a flight recording is
+     * running.
+     */
+    private static Mono<DashboardViewModel> recorded(DashboardFilter filter, LoadLevel level, Mono<DashboardViewModel> aggregation) {
+        return Mono.deferContextual(ctx -> {
+            AggregationEvent event = new AggregationEvent();
+            if (!event.isEnabled()) {
+                return aggregation;
+            }
+            RequestTrace trace = RequestTrace.current(ctx);
+            event.traceId = trace != null ? trace.traceId() : null;
+            event.filter = filter.isEmpty() ? "" : filter.key();
+            event.loadLevel = level.name();
+            event.begin();
+            return aggregation
+                    .doOnSuccess(viewModel -> {
+                        if (viewModel != null) {
+                            event.degradedSections = (int) viewModel.sectionStatus().values().stream()
+                                    .filter(status -> !SectionStatus.LIVE.equals(status.state()))
+                                    .count();
+                        }
+                        event.commit();
+                    })
+                    .doOnError(e -> {
+                        event.failed = true;
+                        event.commit();
+                    });
+        });
+    }
+
+    private static Map<String, SectionStatus> sectionStatus(Map<String, SectionStatus> reported) {
+        Map<String, SectionStatus> result = new LinkedHashMap<>();
+        for (DashboardSection section : DashboardSection.values()) {
+            result.put(section.key(), reported.getOrDefault(section.key(), SectionStatus.live()));
+        }
+        return result;
+    }
+
     private Flux<RiskyAccount> loadPositionsInMemory() {
         // In the real system this would fan-out to multiple risk / trading / ledger services.
         // Here we simulate it with in-memory mock data and small artificial latency.
@@ -125,8 +477,13 @@ public class DashboardAggregationService {
 
     private Flux<RiskyAccount> loadTopAccountsFromRedis() {
         Range<Long> range = Range.closed(0L, 4L); // Top 5 elements: index 0 ~ 4
-        return redisTemplate.opsForZSet()
-                .reverseRangeWithScores(TOP_RISK_KEY, range)
+        // Served locally until Redis reports a change; an empty set is not cached, so
+        // the read after seeding sees the seeded entries.
+        return redisCache.get(TOP_RISK_KEY, () -> redisTemplate.opsForZSet()
+                        .reverseRangeWithScores(TOP_RISK_KEY, range)
+                        .collectList()
+                        .filter(tuples -> !tuples.isEmpty()))
+                .flatMapIterable(tuples -> tuples)
                 .map(tuple -> {
                     String member = tuple.getValue();
                     double score = tuple.getScore();
@@ -153,9 +510,12 @@ public class DashboardAggregationService {
     }
 
     private Flux<RiskyAccount> seedAndLoadTopAccounts() {
-        Flux<RiskyAccount> inMemory = loadPositionsInMemory()
-                .sort(Comparator.comparingDouble(RiskyAccount::netExposure).reversed())
-                .take(5);
+        Flux<RiskyAccount> inMemory = cpuWork.map(loadPositionsInMemory().collectList(), List::size,
+                        positions -> positions.stream()
+                                .sorted(Comparator.comparingDouble(RiskyAccount::netExposure).reversed())
+                                .limit(5)
+                                .toList())
+                .flatMapIterable(top -> top);
 
         return inMemory
                 .flatMap(account -> redisTemplate.opsForZSet()
@@ -163,5 +523,6 @@ public class DashboardAggregationService {
                         .thenReturn(account))
                 .thenMany(loadTopAccountsFromRedis());
     }
-}
 
+    record Snapshot(DashboardViewModel viewModel, long assembledAtMillis) {}
+}
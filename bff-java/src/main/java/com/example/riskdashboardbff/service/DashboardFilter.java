@@ -0,0 +1,114 @@
+package com.example.riskdashboardbff.service;
+
+import com.example.riskdashboardbff.model.DashboardViewModel.RiskAccount;
+import org.springframework.web.util.UriBuilder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Restricts a dashboard to some books and/or accounts (a desk view). Both sets are
+ * sorted, so equal filters have equal {@link #key() keys}. An empty set does not
+ * restrict; when both are given an account must match both.
+ */
+public record DashboardFilter(SortedSet<String> books, SortedSet<String> accountIds) {
+
+    public static final DashboardFilter NONE = new DashboardFilter(Collections.emptySortedSet(), Collections.emptySortedSet());
+
+    public static DashboardFilter of(Collection<String> books, Collection<String> accountIds) {
+        return new DashboardFilter(
+                Collections.unmodifiableSortedSet(new TreeSet<>(books)),
+                Collections.unmodifiableSortedSet(new TreeSet<>(accountIds)));
+    }
+
+    public boolean isEmpty() {
+        return books.isEmpty() && accountIds.isEmpty();
+    }
+
+    /**
+     * Canonical form, e.g. {@code book=EQUITIES,FX;accountId=}.
+     */
+    public String key() {
+        return "book=" + String.join(",", books) + ";accountId=" + String.join(",", accountIds);
+    }
+
+    public boolean accepts(String accountId, String book) {
+        return (books.isEmpty() || books.contains(book)) && (accountIds.isEmpty() || accountIds.contains(accountId));
+    }
+
+    /**
+     * Rows whose account and book are accepted.
+     */
+    public <T> List<T> narrow(List<T> rows, Function<T, String> accountId, Function<T, String> book) {
+        if (isEmpty()) {
+            return rows;
+        }
+        List<T> result = new ArrayList<>();
+        for (T row : rows) {
+            if (accepts(accountId.apply(row), book.apply(row))) {
+                result.add(row);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Rows of a section that knows accounts but not books, narrowed to the account ids.
+     */
+    public <T> List<T> narrowByAccount(List<T> rows, Function<T, String> accountId) {
+        return narrowTo(rows, accountId, accountIds.isEmpty() ? null : accountIds);
+    }
+
+    /**
+     * The accounts in scope, given the risk accounts the filter has already been applied
+     * to: with a book filter, those accounts; otherwise the account ids themselves, or
+     * {@code null} if accounts are not restricted at all.
+     */
+    public Set<String> accountScope(List<RiskAccount> filteredAccounts) {
+        if (books.isEmpty()) {
+            return accountIds.isEmpty() ? null : accountIds;
+        }
+        Set<String> scope = new HashSet<>();
+        for (RiskAccount account : filteredAccounts) {
+            scope.add(account.accountId());
+        }
+        return scope;
+    }
+
+    /**
+     * Adds the filter as {@code book} and {@code accountId} query parameters, the form
+     * the downstream list endpoints accept.
+     */
+    public UriBuilder applyTo(UriBuilder uri, boolean withBooks) {
+        if (withBooks && !books.isEmpty()) {
+            uri.queryParam("book", String.join(",", books));
+        }
+        if (!accountIds.isEmpty()) {
+            uri.queryParam("accountId", String.join(",", accountIds));
+        }
+        return uri;
+    }
+
+    /**
+     * Rows whose account is in {@code scope}; all rows if the scope is {@code null}.
+     */
+    public static <T> List<T> narrowTo(List<T> rows, Function<T, String> accountId, Set<String> scope) {
+        if (scope == null) {
+            return rows;
+        }
+        List<T> result = new ArrayList<>();
+        for (T row : rows) {
+            if (scope.contains(accountId.apply(row))) {
+                result.add(row);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.riskdashboardbff.service;
+
+import com.example.riskdashboardbff.model.DashboardViewModel;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Summary KPIs of the dashboard that {@link KpiHistory} keeps a history of. The key is
+ * the path of the value in the view model JSON.
+ */
+public enum DashboardKpi {
+
+    TOTAL_NET_EXPOSURE("riskSummary.totalNetExposure", DashboardSection.RISK_SUMMARY,
+            vm -> vm.riskSummary().totalNetExposure()),
+    MAX_MARGIN_UTILIZATION("riskSummary.maxMarginUtilization", DashboardSection.RISK_SUMMARY,
+            vm -> vm.riskSummary().maxMarginUtilization()),
+    OPEN_ORDERS("tradingSummary.openOrders", DashboardSection.TRADING_SUMMARY,
+            vm -> vm.tradingSummary().openOrders()),
+    FILLED_TODAY("tradingSummary.filledToday", DashboardSection.TRADING_SUMMARY,
+            vm -> vm.tradingSummary().filledToday()),
+    REALIZED_PNL("tradingSummary.realizedPnl", DashboardSection.TRADING_SUMMARY,
+            vm -> vm.tradingSummary().realizedPnl()),
+    RISK_SERVICE_MS("latencyMetrics.riskServiceMs", DashboardSection.LATENCY_METRICS,
+            vm -> vm.latencyMetrics().riskServiceMs()),
+    TRADING_SERVICE_MS("latencyMetrics.tradingServiceMs", DashboardSection.LATENCY_METRICS,
+            vm -> vm.latencyMetrics().tradingServiceMs()),
+    LEDGER_SERVICE_MS("latencyMetrics.ledgerServiceMs", DashboardSection.LATENCY_METRICS,
+            vm -> vm.latencyMetrics().ledgerServiceMs()),
+    AVG_LATENCY_MS("health.avgLatencyMs", DashboardSection.HEALTH,
+            vm -> vm.health().avgLatencyMs()),
+    DOWNSTREAM_HEALTHY_COUNT("health.downstreamHealthyCount", DashboardSection.HEALTH,
+            vm -> vm.health().downstreamHealthyCount());
+
+    private final String key;
+    private final DashboardSection section;
+    private final ToDoubleFunction<DashboardViewModel> value;
+
+    DashboardKpi(String key, DashboardSection section, ToDoubleFunction<DashboardViewModel> value) {
+        this.key = key;
+        this.section = section;
+        this.value = value;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public DashboardSection section() {
+        return section;
+    }
+
+    public double valueOf(DashboardViewModel viewModel) {
+        return value.applyAsDouble(viewModel);
+    }
+
+    /**
+     * Looks up a KPI by its key, or returns {@code null}.
+     */
+    public static DashboardKpi fromKey(String key) {
+        for (DashboardKpi kpi : values()) {
+            if (kpi.key.equals(key)) {
+                return kpi;
+            }
+        }
+        return null;
+    }
+}
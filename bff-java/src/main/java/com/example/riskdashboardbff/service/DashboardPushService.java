@@ -0,0 +1,223 @@
+package com.example.riskdashboardbff.service;
+
+import com.example.riskdashboardbff.jfr.SerializationEvent;
+import com.example.riskdashboardbff.model.DashboardViewModel;
+import com.example.riskdashboardbff.model.DashboardViewModelSerializer;
+import com.example.riskdashboardbff.model.PushSubscriberStats;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes dashboard snapshots to WebSocket subscribers.
+ * <p>
+ * A single refresh pipeline aggregates the dashboard once per interval while anyone
+ * is subscribed and encodes it to JSON once; the same bytes are then handed to every
+ * subscriber, so the cost of a refresh does not depend on the number of subscribers.
+ * Encoding runs on the scheduler of the {@link CpuOffloadPolicy}.
+ * Unchanged snapshots are not sent again. Each {@link PushSubscriber} conflates to the
+ * latest frame, so memory per subscriber is bounded by one pending frame no matter
+ * how slowly it reads.
+ */
+@Service
+public class DashboardPushService {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardPushService.class);
+
+    private final DashboardAggregationService aggregationService;
+    private final ObjectMapper objectMapper;
+    private final CpuOffloadPolicy cpuWork;
+    private final boolean enabled;
+    private final Duration interval;
+    private final int maxSubscribers;
+
+    private final Map<String, PushSubscriber> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger slots = new AtomicInteger();
+    private final int maxListRows;
+    private final Counter snapshots;
+    private final Counter conflated;
+    private final Counter rejected;
+    private volatile byte[] latest;
+    private Disposable refresh; // guarded by this
+
+    public DashboardPushService(
+            DashboardAggregationService aggregationService,
+            ObjectMapper objectMapper,
+            CpuOffloadPolicy cpuWork,
+            MeterRegistry meterRegistry,
+            @Value("${dashboard.push.enabled:true}") boolean enabled,
+            @Value("${dashboard.push.interval:PT1S}") Duration interval,
+            @Value("${dashboard.push.max-subscribers:10000}") int maxSubscribers,
+            @Value("${dashboard.charts.max-list-rows:0}") int maxListRows
+    ) {
+        this.aggregationService = aggregationService;
+        this.objectMapper = objectMapper;
+        this.cpuWork = cpuWork;
+        this.enabled = enabled;
+        this.interval = interval;
+        this.maxSubscribers = maxSubscribers;
+        this.maxListRows = maxListRows;
+        this.snapshots = Counter.builder("dashboard.push.snapshots")
+                .description("Dashboard snapshots pushed to subscribers")
+                .register(meterRegistry);
+        this.conflated = Counter.builder("dashboard.push.conflated")
+                .description("Frames replaced by a newer snapshot before a slow subscriber took them")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("dashboard.push.rejected")
+                .description("Subscriptions rejected because max-subscribers was reached")
+                .register(meterRegistry);
+        Gauge.builder("dashboard.push.subscribers", subscribers, Map::size)
+                .description("Connected dashboard push subscribers")
+                .register(meterRegistry);
+        Gauge.builder("dashboard.push.queued", this, DashboardPushService::queuedFrames)
+                .description("Frames pending or being written across all subscribers")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registers a subscriber and starts the refresh pipeline if it is the first one.
+     * Returns {@code null} if push is disabled or the node is at max-subscribers.
+     */
+    public PushSubscriber subscribe(String id) {
+        if (!enabled || !reserveSlot()) {
+            rejected.increment();
+            return null;
+        }
+        PushSubscriber subscriber = new PushSubscriber(id, this::unsubscribe);
+        if (subscribers.put(id, subscriber) != null) {
+            // The replaced subscriber can no longer remove itself, so free its slot here.
+            slots.decrementAndGet();
+        }
+        byte[] current = latest;
+        if (current != null) {
+            subscriber.offer(current, conflated::increment);
+        }
+        ensureRefreshing();
+        return subscriber;
+    }
+
+    /**
+     * Per-subscriber delivery statistics, most conflated first.
+     */
+    public List<PushSubscriberStats> subscriberStats(int limit) {
+        return subscribers.values().stream()
+                .map(PushSubscriber::stats)
+                .sorted(Comparator.comparingLong(PushSubscriberStats::conflated).reversed()
+                        .thenComparing(Comparator.comparingInt(PushSubscriberStats::queueDepth).reversed()))
+                .limit(Math.max(0, limit))
+                .toList();
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (refresh != null) {
+            refresh.dispose();
+            refresh = null;
+        }
+    }
+
+    /**
+     * Hands a new frame to every subscriber.
+     */
+    void publish(byte[] frame) {
+        byte[] previous = latest;
+        if (previous != null && Arrays.equals(previous, frame)) {
+            return;
+        }
+        latest = frame;
+        snapshots.increment();
+        for (PushSubscriber subscriber : subscribers.values()) {
+            subscriber.offer(frame, conflated::increment);
+        }
+    }
+
+    /**
+     * Takes one of the max-subscribers slots, so that concurrent subscribes cannot
+     * overshoot the limit between the check and the registration.
+     */
+    private boolean reserveSlot() {
+        int taken;
+        do {
+            taken = slots.get();
+            if (taken >= maxSubscribers) {
+                return false;
+            }
+        } while (!slots.compareAndSet(taken, taken + 1));
+        return true;
+    }
+
+    private void unsubscribe(PushSubscriber subscriber) {
+        if (subscribers.remove(subscriber.id(), subscriber)) {
+            slots.decrementAndGet();
+        }
+        synchronized (this) {
+            if (subscribers.isEmpty() && refresh != null) {
+                refresh.dispose();
+                refresh = null;
+                latest = null;
+            }
+        }
+    }
+
+    private synchronized void ensureRefreshing() {
+        if (refresh != null || subscribers.isEmpty()) {
+            return;
+        }
+        refresh = Flux.interval(Duration.ZERO, interval)
+                .onBackpressureDrop()
+                .concatMap(tick -> aggregationService.aggregate()
+                        .publishOn(cpuWork.scheduler())
+                        .map(this::encode)
+                        .onErrorResume(e -> {
+                            log.warn("Dashboard push refresh failed: {}", e.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe(this::publish);
+    }
+
+    private byte[] encode(DashboardViewModel viewModel) {
+        SerializationEvent event = new SerializationEvent();
+        event.begin();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(latest == null ? 4096 : latest.length);
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(bytes)) {
+            DashboardViewModelSerializer.write(viewModel, gen, maxListRows);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (event.shouldCommit()) {
+            event.target = "push";
+            event.bytes = bytes.size();
+            event.commit();
+        }
+        return bytes.toByteArray();
+    }
+
+    private double queuedFrames() {
+        long total = 0;
+        for (PushSubscriber subscriber : subscribers.values()) {
+            total += subscriber.queueDepth();
+        }
+        return total;
+    }
+}
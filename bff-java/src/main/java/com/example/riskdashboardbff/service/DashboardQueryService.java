@@ -0,0 +1,273 @@
+package com.example.riskdashboardbff.service;
+
+import com.example.riskdashboardbff.api.InvalidQueryException;
+import com.example.riskdashboardbff.model.DashboardViewModel.SectionStatus;
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingFill;
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingOrder;
+import com.example.riskdashboardbff.model.DashboardViewModel.Transaction;
+import com.example.riskdashboardbff.model.QueryResult;
+import com.example.riskdashboardbff.model.columnar.Bitmaps;
+import com.example.riskdashboardbff.model.columnar.ColumnarFills;
+import com.example.riskdashboardbff.model.columnar.ColumnarList;
+import com.example.riskdashboardbff.model.columnar.ColumnarOrders;
+import com.example.riskdashboardbff.model.columnar.ColumnarTransactions;
+import com.example.riskdashboardbff.model.columnar.DictionaryColumn;
+import com.example.riskdashboardbff.model.columnar.IdColumn;
+import com.example.riskdashboardbff.model.columnar.TopK;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.Supplier;
+
+/**
+ * Filters, sorts and limits the order, fill and transaction lists on the server, so
+ * the browser can ask for "the 50 largest pending EUR withdrawals" without receiving
+ * the full lists.
+ * <p>
+ * Queries run against the columnar form of the current section value (the stream-fed
+ * view if one is in sync, else the last-known-good value if it is recent enough, else a
+ * fresh fetch), and each result carries that value's freshness. Filters
+ * on dictionary-encoded columns are answered from their bitmap indexes and filters on
+ * account ids from the id column's number index; both are built on first use for
+ * each refreshed value, so indexes always match the data they are queried with.
+ * Sorted results are selected with a top-K heap rather than a full sort, placed by the
+ * {@link CpuOffloadPolicy} like other CPU-bound work over fetched data.
+ */
+@Service
+public class DashboardQueryService {
+
+    private final LastKnownGoodCache lastKnownGood;
+    private final StreamIngestionService streamViews;
+    private final CpuOffloadPolicy cpuWork;
+    private final Duration maxCacheAge;
+    private final int maxLimit;
+    private final Map<String, Dataset<?, ?>> datasets;
+
+    public DashboardQueryService(
+            LastKnownGoodCache lastKnownGood,
+            StreamIngestionService streamViews,
+            TradingServiceClient tradingServiceClient,
+            LedgerServiceClient ledgerServiceClient,
+            CpuOffloadPolicy cpuWork,
+            @Value("${dashboard.query.max-cache-age:PT5S}") Duration maxCacheAge,
+            @Value("${dashboard.query.max-limit:1000}") int maxLimit
+    ) {
+        this.lastKnownGood = lastKnownGood;
+        this.streamViews = streamViews;
+        this.cpuWork = cpuWork;
+        this.maxCacheAge = maxCacheAge;
+        this.maxLimit = maxLimit;
+        this.datasets = Map.of(
+                "orders", new Dataset<TradingOrder, ColumnarOrders>(
+                        DashboardSection.OPEN_ORDERS, tradingServiceClient::fetchOpenOrders,
+                        ColumnarOrders.class, ColumnarOrders::of,
+                        Map.of("symbol", ColumnarOrders::symbol,
+                                "side", ColumnarOrders::side,
+                                "status", ColumnarOrders::status),
+                        Map.of(),
+                        Map.of("quantity", orders -> row -> orders.quantity()[row],
+                                "price", orders -> row -> orders.price()[row])),
+                "fills", new Dataset<TradingFill, ColumnarFills>(
+                        DashboardSection.RECENT_FILLS, tradingServiceClient::fetchRecentFills,
+                        ColumnarFills.class, ColumnarFills::of,
+                        Map.of("symbol", ColumnarFills::symbol,
+                                "side", ColumnarFills::side),
+                        Map.of(),
+                        Map.of("quantity", fills -> row -> fills.quantity()[row],
+                                "price", fills -> row -> fills.price()[row],
+                                "pnl", fills -> row -> fills.pnl()[row])),
+                "transactions", new Dataset<Transaction, ColumnarTransactions>(
+                        DashboardSection.RECENT_TRANSACTIONS, ledgerServiceClient::fetchRecentTransactions,
+                        ColumnarTransactions.class, ColumnarTransactions::of,
+                        Map.of("transactionType", ColumnarTransactions::transactionType,
+                                "currency", ColumnarTransactions::currency,
+                                "status", ColumnarTransactions::status),
+                        Map.of("accountId", ColumnarTransactions::accountId),
+                        Map.of("amount", transactions -> row -> transactions.amount()[row]))
+        );
+    }
+
+    public Set<String> datasets() {
+        return new TreeSet<>(datasets.keySet());
+    }
+
+    /**
+     * Runs a query. Rows must match one of the values of every filtered field; without
+     * a sort field they are returned in list order. Unknown datasets or fields are
+     * rejected with an {@link InvalidQueryException}.
+     *
+     * @param filters    field name to accepted values
+     * @param sort       numeric field to order by, or {@code null}
+     * @param descending whether to return the largest values first
+     * @param limit      maximum number of rows, capped at the configured maximum
+     */
+    public Mono<QueryResult<?>> query(
+            String dataset,
+            Map<String, List<String>> filters,
+            String sort,
+            boolean descending,
+            int limit
+    ) {
+        Dataset<?, ?> source = datasets.get(dataset);
+        if (source == null) {
+            return Mono.error(new InvalidQueryException(
+                    "Unknown dataset '" + dataset + "', expected one of " + datasets()));
+        }
+        return Mono.defer(() -> {
+            source.validate(filters.keySet(), sort);
+            return source.query(dataset, streamViews, lastKnownGood, maxCacheAge, cpuWork, filters, sort, descending,
+                    Math.max(0, Math.min(limit, maxLimit)));
+        });
+    }
+
+    /**
+     * Queryable view of one section: how to obtain its columnar form and which columns
+     * can be filtered and sorted on.
+     */
+    private static final class Dataset<T, L extends ColumnarList<T>> {
+
+        private final DashboardSection section;
+        private final Supplier<Mono<List<T>>> fetch;
+        private final Class<L> columnarType;
+        private final Function<List<T>, L> toColumnar;
+        private final Map<String, Function<L, DictionaryColumn>> dictionaryFields;
+        private final Map<String, Function<L, IdColumn>> idFields;
+        private final Map<String, Function<L, IntToDoubleFunction>> sortFields;
+        // Last non-columnar value (e.g. a stream-fed view) and its columnar form.
+        private final AtomicReference<Converted<T, L>> converted = new AtomicReference<>();
+
+        Dataset(
+                DashboardSection section,
+                Supplier<Mono<List<T>>> fetch,
+                Class<L> columnarType,
+                Function<List<T>, L> toColumnar,
+                Map<String, Function<L, DictionaryColumn>> dictionaryFields,
+                Map<String, Function<L, IdColumn>> idFields,
+                Map<String, Function<L, IntToDoubleFunction>> sortFields
+        ) {
+            this.section = section;
+            this.fetch = fetch;
+            this.columnarType = columnarType;
+            this.toColumnar = toColumnar;
+            this.dictionaryFields = dictionaryFields;
+            this.idFields = idFields;
+            this.sortFields = sortFields;
+        }
+
+        void validate(Set<String> filterFields, String sort) {
+            for (String field : filterFields) {
+                if (!dictionaryFields.containsKey(field) && !idFields.containsKey(field)) {
+                    Set<String> known = new TreeSet<>(dictionaryFields.keySet());
+                    known.addAll(idFields.keySet());
+                    throw new InvalidQueryException(
+                            "Unknown filter field '" + field + "' for " + section.key() + ", expected one of " + known);
+                }
+            }
+            if (sort != null && !sortFields.containsKey(sort)) {
+                throw new InvalidQueryException(
+                        "Unknown sort field '" + sort + "' for " + section.key()
+                                + ", expected one of " + new TreeSet<>(sortFields.keySet()));
+            }
+        }
+
+        Mono<QueryResult<?>> query(
+                String dataset,
+                StreamIngestionService streamViews,
+                LastKnownGoodCache lastKnownGood,
+                Duration maxCacheAge,
+                CpuOffloadPolicy cpuWork,
+                Map<String, List<String>> filters,
+                String sort,
+                boolean descending,
+                int limit
+        ) {
+            Map<String, SectionStatus> statuses = new ConcurrentHashMap<>();
+            return cpuWork.map(current(streamViews, lastKnownGood, maxCacheAge, statuses), List::size,
+                    data -> run(dataset, data, statuses.getOrDefault(section.key(), SectionStatus.live()),
+                            filters, sort, descending, limit));
+        }
+
+        /**
+         * The stream-fed view if it is in sync, else the last-known-good value if it is
+         * at most {@code maxCacheAge} old, else a fetch (which falls back to an older
+         * value, reported STALE, if the downstream service fails).
+         */
+        private Mono<L> current(
+                StreamIngestionService streamViews,
+                LastKnownGoodCache lastKnownGood,
+                Duration maxCacheAge,
+                Map<String, SectionStatus> statuses
+        ) {
+            List<T> value = streamViews.materialized(section);
+            if (value == null) {
+                value = lastKnownGood.peekFresh(section, maxCacheAge, statuses);
+            }
+            return value != null
+                    ? Mono.just(columnar(value))
+                    : fetch.get().contextWrite(LastKnownGoodCache.track(statuses)).map(this::columnar);
+        }
+
+        private L columnar(List<T> value) {
+            if (columnarType.isInstance(value)) {
+                return columnarType.cast(value);
+            }
+            Converted<T, L> last = converted.get();
+            if (last != null && last.source() == value) {
+                return last.columnar();
+            }
+            L columnar = toColumnar.apply(value);
+            converted.set(new Converted<>(value, columnar));
+            return columnar;
+        }
+
+        private QueryResult<T> run(
+                String dataset,
+                L data,
+                SectionStatus status,
+                Map<String, List<String>> filters,
+                String sort,
+                boolean descending,
+                int limit
+        ) {
+            long start = System.nanoTime();
+            long[] rows = Bitmaps.all(data.size());
+            for (Map.Entry<String, List<String>> filter : filters.entrySet()) {
+                Function<L, DictionaryColumn> dictionary = dictionaryFields.get(filter.getKey());
+                if (dictionary != null) {
+                    Bitmaps.and(rows, dictionary.apply(data).rowsOf(filter.getValue()));
+                    continue;
+                }
+                IdColumn ids = idFields.get(filter.getKey()).apply(data);
+                long[] matching = Bitmaps.none(data.size());
+                for (String id : filter.getValue()) {
+                    Bitmaps.or(matching, ids.rowsOf(id));
+                }
+                Bitmaps.and(rows, matching);
+            }
+
+            int matched = Bitmaps.count(rows);
+            int[] selected = sort == null
+                    ? TopK.first(rows, limit)
+                    : TopK.select(rows, sortFields.get(sort).apply(data), descending, limit);
+            List<T> result = new ArrayList<>(selected.length);
+            for (int row : selected) {
+                result.add(data.get(row));
+            }
+            long tookMicros = (System.nanoTime() - start) / 1_000;
+            return new QueryResult<>(dataset, data.size(), matched, result, status, tookMicros);
+        }
+    }
+
+    private record Converted<T, L>(List<T> source, L columnar) {}
+}
@@ -0,0 +1,50 @@
+package com.example.riskdashboardbff.service;
+
+/**
+ * Sections of the dashboard view model. The key of each section matches the
+ * corresponding field name in {@link com.example.riskdashboardbff.model.DashboardViewModel}
+ * so that per-section metadata can be correlated with the payload on the client.
+ * The priority decides which sections are degraded first under load.
+ */
+public enum DashboardSection {
+
+    TOP_RISKY_ACCOUNTS("topRiskyAccounts", SectionPriority.CRITICAL),
+    HEALTH("health", SectionPriority.CRITICAL),
+    RISK_SUMMARY("riskSummary", SectionPriority.CRITICAL),
+    TRADING_SUMMARY("tradingSummary", SectionPriority.NORMAL),
+    LATENCY_METRICS("latencyMetrics", SectionPriority.NORMAL),
+    RISK_ACCOUNTS("riskAccounts", SectionPriority.NORMAL),
+    RISK_METRICS("riskMetrics", SectionPriority.NORMAL),
+    OPEN_ORDERS("openOrders", SectionPriority.NORMAL),
+    RECENT_FILLS("recentFills", SectionPriority.LOW),
+    ACCOUNT_BALANCES("accountBalances", SectionPriority.NORMAL),
+    RECENT_TRANSACTIONS("recentTransactions", SectionPriority.LOW);
+
+    private final String key;
+    private final SectionPriority priority;
+
+    DashboardSection(String key, SectionPriority priority) {
+        this.key = key;
+        this.priority = priority;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public SectionPriority priority() {
+        return priority;
+    }
+
+    /**
+     * Looks up a section by its view model field name, or returns {@code null}.
+     */
+    public static DashboardSection fromKey(String key) {
+        for (DashboardSection section : values()) {
+            if (section.key.equals(key)) {
+                return section;
+            }
+        }
+        return null;
+    }
+}
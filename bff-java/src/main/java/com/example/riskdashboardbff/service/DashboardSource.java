@@ -0,0 +1,117 @@
+package com.example.riskdashboardbff.service;
+
+import com.example.riskdashboardbff.model.DashboardViewModel.SectionStatus;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+/**
+ * Declaration of one node of the aggregation: a dashboard section fetched from
+ * somewhere, or a step derived from other nodes.
+ *
+ * @param key          name the value is published under
+ * @param dependencies nodes whose values the fetcher reads; it starts once they are all available
+ * @param section      the view model section the value is, or {@code null} for a derived step
+ * @param priority     decides how the source degrades under load, and which of the
+ *                     sources that are ready at the same time is started first
+ * @param cachePolicy  whether the value may come from a local copy instead of the fetcher
+ * @param timeout      time after which the source is degraded like a cache-only one, or {@code null}
+ * @param empty        value of a section that is skipped
+ * @param fetcher      produces the value
+ * @param narrow       narrows a value to a desk view (see {@link DashboardFilter})
+ * @param <T>          type of the value
+ */
+record DashboardSource<T>(
+        SourceKey<T> key,
+        List<SourceKey<?>> dependencies,
+        DashboardSection section,
+        SectionPriority priority,
+        CachePolicy cachePolicy,
+        Duration timeout,
+        T empty,
+        Fetcher<T> fetcher,
+        BiFunction<DashboardFilter, T, T> narrow
+) {
+
+    /**
+     * Where a section may be served from besides its fetcher.
+     */
+    enum CachePolicy {
+        /**
+         * Degraded by {@link LoadLevel}: the stream-fed view or a cluster snapshot when
+         * live, the last-known-good value when cache-only, nothing when skipped.
+         */
+        LAST_KNOWN_GOOD,
+        /** Always produced by the fetcher. */
+        NONE
+    }
+
+    /**
+     * Produces the value of a source from the request and the values of its dependencies.
+     */
+    @FunctionalInterface
+    interface Fetcher<T> {
+        Mono<T> fetch(SourceRequest request, SourceResults inputs);
+    }
+
+    /**
+     * The aggregation a source is produced for.
+     *
+     * @param statuses section statuses reported while producing the sources
+     */
+    record SourceRequest(DashboardFilter filter, LoadLevel level, Map<String, SectionStatus> statuses) {}
+
+    /**
+     * A section degraded by load and served from local copies when possible, the same
+     * for every desk view.
+     */
+    static <T> DashboardSource<T> cached(DashboardSection section, Duration timeout, T empty, Fetcher<T> fetcher) {
+        return cached(section, timeout, empty, fetcher, (filter, value) -> value);
+    }
+
+    /**
+     * A section degraded by load and served from local copies when possible.
+     */
+    static <T> DashboardSource<T> cached(
+            DashboardSection section,
+            Duration timeout,
+            T empty,
+            Fetcher<T> fetcher,
+            BiFunction<DashboardFilter, T, T> narrow
+    ) {
+        return new DashboardSource<>(SourceKey.of(section), List.of(), section, section.priority(),
+                CachePolicy.LAST_KNOWN_GOOD, timeout, empty, fetcher, narrow);
+    }
+
+    /**
+     * A section that is always produced by its fetcher, the same for every desk view.
+     */
+    static <T> DashboardSource<T> live(DashboardSection section, Duration timeout, T empty, Fetcher<T> fetcher) {
+        return live(section, timeout, empty, fetcher, (filter, value) -> value);
+    }
+
+    /**
+     * A section that is always produced by its fetcher.
+     */
+    static <T> DashboardSource<T> live(
+            DashboardSection section,
+            Duration timeout,
+            T empty,
+            Fetcher<T> fetcher,
+            BiFunction<DashboardFilter, T, T> narrow
+    ) {
+        return new DashboardSource<>(SourceKey.of(section), List.of(), section, section.priority(),
+                CachePolicy.NONE, timeout, empty, fetcher, narrow);
+    }
+
+    /**
+     * A step computed from other sources, started as soon as they are available.
+     */
+    static <T> DashboardSource<T> derived(SourceKey<T> key, List<SourceKey<?>> dependencies, Fetcher<T> fetcher) {
+        return new DashboardSource<>(key, dependencies, null, SectionPriority.CRITICAL,
+                CachePolicy.NONE, null, null, fetcher, (filter, value) -> value);
+    }
+}
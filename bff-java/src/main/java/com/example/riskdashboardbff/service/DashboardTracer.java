@@ -0,0 +1,254 @@
+package com.example.riskdashboardbff.service;
+
+import com.example.riskdashboardbff.model.TraceSummary;
+import com.example.riskdashboardbff.service.RequestTrace.SourceSpan;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+import reactor.netty.http.client.HttpClientRequest;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Critical-path tracing of dashboard aggregations.
+ * <p>
+ * Every request is traced into a {@link RequestTrace}: a span per aggregated source
+ * with its HTTP attempts, connection pool wait, first and last response byte, and the
+ * time to decode the body. Downstream calls carry a W3C {@code traceparent} header
+ * with the trace id and the span of their source. Sampling happens once the request
+ * has finished (tail-based): the slowest requests of the current and previous window
+ * are always kept, and of the rest failed and slow requests plus a random fraction.
+ * The source that gated each request is counted in {@code dashboard.trace.gating}.
+ */
+@Service
+public class DashboardTracer {
+
+    public static final String TRACEPARENT_HEADER = "traceparent";
+
+    private static final Pattern TRACEPARENT = Pattern.compile("[0-9a-f]{2}-([0-9a-f]{32})-[0-9a-f]{16}-[0-9a-f]{2}");
+    private static final Comparator<Kept> BY_DURATION = Comparator.comparingLong(Kept::durationNanos);
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+    private final int keepSlowest;
+    private final int keepSampled;
+    private final long windowNanos;
+
+    private final Map<String, Counter> gatingCounters = new ConcurrentHashMap<>();
+    // Guarded by this.
+    private final PriorityQueue<Kept> slowest = new PriorityQueue<>(BY_DURATION);
+    private List<Kept> previousSlowest = List.of();
+    private long windowStartNanos = System.nanoTime();
+    private final Deque<TraceSummary> sampled = new ArrayDeque<>();
+
+    public DashboardTracer(
+            MeterRegistry meterRegistry,
+            @Value("${dashboard.tracing.enabled:true}") boolean enabled,
+            @Value("${dashboard.tracing.sample-rate:0.01}") double sampleRate,
+            @Value("${dashboard.tracing.slow-threshold:PT0.5S}") Duration slowThreshold,
+            @Value("${dashboard.tracing.keep-slowest:20}") int keepSlowest,
+            @Value("${dashboard.tracing.keep-sampled:100}") int keepSampled,
+            @Value("${dashboard.tracing.window:PT1M}") Duration window
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.keepSlowest = keepSlowest;
+        this.keepSampled = keepSampled;
+        this.windowNanos = window.toNanos();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts a trace, continuing the trace id of an incoming {@code traceparent} header
+     * if there is a valid one.
+     */
+    public RequestTrace start(String name, String traceparent) {
+        String traceId = null;
+        if (traceparent != null) {
+            var matcher = TRACEPARENT.matcher(traceparent.trim());
+            if (matcher.matches()) {
+                traceId = matcher.group(1);
+            }
+        }
+        return new RequestTrace(traceId, name);
+    }
+
+    /**
+     * Ends a trace and decides whether to keep it.
+     */
+    public void finish(RequestTrace trace, boolean failed) {
+        if (!trace.finish(failed)) {
+            return;
+        }
+        String gating = trace.gatingSource();
+        if (gating != null) {
+            gatingCounters.computeIfAbsent(gating, source -> Counter.builder("dashboard.trace.gating")
+                    .tag("source", source)
+                    .description("Dashboard requests whose response waited on this source last")
+                    .register(meterRegistry)).increment();
+        }
+        long duration = trace.durationNanos();
+        TraceSummary summary = null;
+        synchronized (this) {
+            long now = System.nanoTime();
+            if (now - windowStartNanos >= windowNanos) {
+                previousSlowest = new ArrayList<>(slowest);
+                slowest.clear();
+                windowStartNanos = now;
+            }
+            if (keepSlowest > 0 && (slowest.size() < keepSlowest || duration > slowest.peek().durationNanos())) {
+                summary = trace.summarize();
+                slowest.add(new Kept(duration, summary));
+                if (slowest.size() > keepSlowest) {
+                    slowest.poll();
+                }
+            }
+            if (keepSampled > 0 && (failed || duration >= slowThresholdNanos
+                    || ThreadLocalRandom.current().nextDouble() < sampleRate)) {
+                sampled.addFirst(summary != null ? summary : trace.summarize());
+                if (sampled.size() > keepSampled) {
+                    sampled.removeLast();
+                }
+            }
+        }
+    }
+
+    /**
+     * Traces an aggregation: as part of the request trace in the context if there is
+     * one, else as a trace of its own (e.g. a push refresh).
+     */
+    public <T> Mono<T> traceAggregation(Mono<T> aggregation) {
+        if (!enabled) {
+            return aggregation;
+        }
+        return Mono.deferContextual(ctx -> {
+            RequestTrace current = RequestTrace.current(ctx);
+            if (current != null) {
+                return aggregation.doOnSuccess(value -> current.onAggregated());
+            }
+            RequestTrace own = start("aggregate", null);
+            return aggregation
+                    .doOnSuccess(value -> {
+                        own.onAggregated();
+                        finish(own, false);
+                    })
+                    .doOnError(e -> finish(own, true))
+                    .doOnCancel(() -> finish(own, false))
+                    .contextWrite(RequestTrace.context(own));
+        });
+    }
+
+    /**
+     * Traces one source of an aggregation as a span of the current request trace.
+     */
+    public <T> Mono<T> traceSource(String source, Mono<T> call) {
+        if (!enabled) {
+            return call;
+        }
+        return Mono.deferContextual(ctx -> {
+            RequestTrace trace = RequestTrace.current(ctx);
+            if (trace == null) {
+                return call;
+            }
+            SourceSpan span = trace.span(source);
+            span.onSubscribe();
+            return call
+                    .doOnSuccess(value -> span.onComplete(false))
+                    .doOnError(e -> span.onComplete(true))
+                    .contextWrite(c -> RequestTrace.withSpan(c, span));
+        });
+    }
+
+    /**
+     * Counts HTTP attempts of the current span, propagates the trace context to the
+     * downstream service and records the first and last byte of the response.
+     */
+    public ExchangeFilterFunction exchangeFilter() {
+        return (request, next) -> Mono.deferContextual(ctx -> {
+            SourceSpan span = enabled ? RequestTrace.currentSpan(ctx) : null;
+            if (span == null) {
+                return next.exchange(request);
+            }
+            span.onAttempt();
+            ClientRequest traced = ClientRequest.from(request)
+                    .header(TRACEPARENT_HEADER, span.traceparent())
+                    .build();
+            return next.exchange(traced).map(response -> {
+                span.onFirstByte();
+                return response.mutate()
+                        .body(body -> body.doOnComplete(span::onLastByte))
+                        .build();
+            });
+        });
+    }
+
+    /**
+     * Reactor Netty {@code doOnRequest} hook: the request is about to be written, so a
+     * connection has been acquired from the pool.
+     */
+    public void onRequestSent(HttpClientRequest request, Connection connection) {
+        SourceSpan span = enabled ? RequestTrace.currentSpan(request.currentContextView()) : null;
+        if (span != null) {
+            span.onRequestSent();
+        }
+    }
+
+    /**
+     * The slowest traces of the current and previous window, slowest first.
+     */
+    public synchronized List<TraceSummary> slowest() {
+        List<Kept> kept = new ArrayList<>(slowest);
+        kept.addAll(previousSlowest);
+        kept.sort(BY_DURATION.reversed());
+        return kept.stream().map(Kept::summary).toList();
+    }
+
+    /**
+     * Failed, slow and randomly sampled traces, most recent first.
+     */
+    public synchronized List<TraceSummary> sampled() {
+        return List.copyOf(sampled);
+    }
+
+    public synchronized Optional<TraceSummary> find(String traceId) {
+        return slowest().stream()
+                .filter(summary -> summary.traceId().equals(traceId))
+                .findFirst()
+                .or(() -> sampled.stream().filter(summary -> summary.traceId().equals(traceId)).findFirst());
+    }
+
+    /**
+     * How often each source gated a request since startup.
+     */
+    public Map<String, Long> gatingCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        gatingCounters.forEach((source, counter) -> counts.put(source, (long) counter.count()));
+        return counts;
+    }
+
+    private record Kept(long durationNanos, TraceSummary summary) {}
+}
@@ -0,0 +1,253 @@
+package com.example.riskdashboardbff.service;
+
+import com.example.riskdashboardbff.model.DashboardViewModel;
+import com.example.riskdashboardbff.model.DashboardViewModel.SectionStatus;
+import com.example.riskdashboardbff.model.DashboardViewModelSerializer;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Takes the cold start out of a deploy.
+ * <p>
+ * The last assembled dashboard is persisted periodically (and on shutdown) to a
+ * checksummed, memory-mapped {@link SnapshotFile}. On startup it is restored as the
+ * last snapshot and its LIVE sections as last-known-good values with their original
+ * age, so early failures and shed requests are answered with real numbers instead of
+ * defaults.
+ * <p>
+ * Once the application is up, connections to every downstream are opened ahead of
+ * demand and a number of synthetic aggregations (including JSON encoding) are run to
+ * get the hot path compiled. Until that has finished or timed out, the {@code warmup}
+ * health indicator keeps the readiness group DOWN, so no traffic is routed here.
+ */
+@Component
+public class DashboardWarmup {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardWarmup.class);
+
+    private final DashboardAggregationService aggregationService;
+    private final LastKnownGoodCache lastKnownGood;
+    private final ObjectMapper objectMapper;
+    private final Map<WebClient, String> pings;
+    private final boolean enabled;
+    private final int connectionsPerHost;
+    private final int passes;
+    private final int concurrency;
+    private final Duration timeout;
+    private final Path snapshotFile;
+    private final Duration persistInterval;
+
+    private final Disposable.Composite subscriptions = Disposables.composite();
+    private volatile boolean complete;
+    private volatile long persistedAtMillis;
+
+    public DashboardWarmup(
+            DashboardAggregationService aggregationService,
+            LastKnownGoodCache lastKnownGood,
+            ObjectMapper objectMapper,
+            WebClient.Builder builder,
+            @Value("${downstream.risk.base-url}") String riskBaseUrl,
+            @Value("${downstream.trading.base-url}") String tradingBaseUrl,
+            @Value("${downstream.ledger.base-url}") String ledgerBaseUrl,
+            @Value("${dashboard.warmup.enabled:true}") boolean enabled,
+            @Value("${dashboard.warmup.connections-per-host:8}") int connectionsPerHost,
+            @Value("${dashboard.warmup.passes:200}") int passes,
+            @Value("${dashboard.warmup.concurrency:4}") int concurrency,
+            @Value("${dashboard.warmup.timeout:PT60S}") Duration timeout,
+            @Value("${dashboard.warmup.snapshot-file:}") String snapshotFile,
+            @Value("${dashboard.warmup.persist-interval:PT30S}") Duration persistInterval
+    ) {
+        this.aggregationService = aggregationService;
+        this.lastKnownGood = lastKnownGood;
+        this.objectMapper = objectMapper;
+        this.pings = Map.of(
+                builder.baseUrl(riskBaseUrl).build(), "/api/risk/ping",
+                builder.baseUrl(tradingBaseUrl).build(), "/api/trading/ping",
+                builder.baseUrl(ledgerBaseUrl).build(), "/api/ledger/ping");
+        this.enabled = enabled;
+        this.connectionsPerHost = connectionsPerHost;
+        this.passes = passes;
+        this.concurrency = Math.max(1, concurrency);
+        this.timeout = timeout;
+        this.snapshotFile = snapshotFile == null || snapshotFile.isBlank() ? null : Path.of(snapshotFile);
+        this.persistInterval = persistInterval;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (snapshotFile == null) {
+            return;
+        }
+        restore();
+        subscriptions.add(Flux.interval(persistInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> Mono.fromRunnable(this::persist)
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .onErrorResume(e -> {
+                            log.warn("Failed to persist dashboard snapshot: {}", e.getMessage());
+                            return Mono.empty();
+                        }))
+                .subscribe());
+    }
+
+    @PreDestroy
+    public void stop() {
+        subscriptions.dispose();
+        if (snapshotFile != null) {
+            try {
+                persist();
+            } catch (RuntimeException e) {
+                log.warn("Failed to persist dashboard snapshot on shutdown: {}", e.getMessage());
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        subscriptions.add(warmUp().subscribe());
+    }
+
+    /**
+     * Whether warmup has finished (or was not configured); gates readiness.
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    Mono<Void> warmUp() {
+        if (!enabled) {
+            complete = true;
+            return Mono.empty();
+        }
+        long start = System.nanoTime();
+        return preopenConnections()
+                .then(Flux.range(0, passes)
+                        .flatMap(pass -> aggregationService.aggregate()
+                                .doOnNext(this::encode)
+                                .onErrorResume(e -> Mono.empty()), concurrency)
+                        .then())
+                .timeout(timeout)
+                .onErrorResume(e -> {
+                    log.warn("Warmup did not finish within {}: {}", timeout, e.toString());
+                    return Mono.empty();
+                })
+                .doFinally(signal -> {
+                    complete = true;
+                    log.info("Warmup finished after {} ms", Duration.ofNanos(System.nanoTime() - start).toMillis());
+                });
+    }
+
+    /**
+     * Opens {@code connections-per-host} pooled connections to every downstream by
+     * pinging it concurrently, so first requests don't pay TCP setup.
+     */
+    private Mono<Void> preopenConnections() {
+        return Flux.fromIterable(pings.entrySet())
+                .flatMap(ping -> Flux.range(0, connectionsPerHost)
+                        .flatMap(i -> ping.getKey().get()
+                                .uri(ping.getValue())
+                                .retrieve()
+                                .toBodilessEntity()
+                                .onErrorResume(e -> Mono.empty())))
+                .then();
+    }
+
+    private void encode(DashboardViewModel viewModel) {
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(OutputStream.nullOutputStream())) {
+            DashboardViewModelSerializer.write(viewModel, gen);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    void persist() {
+        DashboardAggregationService.Snapshot snapshot = aggregationService.latestSnapshot();
+        if (snapshot == null || snapshot.assembledAtMillis() <= persistedAtMillis) {
+            return;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+                objectMapper.writeValue(gzip, snapshot.viewModel());
+            }
+            SnapshotFile.write(snapshotFile, bytes.toByteArray(), snapshot.assembledAtMillis());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        persistedAtMillis = snapshot.assembledAtMillis();
+    }
+
+    void restore() {
+        DashboardViewModel viewModel;
+        long savedAt;
+        try {
+            SnapshotFile.Contents contents = SnapshotFile.read(snapshotFile);
+            if (contents == null) {
+                log.info("No valid dashboard snapshot at {}, starting cold", snapshotFile);
+                return;
+            }
+            try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(contents.payload()))) {
+                viewModel = objectMapper.readValue(gzip, DashboardViewModel.class);
+            }
+            savedAt = contents.savedAtMillis();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable dashboard snapshot at {}: {}", snapshotFile, e.getMessage());
+            return;
+        }
+        aggregationService.restoreSnapshot(viewModel, savedAt);
+        persistedAtMillis = savedAt;
+        Map<String, SectionStatus> statuses = viewModel.sectionStatus() == null ? Map.of() : viewModel.sectionStatus();
+        for (DashboardSection section : DashboardSection.values()) {
+            Object value = sectionValue(viewModel, section);
+            SectionStatus status = statuses.get(section.key());
+            if (value != null && status != null && SectionStatus.LIVE.equals(status.state())) {
+                lastKnownGood.restore(section, value, savedAt);
+            }
+        }
+        log.info("Restored dashboard snapshot from {} ({} ms old)", snapshotFile, System.currentTimeMillis() - savedAt);
+    }
+
+    /**
+     * The value of a section that is fetched through the last-known-good cache, or
+     * {@code null} for sections that are not.
+     */
+    private static Object sectionValue(DashboardViewModel viewModel, DashboardSection section) {
+        return switch (section) {
+            case RISK_SUMMARY -> viewModel.riskSummary();
+            case TRADING_SUMMARY -> viewModel.tradingSummary();
+            case LATENCY_METRICS -> viewModel.latencyMetrics();
+            case RISK_ACCOUNTS -> viewModel.riskAccounts();
+            case RISK_METRICS -> viewModel.riskMetrics();
+            case OPEN_ORDERS -> viewModel.openOrders();
+            case RECENT_FILLS -> viewModel.recentFills();
+            case ACCOUNT_BALANCES -> viewModel.accountBalances();
+            case RECENT_TRANSACTIONS -> viewModel.recentTransactions();
+            case TOP_RISKY_ACCOUNTS, HEALTH -> null;
+        };
+    }
+}
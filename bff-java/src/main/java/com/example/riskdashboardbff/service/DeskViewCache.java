@@ -0,0 +1,131 @@
+package com.example.riskdashboardbff.service;
+
+import com.example.riskdashboardbff.jfr.CacheLookupEvent;
+import com.example.riskdashboardbff.model.DashboardViewModel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serves filtered desk views of the dashboard (see {@link DashboardFilter}).
+ * <p>
+ * Assembled views are cached per filter key for {@code ttl} in a {@link TinyLfuCache}
+ * bounded by the total number of rows it holds, so the views of busy desks stay in
+ * memory while rarely requested combinations are not admitted at their expense.
+ * Concurrent misses for the same filter share one aggregation. The unfiltered
+ * dashboard is not cached here; it has its own caching per section.
+ */
+@Service
+public class DeskViewCache {
+
+    private final DashboardAggregationService aggregationService;
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final TinyLfuCache<String, CachedView> cache;
+    private final Map<String, Mono<DashboardViewModel>> inFlight = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    public DeskViewCache(
+            DashboardAggregationService aggregationService,
+            MeterRegistry meterRegistry,
+            @Value("${dashboard.desk.cache.enabled:true}") boolean enabled,
+            @Value("${dashboard.desk.cache.ttl:PT2S}") Duration ttl,
+            @Value("${dashboard.desk.cache.max-rows:200000}") long maxRows,
+            @Value("${dashboard.desk.cache.expected-views:256}") int expectedViews
+    ) {
+        this.aggregationService = aggregationService;
+        this.enabled = enabled;
+        this.ttlMillis = ttl.toMillis();
+        this.cache = new TinyLfuCache<>(maxRows, expectedViews, CachedView::rows);
+        this.hits = Counter.builder("dashboard.desk.cache.requests").tag("result", "hit")
+                .description("Desk view requests answered from the cache")
+                .register(meterRegistry);
+        this.misses = Counter.builder("dashboard.desk.cache.requests").tag("result", "miss")
+                .description("Desk view requests that had to be aggregated")
+                .register(meterRegistry);
+        Gauge.builder("dashboard.desk.cache.rows", cache, TinyLfuCache::weight)
+                .description("Rows held by cached desk views")
+                .register(meterRegistry);
+        Gauge.builder("dashboard.desk.cache.size", cache, TinyLfuCache::size)
+                .description("Cached desk views")
+                .register(meterRegistry);
+        FunctionCounter.builder("dashboard.desk.cache.evictions", cache, TinyLfuCache::evictions)
+                .description("Desk views evicted or not admitted for size")
+                .register(meterRegistry);
+    }
+
+    /**
+     * The cached view for the filter while it is fresh, or empty on a miss. Answering
+     * from here costs no aggregation, so callers can serve it ahead of admission
+     * control. The unfiltered dashboard is never cached here.
+     */
+    public Optional<DashboardViewModel> fresh(DashboardFilter filter) {
+        if (filter.isEmpty() || !enabled) {
+            return Optional.empty();
+        }
+        String key = filter.key();
+        CachedView cached = cache.get(key);
+        if (cached != null && System.currentTimeMillis() - cached.assembledAtMillis() <= ttlMillis) {
+            hits.increment();
+            CacheLookupEvent.record("desk-view", key, true);
+            return Optional.of(cached.viewModel());
+        }
+        misses.increment();
+        CacheLookupEvent.record("desk-view", key, false);
+        return Optional.empty();
+    }
+
+    /**
+     * Aggregates the dashboard restricted to the filter without looking in the cache
+     * (see {@link #fresh}). Concurrent calls for the same filter share one aggregation,
+     * and its result is cached.
+     */
+    public Mono<DashboardViewModel> aggregate(DashboardFilter filter) {
+        if (filter.isEmpty()) {
+            return aggregationService.aggregate();
+        }
+        if (!enabled) {
+            return aggregationService.aggregate(filter);
+        }
+        return inFlight.computeIfAbsent(filter.key(), k -> aggregationService.aggregate(filter)
+                .doOnNext(viewModel -> cache.put(k, new CachedView(viewModel, System.currentTimeMillis())))
+                .doFinally(signal -> inFlight.remove(k))
+                .cache());
+    }
+
+    /**
+     * The last cached view for the filter regardless of age, with every section marked
+     * STALE as of when it was assembled, for callers that must answer without
+     * aggregating (load shedding).
+     */
+    public Optional<DashboardViewModel> peek(DashboardFilter filter) {
+        CachedView cached = enabled ? cache.get(filter.key()) : null;
+        return Optional.ofNullable(cached)
+                .map(view -> DashboardAggregationService.stale(view.viewModel(), view.assembledAtMillis()));
+    }
+
+    private record CachedView(DashboardViewModel viewModel, long assembledAtMillis) {
+
+        int rows() {
+            DashboardViewModel vm = viewModel;
+            return 1 + size(vm.topRiskyAccounts()) + size(vm.riskAccounts()) + size(vm.riskMetrics())
+                    + size(vm.openOrders()) + size(vm.recentFills()) + size(vm.accountBalances())
+                    + size(vm.recentTransactions()) + size(vm.enrichedAccounts());
+        }
+
+        private static int size(List<?> rows) {
+            return rows == null ? 0 : rows.size();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.riskdashboardbff.service;
+
+import org.springframework.stereotype.Component;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.SocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps a handle on the metrics of every downstream connection pool so that the
+ * number of requests waiting to acquire a connection can be read without going
+ * through a meter registry.
+ */
+@Component
+public class DownstreamPoolMetrics implements ConnectionProvider.MeterRegistrar {
+
+    private final Map<String, ConnectionPoolMetrics> pools = new ConcurrentHashMap<>();
+
+    @Override
+    public void registerMetrics(String poolName, String id, SocketAddress remoteAddress, ConnectionPoolMetrics metrics) {
+        pools.put(id, metrics);
+    }
+
+    @Override
+    public void deRegisterMetrics(String poolName, String id, SocketAddress remoteAddress) {
+        pools.remove(id);
+    }
+
+    /**
+     * Total number of requests waiting for a connection across all downstream pools.
+     */
+    public int pendingAcquireSize() {
+        int total = 0;
+        for (ConnectionPoolMetrics metrics : pools.values()) {
+            total += metrics.pendingAcquireSize();
+        }
+        return total;
+    }
+}
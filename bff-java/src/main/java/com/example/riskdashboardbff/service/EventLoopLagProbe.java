@@ -0,0 +1,125 @@
+package com.example.riskdashboardbff.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.util.concurrent.EventExecutor;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.ReactorResourceFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Measures how long a task submitted to each Reactor Netty event loop waits before it
+ * runs. A healthy loop picks it up within microseconds; lag in the tens of milliseconds
+ * means the loop is saturated or something is blocking it.
+ * <p>
+ * Every probe is recorded in the {@code dashboard.event-loop.lag} histogram of its loop
+ * thread (tag {@code loop}), so one stuck loop shows up even when the others are idle.
+ */
+@Component
+public class EventLoopLagProbe {
+
+    private final ReactorResourceFactory resourceFactory;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Duration interval;
+
+    private final Map<EventExecutor, LoopState> loops = new ConcurrentHashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    public EventLoopLagProbe(
+            ReactorResourceFactory resourceFactory,
+            MeterRegistry meterRegistry,
+            @Value("${dashboard.load.event-loop-probe.enabled:true}") boolean enabled,
+            @Value("${dashboard.load.event-loop-probe.interval:PT0.1S}") Duration interval
+    ) {
+        this.resourceFactory = resourceFactory;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.interval = interval;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "event-loop-lag-probe");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::probe, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Highest lag currently observed across all event loops, including a probe that
+     * has been submitted but has not run yet.
+     */
+    public long maxLagMillis() {
+        long now = System.nanoTime();
+        long max = 0;
+        for (LoopState state : loops.values()) {
+            max = Math.max(max, state.currentLagNanos(now));
+        }
+        return TimeUnit.NANOSECONDS.toMillis(max);
+    }
+
+    private void probe() {
+        for (EventExecutor loop : resourceFactory.getLoopResources().onServer(true)) {
+            LoopState state = loops.computeIfAbsent(loop, key -> new LoopState());
+            long submittedAt = System.nanoTime();
+            // Don't stack probes on a loop that hasn't run the previous one yet.
+            if (!state.pendingSince.compareAndSet(0, submittedAt)) {
+                continue;
+            }
+            loop.execute(() -> {
+                long lag = System.nanoTime() - submittedAt;
+                state.lastLagNanos.set(lag);
+                state.pendingSince.set(0);
+                state.timer(meterRegistry).record(lag, TimeUnit.NANOSECONDS);
+            });
+        }
+    }
+
+    private static final class LoopState {
+        private final AtomicLong pendingSince = new AtomicLong();
+        private final AtomicLong lastLagNanos = new AtomicLong();
+        private Timer timer; // only accessed on the loop thread
+
+        Timer timer(MeterRegistry meterRegistry) {
+            if (timer == null) {
+                timer = Timer.builder("dashboard.event-loop.lag")
+                        .tag("loop", Thread.currentThread().getName())
+                        .description("Delay before a task submitted to the event loop runs")
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofNanos(1_000))
+                        .maximumExpectedValue(Duration.ofSeconds(1))
+                        .register(meterRegistry);
+            }
+            return timer;
+        }
+
+        long currentLagNanos(long now) {
+            long pending = pendingSince.get();
+            long pendingLag = pending == 0 ? 0 : now - pending;
+            return Math.max(lastLagNanos.get(), pendingLag);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.riskdashboardbff.service;
+
+import com.example.riskdashboardbff.jfr.AggregationEvent;
+import com.example.riskdashboardbff.jfr.CacheLookupEvent;
+import com.example.riskdashboardbff.jfr.FallbackEvent;
+import com.example.riskdashboardbff.jfr.SerializationEvent;
+import com.example.riskdashboardbff.jfr.SourceFetchEvent;
+import com.example.riskdashboardbff.model.FlightRecordingStatus;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * On-demand JDK Flight Recorder recording, so a profile can be captured under real
+ * load without restarting the BFF or attaching an agent.
+ * <p>
+ * At most one recording exists at a time. It uses a preset JDK configuration
+ * ({@code default} is designed for continuous production use) with the dashboard
+ * events in {@code com.example.riskdashboardbff.jfr} enabled, keeps at most
+ * {@code max-age} and {@code max-size} of data on disk, and stops by itself after the
+ * requested duration, capped at {@code max-duration}. A dump writes the data recorded
+ * so far to a temporary file, replacing the previous dump.
+ */
+@Service
+public class FlightRecorderService {
+
+    private static final Logger log = LoggerFactory.getLogger(FlightRecorderService.class);
+    private static final String RECORDING_NAME = "dashboard";
+    private static final List<String> EVENTS = List.of(
+            AggregationEvent.NAME, SourceFetchEvent.NAME, FallbackEvent.NAME, CacheLookupEvent.NAME, SerializationEvent.NAME);
+
+    private final String settings;
+    private final Duration maxAge;
+    private final DataSize maxSize;
+    private final Duration maxDuration;
+
+    private Recording recording; // guarded by this
+    private Path lastDump; // guarded by this
+
+    public FlightRecorderService(
+            @Value("${dashboard.jfr.settings:default}") String settings,
+            @Value("${dashboard.jfr.max-age:PT15M}") Duration maxAge,
+            @Value("${dashboard.jfr.max-size:200MB}") DataSize maxSize,
+            @Value("${dashboard.jfr.max-duration:PT30M}") Duration maxDuration
+    ) {
+        this.settings = settings;
+        this.maxAge = maxAge;
+        this.maxSize = maxSize;
+        this.maxDuration = maxDuration;
+    }
+
+    /**
+     * Starts a recording for {@code duration} (or {@code max-duration} if {@code null});
+     * a running recording is left as it is.
+     */
+    public synchronized FlightRecordingStatus start(Duration duration) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return status();
+        }
+        closeRecording();
+        Map<String, String> eventSettings;
+        try {
+            eventSettings = new HashMap<>(Configuration.getConfiguration(settings).getSettings());
+        } catch (IOException | ParseException e) {
+            throw new IllegalStateException("Cannot load JFR settings '" + settings + "'", e);
+        }
+        for (String event : EVENTS) {
+            eventSettings.put(event + "#enabled", "true");
+        }
+        // Sections served from memory take microseconds; only record real fetches.
+        eventSettings.put(SourceFetchEvent.NAME + "#threshold", "1 ms");
+
+        Recording started = new Recording(eventSettings);
+        started.setName(RECORDING_NAME);
+        started.setToDisk(true);
+        started.setMaxAge(maxAge);
+        started.setMaxSize(maxSize.toBytes());
+        started.setDuration(duration == null || duration.compareTo(maxDuration) > 0 ? maxDuration : duration);
+        started.start();
+        recording = started;
+        log.info("Started flight recording with '{}' settings for {}", settings, started.getDuration());
+        return status();
+    }
+
+    public synchronized FlightRecordingStatus stop() {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+            log.info("Stopped flight recording");
+        }
+        return status();
+    }
+
+    /**
+     * Writes the data of the current recording to a file and returns it.
+     *
+     * @throws IllegalStateException if no recording has been started
+     */
+    public synchronized Path dump() {
+        if (recording == null) {
+            throw new IllegalStateException("No flight recording has been started");
+        }
+        try {
+            Path file = Files.createTempFile("dashboard-", ".jfr");
+            recording.dump(file);
+            deleteLastDump();
+            lastDump = file;
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot dump flight recording", e);
+        }
+    }
+
+    public synchronized FlightRecordingStatus status() {
+        if (recording == null) {
+            return new FlightRecordingStatus("NEW", settings, null, null, maxAge.toString(), maxSize.toBytes(), 0);
+        }
+        boolean running = recording.getState() == RecordingState.RUNNING;
+        return new FlightRecordingStatus(
+                recording.getState().name(),
+                settings,
+                recording.getStartTime() != null ? recording.getStartTime().toString() : null,
+                running && recording.getStartTime() != null && recording.getDuration() != null
+                        ? recording.getStartTime().plus(recording.getDuration()).toString() : null,
+                maxAge.toString(),
+                maxSize.toBytes(),
+                recording.getSize());
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        closeRecording();
+        deleteLastDump();
+    }
+
+    private void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private void deleteLastDump() {
+        if (lastDump != null) {
+            try {
+                Files.deleteIfExists(lastDump);
+            } catch (IOException e) {
+                log.warn("Cannot delete flight recording dump {}: {}", lastDump, e.getMessage());
+            }
+            lastDump = null;
+        }
+    }
+}
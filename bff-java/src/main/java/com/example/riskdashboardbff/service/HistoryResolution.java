@@ -0,0 +1,62 @@
+package com.example.riskdashboardbff.service;
+
+/**
+ * Resolutions kept by {@link KpiHistory}, each as a ring of {@code capacity} buckets
+ * of {@code stepMillis}: one hour of seconds, one day of minutes and 30 days of hours.
+ */
+public enum HistoryResolution {
+
+    SECOND("1s", 1_000L, 3_600),
+    MINUTE("1m", 60_000L, 1_440),
+    HOUR("1h", 3_600_000L, 720);
+
+    private final String key;
+    private final long stepMillis;
+    private final int capacity;
+
+    HistoryResolution(String key, long stepMillis, int capacity) {
+        this.key = key;
+        this.stepMillis = stepMillis;
+        this.capacity = capacity;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    public long stepMillis() {
+        return stepMillis;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public long retentionMillis() {
+        return stepMillis * capacity;
+    }
+
+    /**
+     * Looks up a resolution by its key ({@code 1s}, {@code 1m}, {@code 1h}), or returns {@code null}.
+     */
+    public static HistoryResolution fromKey(String key) {
+        for (HistoryResolution resolution : values()) {
+            if (resolution.key.equals(key)) {
+                return resolution;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The finest resolution that still retains {@code fromMillis} as of {@code nowMillis}.
+     */
+    public static HistoryResolution covering(long fromMillis, long nowMillis) {
+        for (HistoryResolution resolution : values()) {
+            if (nowMillis - fromMillis < resolution.retentionMillis()) {
+                return resolution;
+            }
+        }
+        return HOUR;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.riskdashboardbff.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Materialized view of the latest row per key (e.g. open orders by order id, balances
+ * by account id), maintained incrementally from change events.
+ * <p>
+ * Readers get an immutable list snapshot that is rebuilt at most once per batch of
+ * changes, so repeated reads between changes are O(1).
+ */
+public class KeyedView<T> {
+
+    private final Function<T, String> keyExtractor;
+    private final Map<String, T> rows = new LinkedHashMap<>();
+    private volatile List<T> snapshot = List.of();
+    private volatile boolean dirty;
+
+    public KeyedView(Function<T, String> keyExtractor) {
+        this.keyExtractor = keyExtractor;
+    }
+
+    public synchronized void upsert(T row) {
+        rows.put(keyExtractor.apply(row), row);
+        dirty = true;
+    }
+
+    public synchronized void remove(String key) {
+        if (rows.remove(key) != null) {
+            dirty = true;
+        }
+    }
+
+    /**
+     * Replaces the whole view, used when resyncing from a full fetch.
+     */
+    public synchronized void reset(Collection<T> all) {
+        rows.clear();
+        for (T row : all) {
+            rows.put(keyExtractor.apply(row), row);
+        }
+        dirty = true;
+    }
+
+    public List<T> snapshot() {
+        if (!dirty) {
+            return snapshot;
+        }
+        synchronized (this) {
+            if (dirty) {
+                snapshot = List.copyOf(new ArrayList<>(rows.values()));
+                dirty = false;
+            }
+            return snapshot;
+        }
+    }
+}
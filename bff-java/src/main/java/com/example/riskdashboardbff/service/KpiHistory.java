@@ -0,0 +1,125 @@
+package com.example.riskdashboardbff.service;
+
+import com.example.riskdashboardbff.model.DashboardViewModel;
+import com.example.riskdashboardbff.model.DashboardViewModel.SectionStatus;
+import com.example.riskdashboardbff.model.HistorySeries;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * History of the summary KPIs of the dashboard at 1 s, 1 min and 1 h resolution.
+ * <p>
+ * Every assembled view model is recorded into fixed-size rings (see
+ * {@link TimeSeriesStore}), rolled up into all resolutions on write, so memory use is
+ * constant and a range query only copies out the buckets it covers. Only sections that
+ * were LIVE are recorded; stale or placeholder values would flatten the history. With
+ * {@code dashboard.history.file} set, the rings are memory-mapped from that file and
+ * history survives restarts.
+ */
+@Service
+public class KpiHistory {
+
+    private final boolean enabled;
+    private final TimeSeriesStore store;
+
+    public KpiHistory(
+            @Value("${dashboard.history.enabled:true}") boolean enabled,
+            @Value("${dashboard.history.file:}") String file
+    ) {
+        this.enabled = enabled;
+        this.store = enabled
+                ? TimeSeriesStore.open(DashboardKpi.values().length, layoutFingerprint(),
+                        file.isBlank() ? null : Path.of(file))
+                : null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Records the KPIs of the LIVE sections of {@code viewModel} as of {@code nowMillis}.
+     */
+    public void record(DashboardViewModel viewModel, long nowMillis) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (store) {
+            for (DashboardKpi kpi : DashboardKpi.values()) {
+                if (isLive(viewModel, kpi.section())) {
+                    store.record(kpi.ordinal(), nowMillis, kpi.valueOf(viewModel));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the history of {@code kpis} over {@code [fromMillis, toMillis]}. Without a
+     * resolution, the finest one that still retains {@code fromMillis} is used.
+     */
+    public List<HistorySeries> query(
+            List<DashboardKpi> kpis,
+            HistoryResolution resolution,
+            long fromMillis,
+            long toMillis,
+            long nowMillis
+    ) {
+        if (!enabled) {
+            throw new IllegalArgumentException("KPI history is disabled");
+        }
+        if (fromMillis > toMillis) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        HistoryResolution effective = resolution != null
+                ? resolution : HistoryResolution.covering(fromMillis, nowMillis);
+        List<HistorySeries> result = new ArrayList<>(kpis.size());
+        synchronized (store) {
+            for (DashboardKpi kpi : kpis) {
+                result.add(new HistorySeries(kpi.key(), effective.key(),
+                        store.range(kpi.ordinal(), effective, fromMillis, Math.min(toMillis, nowMillis))));
+            }
+        }
+        return result;
+    }
+
+    @PreDestroy
+    public void close() {
+        if (store != null) {
+            synchronized (store) {
+                store.close();
+            }
+        }
+    }
+
+    private static boolean isLive(DashboardViewModel viewModel, DashboardSection section) {
+        SectionStatus status = viewModel.sectionStatus() == null ? null : viewModel.sectionStatus().get(section.key());
+        return status != null && SectionStatus.LIVE.equals(status.state()) && switch (section) {
+            case RISK_SUMMARY -> viewModel.riskSummary() != null;
+            case TRADING_SUMMARY -> viewModel.tradingSummary() != null;
+            case LATENCY_METRICS -> viewModel.latencyMetrics() != null;
+            case HEALTH -> viewModel.health() != null;
+            default -> false;
+        };
+    }
+
+    /**
+     * Identifies the slot layout, so that a history file written for a different set of
+     * KPIs or ring sizes is discarded instead of being misread.
+     */
+    private static long layoutFingerprint() {
+        long hash = 1125899906842597L;
+        for (DashboardKpi kpi : DashboardKpi.values()) {
+            hash = 31 * hash + kpi.key().hashCode();
+        }
+        for (HistoryResolution resolution : HistoryResolution.values()) {
+            hash = 31 * hash + resolution.stepMillis();
+            hash = 31 * hash + resolution.capacity();
+        }
+        return hash;
+    }
+}
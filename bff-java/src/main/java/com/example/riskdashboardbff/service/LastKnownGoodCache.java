@@ -0,0 +1,223 @@
+package com.example.riskdashboardbff.service;
+
+import com.example.riskdashboardbff.jfr.CacheLookupEvent;
+import com.example.riskdashboardbff.jfr.FallbackEvent;
+import com.example.riskdashboardbff.model.DashboardViewModel.SectionStatus;
+import com.example.riskdashboardbff.model.columnar.ColumnarLists;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+/**
+ * In-memory cache of the last successfully fetched value per dashboard section. It
+ * holds at most one entry per {@link DashboardSection}, so it needs no eviction.
+ * <p>
+ * When a downstream call fails, the cached value is served instead of an empty/zero
+ * default so the dashboard keeps showing meaningful numbers. After a failure the
+ * section enters a short negative-cache window during which concurrent requests are
+ * served from the cache directly instead of hitting the failing downstream again.
+ * <p>
+ * The freshness of every served value is reported into a per-request map carried in
+ * the Reactor context (see {@link #track(Map)}), which the aggregation service turns
+ * into section metadata on the view model.
+ * <p>
+ * Large row lists are stored in their columnar, dictionary-encoded form (see
+ * {@link ColumnarLists}), and that form is also what the protected call emits, so a
+ * fetched list is converted once and the record copies become garbage right away.
+ * <p>
+ * Fallbacks and cache lookups are recorded as {@link FallbackEvent} and
+ * {@link CacheLookupEvent} while a flight recording is running.
+ */
+@Component
+public class LastKnownGoodCache {
+
+    private static final Logger log = LoggerFactory.getLogger(LastKnownGoodCache.class);
+    private static final String STATUS_CONTEXT_KEY = LastKnownGoodCache.class.getName() + ".statuses";
+
+    private final long maxStalenessMillis;
+    private final long negativeTtlMillis;
+
+    private final Map<DashboardSection, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<DashboardSection, Long> failedUntil = new ConcurrentHashMap<>();
+
+    public LastKnownGoodCache(
+            @Value("${dashboard.fallback.max-staleness:PT10M}") Duration maxStaleness,
+            @Value("${dashboard.fallback.negative-ttl:PT5S}") Duration negativeTtl
+    ) {
+        this.maxStalenessMillis = maxStaleness.toMillis();
+        this.negativeTtlMillis = negativeTtl.toMillis();
+    }
+
+    /**
+     * Returns a context that collects the freshness of every section served through
+     * this cache during the request into the given map.
+     */
+    public static Context track(Map<String, SectionStatus> statuses) {
+        return Context.of(STATUS_CONTEXT_KEY, statuses);
+    }
+
+    /**
+     * Protects a downstream call: successful values are remembered, failures are
+     * replaced with the last-known-good value (or {@code defaultValue} if none is
+     * available) and open a negative-cache window for the section.
+     */
+    public <T> Mono<T> withFallback(DashboardSection section, Mono<T> call, T defaultValue) {
+        return Mono.deferContextual(ctx -> {
+            if (isNegativelyCached(section)) {
+                return Mono.just(fallback(section, defaultValue, ctx, null));
+            }
+            return call
+                    .map(value -> put(section, value))
+                    .onErrorResume(e -> {
+                        log.error("Failed to fetch {} after retries: {}", section.key(), e.getMessage());
+                        failedUntil.put(section, System.currentTimeMillis() + negativeTtlMillis);
+                        return Mono.just(fallback(section, defaultValue, ctx, e));
+                    });
+        });
+    }
+
+    /**
+     * Protects a downstream call that fetches only part of the section, such as a
+     * filtered list: the result is not remembered (it is not the section value), and
+     * on failure the last-known-good value is narrowed with {@code narrow} before it
+     * is served.
+     */
+    public <T> Mono<T> withPartialFallback(DashboardSection section, Mono<T> call, T defaultValue, UnaryOperator<T> narrow) {
+        return Mono.deferContextual(ctx -> {
+            if (isNegativelyCached(section)) {
+                return Mono.just(narrow.apply(fallback(section, defaultValue, ctx, null)));
+            }
+            return call.onErrorResume(e -> {
+                log.error("Failed to fetch part of {} after retries: {}", section.key(), e.getMessage());
+                failedUntil.put(section, System.currentTimeMillis() + negativeTtlMillis);
+                return Mono.just(narrow.apply(fallback(section, defaultValue, ctx, e)));
+            });
+        });
+    }
+
+    /**
+     * Records a successfully fetched value for the section and returns the form in
+     * which it is stored, which is equal to {@code value} but possibly columnar.
+     */
+    public <T> T put(DashboardSection section, T value) {
+        T stored = ColumnarLists.compact(value);
+        entries.put(section, new Entry(stored, System.currentTimeMillis()));
+        failedUntil.remove(section);
+        return stored;
+    }
+
+    /**
+     * Seeds the section with a value stored at {@code storedAtMillis}, e.g. from a
+     * snapshot persisted before a restart, unless a newer value is already cached. The
+     * original timestamp is kept so the value ages out and is reported as usual.
+     */
+    public <T> void restore(DashboardSection section, T value, long storedAtMillis) {
+        if (System.currentTimeMillis() - storedAtMillis > maxStalenessMillis) {
+            return;
+        }
+        Entry restored = new Entry(ColumnarLists.compact(value), storedAtMillis);
+        entries.merge(section, restored,
+                (current, candidate) -> current.storedAtMillis() >= candidate.storedAtMillis() ? current : candidate);
+    }
+
+    /**
+     * Returns the cached value for the section if it is still within the staleness bound.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T peek(DashboardSection section) {
+        Entry entry = entries.get(section);
+        if (entry == null || System.currentTimeMillis() - entry.storedAtMillis() > maxStalenessMillis) {
+            return null;
+        }
+        return (T) entry.value();
+    }
+
+    /**
+     * Returns the cached value for the section if it was stored at most {@code maxAge}
+     * ago, reporting it as LIVE as of that time into the given per-request status map.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T peekFresh(DashboardSection section, Duration maxAge, Map<String, SectionStatus> statuses) {
+        Entry entry = entries.get(section);
+        long now = System.currentTimeMillis();
+        if (entry == null || now - entry.storedAtMillis() > maxAge.toMillis()) {
+            CacheLookupEvent.record("last-known-good", section.key(), false);
+            return null;
+        }
+        CacheLookupEvent.record("last-known-good", section.key(), true);
+        statuses.put(section.key(), new SectionStatus(
+                SectionStatus.LIVE,
+                Instant.ofEpochMilli(entry.storedAtMillis()).toString(),
+                now - entry.storedAtMillis()
+        ));
+        return (T) entry.value();
+    }
+
+    public boolean isNegativelyCached(DashboardSection section) {
+        Long until = failedUntil.get(section);
+        return until != null && until > System.currentTimeMillis();
+    }
+
+    /**
+     * The value served instead of a call to the downstream service, which failed with
+     * {@code error} or, if that is {@code null}, was skipped during the negative-cache
+     * window.
+     */
+    private <T> T fallback(DashboardSection section, T defaultValue, ContextView ctx, Throwable error) {
+        Map<String, SectionStatus> statuses = ctx.<Map<String, SectionStatus>>getOrEmpty(STATUS_CONTEXT_KEY)
+                .orElse(null);
+        T cached = serveCached(section, statuses);
+        FallbackEvent event = new FallbackEvent();
+        if (event.shouldCommit()) {
+            Entry entry = entries.get(section);
+            event.section = section.key();
+            event.reason = error != null ? "error" : "negative-cache";
+            event.error = error != null ? error.getMessage() : null;
+            event.served = cached != null ? "stale" : "default";
+            event.age = cached != null && entry != null ? System.currentTimeMillis() - entry.storedAtMillis() : -1;
+            event.commit();
+        }
+        if (cached != null) {
+            return cached;
+        }
+        if (statuses != null) {
+            statuses.put(section.key(), new SectionStatus(SectionStatus.DEFAULT, null, -1));
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Returns the cached value for the section (or {@code null}) and, if one is served,
+     * reports it as STALE into the given per-request status map.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T serveCached(DashboardSection section, Map<String, SectionStatus> statuses) {
+        Entry entry = entries.get(section);
+        long now = System.currentTimeMillis();
+        if (entry == null || now - entry.storedAtMillis() > maxStalenessMillis) {
+            CacheLookupEvent.record("last-known-good", section.key(), false);
+            return null;
+        }
+        CacheLookupEvent.record("last-known-good", section.key(), true);
+        if (statuses != null) {
+            statuses.put(section.key(), new SectionStatus(
+                    SectionStatus.STALE,
+                    Instant.ofEpochMilli(entry.storedAtMillis()).toString(),
+                    now - entry.storedAtMillis()
+            ));
+        }
+        return (T) entry.value();
+    }
+
+    private record Entry(Object value, long storedAtMillis) {}
+}
@@ -17,16 +17,19 @@ public class LatencyMetricsClient {
     private final WebClient riskClient;
     private final WebClient tradingClient;
     private final WebClient ledgerClient;
+    private final LastKnownGoodCache lastKnownGood;
 
     public LatencyMetricsClient(
             WebClient.Builder builder,
             @Value("${downstream.risk.base-url}") String riskBaseUrl,
             @Value("${downstream.trading.base-url}") String tradingBaseUrl,
-            @Value("${downstream.ledger.base-url}") String ledgerBaseUrl
+            @Value("${downstream.ledger.base-url}") String ledgerBaseUrl,
+            LastKnownGoodCache lastKnownGood
     ) {
         this.riskClient = builder.baseUrl(riskBaseUrl).build();
         this.tradingClient = builder.baseUrl(tradingBaseUrl).build();
         this.ledgerClient = builder.baseUrl(ledgerBaseUrl).build();
+        this.lastKnownGood = lastKnownGood;
     }
 
     public Mono<LatencyMetrics> measureLatencies() {
@@ -34,12 +37,13 @@ public class LatencyMetricsClient {
         Mono<Double> tradingLatency = measure(tradingClient, "/api/trading/ping");
         Mono<Double> ledgerLatency = measure(ledgerClient, "/api/ledger/ping");
 
-        return Mono.zip(riskLatency, tradingLatency, ledgerLatency)
+        Mono<LatencyMetrics> call = Mono.zip(riskLatency, tradingLatency, ledgerLatency)
                 .map(tuple -> new LatencyMetrics(
                         tuple.getT1(),
                         tuple.getT2(),
                         tuple.getT3()
                 ));
+        return lastKnownGood.withFallback(DashboardSection.LATENCY_METRICS, call, new LatencyMetrics(0.0, 0.0, 0.0));
     }
 
     private Mono<Double> measure(WebClient client, String path) {
@@ -2,15 +2,15 @@ package com.example.riskdashboardbff.service;
 
 import com.example.riskdashboardbff.model.DashboardViewModel.AccountBalance;
 import com.example.riskdashboardbff.model.DashboardViewModel.Transaction;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
-import reactor.util.retry.Retry;
 
 import java.time.Duration;
 import java.util.Collections;
@@ -18,52 +18,89 @@ import java.util.List;
 
 /**
  * WebClient-based client that calls the mock ledger service container.
- * Includes timeout, retry, and fallback mechanisms for production-grade resilience.
+ * Includes timeout, retry, and fallback mechanisms for production-grade resilience;
+ * retries are limited by the {@link RetryBudget} of the downstream host.
+ * Failed calls fall back to the last-known-good value held in {@link LastKnownGoodCache}.
+ * In passthrough mode list responses are kept as raw JSON (see {@link RawJsonBodies}).
  */
 @Service
 public class LedgerMetricsClient implements LedgerServiceClient {
 
-    private static final Logger log = LoggerFactory.getLogger(LedgerMetricsClient.class);
     private static final Duration TIMEOUT = Duration.ofSeconds(5);
-    private static final int MAX_RETRIES = 2;
 
     private final WebClient webClient;
+    private final String baseUrl;
+    private final RetryBudget retryBudget;
+    private final LastKnownGoodCache lastKnownGood;
+    private final boolean passthrough;
+    private final ObjectReader balancesReader;
+    private final ObjectReader transactionsReader;
 
     public LedgerMetricsClient(
             WebClient.Builder builder,
-            @Value("${downstream.ledger.base-url}") String baseUrl
+            @Value("${downstream.ledger.base-url}") String baseUrl,
+            LastKnownGoodCache lastKnownGood,
+            RetryBudget retryBudget,
+            ObjectMapper objectMapper,
+            @Value("${dashboard.passthrough.enabled:false}") boolean passthrough
     ) {
         this.webClient = builder.baseUrl(baseUrl).build();
+        this.baseUrl = baseUrl;
+        this.retryBudget = retryBudget;
+        this.lastKnownGood = lastKnownGood;
+        this.passthrough = passthrough;
+        this.balancesReader = objectMapper.readerFor(new TypeReference<List<AccountBalance>>() {});
+        this.transactionsReader = objectMapper.readerFor(new TypeReference<List<Transaction>>() {});
     }
 
     public Mono<List<AccountBalance>> fetchAccountBalances() {
-        return webClient.get()
-                .uri("/api/ledger/balances")
-                .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<List<AccountBalance>>() {})
-                .timeout(TIMEOUT)
-                .retryWhen(Retry.backoff(MAX_RETRIES, Duration.ofMillis(100))
-                        .filter(this::isRetryable)
-                        .doBeforeRetry(signal -> log.warn("Retrying fetchAccountBalances, attempt {}", signal.totalRetries() + 1)))
-                .onErrorResume(e -> {
-                    log.error("Failed to fetch account balances after retries: {}", e.getMessage());
-                    return Mono.just(Collections.emptyList());
-                });
+        return lastKnownGood.withFallback(DashboardSection.ACCOUNT_BALANCES,
+                fetchBalances(DashboardFilter.NONE), Collections.emptyList());
+    }
+
+    public Mono<List<AccountBalance>> fetchAccountBalances(DashboardFilter filter) {
+        if (filter.accountIds().isEmpty()) {
+            return fetchAccountBalances();
+        }
+        return lastKnownGood.withPartialFallback(DashboardSection.ACCOUNT_BALANCES, fetchBalances(filter),
+                Collections.emptyList(), balances -> filter.narrowByAccount(balances, AccountBalance::accountId));
     }
 
     public Mono<List<Transaction>> fetchRecentTransactions() {
-        return webClient.get()
-                .uri("/api/ledger/transactions")
-                .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<List<Transaction>>() {})
+        return lastKnownGood.withFallback(DashboardSection.RECENT_TRANSACTIONS,
+                fetchTransactions(DashboardFilter.NONE), Collections.emptyList());
+    }
+
+    public Mono<List<Transaction>> fetchRecentTransactions(DashboardFilter filter) {
+        if (filter.accountIds().isEmpty()) {
+            return fetchRecentTransactions();
+        }
+        return lastKnownGood.withPartialFallback(DashboardSection.RECENT_TRANSACTIONS, fetchTransactions(filter),
+                Collections.emptyList(), transactions -> filter.narrowByAccount(transactions, Transaction::accountId));
+    }
+
+    private Mono<List<AccountBalance>> fetchBalances(DashboardFilter filter) {
+        WebClient.ResponseSpec response = webClient.get()
+                .uri(uri -> filter.applyTo(uri.path("/api/ledger/balances"), false).build())
+                .retrieve();
+        Mono<List<AccountBalance>> body = passthrough
+                ? RawJsonBodies.list(response, balancesReader)
+                : response.bodyToMono(new ParameterizedTypeReference<List<AccountBalance>>() {});
+        return body
+                .timeout(TIMEOUT)
+                .retryWhen(retryBudget.retry(baseUrl, "fetchAccountBalances", this::isRetryable));
+    }
+
+    private Mono<List<Transaction>> fetchTransactions(DashboardFilter filter) {
+        WebClient.ResponseSpec response = webClient.get()
+                .uri(uri -> filter.applyTo(uri.path("/api/ledger/transactions"), false).build())
+                .retrieve();
+        Mono<List<Transaction>> body = passthrough
+                ? RawJsonBodies.list(response, transactionsReader)
+                : response.bodyToMono(new ParameterizedTypeReference<List<Transaction>>() {});
+        return body
                 .timeout(TIMEOUT)
-                .retryWhen(Retry.backoff(MAX_RETRIES, Duration.ofMillis(100))
-                        .filter(this::isRetryable)
-                        .doBeforeRetry(signal -> log.warn("Retrying fetchRecentTransactions, attempt {}", signal.totalRetries() + 1)))
-                .onErrorResume(e -> {
-                    log.error("Failed to fetch recent transactions after retries: {}", e.getMessage());
-                    return Mono.just(Collections.emptyList());
-                });
+                .retryWhen(retryBudget.retry(baseUrl, "fetchRecentTransactions", this::isRetryable));
     }
 
     private boolean isRetryable(Throwable throwable) {
@@ -14,13 +14,27 @@ public interface LedgerServiceClient {
     
     /**
      * Fetches the list of account balances.
-     * @return Mono containing the list of account balances, or empty list on failure
+     * @return Mono containing the list of account balances, or the last-known-good (else empty) list on failure
      */
     Mono<List<AccountBalance>> fetchAccountBalances();
+
+    /**
+     * Fetches the balances of the filter's accounts, filtered by the ledger service. The
+     * ledger does not know books, so a book filter has to be applied by the caller.
+     * @return Mono containing the matching balances, or the matching last-known-good (else empty) balances on failure
+     */
+    Mono<List<AccountBalance>> fetchAccountBalances(DashboardFilter filter);
     
     /**
      * Fetches the list of recent transactions.
-     * @return Mono containing the list of recent transactions, or empty list on failure
+     * @return Mono containing the list of recent transactions, or the last-known-good (else empty) list on failure
      */
     Mono<List<Transaction>> fetchRecentTransactions();
+
+    /**
+     * Fetches the recent transactions of the filter's accounts, filtered by the ledger
+     * service. A book filter has to be applied by the caller.
+     * @return Mono containing the matching transactions, or the matching last-known-good (else empty) ones on failure
+     */
+    Mono<List<Transaction>> fetchRecentTransactions(DashboardFilter filter);
 }
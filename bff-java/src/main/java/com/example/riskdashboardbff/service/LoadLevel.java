@@ -0,0 +1,40 @@
+package com.example.riskdashboardbff.service;
+
+/**
+ * Coarse load level of the BFF and the degradation policy applied at each level.
+ */
+public enum LoadLevel {
+
+    NORMAL,
+    ELEVATED,
+    CRITICAL;
+
+    /**
+     * How a section is produced for a single request.
+     */
+    public enum SectionMode {
+        /** Fetch from the downstream service. */
+        LIVE,
+        /** Serve the last-known-good value without calling the downstream service. */
+        CACHE_ONLY,
+        /** Do not produce the section at all. */
+        SKIP
+    }
+
+    /**
+     * Degradation policy: LOW sections go cache-only when load is elevated and are
+     * skipped when it is critical; NORMAL sections go cache-only when it is critical.
+     * CRITICAL sections are always fetched live.
+     */
+    public SectionMode modeFor(SectionPriority priority) {
+        return switch (priority) {
+            case CRITICAL -> SectionMode.LIVE;
+            case NORMAL -> this == CRITICAL ? SectionMode.CACHE_ONLY : SectionMode.LIVE;
+            case LOW -> switch (this) {
+                case NORMAL -> SectionMode.LIVE;
+                case ELEVATED -> SectionMode.CACHE_ONLY;
+                case CRITICAL -> SectionMode.SKIP;
+            };
+        };
+    }
+}
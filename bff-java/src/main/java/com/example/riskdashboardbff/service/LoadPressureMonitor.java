@@ -0,0 +1,70 @@
+package com.example.riskdashboardbff.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Derives the current {@link LoadLevel} from three pressure signals: dashboard requests
+ * in flight, requests waiting for a downstream connection, and event-loop lag. The
+ * highest level reached by any signal wins.
+ */
+@Component
+public class LoadPressureMonitor {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final DownstreamPoolMetrics poolMetrics;
+    private final EventLoopLagProbe lagProbe;
+
+    private final int elevatedInFlight;
+    private final int criticalInFlight;
+    private final int elevatedPendingAcquire;
+    private final int criticalPendingAcquire;
+    private final long elevatedLagMillis;
+    private final long criticalLagMillis;
+
+    public LoadPressureMonitor(
+            AdaptiveConcurrencyLimiter limiter,
+            DownstreamPoolMetrics poolMetrics,
+            EventLoopLagProbe lagProbe,
+            @Value("${dashboard.load.elevated.in-flight:50}") int elevatedInFlight,
+            @Value("${dashboard.load.critical.in-flight:100}") int criticalInFlight,
+            @Value("${dashboard.load.elevated.pending-acquire:20}") int elevatedPendingAcquire,
+            @Value("${dashboard.load.critical.pending-acquire:100}") int criticalPendingAcquire,
+            @Value("${dashboard.load.elevated.event-loop-lag-ms:50}") long elevatedLagMillis,
+            @Value("${dashboard.load.critical.event-loop-lag-ms:200}") long criticalLagMillis,
+            MeterRegistry meterRegistry
+    ) {
+        this.limiter = limiter;
+        this.poolMetrics = poolMetrics;
+        this.lagProbe = lagProbe;
+        this.elevatedInFlight = elevatedInFlight;
+        this.criticalInFlight = criticalInFlight;
+        this.elevatedPendingAcquire = elevatedPendingAcquire;
+        this.criticalPendingAcquire = criticalPendingAcquire;
+        this.elevatedLagMillis = elevatedLagMillis;
+        this.criticalLagMillis = criticalLagMillis;
+        Gauge.builder("dashboard.load.level", this, monitor -> monitor.currentLevel().ordinal())
+                .description("Current load level (0 = normal, 1 = elevated, 2 = critical)")
+                .register(meterRegistry);
+    }
+
+    public LoadLevel currentLevel() {
+        int inFlight = limiter.getInFlight();
+        int pendingAcquire = poolMetrics.pendingAcquireSize();
+        long lagMillis = lagProbe.maxLagMillis();
+
+        if (inFlight >= criticalInFlight
+                || pendingAcquire >= criticalPendingAcquire
+                || lagMillis >= criticalLagMillis) {
+            return LoadLevel.CRITICAL;
+        }
+        if (inFlight >= elevatedInFlight
+                || pendingAcquire >= elevatedPendingAcquire
+                || lagMillis >= elevatedLagMillis) {
+            return LoadLevel.ELEVATED;
+        }
+        return LoadLevel.NORMAL;
+    }
+}
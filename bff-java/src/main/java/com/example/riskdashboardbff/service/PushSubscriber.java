@@ -0,0 +1,99 @@
+package com.example.riskdashboardbff.service;
+
+import com.example.riskdashboardbff.model.PushSubscriberStats;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * One subscriber of the {@link DashboardPushService}. It holds at most one undelivered
+ * frame: a newer frame replaces it (latest-value conflation), so a slow consumer skips
+ * intermediate snapshots instead of buffering them. Frames are only emitted against
+ * downstream demand.
+ */
+public final class PushSubscriber {
+
+    private final String id;
+    private final long connectedAtMillis;
+    private final AtomicReference<byte[]> pending = new AtomicReference<>();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong conflated = new AtomicLong();
+    private final Flux<byte[]> frames;
+    private volatile FluxSink<byte[]> sink;
+    private volatile boolean writing;
+
+    PushSubscriber(String id, Consumer<PushSubscriber> onCancel) {
+        this.id = id;
+        this.connectedAtMillis = System.currentTimeMillis();
+        this.frames = Flux.create(sink -> {
+            this.sink = sink;
+            sink.onRequest(n -> drain());
+            sink.onDispose(() -> onCancel.accept(this));
+            drain();
+        });
+    }
+
+    public String id() {
+        return id;
+    }
+
+    /**
+     * The frames for this subscriber; subscribe once. Frames are shared between
+     * subscribers and must not be modified.
+     */
+    public Flux<byte[]> frames() {
+        return frames;
+    }
+
+    /**
+     * Marks whether a frame is currently being written, for the queue depth.
+     */
+    public void writing(boolean writing) {
+        this.writing = writing;
+    }
+
+    void offer(byte[] frame, Runnable onConflated) {
+        if (pending.getAndSet(frame) != null) {
+            conflated.incrementAndGet();
+            onConflated.run();
+        }
+        drain();
+    }
+
+    /**
+     * Pending frames, 0 or 1, plus the frame being written, 0 or 1.
+     */
+    int queueDepth() {
+        return (pending.get() != null ? 1 : 0) + (writing ? 1 : 0);
+    }
+
+    PushSubscriberStats stats() {
+        return new PushSubscriberStats(id, Instant.ofEpochMilli(connectedAtMillis).toString(),
+                sent.get(), conflated.get(), queueDepth());
+    }
+
+    private void drain() {
+        FluxSink<byte[]> target = sink;
+        if (target == null || wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            while (target.requestedFromDownstream() > 0) {
+                byte[] frame = pending.getAndSet(null);
+                if (frame == null) {
+                    break;
+                }
+                sent.incrementAndGet();
+                target.next(frame);
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+}
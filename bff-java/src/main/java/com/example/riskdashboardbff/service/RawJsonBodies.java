@@ -0,0 +1,37 @@
+package com.example.riskdashboardbff.service;
+
+import com.example.riskdashboardbff.model.RawJsonList;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Reads downstream list responses as raw JSON for passthrough mode.
+ */
+final class RawJsonBodies {
+
+    private RawJsonBodies() {
+    }
+
+    /**
+     * Reads the response body into a {@link RawJsonList} without decoding it. The pooled
+     * buffer is copied once and released immediately, since the list may outlive the
+     * request in the last-known-good cache.
+     */
+    static <T> Mono<List<T>> list(WebClient.ResponseSpec response, ObjectReader reader) {
+        return response.bodyToMono(DataBuffer.class)
+                .map(buffer -> {
+                    try {
+                        byte[] json = new byte[buffer.readableByteCount()];
+                        buffer.read(json);
+                        return RawJsonList.of(json, reader);
+                    } finally {
+                        DataBufferUtils.release(buffer);
+                    }
+                });
+    }
+}
@@ -0,0 +1,276 @@
+package com.example.riskdashboardbff.service;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.lettuce.core.resource.ClientResources;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+/**
+ * Local copies of hot Redis keys (such as the top risky accounts), kept coherent by
+ * Redis itself through RESP3 client tracking.
+ * <p>
+ * A dedicated connection turns on {@code CLIENT TRACKING} in broadcast mode for the
+ * configured key prefixes, so Redis pushes an invalidation on it whenever a key under
+ * one of them changes, whichever connection wrote it. Reads keep going through their
+ * usual template; a value read while tracking was on is kept and served locally until
+ * its key is invalidated. Every invalidation bumps an epoch, and a value is only kept
+ * if no invalidation arrived since before it was read, so a change racing the read
+ * cannot leave a stale copy behind. The tracking connection does not reconnect by
+ * itself: when it drops, invalidations may have been missed, so the whole cache is
+ * cleared and reads pass through until a new tracking connection is up.
+ * <p>
+ * Keys outside the prefixes are never cached, nor are empty reads. Bounded to
+ * {@code max-entries} keys (LRU).
+ */
+@Component
+public class RedisClientCache {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisClientCache.class);
+    private static final Duration CONNECT_RETRY_INTERVAL = Duration.ofSeconds(1);
+
+    private final Supplier<CompletionStage<StatefulRedisConnection<String, String>>> connector;
+    private final String[] prefixes;
+    private final Map<String, Object> entries;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter invalidations;
+
+    // All guarded by this.
+    private long epoch;
+    private StatefulRedisConnection<String, String> connection;
+    private boolean connecting;
+    private long nextConnectNanos = System.nanoTime();
+
+    @Autowired
+    public RedisClientCache(
+            LettuceConnectionFactory connectionFactory,
+            ClientResources clientResources,
+            MeterRegistry meterRegistry,
+            @Value("${dashboard.redis.client-cache.enabled:true}") boolean enabled,
+            @Value("${dashboard.redis.client-cache.max-entries:1024}") int maxEntries,
+            @Value("${dashboard.redis.client-cache.prefixes:top:}") String[] prefixes
+    ) {
+        this(enabled ? new LettuceConnector(RedisClient.create(clientResources), connectionFactory) : null,
+                meterRegistry, maxEntries, prefixes);
+    }
+
+    /**
+     * @param connector opens the tracking connection, or {@code null} to pass all reads
+     *                  through
+     */
+    RedisClientCache(
+            Supplier<CompletionStage<StatefulRedisConnection<String, String>>> connector,
+            MeterRegistry meterRegistry,
+            int maxEntries,
+            String... prefixes
+    ) {
+        this.connector = connector;
+        this.prefixes = prefixes;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Object> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.hits = Counter.builder("dashboard.redis.client-cache.requests").tag("result", "hit")
+                .description("Reads of tracked Redis keys served from the local copy")
+                .register(meterRegistry);
+        this.misses = Counter.builder("dashboard.redis.client-cache.requests").tag("result", "miss")
+                .description("Reads of tracked Redis keys that went to Redis")
+                .register(meterRegistry);
+        this.invalidations = Counter.builder("dashboard.redis.client-cache.invalidations")
+                .description("Local copies dropped because Redis reported a change or tracking was lost")
+                .register(meterRegistry);
+        Gauge.builder("dashboard.redis.client-cache.size", this, RedisClientCache::size)
+                .description("Redis keys with a local copy")
+                .register(meterRegistry);
+    }
+
+    /**
+     * The value of {@code key}: the local copy if there is one, else the result of
+     * {@code read}, which is kept if it is not empty and no change to the key can have
+     * been missed. {@code read} must read {@code key} and nothing else.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> get(String key, Supplier<Mono<T>> read) {
+        if (connector == null || !tracked(key)) {
+            return Mono.defer(read);
+        }
+        return Mono.defer(() -> {
+            long readEpoch;
+            synchronized (this) {
+                readEpoch = trackingEpoch();
+                Object cached = entries.get(key);
+                if (cached != null) {
+                    hits.increment();
+                    return Mono.just((T) cached);
+                }
+            }
+            misses.increment();
+            return read.get().doOnNext(value -> store(key, value, readEpoch));
+        });
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    @PreDestroy
+    public void close() {
+        synchronized (this) {
+            if (connection != null) {
+                connection.closeAsync();
+                connection = null;
+            }
+        }
+        if (connector instanceof LettuceConnector lettuce) {
+            lettuce.client().shutdownAsync();
+        }
+    }
+
+    private boolean tracked(String key) {
+        for (String prefix : prefixes) {
+            if (key.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private synchronized void store(String key, Object value, long readEpoch) {
+        if (readEpoch >= 0 && readEpoch == epoch && connection != null) {
+            entries.put(key, value);
+        }
+    }
+
+    /**
+     * The current epoch if tracking is on, else -1 after starting to re-establish it.
+     */
+    private long trackingEpoch() {
+        if (connection != null && connection.isOpen()) {
+            return epoch;
+        }
+        if (connection != null) {
+            log.warn("Redis client tracking connection lost, dropping {} cached keys", entries.size());
+            connection = null;
+            invalidateAll();
+        }
+        long now = System.nanoTime();
+        if (!connecting && now - nextConnectNanos >= 0) {
+            connecting = true;
+            startTracking();
+        }
+        return connection != null ? epoch : -1;
+    }
+
+    private void startTracking() {
+        connector.get()
+                .thenAccept(opened -> {
+                    opened.addListener(this::onPush);
+                    opened.reactive()
+                            .clientTracking(TrackingArgs.Builder.enabled().bcast().prefixes(prefixes))
+                            .subscribe(ok -> tracking(opened, null), error -> tracking(opened, error));
+                })
+                .exceptionally(error -> {
+                    tracking(null, error);
+                    return null;
+                });
+    }
+
+    private synchronized void tracking(StatefulRedisConnection<String, String> opened, Throwable error) {
+        connecting = false;
+        if (error != null) {
+            nextConnectNanos = System.nanoTime() + CONNECT_RETRY_INTERVAL.toNanos();
+            log.warn("Cannot enable Redis client tracking, reads go to Redis: {}", error.toString());
+            if (opened != null) {
+                opened.closeAsync();
+            }
+            return;
+        }
+        connection = opened;
+        invalidateAll();
+        log.info("Redis client tracking on for prefixes {}", List.of(prefixes));
+    }
+
+    private void onPush(PushMessage message) {
+        if (!"invalidate".equals(message.getType())) {
+            return;
+        }
+        Object keys = message.getContent(StringCodec.UTF8::decodeKey).get(1);
+        synchronized (this) {
+            if (keys instanceof List<?> changed) {
+                epoch++;
+                for (Object key : changed) {
+                    if (entries.remove(key) != null) {
+                        invalidations.increment();
+                    }
+                }
+            } else {
+                // FLUSHALL / FLUSHDB: a null key list invalidates everything.
+                invalidateAll();
+            }
+        }
+    }
+
+    private void invalidateAll() {
+        epoch++;
+        invalidations.increment(entries.size());
+        entries.clear();
+    }
+
+    /**
+     * Opens RESP3 connections to the Redis server Spring Data is configured for, without
+     * automatic reconnects.
+     */
+    private record LettuceConnector(RedisClient client, LettuceConnectionFactory connectionFactory)
+            implements Supplier<CompletionStage<StatefulRedisConnection<String, String>>> {
+
+        LettuceConnector {
+            client.setOptions(ClientOptions.builder()
+                    .protocolVersion(ProtocolVersion.RESP3)
+                    .autoReconnect(false)
+                    .build());
+        }
+
+        @Override
+        public CompletionStage<StatefulRedisConnection<String, String>> get() {
+            RedisStandaloneConfiguration config = connectionFactory.getStandaloneConfiguration();
+            RedisURI.Builder uri = RedisURI.builder()
+                    .withHost(config.getHostName())
+                    .withPort(config.getPort())
+                    .withDatabase(config.getDatabase());
+            config.getPassword().toOptional().ifPresent(password -> {
+                if (config.getUsername() != null) {
+                    uri.withAuthentication(config.getUsername(), password);
+                } else {
+                    uri.withPassword(password);
+                }
+            });
+            return client.connectAsync(StringCodec.UTF8, uri.build());
+        }
+    }
+}
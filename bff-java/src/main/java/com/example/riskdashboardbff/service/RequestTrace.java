@@ -0,0 +1,256 @@
+package com.example.riskdashboardbff.service;
+
+import com.example.riskdashboardbff.model.TraceSummary;
+import com.example.riskdashboardbff.model.TraceSummary.CriticalPath;
+import com.example.riskdashboardbff.model.TraceSummary.Span;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Timeline of one dashboard request, carried in the Reactor context: when it started,
+ * when the aggregation and the response body were ready, and a {@link SourceSpan} per
+ * aggregated source. Recording is a few {@code nanoTime} reads per source, so every
+ * request is traced and {@link DashboardTracer} decides afterwards which ones to keep.
+ */
+public final class RequestTrace {
+
+    private static final String CONTEXT_KEY = RequestTrace.class.getName();
+    private static final String SPAN_CONTEXT_KEY = SourceSpan.class.getName();
+
+    private final String traceId;
+    private final String name;
+    private final long startEpochMillis = System.currentTimeMillis();
+    private final long startNanos = System.nanoTime();
+    private final Queue<SourceSpan> spans = new ConcurrentLinkedQueue<>();
+    private volatile long aggregatedNanos;
+    private volatile long bodyReadyNanos;
+    private volatile long endNanos;
+    private volatile boolean failed;
+
+    RequestTrace(String traceId, String name) {
+        this.traceId = traceId != null ? traceId : randomHex(16);
+        this.name = name;
+    }
+
+    public static Context context(RequestTrace trace) {
+        return Context.of(CONTEXT_KEY, trace);
+    }
+
+    /**
+     * The trace of the request the context belongs to, or {@code null}.
+     */
+    public static RequestTrace current(ContextView ctx) {
+        return ctx.getOrDefault(CONTEXT_KEY, null);
+    }
+
+    static SourceSpan currentSpan(ContextView ctx) {
+        return ctx.getOrDefault(SPAN_CONTEXT_KEY, null);
+    }
+
+    static Context withSpan(Context ctx, SourceSpan span) {
+        return ctx.put(SPAN_CONTEXT_KEY, span);
+    }
+
+    public String traceId() {
+        return traceId;
+    }
+
+    SourceSpan span(String source) {
+        SourceSpan span = new SourceSpan(source);
+        spans.add(span);
+        return span;
+    }
+
+    void onAggregated() {
+        aggregatedNanos = System.nanoTime();
+    }
+
+    /**
+     * Marks the encoded response body as ready to be written.
+     */
+    public void onBodyReady() {
+        if (bodyReadyNanos == 0) {
+            bodyReadyNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Ends the trace; returns {@code false} if it had already ended.
+     */
+    synchronized boolean finish(boolean failed) {
+        if (endNanos != 0) {
+            return false;
+        }
+        this.failed = failed;
+        this.endNanos = System.nanoTime();
+        return true;
+    }
+
+    long durationNanos() {
+        return endNanos - startNanos;
+    }
+
+    boolean failed() {
+        return failed;
+    }
+
+    /**
+     * The source the request waited for last, or {@code null} if nothing was aggregated.
+     */
+    String gatingSource() {
+        SourceSpan gating = gating(completedSpans());
+        return gating != null ? gating.source : null;
+    }
+
+    TraceSummary summarize() {
+        List<SourceSpan> completed = completedSpans();
+        SourceSpan gating = gating(completed);
+        CriticalPath criticalPath = null;
+        if (gating != null) {
+            long runnerUp = startNanos;
+            for (SourceSpan span : completed) {
+                if (span != gating) {
+                    runnerUp = Math.max(runnerUp, span.completedNanos);
+                }
+            }
+            boolean remote = gating.attempts.get() > 0 && gating.requestSentNanos != 0;
+            criticalPath = new CriticalPath(
+                    gating.source,
+                    millis(gating.completedNanos - gating.subscribedNanos),
+                    millis(gating.completedNanos - runnerUp),
+                    Math.max(0, gating.attempts.get() - 1),
+                    remote ? millis(gating.lastAttemptNanos - gating.firstAttemptNanos) : 0,
+                    millis(gating.poolAcquireNanos),
+                    remote && gating.firstByteNanos != 0 ? millis(gating.firstByteNanos - gating.requestSentNanos) : 0,
+                    gating.lastByteNanos != 0 ? millis(gating.lastByteNanos - gating.firstByteNanos) : 0,
+                    gating.lastByteNanos != 0 ? millis(gating.completedNanos - gating.lastByteNanos) : 0,
+                    aggregatedNanos != 0 ? millis(aggregatedNanos - gating.completedNanos) : 0,
+                    aggregatedNanos != 0 && bodyReadyNanos != 0 ? millis(bodyReadyNanos - aggregatedNanos) : 0);
+        }
+        List<Span> result = new ArrayList<>(completed.size());
+        for (SourceSpan span : completed) {
+            result.add(span.summarize());
+        }
+        return new TraceSummary(traceId, name, Instant.ofEpochMilli(startEpochMillis).toString(),
+                millis(durationNanos()), failed, criticalPath, result);
+    }
+
+    private List<SourceSpan> completedSpans() {
+        List<SourceSpan> completed = new ArrayList<>();
+        for (SourceSpan span : spans) {
+            if (span.completedNanos != 0) {
+                completed.add(span);
+            }
+        }
+        completed.sort(Comparator.comparingLong(span -> span.subscribedNanos));
+        return completed;
+    }
+
+    private static SourceSpan gating(List<SourceSpan> completed) {
+        SourceSpan gating = null;
+        for (SourceSpan span : completed) {
+            if (gating == null || span.completedNanos > gating.completedNanos) {
+                gating = span;
+            }
+        }
+        return gating;
+    }
+
+    private double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    static String randomHex(int bytes) {
+        byte[] random = new byte[bytes];
+        ThreadLocalRandom.current().nextBytes(random);
+        return HexFormat.of().formatHex(random);
+    }
+
+    /**
+     * One aggregated source: subscription to completion, and for a downstream call
+     * every HTTP attempt, the wait for a pooled connection, the first and last
+     * response byte of the last attempt and so the decode time after it.
+     */
+    final class SourceSpan {
+
+        final String source;
+        final String spanId = randomHex(8);
+        final AtomicInteger attempts = new AtomicInteger();
+        volatile long subscribedNanos;
+        volatile long firstAttemptNanos;
+        volatile long lastAttemptNanos;
+        volatile long poolAcquireNanos;
+        volatile long requestSentNanos;
+        volatile long firstByteNanos;
+        volatile long lastByteNanos;
+        volatile long completedNanos;
+        volatile boolean failed;
+
+        SourceSpan(String source) {
+            this.source = source;
+        }
+
+        String traceparent() {
+            return "00-" + traceId + "-" + spanId + "-01";
+        }
+
+        void onSubscribe() {
+            subscribedNanos = System.nanoTime();
+        }
+
+        void onAttempt() {
+            long now = System.nanoTime();
+            if (attempts.getAndIncrement() == 0) {
+                firstAttemptNanos = now;
+            }
+            lastAttemptNanos = now;
+            requestSentNanos = 0;
+            firstByteNanos = 0;
+            lastByteNanos = 0;
+        }
+
+        void onRequestSent() {
+            long now = System.nanoTime();
+            poolAcquireNanos += now - lastAttemptNanos;
+            requestSentNanos = now;
+        }
+
+        void onFirstByte() {
+            firstByteNanos = System.nanoTime();
+        }
+
+        void onLastByte() {
+            lastByteNanos = System.nanoTime();
+        }
+
+        void onComplete(boolean failed) {
+            if (completedNanos == 0) {
+                this.failed = failed;
+                completedNanos = System.nanoTime();
+            }
+        }
+
+        Span summarize() {
+            return new Span(
+                    source,
+                    spanId,
+                    millis(subscribedNanos - startNanos),
+                    millis(completedNanos - subscribedNanos),
+                    attempts.get(),
+                    millis(poolAcquireNanos),
+                    firstByteNanos != 0 ? millis(firstByteNanos - subscribedNanos) : -1,
+                    lastByteNanos != 0 ? millis(completedNanos - lastByteNanos) : -1,
+                    failed);
+        }
+    }
+}
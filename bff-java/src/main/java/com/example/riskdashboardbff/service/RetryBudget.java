@@ -0,0 +1,172 @@
+package com.example.riskdashboardbff.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/**
+ * Retry policy shared by all downstream clients: a token bucket per downstream host
+ * that caps retries at a fraction of the successful traffic to that host.
+ * <p>
+ * Every successful response deposits {@code ratio} tokens (counted by
+ * {@link #exchangeFilter()} for every request to the host, whichever client made it)
+ * and every retry withdraws one. The bucket also refills at {@code min-per-second} so
+ * that a host with little traffic can still be retried, and holds at most
+ * {@code max-tokens}. When it is empty a failure is not retried but passed on to the
+ * fallback, so a struggling host sees at most {@code 1 + ratio} times its successful
+ * load instead of {@code 1 + max-retries} times every request. Retries that are
+ * allowed wait a full-jitter backoff: uniformly random between zero and the
+ * exponential delay of the attempt, so that the retries of many requests that failed
+ * together do not arrive together.
+ */
+@Component
+public class RetryBudget {
+
+    private static final Logger log = LoggerFactory.getLogger(RetryBudget.class);
+
+    private final MeterRegistry meterRegistry;
+    private final int maxRetries;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+    private final double ratio;
+    private final double minPerSecond;
+    private final double maxTokens;
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    public RetryBudget(
+            MeterRegistry meterRegistry,
+            @Value("${dashboard.retry.max-retries:2}") int maxRetries,
+            @Value("${dashboard.retry.base-backoff:PT0.1S}") Duration baseBackoff,
+            @Value("${dashboard.retry.max-backoff:PT2S}") Duration maxBackoff,
+            @Value("${dashboard.retry.budget.ratio:0.1}") double ratio,
+            @Value("${dashboard.retry.budget.min-per-second:5}") double minPerSecond,
+            @Value("${dashboard.retry.budget.max-tokens:20}") double maxTokens
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.maxRetries = maxRetries;
+        this.baseBackoff = baseBackoff;
+        this.maxBackoff = maxBackoff;
+        this.ratio = ratio;
+        this.minPerSecond = minPerSecond;
+        this.maxTokens = maxTokens;
+    }
+
+    /**
+     * Retry spec for calls to the host of {@code baseUrl}: retries failures matching
+     * {@code retryable} up to {@code max-retries} times while the budget of the host
+     * allows it.
+     *
+     * @param operation name of the call, for logging
+     */
+    public Retry retry(String baseUrl, String operation, Predicate<Throwable> retryable) {
+        Bucket bucket = bucket(host(URI.create(baseUrl)));
+        return Retry.from(signals -> signals.concatMap(signal -> {
+            Throwable failure = signal.failure();
+            if (signal.totalRetries() >= maxRetries || !retryable.test(failure)) {
+                return Mono.error(failure);
+            }
+            if (!bucket.tryWithdraw()) {
+                bucket.exhausted.increment();
+                log.warn("Not retrying {}: retry budget for {} exhausted", operation, bucket.host);
+                return Mono.error(failure);
+            }
+            bucket.retries.increment();
+            log.warn("Retrying {}, attempt {}", operation, signal.totalRetries() + 1);
+            return Mono.delay(backoff(signal.totalRetries())).thenReturn(signal.totalRetries());
+        }));
+    }
+
+    /**
+     * Filter for the downstream WebClients that deposits into the budget of the host
+     * for every successful response.
+     */
+    public ExchangeFilterFunction exchangeFilter() {
+        return (request, next) -> next.exchange(request).doOnNext(response -> {
+            if (response.statusCode().is2xxSuccessful()) {
+                bucket(host(request.url())).deposit(ratio);
+            }
+        });
+    }
+
+    /**
+     * Full-jitter delay before retry number {@code retry} (0-based).
+     */
+    Duration backoff(long retry) {
+        long ceiling = baseBackoff.toNanos() << Math.min(retry, 30);
+        ceiling = ceiling <= 0 ? maxBackoff.toNanos() : Math.min(ceiling, maxBackoff.toNanos());
+        return Duration.ofNanos(ThreadLocalRandom.current().nextLong(ceiling + 1));
+    }
+
+    double tokens(String host) {
+        return bucket(host).tokens();
+    }
+
+    private Bucket bucket(String host) {
+        return buckets.computeIfAbsent(host, Bucket::new);
+    }
+
+    private static String host(URI uri) {
+        return uri.getPort() < 0 ? uri.getHost() : uri.getHost() + ":" + uri.getPort();
+    }
+
+    private final class Bucket {
+
+        private final String host;
+        private final Counter retries;
+        private final Counter exhausted;
+        private double tokens = maxTokens; // guarded by this
+        private long refilledAtNanos = System.nanoTime(); // guarded by this
+
+        Bucket(String host) {
+            this.host = host;
+            this.retries = Counter.builder("dashboard.retry.attempts").tag("host", host)
+                    .description("Retries of failed downstream calls allowed by the retry budget")
+                    .register(meterRegistry);
+            this.exhausted = Counter.builder("dashboard.retry.budget.exhausted").tag("host", host)
+                    .description("Retries not made because the retry budget of the host was empty")
+                    .register(meterRegistry);
+            Gauge.builder("dashboard.retry.budget.tokens", this, Bucket::tokens).tag("host", host)
+                    .description("Retries the budget of the host currently allows")
+                    .register(meterRegistry);
+        }
+
+        synchronized void deposit(double amount) {
+            refill();
+            tokens = Math.min(maxTokens, tokens + amount);
+        }
+
+        synchronized boolean tryWithdraw() {
+            refill();
+            if (tokens < 1.0) {
+                return false;
+            }
+            tokens -= 1.0;
+            return true;
+        }
+
+        synchronized double tokens() {
+            refill();
+            return tokens;
+        }
+
+        private void refill() {
+            long now = System.nanoTime();
+            tokens = Math.min(maxTokens, tokens + (now - refilledAtNanos) / 1e9 * minPerSecond);
+            refilledAtNanos = now;
+        }
+    }
+}
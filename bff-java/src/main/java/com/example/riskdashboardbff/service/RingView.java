@@ -0,0 +1,84 @@
+package com.example.riskdashboardbff.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Bounded, append-only materialized view of the most recent rows (e.g. recent fills),
+ * backed by a fixed-size ring. Rows are de-duplicated by id so that events replayed
+ * around a resync are not shown twice.
+ * <p>
+ * Readers get an immutable list snapshot, oldest first, rebuilt at most once per batch
+ * of appends.
+ */
+public class RingView<T> {
+
+    private final Function<T, String> idExtractor;
+    private final Object[] ring;
+    private final Set<String> ids = new HashSet<>();
+    private int head;
+    private int size;
+    private volatile List<T> snapshot = List.of();
+    private volatile boolean dirty;
+
+    public RingView(int capacity, Function<T, String> idExtractor) {
+        this.ring = new Object[capacity];
+        this.idExtractor = idExtractor;
+    }
+
+    @SuppressWarnings("unchecked")
+    public synchronized void append(T row) {
+        String id = idExtractor.apply(row);
+        if (!ids.add(id)) {
+            return;
+        }
+        if (size == ring.length) {
+            ids.remove(idExtractor.apply((T) ring[head]));
+        } else {
+            size++;
+        }
+        ring[head] = row;
+        head = (head + 1) % ring.length;
+        dirty = true;
+    }
+
+    /**
+     * Replaces the whole view, used when resyncing from a full fetch. Only the most
+     * recent {@code capacity} rows are kept.
+     */
+    public synchronized void reset(Collection<T> all) {
+        Arrays.fill(ring, null);
+        ids.clear();
+        head = 0;
+        size = 0;
+        List<T> rows = new ArrayList<>(all);
+        for (T row : rows.subList(Math.max(0, rows.size() - ring.length), rows.size())) {
+            append(row);
+        }
+        dirty = true;
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<T> snapshot() {
+        if (!dirty) {
+            return snapshot;
+        }
+        synchronized (this) {
+            if (dirty) {
+                List<T> rows = new ArrayList<>(size);
+                int start = (head - size + ring.length) % ring.length;
+                for (int i = 0; i < size; i++) {
+                    rows.add((T) ring[(start + i) % ring.length]);
+                }
+                snapshot = List.copyOf(rows);
+                dirty = false;
+            }
+            return snapshot;
+        }
+    }
+}
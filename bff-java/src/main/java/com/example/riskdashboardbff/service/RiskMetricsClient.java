@@ -3,15 +3,12 @@ package com.example.riskdashboardbff.service;
 import com.example.riskdashboardbff.model.DashboardViewModel.RiskSummary;
 import com.example.riskdashboardbff.model.DashboardViewModel.RiskAccount;
 import com.example.riskdashboardbff.model.DashboardViewModel.RiskMetric;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
-import reactor.util.retry.Retry;
 
 import java.time.Duration;
 import java.util.Collections;
@@ -19,67 +16,74 @@ import java.util.List;
 
 /**
  * WebClient-based client that calls the mock risk service container.
- * Includes timeout, retry, and fallback mechanisms for production-grade resilience.
+ * Includes timeout, retry, and fallback mechanisms for production-grade resilience;
+ * retries are limited by the {@link RetryBudget} of the downstream host.
+ * Failed calls fall back to the last-known-good value held in {@link LastKnownGoodCache}.
  */
 @Service
 public class RiskMetricsClient implements RiskServiceClient {
 
-    private static final Logger log = LoggerFactory.getLogger(RiskMetricsClient.class);
     private static final Duration TIMEOUT = Duration.ofSeconds(5);
-    private static final int MAX_RETRIES = 2;
 
     private final WebClient webClient;
+    private final String baseUrl;
+    private final RetryBudget retryBudget;
+    private final LastKnownGoodCache lastKnownGood;
 
     public RiskMetricsClient(
             WebClient.Builder builder,
-            @Value("${downstream.risk.base-url}") String baseUrl
+            @Value("${downstream.risk.base-url}") String baseUrl,
+            LastKnownGoodCache lastKnownGood,
+            RetryBudget retryBudget
     ) {
         this.webClient = builder.baseUrl(baseUrl).build();
+        this.baseUrl = baseUrl;
+        this.retryBudget = retryBudget;
+        this.lastKnownGood = lastKnownGood;
     }
 
     public Mono<RiskSummary> fetchRiskSummary() {
-        return webClient.get()
+        Mono<RiskSummary> call = webClient.get()
                 .uri("/api/risk/summary")
                 .retrieve()
                 .bodyToMono(RiskSummary.class)
                 .timeout(TIMEOUT)
-                .retryWhen(Retry.backoff(MAX_RETRIES, Duration.ofMillis(100))
-                        .filter(this::isRetryable)
-                        .doBeforeRetry(signal -> log.warn("Retrying fetchRiskSummary, attempt {}", signal.totalRetries() + 1)))
-                .onErrorResume(e -> {
-                    log.error("Failed to fetch risk summary after retries: {}", e.getMessage());
-                    return Mono.just(new RiskSummary(0.0, 0.0));
-                });
+                .retryWhen(retryBudget.retry(baseUrl, "fetchRiskSummary", this::isRetryable));
+        return lastKnownGood.withFallback(DashboardSection.RISK_SUMMARY, call, new RiskSummary(0.0, 0.0));
     }
 
     public Mono<List<RiskAccount>> fetchRiskAccounts() {
-        return webClient.get()
+        Mono<List<RiskAccount>> call = webClient.get()
                 .uri("/api/risk/accounts")
                 .retrieve()
                 .bodyToMono(new ParameterizedTypeReference<List<RiskAccount>>() {})
                 .timeout(TIMEOUT)
-                .retryWhen(Retry.backoff(MAX_RETRIES, Duration.ofMillis(100))
-                        .filter(this::isRetryable)
-                        .doBeforeRetry(signal -> log.warn("Retrying fetchRiskAccounts, attempt {}", signal.totalRetries() + 1)))
-                .onErrorResume(e -> {
-                    log.error("Failed to fetch risk accounts after retries: {}", e.getMessage());
-                    return Mono.just(Collections.emptyList());
-                });
+                .retryWhen(retryBudget.retry(baseUrl, "fetchRiskAccounts", this::isRetryable));
+        return lastKnownGood.withFallback(DashboardSection.RISK_ACCOUNTS, call, Collections.emptyList());
+    }
+
+    public Mono<List<RiskAccount>> fetchRiskAccounts(DashboardFilter filter) {
+        if (filter.isEmpty()) {
+            return fetchRiskAccounts();
+        }
+        Mono<List<RiskAccount>> call = webClient.get()
+                .uri(uri -> filter.applyTo(uri.path("/api/risk/accounts"), true).build())
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<List<RiskAccount>>() {})
+                .timeout(TIMEOUT)
+                .retryWhen(retryBudget.retry(baseUrl, "fetchRiskAccounts(" + filter.key() + ")", this::isRetryable));
+        return lastKnownGood.withPartialFallback(DashboardSection.RISK_ACCOUNTS, call, Collections.emptyList(),
+                accounts -> filter.narrow(accounts, RiskAccount::accountId, RiskAccount::book));
     }
 
     public Mono<List<RiskMetric>> fetchRiskMetrics() {
-        return webClient.get()
+        Mono<List<RiskMetric>> call = webClient.get()
                 .uri("/api/risk/metrics")
                 .retrieve()
                 .bodyToMono(new ParameterizedTypeReference<List<RiskMetric>>() {})
                 .timeout(TIMEOUT)
-                .retryWhen(Retry.backoff(MAX_RETRIES, Duration.ofMillis(100))
-                        .filter(this::isRetryable)
-                        .doBeforeRetry(signal -> log.warn("Retrying fetchRiskMetrics, attempt {}", signal.totalRetries() + 1)))
-                .onErrorResume(e -> {
-                    log.error("Failed to fetch risk metrics after retries: {}", e.getMessage());
-                    return Mono.just(Collections.emptyList());
-                });
+                .retryWhen(retryBudget.retry(baseUrl, "fetchRiskMetrics", this::isRetryable));
+        return lastKnownGood.withFallback(DashboardSection.RISK_METRICS, call, Collections.emptyList());
     }
 
     /**
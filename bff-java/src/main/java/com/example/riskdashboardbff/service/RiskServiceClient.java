@@ -15,19 +15,25 @@ public interface RiskServiceClient {
     
     /**
      * Fetches the risk summary from the risk service.
-     * @return Mono containing the risk summary, or a default value on failure
+     * @return Mono containing the risk summary, or the last-known-good (else a default) value on failure
      */
     Mono<RiskSummary> fetchRiskSummary();
     
     /**
      * Fetches the list of risk accounts.
-     * @return Mono containing the list of risk accounts, or empty list on failure
+     * @return Mono containing the list of risk accounts, or the last-known-good (else empty) list on failure
      */
     Mono<List<RiskAccount>> fetchRiskAccounts();
+
+    /**
+     * Fetches the risk accounts accepted by the filter, filtered by the risk service.
+     * @return Mono containing the matching accounts, or the matching last-known-good (else empty) accounts on failure
+     */
+    Mono<List<RiskAccount>> fetchRiskAccounts(DashboardFilter filter);
     
     /**
      * Fetches the list of risk metrics.
-     * @return Mono containing the list of risk metrics, or empty list on failure
+     * @return Mono containing the list of risk metrics, or the last-known-good (else empty) list on failure
      */
     Mono<List<RiskMetric>> fetchRiskMetrics();
 }
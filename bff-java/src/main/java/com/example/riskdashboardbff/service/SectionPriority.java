@@ -0,0 +1,11 @@
+package com.example.riskdashboardbff.service;
+
+/**
+ * Relative importance of a dashboard section. Under load, lower-priority sections
+ * are degraded first so that critical sections keep their latency SLO.
+ */
+public enum SectionPriority {
+    CRITICAL,
+    NORMAL,
+    LOW
+}
@@ -0,0 +1,83 @@
+package com.example.riskdashboardbff.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * A single checksummed payload in a memory-mapped file: a 32-byte header (magic,
+ * version, save time, payload length, CRC32C of the payload) followed by the payload.
+ * <p>
+ * A new payload is written to a sibling temporary file which then atomically replaces
+ * the previous one, so a crash mid-write leaves the old snapshot intact. A file that is
+ * truncated, from another format version or fails its checksum reads as absent.
+ */
+final class SnapshotFile {
+
+    private static final int MAGIC = 0x44534E50; // "DSNP"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+
+    private SnapshotFile() {}
+
+    record Contents(byte[] payload, long savedAtMillis) {}
+
+    static void write(Path file, byte[] payload, long savedAtMillis) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + payload.length);
+            mapped.put(HEADER_BYTES, payload);
+            mapped.putInt(0, MAGIC);
+            mapped.putInt(4, VERSION);
+            mapped.putLong(8, savedAtMillis);
+            mapped.putInt(16, payload.length);
+            mapped.putInt(20, checksum(payload));
+            mapped.force();
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Returns the stored payload, or {@code null} if the file is missing or invalid.
+     */
+    static Contents read(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                return null;
+            }
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int length = mapped.getInt(16);
+            if (mapped.getInt(0) != MAGIC || mapped.getInt(4) != VERSION
+                    || length < 0 || HEADER_BYTES + (long) length != size) {
+                return null;
+            }
+            byte[] payload = new byte[length];
+            mapped.get(HEADER_BYTES, payload);
+            if (checksum(payload) != mapped.getInt(20)) {
+                return null;
+            }
+            return new Contents(payload, mapped.getLong(8));
+        }
+    }
+
+    private static int checksum(byte[] payload) {
+        CRC32C crc = new CRC32C();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.riskdashboardbff.service;
+
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Registry of the {@link DashboardSource}s of an aggregation and the scheduler that
+ * runs them as a dependency graph.
+ * <p>
+ * Every source is subscribed once per run. A source without dependencies starts
+ * immediately, a dependent one the moment its last input is available, so independent
+ * branches never wait for each other and the run takes as long as its longest chain
+ * rather than the sum of its stages. Sources that are ready together are started in
+ * order of priority. Dependencies are checked when the graph is built: unknown or
+ * duplicate keys and cycles are rejected with an {@link IllegalArgumentException}.
+ */
+final class SourceGraph {
+
+    private final List<DashboardSource<?>> ordered;
+
+    private SourceGraph(List<DashboardSource<?>> ordered) {
+        this.ordered = ordered;
+    }
+
+    static SourceGraph of(List<DashboardSource<?>> sources) {
+        Map<SourceKey<?>, DashboardSource<?>> byKey = new LinkedHashMap<>();
+        for (DashboardSource<?> source : sources) {
+            if (byKey.putIfAbsent(source.key(), source) != null) {
+                throw new IllegalArgumentException("Duplicate dashboard source '" + source.key() + "'");
+            }
+        }
+        Map<SourceKey<?>, Integer> missingInputs = new HashMap<>();
+        Map<SourceKey<?>, List<DashboardSource<?>>> dependents = new HashMap<>();
+        for (DashboardSource<?> source : sources) {
+            for (SourceKey<?> dependency : source.dependencies()) {
+                if (!byKey.containsKey(dependency)) {
+                    throw new IllegalArgumentException(
+                            "Dashboard source '" + source.key() + "' depends on unknown source '" + dependency + "'");
+                }
+                dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(source);
+            }
+            missingInputs.put(source.key(), source.dependencies().size());
+        }
+
+        // Kahn's algorithm; among ready sources higher priority first, then declaration order.
+        List<DashboardSource<?>> declared = new ArrayList<>(byKey.values());
+        PriorityQueue<DashboardSource<?>> ready = new PriorityQueue<>(
+                Comparator.<DashboardSource<?>, SectionPriority>comparing(DashboardSource::priority)
+                        .thenComparingInt(declared::indexOf));
+        for (DashboardSource<?> source : sources) {
+            if (source.dependencies().isEmpty()) {
+                ready.add(source);
+            }
+        }
+        List<DashboardSource<?>> ordered = new ArrayList<>(sources.size());
+        while (!ready.isEmpty()) {
+            DashboardSource<?> source = ready.poll();
+            ordered.add(source);
+            for (DashboardSource<?> dependent : dependents.getOrDefault(source.key(), List.of())) {
+                if (missingInputs.merge(dependent.key(), -1, Integer::sum) == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+        if (ordered.size() != sources.size()) {
+            List<SourceKey<?>> cyclic = declared.stream()
+                    .filter(source -> !ordered.contains(source))
+                    .<SourceKey<?>>map(DashboardSource::key)
+                    .toList();
+            throw new IllegalArgumentException("Dashboard sources depend on each other in a cycle: " + cyclic);
+        }
+        return new SourceGraph(List.copyOf(ordered));
+    }
+
+    /**
+     * Sources in the order they are started: every source after its dependencies.
+     */
+    List<DashboardSource<?>> sources() {
+        return ordered;
+    }
+
+    /**
+     * Runs every source for {@code request} with {@code runner} and emits all their values.
+     */
+    Mono<SourceResults> run(DashboardSource.SourceRequest request, Runner runner) {
+        Map<SourceKey<?>, Mono<?>> nodes = new HashMap<>();
+        List<Mono<?>> all = new ArrayList<>(ordered.size());
+        for (DashboardSource<?> source : ordered) {
+            Mono<?> node = node(source, nodes, request, runner);
+            nodes.put(source.key(), node);
+            all.add(node);
+        }
+        return Mono.zip(all, values -> results(ordered, values));
+    }
+
+    private static <T> Mono<T> node(
+            DashboardSource<T> source,
+            Map<SourceKey<?>, Mono<?>> nodes,
+            DashboardSource.SourceRequest request,
+            Runner runner
+    ) {
+        Mono<SourceResults> inputs;
+        if (source.dependencies().isEmpty()) {
+            inputs = Mono.just(SourceResults.EMPTY);
+        } else {
+            List<Mono<?>> dependencies = source.dependencies().stream().<Mono<?>>map(nodes::get).toList();
+            inputs = Mono.zip(dependencies, values -> {
+                Map<SourceKey<?>, Object> byKey = new HashMap<>();
+                for (int i = 0; i < values.length; i++) {
+                    byKey.put(source.dependencies().get(i), values[i]);
+                }
+                return new SourceResults(byKey);
+            });
+        }
+        return inputs
+                .flatMap(values -> runner.run(source, request, values))
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException(
+                        "Dashboard source '" + source.key() + "' produced no value")))
+                // Shared by the dependents and the final zip.
+                .cache();
+    }
+
+    private static SourceResults results(List<DashboardSource<?>> sources, Object[] values) {
+        Map<SourceKey<?>, Object> byKey = new HashMap<>();
+        for (int i = 0; i < values.length; i++) {
+            byKey.put(sources.get(i).key(), values[i]);
+        }
+        return new SourceResults(byKey);
+    }
+
+    /**
+     * Produces the value of a source once its inputs are available, applying whatever
+     * policy the caller has for it.
+     */
+    @FunctionalInterface
+    interface Runner {
+        <T> Mono<T> run(DashboardSource<T> source, DashboardSource.SourceRequest request, SourceResults inputs);
+    }
+}
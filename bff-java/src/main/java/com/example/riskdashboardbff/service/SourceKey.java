@@ -0,0 +1,23 @@
+package com.example.riskdashboardbff.service;
+
+/**
+ * Typed name of a value produced during an aggregation: a dashboard section or a step
+ * derived from sections. Read back from {@link SourceResults} without casts.
+ *
+ * @param <T> type of the value
+ */
+record SourceKey<T>(String name) {
+
+    static <T> SourceKey<T> of(String name) {
+        return new SourceKey<>(name);
+    }
+
+    static <T> SourceKey<T> of(DashboardSection section) {
+        return new SourceKey<>(section.key());
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
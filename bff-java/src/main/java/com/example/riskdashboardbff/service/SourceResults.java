@@ -0,0 +1,31 @@
+package com.example.riskdashboardbff.service;
+
+import java.util.Map;
+
+/**
+ * Values of a set of sources, by key: the inputs handed to a source, or everything an
+ * aggregation produced.
+ */
+final class SourceResults {
+
+    static final SourceResults EMPTY = new SourceResults(Map.of());
+
+    private final Map<SourceKey<?>, Object> values;
+
+    SourceResults(Map<SourceKey<?>, Object> values) {
+        this.values = values;
+    }
+
+    /**
+     * The value of {@code key}, which must be among these results (for a source, one of
+     * its declared dependencies).
+     */
+    @SuppressWarnings("unchecked")
+    <T> T get(SourceKey<T> key) {
+        Object value = values.get(key);
+        if (value == null) {
+            throw new IllegalArgumentException("'" + key + "' is not among " + values.keySet());
+        }
+        return (T) value;
+    }
+}
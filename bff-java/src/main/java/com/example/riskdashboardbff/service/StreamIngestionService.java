@@ -0,0 +1,271 @@
+package com.example.riskdashboardbff.service;
+
+import com.example.riskdashboardbff.model.DashboardViewModel.AccountBalance;
+import com.example.riskdashboardbff.model.DashboardViewModel.SectionStatus;
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingFill;
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingOrder;
+import com.example.riskdashboardbff.model.DashboardViewModel.Transaction;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.stream.StreamReceiver;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Consumes order, fill, transaction and balance events from the mock services' Redis
+ * Streams and keeps in-memory materialized views of the open orders, recent fills,
+ * account balances and recent transactions, so {@code aggregate()} can read those
+ * sections without re-fetching the full lists.
+ * <p>
+ * Each replica reads through its own consumer group so that every replica sees every
+ * event. A full fetch through the regular clients is used only to (re)sync a view:
+ * on startup, when a sequence gap shows that events were missed, and periodically as
+ * a safety net.
+ */
+@Service
+public class StreamIngestionService {
+
+    private static final Logger log = LoggerFactory.getLogger(StreamIngestionService.class);
+    private static final String TRADING_STREAM = "trading:events";
+    private static final String LEDGER_STREAM = "ledger:events";
+
+    private final ReactiveRedisConnectionFactory connectionFactory;
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final TradingServiceClient tradingServiceClient;
+    private final LedgerServiceClient ledgerServiceClient;
+    private final boolean enabled;
+    private final String group;
+    private final Duration resyncInterval;
+
+    private final KeyedView<TradingOrder> openOrders = new KeyedView<>(TradingOrder::orderId);
+    private final RingView<TradingFill> recentFills;
+    private final KeyedView<AccountBalance> accountBalances = new KeyedView<>(AccountBalance::accountId);
+    private final RingView<Transaction> recentTransactions;
+
+    private final Map<String, StreamState> states = new ConcurrentHashMap<>();
+    private final Disposable.Composite subscriptions = Disposables.composite();
+
+    public StreamIngestionService(
+            ReactiveRedisConnectionFactory connectionFactory,
+            ReactiveStringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            TradingServiceClient tradingServiceClient,
+            LedgerServiceClient ledgerServiceClient,
+            @Value("${dashboard.streams.enabled:false}") boolean enabled,
+            @Value("${dashboard.streams.group:bff-${HOSTNAME:local}}") String group,
+            @Value("${dashboard.streams.recent-capacity:500}") int recentCapacity,
+            @Value("${dashboard.streams.resync-interval:PT5M}") Duration resyncInterval
+    ) {
+        this.connectionFactory = connectionFactory;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.tradingServiceClient = tradingServiceClient;
+        this.ledgerServiceClient = ledgerServiceClient;
+        this.enabled = enabled;
+        this.group = group;
+        this.resyncInterval = resyncInterval;
+        this.recentFills = new RingView<>(recentCapacity, TradingFill::fillId);
+        this.recentTransactions = new RingView<>(recentCapacity, Transaction::transactionId);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        StreamReceiver<String, MapRecord<String, String, String>> receiver = StreamReceiver.create(connectionFactory);
+        String consumer = group + "-1";
+        for (String stream : List.of(TRADING_STREAM, LEDGER_STREAM)) {
+            Mono<Void> resetGroup = Mono.defer(() -> resetGroup(stream));
+            subscriptions.add(follow(stream, resetGroup, () -> receiver.receiveAutoAck(
+                    Consumer.from(group, consumer),
+                    StreamOffset.create(stream, ReadOffset.lastConsumed()))).subscribe());
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        subscriptions.dispose();
+    }
+
+    /**
+     * Returns the materialized value of a section, or {@code null} if the section is not
+     * stream-backed or its view is not in sync, in which case callers fetch it normally.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T materialized(DashboardSection section) {
+        if (!enabled) {
+            return null;
+        }
+        return switch (section) {
+            case OPEN_ORDERS -> synced(TRADING_STREAM) ? (T) openOrders.snapshot() : null;
+            case RECENT_FILLS -> synced(TRADING_STREAM) ? (T) recentFills.snapshot() : null;
+            case ACCOUNT_BALANCES -> synced(LEDGER_STREAM) ? (T) accountBalances.snapshot() : null;
+            case RECENT_TRANSACTIONS -> synced(LEDGER_STREAM) ? (T) recentTransactions.snapshot() : null;
+            default -> null;
+        };
+    }
+
+    private boolean synced(String stream) {
+        StreamState state = states.get(stream);
+        return state != null && state.synced;
+    }
+
+    /**
+     * Keeps the views fed by {@code stream} in sync: resets the consumer group with
+     * {@code resetGroup}, resyncs the views from a full fetch and then applies the
+     * {@code events} read from the group. An out-of-sequence or invalid event takes the
+     * views out of sync at once and starts over, after a backoff.
+     */
+    Mono<Void> follow(
+            String stream,
+            Mono<Void> resetGroup,
+            Supplier<Flux<MapRecord<String, String, String>>> events
+    ) {
+        StreamState state = states.computeIfAbsent(stream, key -> new StreamState());
+        Supplier<Mono<Void>> resync = TRADING_STREAM.equals(stream) ? this::resyncTrading : this::resyncLedger;
+        Function<MapRecord<String, String, String>, Boolean> apply =
+                TRADING_STREAM.equals(stream) ? this::applyTradingEvent : this::applyLedgerEvent;
+
+        // (Re)subscribing always starts from "now" and then resyncs the views, so that the
+        // events consumed afterwards are exactly the ones newer than the full fetch.
+        Mono<Void> pipeline = Mono.defer(() -> {
+            state.synced = false;
+            state.lastSeq = 0;
+            return resetGroup
+                    .then(Mono.defer(resync))
+                    .doOnSuccess(done -> {
+                        state.synced = true;
+                        state.lastSyncMillis = System.currentTimeMillis();
+                        log.info("Materialized views for {} resynced", stream);
+                    })
+                    .thenMany(Flux.defer(events))
+                    .handle((record, sink) -> {
+                        if (!inSequence(state, record) || !apply.apply(record)) {
+                            state.synced = false;
+                            sink.error(new IllegalStateException("Out-of-sequence or invalid event on " + stream));
+                            return;
+                        }
+                        if (System.currentTimeMillis() - state.lastSyncMillis > resyncInterval.toMillis()) {
+                            sink.error(new IllegalStateException("Periodic resync of " + stream));
+                        }
+                    })
+                    .then();
+        });
+
+        return pipeline
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofMillis(500))
+                        .maxBackoff(Duration.ofSeconds(30))
+                        .transientErrors(true)
+                        .doBeforeRetry(signal -> log.info("Resyncing {}: {}", stream, signal.failure().getMessage())));
+    }
+
+    private boolean inSequence(StreamState state, MapRecord<String, String, String> record) {
+        long seq = Long.parseLong(record.getValue().getOrDefault("seq", "0"));
+        long expected = state.lastSeq + 1;
+        if (state.lastSeq != 0 && seq > expected) {
+            return false;
+        }
+        state.lastSeq = Math.max(state.lastSeq, seq);
+        return true;
+    }
+
+    private Mono<Void> resetGroup(String stream) {
+        ByteBuffer key = ByteBuffer.wrap(stream.getBytes(StandardCharsets.UTF_8));
+        return redisTemplate.opsForStream().destroyGroup(stream, group)
+                .onErrorResume(e -> Mono.empty())
+                .then(redisTemplate.execute(connection -> connection.streamCommands()
+                        .xGroupCreate(key, group, ReadOffset.latest(), true)).then());
+    }
+
+    private Mono<Void> resyncTrading() {
+        Map<String, SectionStatus> statuses = new ConcurrentHashMap<>();
+        return Mono.zip(tradingServiceClient.fetchOpenOrders(), tradingServiceClient.fetchRecentFills())
+                .contextWrite(LastKnownGoodCache.track(statuses))
+                .flatMap(tuple -> {
+                    if (!statuses.isEmpty()) {
+                        return Mono.error(new IllegalStateException("Trading service unavailable for resync"));
+                    }
+                    openOrders.reset(tuple.getT1());
+                    recentFills.reset(tuple.getT2());
+                    return Mono.<Void>empty();
+                });
+    }
+
+    private Mono<Void> resyncLedger() {
+        Map<String, SectionStatus> statuses = new ConcurrentHashMap<>();
+        return Mono.zip(ledgerServiceClient.fetchAccountBalances(), ledgerServiceClient.fetchRecentTransactions())
+                .contextWrite(LastKnownGoodCache.track(statuses))
+                .flatMap(tuple -> {
+                    if (!statuses.isEmpty()) {
+                        return Mono.error(new IllegalStateException("Ledger service unavailable for resync"));
+                    }
+                    accountBalances.reset(tuple.getT1());
+                    recentTransactions.reset(tuple.getT2());
+                    return Mono.<Void>empty();
+                });
+    }
+
+    private boolean applyTradingEvent(MapRecord<String, String, String> record) {
+        try {
+            Map<String, String> fields = record.getValue();
+            String payload = fields.get("payload");
+            switch (fields.getOrDefault("type", "")) {
+                case "ORDER_UPSERT" -> openOrders.upsert(objectMapper.readValue(payload, TradingOrder.class));
+                case "ORDER_REMOVED" -> openOrders.remove(objectMapper.readTree(payload).path("orderId").asText());
+                case "FILL" -> recentFills.append(objectMapper.readValue(payload, TradingFill.class));
+                default -> log.debug("Ignoring trading event {}", fields.get("type"));
+            }
+            return true;
+        } catch (Exception e) {
+            log.warn("Failed to apply trading event {}: {}", record.getId(), e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean applyLedgerEvent(MapRecord<String, String, String> record) {
+        try {
+            Map<String, String> fields = record.getValue();
+            String payload = fields.get("payload");
+            switch (fields.getOrDefault("type", "")) {
+                case "TRANSACTION" -> recentTransactions.append(objectMapper.readValue(payload, Transaction.class));
+                case "BALANCE" -> accountBalances.upsert(objectMapper.readValue(payload, AccountBalance.class));
+                default -> log.debug("Ignoring ledger event {}", fields.get("type"));
+            }
+            return true;
+        } catch (Exception e) {
+            log.warn("Failed to apply ledger event {}: {}", record.getId(), e.getMessage());
+            return false;
+        }
+    }
+
+    private static final class StreamState {
+        private volatile boolean synced;
+        private volatile long lastSeq;
+        private volatile long lastSyncMillis;
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.riskdashboardbff.service;
+
+import com.example.riskdashboardbff.model.HistorySeries.Point;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed-size time-series store: one ring of buckets per series and resolution, laid
+ * out in a single flat buffer. A sample is rolled up into the current bucket of every
+ * resolution as it is written (count, sum, min, max, last), so reads never aggregate.
+ * A ring slot that still holds an older bucket is overwritten, which gives each
+ * resolution a retention of {@code capacity * step}.
+ * <p>
+ * The buffer is either on the heap or a memory-mapped file, in which case history
+ * survives restarts; a file written with a different layout is cleared. Not
+ * thread-safe; {@link KpiHistory} serializes access.
+ */
+final class TimeSeriesStore implements AutoCloseable {
+
+    private static final int MAGIC = 0x4B504948; // "KPIH"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 64;
+
+    // Slot layout: bucket index + 1 (0 = empty), count, sum, min, max, last.
+    private static final int SLOT_BYTES = 48;
+    private static final int BUCKET = 0;
+    private static final int COUNT = 8;
+    private static final int SUM = 16;
+    private static final int MIN = 24;
+    private static final int MAX = 32;
+    private static final int LAST = 40;
+
+    private final HistoryResolution[] resolutions = HistoryResolution.values();
+    private final int[] resolutionBase;
+    private final ByteBuffer buffer;
+    private final FileChannel channel;
+
+    private TimeSeriesStore(int series, ByteBuffer buffer, FileChannel channel) {
+        this.buffer = buffer;
+        this.channel = channel;
+        this.resolutionBase = new int[resolutions.length];
+        int slots = 0;
+        for (int r = 0; r < resolutions.length; r++) {
+            resolutionBase[r] = slots;
+            slots += series * resolutions[r].capacity();
+        }
+    }
+
+    /**
+     * Opens a store for {@code series} series, memory-mapped from {@code file} if it is
+     * not {@code null}, else on the heap.
+     */
+    static TimeSeriesStore open(int series, long layoutFingerprint, Path file) {
+        int size = HEADER_BYTES + totalSlots(series) * SLOT_BYTES;
+        if (file == null) {
+            TimeSeriesStore store = new TimeSeriesStore(series, ByteBuffer.allocate(size), null);
+            store.writeHeader(layoutFingerprint);
+            return store;
+        }
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            TimeSeriesStore store = new TimeSeriesStore(series, mapped, channel);
+            if (mapped.getInt(0) != MAGIC || mapped.getInt(4) != VERSION || mapped.getLong(8) != layoutFingerprint) {
+                store.clear();
+                store.writeHeader(layoutFingerprint);
+            }
+            return store;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot map history file " + file, e);
+        }
+    }
+
+    boolean isPersistent() {
+        return channel != null;
+    }
+
+    /**
+     * Rolls {@code value} into the bucket containing {@code timestampMillis} at every
+     * resolution.
+     */
+    void record(int seriesIndex, long timestampMillis, double value) {
+        for (int r = 0; r < resolutions.length; r++) {
+            HistoryResolution resolution = resolutions[r];
+            long bucket = timestampMillis / resolution.stepMillis();
+            int offset = offset(r, seriesIndex, bucket);
+            long stored = buffer.getLong(offset + BUCKET) - 1;
+            if (stored > bucket) {
+                // Older than what the slot already holds; the sample has aged out.
+                continue;
+            }
+            if (stored != bucket) {
+                buffer.putLong(offset + BUCKET, bucket + 1);
+                buffer.putLong(offset + COUNT, 1);
+                buffer.putDouble(offset + SUM, value);
+                buffer.putDouble(offset + MIN, value);
+                buffer.putDouble(offset + MAX, value);
+            } else {
+                buffer.putLong(offset + COUNT, buffer.getLong(offset + COUNT) + 1);
+                buffer.putDouble(offset + SUM, buffer.getDouble(offset + SUM) + value);
+                buffer.putDouble(offset + MIN, Math.min(buffer.getDouble(offset + MIN), value));
+                buffer.putDouble(offset + MAX, Math.max(buffer.getDouble(offset + MAX), value));
+            }
+            buffer.putDouble(offset + LAST, value);
+        }
+    }
+
+    /**
+     * Returns the non-empty buckets of a series overlapping {@code [fromMillis, toMillis]}
+     * that are still retained as of {@code toMillis}, oldest first.
+     */
+    List<Point> range(int seriesIndex, HistoryResolution resolution, long fromMillis, long toMillis) {
+        int r = resolution.ordinal();
+        long step = resolution.stepMillis();
+        long last = toMillis / step;
+        long first = Math.max(fromMillis / step, last - resolution.capacity() + 1);
+        List<Point> points = new ArrayList<>();
+        for (long bucket = Math.max(0, first); bucket <= last; bucket++) {
+            int offset = offset(r, seriesIndex, bucket);
+            if (buffer.getLong(offset + BUCKET) - 1 != bucket) {
+                continue;
+            }
+            long count = buffer.getLong(offset + COUNT);
+            points.add(new Point(
+                    bucket * step,
+                    count,
+                    buffer.getDouble(offset + MIN),
+                    buffer.getDouble(offset + MAX),
+                    buffer.getDouble(offset + SUM) / count,
+                    buffer.getDouble(offset + LAST)));
+        }
+        return points;
+    }
+
+    @Override
+    public void close() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            ((MappedByteBuffer) buffer).force();
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int offset(int resolutionIndex, int seriesIndex, long bucket) {
+        int capacity = resolutions[resolutionIndex].capacity();
+        int slot = resolutionBase[resolutionIndex] + seriesIndex * capacity + (int) (bucket % capacity);
+        return HEADER_BYTES + slot * SLOT_BYTES;
+    }
+
+    private void writeHeader(long layoutFingerprint) {
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putLong(8, layoutFingerprint);
+    }
+
+    private void clear() {
+        for (int i = 0; i < buffer.capacity(); i += 8) {
+            buffer.putLong(i, 0);
+        }
+    }
+
+    private static int totalSlots(int series) {
+        int slots = 0;
+        for (HistoryResolution resolution : HistoryResolution.values()) {
+            slots += series * resolution.capacity();
+        }
+        return slots;
+    }
+}
@@ -0,0 +1,252 @@
+package com.example.riskdashboardbff.service;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * Bounded, weighted cache with W-TinyLFU eviction.
+ * <p>
+ * New entries go to a small LRU admission window (1% of the weight). Entries leaving
+ * the window compete for the main space, a segmented LRU of probation and protected
+ * (80%) entries: a candidate only displaces the main space's LRU victim if a
+ * count-min sketch has seen its key more often. The sketch counts every lookup,
+ * including misses, once; storing the value after a miss is not counted again. It is
+ * halved periodically, so keys requested often recently stay cached while one-off keys
+ * (a scan over many filters) do not flush them.
+ * <p>
+ * Weight is caller-defined (here: rows); an entry heavier than the whole cache is not
+ * stored. All methods are synchronized; the cache is meant for a moderate number of
+ * expensive values, not as a hot-path map.
+ */
+final class TinyLfuCache<K, V> {
+
+    private final long maxWeight;
+    private final long windowMaxWeight;
+    private final long protectedMaxWeight;
+    private final ToIntFunction<V> weigher;
+    private final FrequencySketch sketch;
+
+    private final Map<K, Node<K, V>> nodes = new HashMap<>();
+    // Ordered by last access: the first entry is the least recently used.
+    private final LinkedHashMap<K, Node<K, V>> window = new LinkedHashMap<>();
+    private final LinkedHashMap<K, Node<K, V>> probation = new LinkedHashMap<>();
+    private final LinkedHashMap<K, Node<K, V>> protectedSegment = new LinkedHashMap<>();
+    private long windowWeight;
+    private long probationWeight;
+    private long protectedWeight;
+    private long evictions;
+
+    TinyLfuCache(long maxWeight, int expectedEntries, ToIntFunction<V> weigher) {
+        this.maxWeight = maxWeight;
+        this.windowMaxWeight = Math.max(1, maxWeight / 100);
+        this.protectedMaxWeight = (maxWeight - windowMaxWeight) * 8 / 10;
+        this.weigher = weigher;
+        this.sketch = new FrequencySketch(expectedEntries);
+    }
+
+    synchronized V get(K key) {
+        sketch.increment(key);
+        Node<K, V> node = nodes.get(key);
+        if (node == null) {
+            return null;
+        }
+        onAccess(node);
+        return node.value;
+    }
+
+    synchronized void put(K key, V value) {
+        int weight = weigher.applyAsInt(value);
+        Node<K, V> existing = nodes.get(key);
+        if (existing != null) {
+            remove(existing);
+        }
+        if (weight > maxWeight) {
+            return;
+        }
+        Node<K, V> node = new Node<>(key, value, weight, Segment.WINDOW);
+        nodes.put(key, node);
+        window.put(key, node);
+        windowWeight += weight;
+        evict();
+    }
+
+    synchronized void invalidate(K key) {
+        Node<K, V> node = nodes.get(key);
+        if (node != null) {
+            remove(node);
+        }
+    }
+
+    synchronized int size() {
+        return nodes.size();
+    }
+
+    synchronized long weight() {
+        return windowWeight + probationWeight + protectedWeight;
+    }
+
+    synchronized long evictions() {
+        return evictions;
+    }
+
+    synchronized int frequency(K key) {
+        return sketch.frequency(key);
+    }
+
+    private void onAccess(Node<K, V> node) {
+        switch (node.segment) {
+            case WINDOW -> reinsert(window, node);
+            case PROTECTED -> reinsert(protectedSegment, node);
+            case PROBATION -> {
+                probation.remove(node.key);
+                probationWeight -= node.weight;
+                node.segment = Segment.PROTECTED;
+                protectedSegment.put(node.key, node);
+                protectedWeight += node.weight;
+                // Demote the protected LRU entries back to probation when it overflows.
+                while (protectedWeight > protectedMaxWeight && protectedSegment.size() > 1) {
+                    Node<K, V> demoted = first(protectedSegment);
+                    protectedSegment.remove(demoted.key);
+                    protectedWeight -= demoted.weight;
+                    demoted.segment = Segment.PROBATION;
+                    probation.put(demoted.key, demoted);
+                    probationWeight += demoted.weight;
+                }
+            }
+        }
+    }
+
+    private void evict() {
+        // Entries overflowing the window move to the MRU end of probation as candidates.
+        ArrayDeque<Node<K, V>> candidates = new ArrayDeque<>();
+        while (windowWeight > windowMaxWeight && window.size() > 1) {
+            Node<K, V> candidate = first(window);
+            window.remove(candidate.key);
+            windowWeight -= candidate.weight;
+            candidate.segment = Segment.PROBATION;
+            probation.put(candidate.key, candidate);
+            probationWeight += candidate.weight;
+            candidates.addLast(candidate);
+        }
+        while (weight() > maxWeight) {
+            Node<K, V> victim = !probation.isEmpty() ? first(probation)
+                    : !protectedSegment.isEmpty() ? first(protectedSegment) : first(window);
+            Node<K, V> candidate = candidates.peekLast();
+            if (candidate == null || candidate == victim
+                    || sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                remove(victim);
+                candidates.remove(victim);
+            } else {
+                remove(candidate);
+                candidates.pollLast();
+            }
+            evictions++;
+        }
+    }
+
+    private void remove(Node<K, V> node) {
+        nodes.remove(node.key);
+        switch (node.segment) {
+            case WINDOW -> {
+                window.remove(node.key);
+                windowWeight -= node.weight;
+            }
+            case PROBATION -> {
+                probation.remove(node.key);
+                probationWeight -= node.weight;
+            }
+            case PROTECTED -> {
+                protectedSegment.remove(node.key);
+                protectedWeight -= node.weight;
+            }
+        }
+    }
+
+    private static <K, V> void reinsert(LinkedHashMap<K, Node<K, V>> segment, Node<K, V> node) {
+        segment.putLast(node.key, node);
+    }
+
+    private static <K, V> Node<K, V> first(LinkedHashMap<K, Node<K, V>> segment) {
+        return segment.firstEntry().getValue();
+    }
+
+    private enum Segment { WINDOW, PROBATION, PROTECTED }
+
+    private static final class Node<K, V> {
+        final K key;
+        final V value;
+        final int weight;
+        Segment segment;
+
+        Node(K key, V value, int weight, Segment segment) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.segment = segment;
+        }
+    }
+
+    /**
+     * Count-min sketch of 4 rows of counters saturating at 15. After {@code 10 * width} increments
+     * all counters are halved, so old popularity fades.
+     */
+    static final class FrequencySketch {
+
+        private static final long[] SEEDS = {
+                0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+
+        private final byte[][] counters;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(int expectedEntries) {
+            int width = Integer.highestOneBit(Math.max(16, expectedEntries * 4 - 1)) << 1;
+            this.counters = new byte[SEEDS.length][width];
+            this.mask = width - 1;
+            this.sampleSize = 10 * width;
+        }
+
+        void increment(Object key) {
+            int hash = key.hashCode();
+            boolean added = false;
+            for (int row = 0; row < SEEDS.length; row++) {
+                int index = index(hash, row);
+                if (counters[row][index] < 15) {
+                    counters[row][index]++;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                reset();
+            }
+        }
+
+        int frequency(Object key) {
+            int hash = key.hashCode();
+            int min = 15;
+            for (int row = 0; row < SEEDS.length; row++) {
+                min = Math.min(min, counters[row][index(hash, row)]);
+            }
+            return min;
+        }
+
+        private int index(int hash, int row) {
+            long h = (hash + SEEDS[row]) * SEEDS[row];
+            h ^= h >>> 32;
+            return (int) h & mask;
+        }
+
+        private void reset() {
+            for (byte[] row : counters) {
+                for (int i = 0; i < row.length; i++) {
+                    row[i] >>= 1;
+                }
+            }
+            additions /= 2;
+        }
+    }
+}
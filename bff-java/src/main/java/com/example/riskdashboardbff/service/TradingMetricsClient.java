@@ -3,15 +3,15 @@ package com.example.riskdashboardbff.service;
 import com.example.riskdashboardbff.model.DashboardViewModel.TradingSummary;
 import com.example.riskdashboardbff.model.DashboardViewModel.TradingOrder;
 import com.example.riskdashboardbff.model.DashboardViewModel.TradingFill;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
-import reactor.util.retry.Retry;
 
 import java.time.Duration;
 import java.util.Collections;
@@ -19,67 +19,75 @@ import java.util.List;
 
 /**
  * WebClient-based client that calls the mock trading service container.
- * Includes timeout, retry, and fallback mechanisms for production-grade resilience.
+ * Includes timeout, retry, and fallback mechanisms for production-grade resilience;
+ * retries are limited by the {@link RetryBudget} of the downstream host.
+ * Failed calls fall back to the last-known-good value held in {@link LastKnownGoodCache}.
+ * In passthrough mode list responses are kept as raw JSON (see {@link RawJsonBodies}).
  */
 @Service
 public class TradingMetricsClient implements TradingServiceClient {
 
-    private static final Logger log = LoggerFactory.getLogger(TradingMetricsClient.class);
     private static final Duration TIMEOUT = Duration.ofSeconds(5);
-    private static final int MAX_RETRIES = 2;
 
     private final WebClient webClient;
+    private final String baseUrl;
+    private final RetryBudget retryBudget;
+    private final LastKnownGoodCache lastKnownGood;
+    private final boolean passthrough;
+    private final ObjectReader ordersReader;
+    private final ObjectReader fillsReader;
 
     public TradingMetricsClient(
             WebClient.Builder builder,
-            @Value("${downstream.trading.base-url}") String baseUrl
+            @Value("${downstream.trading.base-url}") String baseUrl,
+            LastKnownGoodCache lastKnownGood,
+            RetryBudget retryBudget,
+            ObjectMapper objectMapper,
+            @Value("${dashboard.passthrough.enabled:false}") boolean passthrough
     ) {
         this.webClient = builder.baseUrl(baseUrl).build();
+        this.baseUrl = baseUrl;
+        this.retryBudget = retryBudget;
+        this.lastKnownGood = lastKnownGood;
+        this.passthrough = passthrough;
+        this.ordersReader = objectMapper.readerFor(new TypeReference<List<TradingOrder>>() {});
+        this.fillsReader = objectMapper.readerFor(new TypeReference<List<TradingFill>>() {});
     }
 
     public Mono<TradingSummary> fetchTradingSummary() {
-        return webClient.get()
+        Mono<TradingSummary> call = webClient.get()
                 .uri("/api/trading/summary")
                 .retrieve()
                 .bodyToMono(TradingSummary.class)
                 .timeout(TIMEOUT)
-                .retryWhen(Retry.backoff(MAX_RETRIES, Duration.ofMillis(100))
-                        .filter(this::isRetryable)
-                        .doBeforeRetry(signal -> log.warn("Retrying fetchTradingSummary, attempt {}", signal.totalRetries() + 1)))
-                .onErrorResume(e -> {
-                    log.error("Failed to fetch trading summary after retries: {}", e.getMessage());
-                    return Mono.just(new TradingSummary(0, 0, 0.0));
-                });
+                .retryWhen(retryBudget.retry(baseUrl, "fetchTradingSummary", this::isRetryable));
+        return lastKnownGood.withFallback(DashboardSection.TRADING_SUMMARY, call, new TradingSummary(0, 0, 0.0));
     }
 
     public Mono<List<TradingOrder>> fetchOpenOrders() {
-        return webClient.get()
+        WebClient.ResponseSpec response = webClient.get()
                 .uri("/api/trading/orders")
-                .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<List<TradingOrder>>() {})
+                .retrieve();
+        Mono<List<TradingOrder>> body = passthrough
+                ? RawJsonBodies.list(response, ordersReader)
+                : response.bodyToMono(new ParameterizedTypeReference<List<TradingOrder>>() {});
+        Mono<List<TradingOrder>> call = body
                 .timeout(TIMEOUT)
-                .retryWhen(Retry.backoff(MAX_RETRIES, Duration.ofMillis(100))
-                        .filter(this::isRetryable)
-                        .doBeforeRetry(signal -> log.warn("Retrying fetchOpenOrders, attempt {}", signal.totalRetries() + 1)))
-                .onErrorResume(e -> {
-                    log.error("Failed to fetch open orders after retries: {}", e.getMessage());
-                    return Mono.just(Collections.emptyList());
-                });
+                .retryWhen(retryBudget.retry(baseUrl, "fetchOpenOrders", this::isRetryable));
+        return lastKnownGood.withFallback(DashboardSection.OPEN_ORDERS, call, Collections.emptyList());
     }
 
     public Mono<List<TradingFill>> fetchRecentFills() {
-        return webClient.get()
+        WebClient.ResponseSpec response = webClient.get()
                 .uri("/api/trading/fills")
-                .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<List<TradingFill>>() {})
+                .retrieve();
+        Mono<List<TradingFill>> body = passthrough
+                ? RawJsonBodies.list(response, fillsReader)
+                : response.bodyToMono(new ParameterizedTypeReference<List<TradingFill>>() {});
+        Mono<List<TradingFill>> call = body
                 .timeout(TIMEOUT)
-                .retryWhen(Retry.backoff(MAX_RETRIES, Duration.ofMillis(100))
-                        .filter(this::isRetryable)
-                        .doBeforeRetry(signal -> log.warn("Retrying fetchRecentFills, attempt {}", signal.totalRetries() + 1)))
-                .onErrorResume(e -> {
-                    log.error("Failed to fetch recent fills after retries: {}", e.getMessage());
-                    return Mono.just(Collections.emptyList());
-                });
+                .retryWhen(retryBudget.retry(baseUrl, "fetchRecentFills", this::isRetryable));
+        return lastKnownGood.withFallback(DashboardSection.RECENT_FILLS, call, Collections.emptyList());
     }
 
     private boolean isRetryable(Throwable throwable) {
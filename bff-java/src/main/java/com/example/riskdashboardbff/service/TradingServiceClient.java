@@ -15,19 +15,19 @@ public interface TradingServiceClient {
     
     /**
      * Fetches the trading summary from the trading service.
-     * @return Mono containing the trading summary, or a default value on failure
+     * @return Mono containing the trading summary, or the last-known-good (else a default) value on failure
      */
     Mono<TradingSummary> fetchTradingSummary();
     
     /**
      * Fetches the list of open orders.
-     * @return Mono containing the list of open orders, or empty list on failure
+     * @return Mono containing the list of open orders, or the last-known-good (else empty) list on failure
      */
     Mono<List<TradingOrder>> fetchOpenOrders();
     
     /**
      * Fetches the list of recent fills.
-     * @return Mono containing the list of recent fills, or empty list on failure
+     * @return Mono containing the list of recent fills, or the last-known-good (else empty) list on failure
      */
     Mono<List<TradingFill>> fetchRecentFills();
 }
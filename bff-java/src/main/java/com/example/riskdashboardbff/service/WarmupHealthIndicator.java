@@ -0,0 +1,24 @@
+package com.example.riskdashboardbff.service;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports OUT_OF_SERVICE until {@link DashboardWarmup} has finished. Part of the
+ * readiness group, so the instance only receives traffic once it is warm.
+ */
+@Component
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private final DashboardWarmup warmup;
+
+    public WarmupHealthIndicator(DashboardWarmup warmup) {
+        this.warmup = warmup;
+    }
+
+    @Override
+    public Health health() {
+        return warmup.isComplete() ? Health.up().build() : Health.outOfService().build();
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.riskdashboardbff.api;
+
+import com.example.riskdashboardbff.model.DashboardViewModel;
+import com.example.riskdashboardbff.model.DashboardViewModel.SectionStatus;
+import com.example.riskdashboardbff.service.AdaptiveConcurrencyLimiter;
+import com.example.riskdashboardbff.service.DashboardAggregationService;
+import com.example.riskdashboardbff.service.DashboardFilter;
+import com.example.riskdashboardbff.service.DashboardSection;
+import com.example.riskdashboardbff.service.DeskViewCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for admission control and load shedding of desk views in DashboardController.
+ */
+class DashboardControllerTest {
+
+    private static final List<String> BOOKS = List.of("EQUITIES");
+
+    private final DashboardAggregationService aggregationService = mock(DashboardAggregationService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DashboardViewModel desk = new DashboardViewModel(
+            List.of(), null, null, null, null, List.of(), List.of(), List.of(), List.of(), List.of(), List.of(),
+            List.of(), null, Map.of(DashboardSection.OPEN_ORDERS.key(), SectionStatus.live()));
+
+    private AdaptiveConcurrencyLimiter limiter;
+    private DashboardController controller;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new AdaptiveConcurrencyLimiter(true, 1, 1, 1, 0.2, 1.5, meterRegistry);
+        DeskViewCache deskViews = new DeskViewCache(
+                aggregationService, meterRegistry, true, Duration.ofMinutes(1), 1_000, 16);
+        controller = new DashboardController(aggregationService, deskViews, limiter, true, Duration.ofSeconds(1));
+        when(aggregationService.aggregate(any(DashboardFilter.class))).thenReturn(Mono.just(desk));
+    }
+
+    @Test
+    void getDashboard_ShouldServeFreshDeskViewsWithoutAPermit() {
+        StepVerifier.create(controller.getDashboard(BOOKS, null))
+                .assertNext(response -> assertSame(desk, response.getBody()))
+                .verifyComplete();
+
+        // The only permit is taken, so anything that needs one would be shed.
+        assertTrue(limiter.tryAcquire());
+        StepVerifier.create(controller.getDashboard(BOOKS, null))
+                .assertNext(response -> {
+                    assertSame(desk, response.getBody());
+                    assertFalse(response.getHeaders().containsKey(DashboardController.SNAPSHOT_HEADER));
+                })
+                .verifyComplete();
+        verify(aggregationService, times(1)).aggregate(any(DashboardFilter.class));
+    }
+
+    @Test
+    void getDashboard_ShouldMarkAShedDeskViewStale() {
+        // Cached views are never fresh, so every request needs a permit.
+        DeskViewCache deskViews = new DeskViewCache(
+                aggregationService, meterRegistry, true, Duration.ofMillis(-1), 1_000, 16);
+        controller = new DashboardController(aggregationService, deskViews, limiter, true, Duration.ofSeconds(1));
+        StepVerifier.create(controller.getDashboard(BOOKS, null)).expectNextCount(1).verifyComplete();
+        long assembledBy = System.currentTimeMillis();
+
+        assertTrue(limiter.tryAcquire());
+        StepVerifier.create(controller.getDashboard(BOOKS, null))
+                .assertNext(response -> {
+                    assertEquals("true", response.getHeaders().getFirst(DashboardController.SNAPSHOT_HEADER));
+                    Map<String, SectionStatus> status = response.getBody().sectionStatus();
+                    assertEquals(DashboardSection.values().length, status.size());
+                    for (SectionStatus section : status.values()) {
+                        assertEquals(SectionStatus.STALE, section.state());
+                        assertTrue(Instant.parse(section.asOf()).toEpochMilli() <= assembledBy);
+                    }
+                })
+                .verifyComplete();
+    }
+}
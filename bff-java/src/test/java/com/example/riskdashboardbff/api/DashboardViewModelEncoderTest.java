@@ -0,0 +1,159 @@
+package com.example.riskdashboardbff.api;
+
+import com.example.riskdashboardbff.model.DashboardViewModel;
+import com.example.riskdashboardbff.model.DashboardViewModel.AccountBalance;
+import com.example.riskdashboardbff.model.DashboardViewModel.EnrichedAccount;
+import com.example.riskdashboardbff.model.DashboardViewModel.LatencyMetrics;
+import com.example.riskdashboardbff.model.DashboardViewModel.RiskAccount;
+import com.example.riskdashboardbff.model.DashboardViewModel.RiskMetric;
+import com.example.riskdashboardbff.model.DashboardViewModel.RiskSummary;
+import com.example.riskdashboardbff.model.DashboardViewModel.RiskyAccount;
+import com.example.riskdashboardbff.model.DashboardViewModel.SectionStatus;
+import com.example.riskdashboardbff.model.DashboardViewModel.SystemHealth;
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingFill;
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingOrder;
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingSummary;
+import com.example.riskdashboardbff.model.DashboardViewModel.Transaction;
+import com.example.riskdashboardbff.model.columnar.ColumnarLists;
+import com.example.riskdashboardbff.service.AccountEnrichment;
+import com.example.riskdashboardbff.service.ChartAggregator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Unit tests for the dedicated DashboardViewModel encoder.
+ */
+class DashboardViewModelEncoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final DashboardViewModelEncoder encoder = new DashboardViewModelEncoder(objectMapper.getFactory());
+
+    @JsonSerialize(using = JsonSerializer.None.class)
+    private interface ReflectiveSerialization {}
+
+    @Test
+    void encodeValue_ShouldMatchReflectiveJackson() throws Exception {
+        DashboardViewModel viewModel = sampleViewModel();
+        ObjectMapper reflective = new ObjectMapper().addMixIn(DashboardViewModel.class, ReflectiveSerialization.class);
+
+        assertEquals(reflective.writeValueAsString(viewModel), encode(viewModel));
+    }
+
+    @Test
+    void encodeValue_ShouldWriteColumnarListsLikeRecords() throws Exception {
+        DashboardViewModel viewModel = sampleViewModel();
+        DashboardViewModel columnar = new DashboardViewModel(
+                viewModel.topRiskyAccounts(), viewModel.health(), viewModel.riskSummary(),
+                viewModel.tradingSummary(), viewModel.latencyMetrics(),
+                ColumnarLists.compact(viewModel.riskAccounts()), viewModel.riskMetrics(),
+                ColumnarLists.compact(viewModel.openOrders()), ColumnarLists.compact(viewModel.recentFills()),
+                ColumnarLists.compact(viewModel.accountBalances()), ColumnarLists.compact(viewModel.recentTransactions()),
+                AccountEnrichment.join(viewModel.riskAccounts(), viewModel.accountBalances(), viewModel.recentTransactions()),
+                viewModel.charts(),
+                viewModel.sectionStatus()
+        );
+
+        assertEquals(encode(viewModel), encode(columnar));
+    }
+
+    @Test
+    void encodeValue_ShouldCutRowListsAndReportTheirFullSize() throws Exception {
+        DashboardViewModel viewModel = sampleViewModel();
+        List<TradingOrder> orders = List.of(
+                new TradingOrder("ORD-000001", "AAPL", "BUY", 100, 189.25, "NEW"),
+                new TradingOrder("ORD-000002", "MSFT", "SELL", 10, 410.5, "NEW"),
+                new TradingOrder("ORD-000003", "IBM", "BUY", 5, 150.0, "NEW"));
+        List<TradingFill> fills = List.of(
+                new TradingFill("FILL-000001", "MSFT", "SELL", 50, 410.5, 12.75),
+                new TradingFill("FILL-000002", "AAPL", "BUY", 20, 189.0, -3.0),
+                new TradingFill("FILL-000003", "IBM", "BUY", 5, 150.0, 0.5));
+        DashboardViewModel large = new DashboardViewModel(
+                viewModel.topRiskyAccounts(), viewModel.health(), viewModel.riskSummary(),
+                viewModel.tradingSummary(), viewModel.latencyMetrics(),
+                viewModel.riskAccounts(), viewModel.riskMetrics(),
+                orders, ColumnarLists.compact(fills),
+                viewModel.accountBalances(), viewModel.recentTransactions(),
+                viewModel.enrichedAccounts(), viewModel.charts(), viewModel.sectionStatus());
+        DashboardViewModelEncoder bounded = new DashboardViewModelEncoder(objectMapper.getFactory(), 2);
+
+        JsonNode json = objectMapper.readTree(encode(bounded, large));
+
+        assertEquals(2, json.get("openOrders").size());
+        assertEquals("ORD-000002", json.get("openOrders").get(1).get("orderId").asText());
+        assertEquals(2, json.get("recentFills").size());
+        assertEquals(1, json.get("accountBalances").size());
+        assertEquals(viewModel.riskMetrics().size(), json.get("riskMetrics").size());
+        assertEquals(3, json.get("listRows").get("openOrders").asInt());
+        assertEquals(3, json.get("listRows").get("recentFills").asInt());
+        assertEquals(1, json.get("listRows").get("accountBalances").asInt());
+    }
+
+    @Test
+    void encodeValue_ShouldWriteEveryRowWhenListsAreUnbounded() throws Exception {
+        DashboardViewModel viewModel = sampleViewModel();
+        DashboardViewModelEncoder unbounded = new DashboardViewModelEncoder(objectMapper.getFactory(), 0);
+
+        String json = encode(unbounded, viewModel);
+
+        assertEquals(encode(viewModel), json);
+        assertFalse(objectMapper.readTree(json).has("listRows"));
+    }
+
+    private String encode(DashboardViewModel viewModel) {
+        return encode(encoder, viewModel);
+    }
+
+    private static String encode(DashboardViewModelEncoder encoder, DashboardViewModel viewModel) {
+        DataBuffer buffer = encoder.encodeValue(viewModel, DefaultDataBufferFactory.sharedInstance,
+                ResolvableType.forClass(DashboardViewModel.class), MediaType.APPLICATION_JSON, Map.of());
+        try {
+            return buffer.toString(StandardCharsets.UTF_8);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    private static DashboardViewModel sampleViewModel() {
+        Map<String, SectionStatus> status = new LinkedHashMap<>();
+        status.put("openOrders", SectionStatus.live());
+        status.put("recentFills", new SectionStatus(SectionStatus.STALE, "2026-01-01T00:00:00Z", 1_500));
+        List<RiskAccount> riskAccounts = List.of(new RiskAccount("ACC-001", "EQUITIES", 1_500_000.0, 0.82));
+        List<TradingOrder> orders = List.of(new TradingOrder("ORD-000001", "AAPL", "BUY", 100, 189.25, "NEW"));
+        List<TradingFill> fills = List.of(new TradingFill("FILL-000001", "MSFT", "SELL", 50, 410.5, 12.75));
+        List<AccountBalance> balances = List.of(new AccountBalance("ACC-001", "USD", 1_000_000.0, 250_000.0, 750_000.0));
+        List<Transaction> transactions = List.of(
+                new Transaction("TX-0001", "ACC-001", "DEPOSIT", "USD", 10_000.0, "COMPLETED"));
+        return new DashboardViewModel(
+                List.of(new RiskyAccount("ACC-001", "EQUITIES", 1_500_000.0, 0.82)),
+                new SystemHealth("HEALTHY", 120.0, 5, 5),
+                new RiskSummary(2_000_000.0, 0.82),
+                new TradingSummary(12, 34, -1_234.5),
+                new LatencyMetrics(10.5, 20.25, 30.0),
+                riskAccounts,
+                List.of(new RiskMetric("VAR_95", 125_000.0, "OK"), new RiskMetric("LEVERAGE", 3.2, null)),
+                orders,
+                fills,
+                balances,
+                transactions,
+                List.of(new EnrichedAccount("ACC-001", "EQUITIES", 1_500_000.0, 0.82, "USD", 1_000_000.0, 750_000.0, 0, 0.0)),
+                new ChartAggregator(10, 10).aggregate(riskAccounts, orders, fills, balances, transactions),
+                status
+        );
+    }
+}
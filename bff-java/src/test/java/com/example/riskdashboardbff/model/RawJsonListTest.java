@@ -0,0 +1,80 @@
+package com.example.riskdashboardbff.model;
+
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingOrder;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for raw JSON passthrough lists.
+ */
+class RawJsonListTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ObjectReader reader = objectMapper.readerFor(new TypeReference<List<TradingOrder>>() {});
+
+    @Test
+    void serialize_ShouldSpliceRawArrayUnchanged() throws Exception {
+        String downstream = "[{\"orderId\":\"ORD-1\",\"symbol\":\"ÄPPL\",\"side\":\"BUY\",\"quantity\":5,\"price\":1.5,\"status\":\"NEW\"}]";
+        RawJsonList<TradingOrder> orders = RawJsonList.of(downstream.getBytes(StandardCharsets.UTF_8), reader);
+
+        String json = new String(objectMapper.writeValueAsBytes(Map.of("openOrders", orders)), StandardCharsets.UTF_8);
+
+        assertEquals("{\"openOrders\":" + downstream + "}", json);
+    }
+
+    @Test
+    void get_ShouldDecodeRowsOnAccess() {
+        byte[] downstream = "[{\"orderId\":\"ORD-1\",\"symbol\":\"AAPL\",\"side\":\"BUY\",\"quantity\":5,\"price\":1.5,\"status\":\"NEW\"}]"
+                .getBytes(StandardCharsets.UTF_8);
+
+        RawJsonList<TradingOrder> orders = RawJsonList.of(downstream, reader);
+
+        assertEquals(List.of(new TradingOrder("ORD-1", "AAPL", "BUY", 5, 1.5, "NEW")), orders);
+    }
+
+    @Test
+    void size_ShouldCountRowsWithoutDecodingThem() {
+        // The reader cannot decode these rows, so any decode would fail.
+        ObjectReader undecodable = objectMapper.readerFor(new TypeReference<List<Integer>>() {});
+        String downstream = " [ {\"orderId\":\"ORD-1\",\"tags\":[1,2],\"note\":\"a, \\\"b\\\" [c]\"},"
+                + "\n{\"orderId\":\"ORD-2\",\"nested\":{\"x\":{\"y\":[{}]}}}, {} ] ";
+
+        RawJsonList<Integer> rows = RawJsonList.of(downstream.getBytes(StandardCharsets.UTF_8), undecodable);
+
+        assertEquals(3, rows.size());
+        assertFalse(rows.isEmpty());
+        assertEquals(0, RawJsonList.of(" [ ] ".getBytes(StandardCharsets.UTF_8), undecodable).size());
+        assertEquals(2, RawJsonList.of("[1,\"x\"]".getBytes(StandardCharsets.UTF_8), undecodable).size());
+    }
+
+    @Test
+    void head_ShouldCutTheArrayBetweenTopLevelRows() {
+        String first = "{\"orderId\":\"ORD-1\",\"symbol\":\"A,[{\\\"\",\"side\":\"BUY\",\"quantity\":5,\"price\":1.5,\"status\":\"NEW\"}";
+        String second = "{\"orderId\":\"ORD-2\",\"symbol\":\"B\",\"side\":\"SELL\",\"quantity\":1,\"price\":2.5,\"status\":\"NEW\"}";
+        byte[] downstream = (" [ " + first + " ,\n" + second + " ] ").getBytes(StandardCharsets.UTF_8);
+        RawJsonList<TradingOrder> orders = RawJsonList.of(downstream, reader);
+
+        assertEquals(" []", new String(orders.head(0), StandardCharsets.UTF_8));
+        assertEquals(" [ " + first + " ]", new String(orders.head(1), StandardCharsets.UTF_8));
+        assertSame(downstream, orders.head(2));
+        assertSame(downstream, orders.head(100));
+    }
+
+    @Test
+    void of_ShouldRejectNonArrayBodies() {
+        byte[] error = "{\"error\":\"boom\"}".getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(IllegalArgumentException.class, () -> RawJsonList.of(error, reader));
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.riskdashboardbff.model.arrow;
+
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingOrder;
+import com.example.riskdashboardbff.model.columnar.ColumnarOrders;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.ValueVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.dictionary.DictionaryEncoder;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
+import org.apache.arrow.vector.types.pojo.DictionaryEncoding;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for the Arrow IPC stream encoder, read back with the Arrow Java reader.
+ */
+class ArrowIpcStreamTest {
+
+    private static final List<TradingOrder> ORDERS = List.of(
+            new TradingOrder("ORD-000001", "AAPL", "BUY", 100, 189.25, "NEW"),
+            new TradingOrder("ORD-000002", "MSFT", "SELL", 50, 410.5, "PARTIALLY_FILLED"),
+            new TradingOrder(null, "AAPL", "BUY", 10, 188.0, null)
+    );
+
+    @Test
+    void iterator_ShouldEncodeBatchesReadableByArrow() throws Exception {
+        ColumnarOrders orders = ColumnarOrders.of(ORDERS);
+        ArrowIpcStream stream = new ArrowIpcStream(orders.size(), List.of(
+                new ArrowColumn.Utf8("orderId", orders.orderId()::get),
+                new ArrowColumn.Dictionary("symbol", orders.symbol()),
+                new ArrowColumn.Int32("quantity", orders.quantity()),
+                new ArrowColumn.Float64("price", orders.price()),
+                new ArrowColumn.Dictionary("status", orders.status())), 2);
+
+        Contents contents = read(stream);
+
+        assertEquals(2, contents.batches());
+        assertEquals(List.of(
+                List.of("ORD-000001", "AAPL", "100", "189.25", "NEW"),
+                List.of("ORD-000002", "MSFT", "50", "410.5", "PARTIALLY_FILLED"),
+                Arrays.asList(null, "AAPL", "10", "188.0", null)
+        ), contents.rows());
+    }
+
+    @Test
+    void iterator_ShouldEncodeEmptyTableAsSchemaAndDictionariesOnly() throws Exception {
+        ColumnarOrders orders = ColumnarOrders.of(List.of());
+        ArrowIpcStream stream = new ArrowIpcStream(0, List.of(
+                new ArrowColumn.Dictionary("side", orders.side()),
+                new ArrowColumn.Float64("price", orders.price())), 1024);
+
+        Contents contents = read(stream);
+
+        assertEquals(0, contents.batches());
+        List<byte[]> messages = new ArrayList<>();
+        stream.forEach(messages::add);
+        assertEquals(3, messages.size());
+        for (byte[] message : messages) {
+            assertEquals(0, message.length % 8);
+        }
+    }
+
+    /**
+     * Reads the whole stream, decoding dictionary columns, into rows of strings.
+     */
+    private static Contents read(ArrowIpcStream stream) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        for (byte[] message : stream) {
+            bytes.write(message);
+        }
+        int batches = 0;
+        List<List<String>> rows = new ArrayList<>();
+        try (BufferAllocator allocator = new RootAllocator();
+             ArrowStreamReader reader = new ArrowStreamReader(new ByteArrayInputStream(bytes.toByteArray()), allocator)) {
+            while (reader.loadNextBatch()) {
+                batches++;
+                VectorSchemaRoot root = reader.getVectorSchemaRoot();
+                List<ValueVector> columns = new ArrayList<>();
+                List<ValueVector> decoded = new ArrayList<>();
+                for (FieldVector vector : root.getFieldVectors()) {
+                    DictionaryEncoding encoding = vector.getField().getDictionary();
+                    if (encoding == null) {
+                        columns.add(vector);
+                    } else {
+                        ValueVector values = DictionaryEncoder.decode(vector, reader.getDictionaryVectors().get(encoding.getId()));
+                        columns.add(values);
+                        decoded.add(values);
+                    }
+                }
+                for (int row = 0; row < root.getRowCount(); row++) {
+                    List<String> values = new ArrayList<>();
+                    for (ValueVector column : columns) {
+                        Object value = column.getObject(row);
+                        values.add(value == null ? null : value.toString());
+                    }
+                    rows.add(values);
+                }
+                decoded.forEach(ValueVector::close);
+            }
+        }
+        return new Contents(batches, rows);
+    }
+
+    private record Contents(int batches, List<List<String>> rows) {}
+}
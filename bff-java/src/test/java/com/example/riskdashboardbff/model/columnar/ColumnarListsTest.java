@@ -0,0 +1,118 @@
+package com.example.riskdashboardbff.model.columnar;
+
+import com.example.riskdashboardbff.model.DashboardViewModel.AccountBalance;
+import com.example.riskdashboardbff.model.DashboardViewModel.RiskAccount;
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingFill;
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingOrder;
+import com.example.riskdashboardbff.model.DashboardViewModel.Transaction;
+import com.example.riskdashboardbff.model.RawJsonList;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Unit tests for the columnar list representation and its JSON serializer.
+ */
+class ColumnarListsTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    // Fails on any row, so a raw list that is decoded fails the test.
+    private final ObjectReader undecodable = objectMapper.readerFor(new TypeReference<List<Integer>>() {});
+
+    @Test
+    void compact_ShouldPreserveRowsAndJson() throws Exception {
+        List<TradingOrder> orders = List.of(
+                new TradingOrder("ORD-000001", "AAPL", "BUY", 100, 189.25, "NEW"),
+                new TradingOrder("ORD-000002", "MSFT", "SELL", 50, 410.5, "PARTIALLY_FILLED"),
+                new TradingOrder("manual \"42\"", "AAPL", "BUY", 10, 188.0, null)
+        );
+        List<TradingFill> fills = List.of(
+                new TradingFill("FILL-17", "TSLA", "SELL", 5, 250.0, -12.5),
+                new TradingFill("FILL-0000000000000000000123", "TSLA", "BUY", 7, 251.0, 3.25)
+        );
+        List<AccountBalance> balances = List.of(
+                new AccountBalance("ACC-001", "USD", 1_000_000.0, 250_000.0, 750_000.0),
+                new AccountBalance("ACC-002", "EUR", 500_000.0, 0.0, 500_000.0)
+        );
+        List<Transaction> transactions = List.of(
+                new Transaction("TX-0001", "ACC-001", "DEPOSIT", "USD", 10_000.0, "COMPLETED"),
+                new Transaction("TX-0002", "ACC-002", "WITHDRAWAL", "EUR", -2_500.0, "PENDING")
+        );
+        List<RiskAccount> riskAccounts = List.of(
+                new RiskAccount("ACC-001", "EQUITIES", 1_500_000.0, 0.82),
+                new RiskAccount("ACC-002", "EQUITIES", 1_250_000.0, 0.76)
+        );
+
+        for (List<?> rows : List.of(orders, fills, balances, transactions, riskAccounts)) {
+            List<?> columnar = ColumnarLists.compact(rows);
+            assertInstanceOf(ColumnarList.class, columnar);
+            assertEquals(rows, columnar);
+            assertEquals(objectMapper.writeValueAsString(rows), objectMapper.writeValueAsString(columnar));
+        }
+    }
+
+    @Test
+    void compact_ShouldDictionaryEncodeRepeatedValues() {
+        List<TradingOrder> orders = List.of(
+                new TradingOrder("ORD-1", "AAPL", "BUY", 1, 1.0, "NEW"),
+                new TradingOrder("ORD-2", "AAPL", "SELL", 1, 1.0, "NEW"),
+                new TradingOrder("ORD-3", "AAPL", "BUY", 1, 1.0, "NEW")
+        );
+
+        ColumnarOrders columnar = (ColumnarOrders) ColumnarLists.compact(orders);
+
+        assertEquals(1, columnar.symbol().cardinality());
+        assertEquals(2, columnar.side().cardinality());
+        assertEquals(3, columnar.orderId().number(2));
+    }
+
+    @Test
+    void of_ShouldReadRawBalancesAndTransactionsOnceWithoutDecodingThem() throws Exception {
+        List<AccountBalance> balances = List.of(
+                new AccountBalance("ACC-001", "USD", 1_000_000.0, 250_000.0, 750_000.0),
+                new AccountBalance("LEGACY", null, -5.5, 0.0, 0.0)
+        );
+        List<Transaction> transactions = List.of(
+                new Transaction("TX-0001", "ACC-001", "DEPOSIT", "USD", 10_000.0, "COMPLETED"),
+                new Transaction("TX-0002", "ACC-002", "WITHDRAWAL", "EUR", -2_500.0, "PENDING")
+        );
+        RawJsonList<AccountBalance> rawBalances = RawJsonList.of(
+                withUnknownField(objectMapper.writeValueAsString(balances)), undecodable);
+        RawJsonList<Transaction> rawTransactions = RawJsonList.of(
+                objectMapper.writeValueAsBytes(transactions), undecodable);
+
+        ColumnarBalances columnarBalances = ColumnarBalances.of(rawBalances);
+        ColumnarTransactions columnarTransactions = ColumnarTransactions.of(rawTransactions);
+
+        assertEquals(ColumnarBalances.of(balances), columnarBalances);
+        assertEquals(ColumnarTransactions.of(transactions), columnarTransactions);
+        assertSame(columnarBalances, ColumnarBalances.of(rawBalances));
+        assertSame(columnarTransactions, ColumnarTransactions.of(rawTransactions));
+    }
+
+    @Test
+    void compact_ShouldLeaveOtherValuesUntouched() {
+        List<String> strings = List.of("a", "b");
+        List<TradingOrder> empty = List.of();
+
+        assertSame(strings, ColumnarLists.compact(strings));
+        assertSame(empty, ColumnarLists.compact(empty));
+    }
+
+    /**
+     * Adds a field the row type does not have to the first row, as a newer downstream
+     * version might.
+     */
+    private static byte[] withUnknownField(String json) {
+        return json.replaceFirst("\\{", "{\"extra\":{\"nested\":[1,{\"x\":\"}\"}]},")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.riskdashboardbff.service;
+
+import com.example.riskdashboardbff.model.DashboardViewModel.AccountBalance;
+import com.example.riskdashboardbff.model.DashboardViewModel.EnrichedAccount;
+import com.example.riskdashboardbff.model.DashboardViewModel.RiskAccount;
+import com.example.riskdashboardbff.model.DashboardViewModel.Transaction;
+import com.example.riskdashboardbff.model.RawJsonList;
+import com.example.riskdashboardbff.model.columnar.ColumnarLists;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the risk account / ledger enrichment join.
+ */
+class AccountEnrichmentTest {
+
+    private static final List<RiskAccount> ACCOUNTS = List.of(
+            new RiskAccount("ACC-001", "EQUITIES", 1_000_000.0, 0.5),
+            new RiskAccount("ACC-002", "FX", 500_000.0, 0.25),
+            new RiskAccount("ACC-003", "RATES", 250_000.0, 0.1)
+    );
+    private static final List<AccountBalance> BALANCES = List.of(
+            new AccountBalance("ACC-002", "USD", 20_000.0, 5_000.0, 15_000.0),
+            new AccountBalance("ACC-001", "USD", 10_000.0, 2_000.0, 8_000.0),
+            new AccountBalance("ACC-999", "USD", 1.0, 1.0, 1.0)
+    );
+    private static final List<Transaction> TRANSACTIONS = List.of(
+            new Transaction("TX-0001", "ACC-001", "DEPOSIT", "USD", 100.0, "PENDING"),
+            new Transaction("TX-0002", "ACC-001", "WITHDRAWAL", "USD", 50.0, "PENDING"),
+            new Transaction("TX-0003", "ACC-001", "DEPOSIT", "USD", 75.0, "SETTLED"),
+            new Transaction("TX-0004", "ACC-003", "DEPOSIT", "USD", 30.0, "PENDING")
+    );
+
+    @Test
+    void join_ShouldAttachBalancesAndPendingTransactions() {
+        List<EnrichedAccount> enriched = AccountEnrichment.join(ACCOUNTS, BALANCES, TRANSACTIONS);
+
+        assertEquals(List.of(
+                new EnrichedAccount("ACC-001", "EQUITIES", 1_000_000.0, 0.5, "USD", 10_000.0, 8_000.0, 2, 150.0),
+                new EnrichedAccount("ACC-002", "FX", 500_000.0, 0.25, "USD", 20_000.0, 15_000.0, 0, 0.0),
+                new EnrichedAccount("ACC-003", "RATES", 250_000.0, 0.1, null, 0.0, 0.0, 1, 0.0)
+        ), new ArrayList<>(enriched));
+    }
+
+    @Test
+    void join_ShouldGiveSameResultForColumnarInputs() {
+        List<EnrichedAccount> fromRecords = AccountEnrichment.join(ACCOUNTS, BALANCES, TRANSACTIONS);
+        List<EnrichedAccount> fromColumns = AccountEnrichment.join(
+                ColumnarLists.compact(ACCOUNTS), ColumnarLists.compact(BALANCES), ColumnarLists.compact(TRANSACTIONS));
+
+        assertEquals(new ArrayList<>(fromRecords), new ArrayList<>(fromColumns));
+    }
+
+    @Test
+    void join_ShouldReadPassthroughListsWithoutDecodingThem() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        // Fails on any row, so a raw list that is decoded fails the test.
+        ObjectReader undecodable = objectMapper.readerFor(new TypeReference<List<Integer>>() {});
+        RawJsonList<AccountBalance> balances = RawJsonList.of(objectMapper.writeValueAsBytes(BALANCES), undecodable);
+        RawJsonList<Transaction> transactions = RawJsonList.of(
+                objectMapper.writeValueAsBytes(TRANSACTIONS), undecodable);
+
+        List<EnrichedAccount> enriched = AccountEnrichment.join(ACCOUNTS, balances, transactions);
+
+        assertEquals(new ArrayList<>(AccountEnrichment.join(ACCOUNTS, BALANCES, TRANSACTIONS)),
+                new ArrayList<>(enriched));
+    }
+
+    @Test
+    void join_ShouldOnlySumAmountsInTheAccountCurrency() {
+        List<AccountBalance> balances = List.of(
+                new AccountBalance("ACC-001", "EUR", 100.0, 0.0, 80.0),
+                new AccountBalance("ACC-002", "USD", 200.0, 0.0, 150.0),
+                new AccountBalance("ACC-001", "JPY", 1_000_000.0, 0.0, 900_000.0),
+                new AccountBalance("ACC-001", "EUR", 10.0, 0.0, 5.0)
+        );
+        List<Transaction> transactions = List.of(
+                new Transaction("TX-0001", "ACC-001", "DEPOSIT", "EUR", 40.0, "PENDING"),
+                new Transaction("TX-0002", "ACC-001", "DEPOSIT", "JPY", 50_000.0, "PENDING"),
+                new Transaction("TX-0003", "ACC-002", "DEPOSIT", "GBP", 60.0, "PENDING"),
+                new Transaction("TX-0004", "ACC-002", "DEPOSIT", "USD", 70.0, "PENDING")
+        );
+
+        List<EnrichedAccount> enriched = AccountEnrichment.join(ACCOUNTS, balances, transactions);
+
+        assertEquals(List.of(
+                new EnrichedAccount("ACC-001", "EQUITIES", 1_000_000.0, 0.5, "EUR", 110.0, 85.0, 2, 40.0),
+                new EnrichedAccount("ACC-002", "FX", 500_000.0, 0.25, "USD", 200.0, 150.0, 2, 70.0),
+                new EnrichedAccount("ACC-003", "RATES", 250_000.0, 0.1, null, 0.0, 0.0, 0, 0.0)
+        ), new ArrayList<>(enriched));
+        assertEquals(new ArrayList<>(enriched), new ArrayList<>(AccountEnrichment.join(
+                ColumnarLists.compact(ACCOUNTS), ColumnarLists.compact(balances), ColumnarLists.compact(transactions))));
+    }
+
+    @Test
+    void join_ShouldNotConfuseIdsSharingTheirNumericPart() {
+        List<RiskAccount> accounts = List.of(
+                new RiskAccount("ACC-001", "EQUITIES", 1.0, 0.1),
+                new RiskAccount("SUB-001", "FX", 2.0, 0.2),
+                new RiskAccount("ACC-1", "RATES", 3.0, 0.3),
+                new RiskAccount("LEGACY", "CREDIT", 4.0, 0.4)
+        );
+        List<AccountBalance> balances = List.of(
+                new AccountBalance("SUB-001", "USD", 200.0, 0.0, 200.0),
+                new AccountBalance("ACC-1", "USD", 300.0, 0.0, 300.0),
+                new AccountBalance("LEGACY", "USD", 400.0, 0.0, 400.0),
+                new AccountBalance("ACC-001", "USD", 100.0, 0.0, 100.0),
+                new AccountBalance("XYZ-001", "USD", 999.0, 0.0, 999.0)
+        );
+
+        List<EnrichedAccount> enriched = AccountEnrichment.join(accounts, balances, List.of());
+
+        assertEquals(List.of(100.0, 200.0, 300.0, 400.0),
+                enriched.stream().map(EnrichedAccount::cashBalance).toList());
+        assertTrue(AccountEnrichment.join(List.of(), balances, List.of()).isEmpty());
+    }
+}
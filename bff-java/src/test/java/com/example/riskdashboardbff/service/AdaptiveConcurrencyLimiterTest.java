@@ -0,0 +1,71 @@
+package com.example.riskdashboardbff.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for AdaptiveConcurrencyLimiter admission and limit adaptation.
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+        return new AdaptiveConcurrencyLimiter(true, initialLimit, 2, 100, 0.5, 1.5, meterRegistry);
+    }
+
+    @Test
+    void tryAcquire_ShouldRejectAboveLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(2);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(1.0, meterRegistry.get("dashboard.limiter.rejected").counter().count());
+
+        limiter.onIgnore();
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    void onSuccess_ShouldGrowLimitWhileLatencyIsStable() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10);
+
+        for (int round = 0; round < 20; round++) {
+            saturateAndComplete(limiter, TimeUnit.MILLISECONDS.toNanos(100));
+        }
+
+        assertTrue(limiter.getLimit() > 10, "limit should grow, was " + limiter.getLimit());
+    }
+
+    @Test
+    void onSuccess_ShouldShrinkLimitWhenLatencyRises() {
+        AdaptiveConcurrencyLimiter limiter = limiter(40);
+        for (int round = 0; round < 5; round++) {
+            saturateAndComplete(limiter, TimeUnit.MILLISECONDS.toNanos(100));
+        }
+        int before = limiter.getLimit();
+
+        for (int round = 0; round < 10; round++) {
+            saturateAndComplete(limiter, TimeUnit.MILLISECONDS.toNanos(1_000));
+        }
+
+        assertTrue(limiter.getLimit() < before, "limit should shrink from " + before + ", was " + limiter.getLimit());
+    }
+
+    private void saturateAndComplete(AdaptiveConcurrencyLimiter limiter, long rttNanos) {
+        int admitted = 0;
+        while (limiter.tryAcquire()) {
+            admitted++;
+        }
+        for (int i = 0; i < admitted; i++) {
+            limiter.onSuccess(rttNanos);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.riskdashboardbff.service;
+
+import com.example.riskdashboardbff.api.InvalidQueryException;
+import com.example.riskdashboardbff.model.DashboardViewModel.SectionStatus;
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingOrder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for where ArrowExportService takes the exported value from and how it
+ * reports its freshness.
+ */
+@ExtendWith(MockitoExtension.class)
+class ArrowExportServiceTest {
+
+    private static final List<TradingOrder> ORDERS = List.of(
+            new TradingOrder("ORD-000001", "AAPL", "BUY", 100, 150.0, "PENDING"),
+            new TradingOrder("ORD-000002", "MSFT", "SELL", 200, 300.0, "PARTIAL"));
+
+    @Mock
+    private StreamIngestionService streamViews;
+
+    @Mock
+    private RiskServiceClient riskServiceClient;
+
+    @Mock
+    private TradingServiceClient tradingServiceClient;
+
+    @Mock
+    private LedgerServiceClient ledgerServiceClient;
+
+    private final LastKnownGoodCache lastKnownGood =
+            new LastKnownGoodCache(Duration.ofMinutes(10), Duration.ofSeconds(5));
+
+    @Test
+    void export_ShouldServeARecentCachedListAsLiveAsOfWhenItWasFetched() {
+        lastKnownGood.put(DashboardSection.OPEN_ORDERS, ORDERS);
+
+        StepVerifier.create(service(Duration.ofMinutes(1)).export("orders", null))
+                .assertNext(export -> {
+                    assertEquals(SectionStatus.LIVE, export.status().state());
+                    assertNotNull(export.status().asOf());
+                })
+                .verifyComplete();
+        verify(tradingServiceClient, never()).fetchOpenOrders();
+    }
+
+    @Test
+    void export_ShouldRefetchAnOldCachedListAndReportAFallbackAsStale() {
+        // Cached lists are never recent enough.
+        ArrowExportService service = service(Duration.ofMillis(-1));
+        lastKnownGood.put(DashboardSection.OPEN_ORDERS, ORDERS);
+
+        when(tradingServiceClient.fetchOpenOrders()).thenReturn(Mono.just(ORDERS));
+        StepVerifier.create(service.export("orders", null))
+                .assertNext(export -> assertEquals(SectionStatus.live(), export.status()))
+                .verifyComplete();
+
+        when(tradingServiceClient.fetchOpenOrders()).thenReturn(lastKnownGood.withFallback(
+                DashboardSection.OPEN_ORDERS, Mono.error(new IllegalStateException("trading down")), List.of()));
+        StepVerifier.create(service.export("orders", null).flatMapMany(export -> {
+                    assertEquals(SectionStatus.STALE, export.status().state());
+                    return export.messages();
+                }))
+                // The cached list is still exported.
+                .expectNextCount(1)
+                .thenConsumeWhile(message -> true)
+                .verifyComplete();
+    }
+
+    @Test
+    void export_ShouldRejectUnknownDatasetsAndBatchSizes() {
+        StepVerifier.create(service(Duration.ofSeconds(5)).export("positions", null))
+                .expectError(InvalidQueryException.class)
+                .verify();
+        StepVerifier.create(service(Duration.ofSeconds(5)).export("orders", 0))
+                .expectError(InvalidQueryException.class)
+                .verify();
+    }
+
+    private ArrowExportService service(Duration maxCacheAge) {
+        return new ArrowExportService(lastKnownGood, streamViews, riskServiceClient, tradingServiceClient,
+                ledgerServiceClient, new CpuOffloadPolicy(new SimpleMeterRegistry(), 2, 500), maxCacheAge, 1_000, 10_000);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.riskdashboardbff.service;
+
+import com.example.riskdashboardbff.model.DashboardViewModel.AccountBalance;
+import com.example.riskdashboardbff.model.DashboardViewModel.ChartAggregates;
+import com.example.riskdashboardbff.model.DashboardViewModel.GroupTotal;
+import com.example.riskdashboardbff.model.DashboardViewModel.RiskAccount;
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingFill;
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingOrder;
+import com.example.riskdashboardbff.model.DashboardViewModel.Transaction;
+import com.example.riskdashboardbff.model.columnar.ColumnarLists;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Unit tests for the chart pre-aggregation of the list sections.
+ */
+class ChartAggregatorTest {
+
+    private static final List<RiskAccount> ACCOUNTS = List.of(
+            new RiskAccount("ACC-001", "EQUITIES", 300.0, 0.05),
+            new RiskAccount("ACC-002", "FX", 500.0, 0.55),
+            new RiskAccount("ACC-003", "EQUITIES", 100.0, 0.99),
+            new RiskAccount("ACC-004", "RATES", 200.0, 1.20)
+    );
+    private static final List<TradingOrder> ORDERS = List.of(
+            new TradingOrder("ORD-000001", "AAPL", "BUY", 100, 10.0, "PENDING"),
+            new TradingOrder("ORD-000002", "MSFT", "SELL", 50, 20.0, "PARTIAL"),
+            new TradingOrder("ORD-000003", "AAPL", "BUY", 25, 30.0, "PENDING")
+    );
+    private static final List<TradingFill> FILLS = List.of(
+            new TradingFill("FILL-000001", "AAPL", "BUY", 10, 10.0, -5.0),
+            new TradingFill("FILL-000002", "MSFT", "SELL", 10, 10.0, 7.5),
+            new TradingFill("FILL-000003", "AAPL", "BUY", 10, 10.0, 2.0)
+    );
+    private static final List<AccountBalance> BALANCES = List.of(
+            new AccountBalance("ACC-001", "USD", 1_000.0, 0.0, 1_000.0),
+            new AccountBalance("ACC-002", "EUR", 3_000.0, 0.0, 3_000.0),
+            new AccountBalance("ACC-003", "USD", 500.0, 0.0, 500.0)
+    );
+    private static final List<Transaction> TRANSACTIONS = List.of(
+            new Transaction("TX-0001", "ACC-001", "DEPOSIT", "USD", 100.0, "SETTLED"),
+            new Transaction("TX-0002", "ACC-002", "WITHDRAWAL", "EUR", 40.0, "PENDING"),
+            new Transaction("TX-0003", "ACC-003", "DEPOSIT", "EUR", 60.0, "SETTLED")
+    );
+
+    @Test
+    void aggregate_ShouldGroupAndBucketEachSection() {
+        ChartAggregates charts = new ChartAggregator(2, 4).aggregate(ACCOUNTS, ORDERS, FILLS, BALANCES, TRANSACTIONS);
+
+        assertEquals(List.of(new GroupTotal("ACC-002", 500.0, 1), new GroupTotal("ACC-001", 300.0, 1)),
+                charts.topExposures());
+        assertEquals(List.of(new GroupTotal("FX", 500.0, 1), new GroupTotal("EQUITIES", 400.0, 2),
+                new GroupTotal("RATES", 200.0, 1)), charts.exposureByBook());
+        assertArrayEquals(new long[]{1, 0, 1, 2}, charts.utilization().counts());
+        assertEquals(List.of(new GroupTotal("MSFT", 7.5, 1), new GroupTotal("AAPL", -3.0, 2)), charts.pnlBySymbol());
+        assertEquals(List.of(new GroupTotal("PENDING", 125.0, 2), new GroupTotal("PARTIAL", 50.0, 1)),
+                charts.ordersByStatus());
+        assertEquals(List.of(new GroupTotal("EUR", 3_000.0, 1), new GroupTotal("USD", 1_500.0, 2)),
+                charts.cashByCurrency());
+        assertEquals(List.of(new GroupTotal("DEPOSIT", 160.0, 2), new GroupTotal("WITHDRAWAL", 40.0, 1)),
+                charts.transactionAmountByType());
+        assertEquals(List.of(new GroupTotal("USD", 100.0, 1), new GroupTotal("EUR", 100.0, 2)),
+                charts.transactionAmountByCurrency());
+    }
+
+    @Test
+    void aggregate_ShouldReuseResultsUntilASectionIsReplaced() {
+        ChartAggregator aggregator = new ChartAggregator(10, 10);
+        List<TradingFill> columnarFills = ColumnarLists.compact(FILLS);
+
+        ChartAggregates first = aggregator.aggregate(ACCOUNTS, ORDERS, columnarFills, BALANCES, TRANSACTIONS);
+        ChartAggregates second = aggregator.aggregate(ACCOUNTS, ORDERS, columnarFills, BALANCES, List.of());
+
+        assertSame(first.pnlBySymbol(), second.pnlBySymbol());
+        assertSame(first.exposureByBook(), second.exposureByBook());
+        assertEquals(List.of(), second.transactionAmountByType());
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.riskdashboardbff.service;
+
+import com.example.riskdashboardbff.model.DashboardViewModel.RiskSummary;
+import com.example.riskdashboardbff.model.DashboardViewModel.SectionStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.ReactiveSubscription.ChannelMessage;
+import org.springframework.data.redis.connection.ReactiveSubscription.Message;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for sharing section snapshots between replicas, with two coordinators on
+ * an in-memory stand-in for Redis keys and pub/sub, and the refresh interval on
+ * virtual time.
+ */
+class ClusterSnapshotCoordinatorTest {
+
+    private static final Duration REFRESH_INTERVAL = Duration.ofSeconds(2);
+    private static final Duration FRESH_FOR = Duration.ofMillis(200);
+    private static final RiskSummary SUMMARY = new RiskSummary(5_000_000d, 0.7);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, String> keys = new ConcurrentHashMap<>();
+    private final List<String> announcements = new ArrayList<>();
+    private final Sinks.Many<Message<String, String>> channel = Sinks.many().multicast().directBestEffort();
+    private final ReactiveStringRedisTemplate redisTemplate = mock(ReactiveStringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ReactiveValueOperations<String, String> values = mock(ReactiveValueOperations.class);
+
+    private final Map<ClusterSnapshotCoordinator, RiskServiceClient> riskClients = new HashMap<>();
+    private final Map<ClusterSnapshotCoordinator, LastKnownGoodCache> caches = new HashMap<>();
+    private VirtualTimeScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = VirtualTimeScheduler.getOrSet();
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        doReturn(channel.asFlux()).when(redisTemplate).listenToChannel("dashboard:snapshots");
+        // Only the risk summary is shared here; every other lease is held elsewhere.
+        when(values.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenAnswer(invocation -> {
+            String key = invocation.getArgument(0);
+            return Mono.just(key.equals("dashboard:lease:riskSummary")
+                    && keys.putIfAbsent(key, invocation.getArgument(1)) == null);
+        });
+        when(values.set(anyString(), anyString(), any(Duration.class))).thenAnswer(invocation -> {
+            keys.put(invocation.getArgument(0), invocation.getArgument(1));
+            return Mono.just(true);
+        });
+        when(values.get(anyString()))
+                .thenAnswer(invocation -> Mono.justOrEmpty(keys.get(invocation.<String>getArgument(0))));
+        when(redisTemplate.convertAndSend(anyString(), anyString())).thenAnswer(invocation -> {
+            String message = invocation.getArgument(1);
+            announcements.add(message);
+            channel.tryEmitNext(new ChannelMessage<>(invocation.getArgument(0), message));
+            return Mono.just(1L);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        caches.keySet().forEach(ClusterSnapshotCoordinator::stop);
+        VirtualTimeScheduler.reset();
+    }
+
+    @Test
+    void refresh_ShouldFetchOnlyOnTheReplicaThatWinsTheLease() {
+        ClusterSnapshotCoordinator winner = coordinator();
+        ClusterSnapshotCoordinator other = coordinator();
+        when(riskClients.get(winner).fetchRiskSummary()).thenReturn(Mono.just(SUMMARY));
+
+        scheduler.advanceTimeBy(REFRESH_INTERVAL);
+
+        verify(riskClients.get(winner), times(1)).fetchRiskSummary();
+        verify(riskClients.get(other), never()).fetchRiskSummary();
+        assertTrue(keys.containsKey("dashboard:snapshot:riskSummary"));
+        assertEquals(1, announcements.size());
+    }
+
+    @Test
+    void refresh_ShouldNeverPublishAFallbackValue() {
+        ClusterSnapshotCoordinator winner = coordinator();
+        LastKnownGoodCache cache = caches.get(winner);
+        cache.put(DashboardSection.RISK_SUMMARY, SUMMARY);
+        when(riskClients.get(winner).fetchRiskSummary()).thenReturn(cache.withFallback(
+                DashboardSection.RISK_SUMMARY, Mono.error(new IllegalStateException("risk service down")), null));
+
+        scheduler.advanceTimeBy(REFRESH_INTERVAL);
+
+        verify(riskClients.get(winner), times(1)).fetchRiskSummary();
+        assertNull(keys.get("dashboard:snapshot:riskSummary"));
+        assertTrue(announcements.isEmpty());
+    }
+
+    @Test
+    void announcement_ShouldBeAppliedByOtherReplicasOnly() {
+        ClusterSnapshotCoordinator winner = coordinator();
+        ClusterSnapshotCoordinator other = coordinator();
+        when(riskClients.get(winner).fetchRiskSummary()).thenReturn(Mono.just(SUMMARY));
+
+        scheduler.advanceTimeBy(REFRESH_INTERVAL);
+
+        // Both replicas hear the announcement; only the other one loads the snapshot.
+        verify(values, times(1)).get("dashboard:snapshot:riskSummary");
+        assertNull(caches.get(winner).peek(DashboardSection.RISK_SUMMARY));
+        assertEquals(SUMMARY, caches.get(other).peek(DashboardSection.RISK_SUMMARY));
+    }
+
+    @Test
+    void freshValue_ShouldServeAnAppliedSnapshotOnlyWhileItIsFresh() throws InterruptedException {
+        ClusterSnapshotCoordinator winner = coordinator();
+        ClusterSnapshotCoordinator other = coordinator();
+        when(riskClients.get(winner).fetchRiskSummary()).thenReturn(Mono.just(SUMMARY));
+        scheduler.advanceTimeBy(REFRESH_INTERVAL);
+
+        Map<String, SectionStatus> statuses = new HashMap<>();
+        assertEquals(SUMMARY, other.freshValue(DashboardSection.RISK_SUMMARY, statuses));
+        assertEquals(SectionStatus.LIVE, statuses.get("riskSummary").state());
+
+        Thread.sleep(FRESH_FOR.toMillis() + 50);
+        statuses.clear();
+        assertNull(other.freshValue(DashboardSection.RISK_SUMMARY, statuses));
+        assertTrue(statuses.isEmpty());
+        // Still available as a last-known-good value for fallbacks.
+        assertEquals(SUMMARY, caches.get(other).peek(DashboardSection.RISK_SUMMARY));
+    }
+
+    private ClusterSnapshotCoordinator coordinator() {
+        LastKnownGoodCache cache = new LastKnownGoodCache(Duration.ofMinutes(10), Duration.ofSeconds(5));
+        RiskServiceClient riskClient = mock(RiskServiceClient.class);
+        ClusterSnapshotCoordinator coordinator = new ClusterSnapshotCoordinator(redisTemplate, cache, objectMapper,
+                new SimpleMeterRegistry(), riskClient, mock(TradingServiceClient.class), mock(LedgerServiceClient.class),
+                true, REFRESH_INTERVAL, FRESH_FOR, Duration.ofMinutes(10));
+        riskClients.put(coordinator, riskClient);
+        caches.put(coordinator, cache);
+        coordinator.start();
+        return coordinator;
+    }
+}
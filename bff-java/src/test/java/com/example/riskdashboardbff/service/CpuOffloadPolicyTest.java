@@ -0,0 +1,61 @@
+package com.example.riskdashboardbff.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.blockhound.BlockingOperationError;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for CpuOffloadPolicy, including the BlockHound guard the suite runs under.
+ */
+class CpuOffloadPolicyTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CpuOffloadPolicy policy = new CpuOffloadPolicy(meterRegistry, 2, 100);
+
+    @AfterEach
+    void tearDown() {
+        policy.dispose();
+    }
+
+    @Test
+    void map_ShouldOffloadOnlyWorkAboveTheRowThreshold() {
+        String caller = Thread.currentThread().getName();
+        List<Integer> small = IntStream.range(0, 10).boxed().toList();
+        List<Integer> large = IntStream.range(0, 1_000).boxed().toList();
+
+        StepVerifier.create(policy.map(Mono.just(small), List::size, rows -> Thread.currentThread().getName()))
+                .expectNext(caller)
+                .verifyComplete();
+        StepVerifier.create(policy.map(Mono.just(large), List::size, rows -> Thread.currentThread().getName()))
+                .assertNext(thread -> assertTrue(thread.startsWith("dashboard-cpu"), thread))
+                .verifyComplete();
+
+        assertEquals(1.0, meterRegistry.get("dashboard.cpu.work").tag("placement", "inline").counter().count());
+        assertEquals(1.0, meterRegistry.get("dashboard.cpu.work").tag("placement", "offloaded").counter().count());
+    }
+
+    @Test
+    void map_ShouldFailFastWhenOffloadedWorkBlocks() {
+        List<Integer> large = IntStream.range(0, 1_000).boxed().toList();
+
+        StepVerifier.create(policy.map(Mono.just(large), List::size, rows -> {
+                    try {
+                        Thread.sleep(10);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return rows.size();
+                }))
+                .expectError(BlockingOperationError.class)
+                .verify();
+    }
+}
@@ -2,6 +2,11 @@ package com.example.riskdashboardbff.service;
 
 import com.example.riskdashboardbff.model.DashboardViewModel;
 import com.example.riskdashboardbff.model.DashboardViewModel.*;
+import com.example.riskdashboardbff.model.RawJsonList;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,10 +19,16 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -45,21 +56,44 @@ class DashboardAggregationServiceUnitTest {
     @Mock
     private LedgerServiceClient ledgerServiceClient;
 
+    @Mock
+    private LoadPressureMonitor loadPressureMonitor;
+
+    @Mock
+    private ClusterSnapshotCoordinator clusterSnapshots;
+
+    @Mock
+    private StreamIngestionService streamViews;
+
+    private LastKnownGoodCache lastKnownGood;
+
     private DashboardAggregationService service;
 
     @BeforeEach
     void setUp() {
+        lastKnownGood = new LastKnownGoodCache(Duration.ofMinutes(10), Duration.ofSeconds(5));
         service = new DashboardAggregationService(
                 redisTemplate,
+                new RedisClientCache(null, new SimpleMeterRegistry(), 16),
                 riskServiceClient,
                 tradingServiceClient,
                 latencyMetricsClient,
-                ledgerServiceClient
+                ledgerServiceClient,
+                lastKnownGood,
+                loadPressureMonitor,
+                clusterSnapshots,
+                streamViews,
+                new ChartAggregator(10, 10),
+                new KpiHistory(true, ""),
+                new DashboardTracer(new SimpleMeterRegistry(), true, 0.0, Duration.ofSeconds(1), 5, 5, Duration.ofMinutes(1)),
+                new CpuOffloadPolicy(new SimpleMeterRegistry(), 2, 500),
+                Duration.ofSeconds(10)
         );
     }
 
     @Test
     void aggregate_ShouldCombineAllServiceResponses() {
+        when(loadPressureMonitor.currentLevel()).thenReturn(LoadLevel.NORMAL);
         // Arrange - Mock Redis to return empty (trigger in-memory seeding)
         when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
         when(zSetOperations.reverseRangeWithScores(anyString(), any(Range.class)))
@@ -111,13 +145,70 @@ class DashboardAggregationServiceUnitTest {
                             && !viewModel.openOrders().isEmpty()
                             && !viewModel.recentFills().isEmpty()
                             && !viewModel.accountBalances().isEmpty()
-                            && !viewModel.recentTransactions().isEmpty();
+                            && !viewModel.recentTransactions().isEmpty()
+                            && viewModel.sectionStatus().size() == DashboardSection.values().length
+                            && viewModel.sectionStatus().values().stream()
+                                    .allMatch(status -> SectionStatus.LIVE.equals(status.state()));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void aggregate_ShouldNotDecodePassthroughLists() throws Exception {
+        when(loadPressureMonitor.currentLevel()).thenReturn(LoadLevel.NORMAL);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.reverseRangeWithScores(anyString(), any(Range.class)))
+                .thenReturn(Flux.empty());
+        when(zSetOperations.add(anyString(), anyString(), any(Double.class)))
+                .thenReturn(Mono.just(true));
+        when(riskServiceClient.fetchRiskSummary()).thenReturn(Mono.just(new RiskSummary(5_000_000.0, 0.75)));
+        when(riskServiceClient.fetchRiskAccounts()).thenReturn(Mono.just(List.of(
+                new RiskAccount("ACC-001", "EQUITIES", 1_000_000.0, 0.8)
+        )));
+        when(riskServiceClient.fetchRiskMetrics()).thenReturn(Mono.just(List.of()));
+        when(tradingServiceClient.fetchTradingSummary()).thenReturn(Mono.just(new TradingSummary(50, 200, 15_000.0)));
+        when(latencyMetricsClient.measureLatencies()).thenReturn(Mono.just(new LatencyMetrics(100.0, 120.0, 80.0)));
+
+        // Passthrough lists as the clients return them; any decode of their rows fails.
+        ObjectMapper objectMapper = new ObjectMapper();
+        ObjectReader undecodable = objectMapper.readerFor(new TypeReference<List<Integer>>() {});
+        RawJsonList<TradingOrder> orders = RawJsonList.of(objectMapper.writeValueAsBytes(List.of(
+                new TradingOrder("ORD-001", "AAPL", "BUY", 100, 150.0, "PENDING"),
+                new TradingOrder("ORD-002", "MSFT", "SELL", 40, 350.0, "PENDING")
+        )), undecodable);
+        RawJsonList<TradingFill> fills = RawJsonList.of(objectMapper.writeValueAsBytes(List.of(
+                new TradingFill("FILL-001", "MSFT", "SELL", 50, 350.0, 500.0)
+        )), undecodable);
+        RawJsonList<AccountBalance> balances = RawJsonList.of(objectMapper.writeValueAsBytes(List.of(
+                new AccountBalance("ACC-001", "USD", 100_000.0, 20_000.0, 80_000.0)
+        )), undecodable);
+        RawJsonList<Transaction> transactions = RawJsonList.of(objectMapper.writeValueAsBytes(List.of(
+                new Transaction("TX-001", "ACC-001", "TRADE", "USD", 5_000.0, "PENDING")
+        )), undecodable);
+        when(tradingServiceClient.fetchOpenOrders()).thenReturn(Mono.just(orders));
+        when(tradingServiceClient.fetchRecentFills()).thenReturn(Mono.just(fills));
+        when(ledgerServiceClient.fetchAccountBalances()).thenReturn(Mono.just(balances));
+        when(ledgerServiceClient.fetchRecentTransactions()).thenReturn(Mono.just(transactions));
+
+        StepVerifier.create(service.aggregate())
+                .assertNext(viewModel -> {
+                    assertSame(orders, viewModel.openOrders());
+                    assertSame(balances, viewModel.accountBalances());
+                    assertEquals(List.of(new GroupTotal("PENDING", 140.0, 2)), viewModel.charts().ordersByStatus());
+                    assertEquals(List.of(new GroupTotal("MSFT", 500.0, 1)), viewModel.charts().pnlBySymbol());
+                    assertEquals(List.of(new GroupTotal("USD", 100_000.0, 1)), viewModel.charts().cashByCurrency());
+                    assertEquals(List.of(new GroupTotal("TRADE", 5_000.0, 1)),
+                            viewModel.charts().transactionAmountByType());
+                    assertEquals(List.of(new EnrichedAccount(
+                                    "ACC-001", "EQUITIES", 1_000_000.0, 0.8, "USD", 100_000.0, 80_000.0, 1, 5_000.0)),
+                            new ArrayList<>(viewModel.enrichedAccounts()));
                 })
                 .verifyComplete();
     }
 
     @Test
     void aggregate_ShouldHandleEmptyResponses() {
+        when(loadPressureMonitor.currentLevel()).thenReturn(LoadLevel.NORMAL);
         // Arrange - Mock Redis to return empty
         when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
         when(zSetOperations.reverseRangeWithScores(anyString(), any(Range.class)))
@@ -149,4 +240,81 @@ class DashboardAggregationServiceUnitTest {
                 )
                 .verifyComplete();
     }
+
+    @Test
+    void aggregate_ShouldDegradeLowPrioritySectionsUnderCriticalLoad() {
+        when(loadPressureMonitor.currentLevel()).thenReturn(LoadLevel.CRITICAL);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.reverseRangeWithScores(anyString(), any(Range.class)))
+                .thenReturn(Flux.empty());
+        when(zSetOperations.add(anyString(), anyString(), any(Double.class)))
+                .thenReturn(Mono.just(true));
+
+        // Critical sections are still fetched live.
+        RiskSummary riskSummary = new RiskSummary(5_000_000.0, 0.75);
+        when(riskServiceClient.fetchRiskSummary()).thenReturn(Mono.just(riskSummary));
+
+        // Normal-priority sections come from the last-known-good cache only.
+        List<TradingOrder> cachedOrders = List.of(new TradingOrder("ORD-001", "AAPL", "BUY", 100, 150.0, "PENDING"));
+        lastKnownGood.put(DashboardSection.OPEN_ORDERS, cachedOrders);
+
+        StepVerifier.create(service.aggregate())
+                .expectNextMatches(viewModel ->
+                        viewModel.riskSummary().equals(riskSummary)
+                        && viewModel.openOrders().equals(cachedOrders)
+                        && viewModel.recentFills().isEmpty()
+                        && viewModel.recentTransactions().isEmpty()
+                        && SectionStatus.LIVE.equals(viewModel.sectionStatus().get("riskSummary").state())
+                        && SectionStatus.STALE.equals(viewModel.sectionStatus().get("openOrders").state())
+                        && SectionStatus.SKIPPED.equals(viewModel.sectionStatus().get("recentFills").state())
+                        && SectionStatus.SKIPPED.equals(viewModel.sectionStatus().get("recentTransactions").state())
+                )
+                .verifyComplete();
+
+        verify(tradingServiceClient, never()).fetchRecentFills();
+        verify(tradingServiceClient, never()).fetchOpenOrders();
+        verify(ledgerServiceClient, never()).fetchRecentTransactions();
+    }
+
+    @Test
+    void aggregateFiltered_ShouldPushDownAndNarrowToTheDesk() {
+        when(loadPressureMonitor.currentLevel()).thenReturn(LoadLevel.NORMAL);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.reverseRangeWithScores(anyString(), any(Range.class)))
+                .thenReturn(Flux.empty());
+        when(zSetOperations.add(anyString(), anyString(), any(Double.class)))
+                .thenReturn(Mono.just(true));
+
+        DashboardFilter filter = DashboardFilter.of(List.of("EQUITIES"), List.of());
+        when(riskServiceClient.fetchRiskSummary()).thenReturn(Mono.just(new RiskSummary(0.0, 0.0)));
+        // The downstream ignores the book filter; the BFF narrows the result itself.
+        when(riskServiceClient.fetchRiskAccounts(filter)).thenReturn(Mono.just(List.of(
+                new RiskAccount("ACC-001", "EQUITIES", 1_000_000.0, 0.8),
+                new RiskAccount("ACC-002", "FX", 2_000_000.0, 0.4)
+        )));
+        when(riskServiceClient.fetchRiskMetrics()).thenReturn(Mono.just(List.of()));
+        when(tradingServiceClient.fetchTradingSummary()).thenReturn(Mono.just(new TradingSummary(0, 0, 0.0)));
+        when(tradingServiceClient.fetchOpenOrders()).thenReturn(Mono.just(List.of()));
+        when(tradingServiceClient.fetchRecentFills()).thenReturn(Mono.just(List.of()));
+        // The ledger has no books: balances and transactions follow the accounts in the book.
+        when(ledgerServiceClient.fetchAccountBalances()).thenReturn(Mono.just(List.of(
+                new AccountBalance("ACC-001", "USD", 100_000.0, 20_000.0, 80_000.0),
+                new AccountBalance("ACC-002", "EUR", 50_000.0, 10_000.0, 40_000.0)
+        )));
+        when(ledgerServiceClient.fetchRecentTransactions()).thenReturn(Mono.just(List.of(
+                new Transaction("TX-001", "ACC-002", "TRADE", "EUR", 5_000.0, "SETTLED")
+        )));
+        when(latencyMetricsClient.measureLatencies()).thenReturn(Mono.just(new LatencyMetrics(0.0, 0.0, 0.0)));
+
+        StepVerifier.create(service.aggregate(filter))
+                .expectNextMatches(viewModel ->
+                        viewModel.riskAccounts().stream().map(RiskAccount::accountId).toList().equals(List.of("ACC-001"))
+                        && viewModel.accountBalances().stream().map(AccountBalance::accountId).toList().equals(List.of("ACC-001"))
+                        && viewModel.recentTransactions().isEmpty()
+                        && viewModel.charts().exposureByBook().size() == 1
+                )
+                .verifyComplete();
+
+        verify(riskServiceClient, never()).fetchRiskAccounts();
+    }
 }
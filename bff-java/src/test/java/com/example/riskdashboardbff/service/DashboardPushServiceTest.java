@@ -0,0 +1,145 @@
+package com.example.riskdashboardbff.service;
+
+import com.example.riskdashboardbff.model.DashboardViewModel;
+import com.example.riskdashboardbff.model.DashboardViewModel.LatencyMetrics;
+import com.example.riskdashboardbff.model.DashboardViewModel.RiskSummary;
+import com.example.riskdashboardbff.model.DashboardViewModel.SystemHealth;
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingSummary;
+import com.example.riskdashboardbff.model.PushSubscriberStats;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the shared push pipeline and per-subscriber conflation.
+ */
+@ExtendWith(MockitoExtension.class)
+class DashboardPushServiceTest {
+
+    @Mock
+    private DashboardAggregationService aggregationService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void publish_ShouldConflateFramesForASlowSubscriber() {
+        DashboardPushService service = service(10);
+        PushSubscriber subscriber = service.subscribe("slow");
+
+        StepVerifier.create(subscriber.frames(), 0)
+                .then(() -> {
+                    service.publish(frame("a"));
+                    service.publish(frame("b"));
+                    service.publish(frame("c"));
+                })
+                .then(() -> assertEquals(new PushSubscriberStats("slow",
+                        service.subscriberStats(1).get(0).connectedAt(), 0, 2, 1), service.subscriberStats(1).get(0)))
+                .thenRequest(1)
+                .assertNext(bytes -> assertEquals("c", new String(bytes, StandardCharsets.UTF_8)))
+                .then(() -> service.publish(frame("d")))
+                .thenRequest(1)
+                .assertNext(bytes -> assertEquals("d", new String(bytes, StandardCharsets.UTF_8)))
+                .thenCancel()
+                .verify();
+
+        assertEquals(2.0, meterRegistry.get("dashboard.push.conflated").counter().count());
+        assertEquals(0.0, meterRegistry.get("dashboard.push.subscribers").gauge().value());
+    }
+
+    @Test
+    void subscribe_ShouldShareOneRefreshBetweenSubscribers() {
+        when(aggregationService.aggregate()).thenReturn(Mono.just(viewModel()));
+        DashboardPushService service = service(2);
+
+        PushSubscriber first = service.subscribe("first");
+        PushSubscriber second = service.subscribe("second");
+        assertNull(service.subscribe("third"));
+
+        StepVerifier.create(first.frames().take(1))
+                .assertNext(bytes -> assertTrue(new String(bytes, StandardCharsets.UTF_8).contains("\"riskSummary\"")))
+                .verifyComplete();
+        StepVerifier.create(second.frames().take(1))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        verify(aggregationService, times(1)).aggregate();
+        assertEquals(List.of(), service.subscriberStats(10));
+        service.stop();
+    }
+
+    @Test
+    void subscribe_ShouldNeverAdmitMoreThanMaxSubscribersConcurrently() throws Exception {
+        DashboardPushService service = service(5);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<PushSubscriber>> attempts = new ArrayList<>();
+        try {
+            for (int i = 0; i < 64; i++) {
+                String id = "subscriber-" + i;
+                attempts.add(executor.submit(() -> {
+                    start.await();
+                    return service.subscribe(id);
+                }));
+            }
+            start.countDown();
+            List<PushSubscriber> admitted = new ArrayList<>();
+            for (Future<PushSubscriber> attempt : attempts) {
+                PushSubscriber subscriber = attempt.get(5, TimeUnit.SECONDS);
+                if (subscriber != null) {
+                    admitted.add(subscriber);
+                }
+            }
+
+            assertEquals(5, admitted.size());
+            assertEquals(59.0, meterRegistry.get("dashboard.push.rejected").counter().count());
+            assertNull(service.subscribe("late"));
+
+            // Leaving frees the slot for the next subscriber.
+            StepVerifier.create(admitted.get(0).frames()).thenCancel().verify();
+            assertNotNull(service.subscribe("late"));
+        } finally {
+            executor.shutdownNow();
+            service.stop();
+        }
+    }
+
+    private DashboardPushService service(int maxSubscribers) {
+        return new DashboardPushService(aggregationService, new ObjectMapper(),
+                new CpuOffloadPolicy(meterRegistry, 2, 500), meterRegistry,
+                true, Duration.ofHours(1), maxSubscribers, 0);
+    }
+
+    private static byte[] frame(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static DashboardViewModel viewModel() {
+        return new DashboardViewModel(List.of(), new SystemHealth("HEALTHY", 120.0, 5, 5),
+                new RiskSummary(1_000.0, 0.5), new TradingSummary(1, 2, 3.0), new LatencyMetrics(1.0, 2.0, 3.0),
+                List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), null, Map.of());
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.riskdashboardbff.service;
+
+import com.example.riskdashboardbff.api.InvalidQueryException;
+import com.example.riskdashboardbff.model.DashboardViewModel.SectionStatus;
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingOrder;
+import com.example.riskdashboardbff.model.DashboardViewModel.Transaction;
+import com.example.riskdashboardbff.model.QueryResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for DashboardQueryService, checked against a plain stream filter/sort.
+ */
+@ExtendWith(MockitoExtension.class)
+class DashboardQueryServiceTest {
+
+    private static final String[] SYMBOLS = {"AAPL", "MSFT", "GOOGL", "AMZN", "TSLA"};
+    private static final String[] STATUSES = {"NEW", "PENDING", "PARTIAL"};
+
+    @Mock
+    private StreamIngestionService streamViews;
+
+    @Mock
+    private TradingServiceClient tradingServiceClient;
+
+    @Mock
+    private LedgerServiceClient ledgerServiceClient;
+
+    private LastKnownGoodCache lastKnownGood;
+
+    private DashboardQueryService service;
+
+    @BeforeEach
+    void setUp() {
+        lastKnownGood = new LastKnownGoodCache(Duration.ofMinutes(10), Duration.ofSeconds(5));
+        service = new DashboardQueryService(lastKnownGood, streamViews, tradingServiceClient, ledgerServiceClient,
+                new CpuOffloadPolicy(new SimpleMeterRegistry(), 2, 500), Duration.ofSeconds(5), 1000);
+    }
+
+    @Test
+    void query_ShouldMatchBruteForceFilterAndTopK() {
+        List<TradingOrder> orders = new ArrayList<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 10_000; i++) {
+            orders.add(new TradingOrder(String.format("ORD-%06d", i), SYMBOLS[random.nextInt(SYMBOLS.length)],
+                    random.nextBoolean() ? "BUY" : "SELL", 1 + random.nextInt(1_000),
+                    // Coarse prices so that ties are exercised.
+                    random.nextInt(200) / 2.0, STATUSES[random.nextInt(STATUSES.length)]));
+        }
+        lastKnownGood.put(DashboardSection.OPEN_ORDERS, orders);
+
+        List<TradingOrder> expected = orders.stream()
+                .filter(order -> Set.of("AAPL", "MSFT").contains(order.symbol()))
+                .filter(order -> order.side().equals("BUY"))
+                .sorted(Comparator.comparingDouble(TradingOrder::price).reversed())
+                .toList();
+
+        StepVerifier.create(service.query("orders",
+                        Map.of("symbol", List.of("AAPL", "MSFT"), "side", List.of("BUY")), "price", true, 50))
+                .assertNext(result -> {
+                    assertEquals(10_000, result.total());
+                    assertEquals(expected.size(), result.matched());
+                    assertEquals(expected.subList(0, 50), result.rows());
+                })
+                .verifyComplete();
+
+        StepVerifier.create(service.query("orders", Map.of("status", List.of("PARTIAL")), null, false, 20))
+                .assertNext(result -> assertEquals(
+                        orders.stream().filter(order -> order.status().equals("PARTIAL")).limit(20).toList(),
+                        result.rows()))
+                .verifyComplete();
+    }
+
+    @Test
+    void query_ShouldFilterTransactionsByAccountAfterFetching() {
+        List<Transaction> transactions = List.of(
+                new Transaction("TX-0001", "ACC-001", "DEPOSIT", "USD", 100.0, "PENDING"),
+                new Transaction("TX-0002", "ACC-002", "DEPOSIT", "USD", 200.0, "PENDING"),
+                new Transaction("TX-0003", "ACC-001", "WITHDRAWAL", "EUR", 300.0, "SETTLED"),
+                new Transaction("TX-0004", "ACC-01", "DEPOSIT", "USD", 400.0, "PENDING")
+        );
+        when(ledgerServiceClient.fetchRecentTransactions()).thenReturn(Mono.just(transactions));
+
+        StepVerifier.create(service.query("transactions",
+                        Map.of("accountId", List.of("ACC-001")), "amount", true, 10))
+                .assertNext(result -> {
+                    QueryResult<?> expected = new QueryResult<>("transactions", 4, 2,
+                            List.of(transactions.get(2), transactions.get(0)), SectionStatus.live(),
+                            result.tookMicros());
+                    assertEquals(expected, result);
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void query_ShouldRefetchAnOldCachedListAndReportAFallbackAsStale() {
+        // Cached lists are never recent enough.
+        service = new DashboardQueryService(lastKnownGood, streamViews, tradingServiceClient, ledgerServiceClient,
+                new CpuOffloadPolicy(new SimpleMeterRegistry(), 2, 500), Duration.ofMillis(-1), 1000);
+        Transaction first = new Transaction("TX-0001", "ACC-001", "DEPOSIT", "USD", 100.0, "PENDING");
+        Transaction second = new Transaction("TX-0002", "ACC-002", "DEPOSIT", "USD", 200.0, "SETTLED");
+        lastKnownGood.put(DashboardSection.RECENT_TRANSACTIONS, List.of(first));
+
+        when(ledgerServiceClient.fetchRecentTransactions()).thenReturn(Mono.just(List.of(first, second)));
+        StepVerifier.create(service.query("transactions", Map.of(), null, false, 10))
+                .assertNext(result -> {
+                    assertEquals(2, result.total());
+                    assertEquals(SectionStatus.live(), result.status());
+                })
+                .verifyComplete();
+
+        when(ledgerServiceClient.fetchRecentTransactions()).thenReturn(lastKnownGood.withFallback(
+                DashboardSection.RECENT_TRANSACTIONS, Mono.error(new IllegalStateException("ledger down")), List.of()));
+        StepVerifier.create(service.query("transactions", Map.of(), null, false, 10))
+                .assertNext(result -> {
+                    assertEquals(List.of(first), result.rows());
+                    assertEquals(SectionStatus.STALE, result.status().state());
+                    assertNotNull(result.status().asOf());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void query_ShouldRejectUnknownFields() {
+        StepVerifier.create(service.query("orders", Map.of("accountId", List.of("ACC-001")), null, false, 10))
+                .expectError(InvalidQueryException.class)
+                .verify();
+        StepVerifier.create(service.query("fills", Map.of(), "amount", false, 10))
+                .expectError(InvalidQueryException.class)
+                .verify();
+        StepVerifier.create(service.query("positions", Map.of(), null, false, 10))
+                .expectError(InvalidQueryException.class)
+                .verify();
+    }
+
+    @Test
+    void query_ShouldNotReportDownstreamFailuresAsInvalidQueries() {
+        when(ledgerServiceClient.fetchRecentTransactions())
+                .thenReturn(Mono.error(new IllegalArgumentException("Downstream body is not a JSON array")));
+
+        StepVerifier.create(service.query("transactions", Map.of(), null, false, 10))
+                .expectErrorSatisfies(error -> assertFalse(error instanceof InvalidQueryException))
+                .verify();
+    }
+}
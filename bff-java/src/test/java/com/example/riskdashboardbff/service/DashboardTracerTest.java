@@ -0,0 +1,94 @@
+package com.example.riskdashboardbff.service;
+
+import com.example.riskdashboardbff.model.TraceSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for DashboardTracer spans, critical path and tail sampling.
+ */
+class DashboardTracerTest {
+
+    private static DashboardTracer tracer(double sampleRate, int keepSlowest) {
+        return new DashboardTracer(new SimpleMeterRegistry(), true, sampleRate, Duration.ofSeconds(10),
+                keepSlowest, 10, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void traceAggregation_ShouldNameTheSourceThatGatedTheResponse() {
+        DashboardTracer tracer = tracer(1.0, 5);
+
+        tracer.traceAggregation(Mono.zip(
+                tracer.traceSource("riskSummary", Mono.just(1)),
+                tracer.traceSource("recentFills", Mono.just(2).delayElement(Duration.ofMillis(50))))).block();
+
+        TraceSummary trace = tracer.slowest().get(0);
+        assertEquals("recentFills", trace.criticalPath().gatingSource());
+        assertTrue(trace.criticalPath().slackMillis() >= 40);
+        assertEquals(2, trace.spans().size());
+        assertEquals(List.of(trace), tracer.sampled());
+        assertEquals(Map.of("recentFills", 1L), tracer.gatingCounts());
+    }
+
+    @Test
+    void exchangeFilter_ShouldPropagateTraceContextAndCountRetries() {
+        DashboardTracer tracer = tracer(0.0, 5);
+        List<String> traceparents = new ArrayList<>();
+        WebClient webClient = WebClient.builder()
+                .filter(tracer.exchangeFilter())
+                .exchangeFunction(request -> {
+                    traceparents.add(request.headers().getFirst(DashboardTracer.TRACEPARENT_HEADER));
+                    return traceparents.size() == 1
+                            ? Mono.error(new IOException("connection reset"))
+                            : Mono.just(ClientResponse.create(HttpStatus.OK).body("42").build());
+                })
+                .build();
+
+        tracer.traceAggregation(tracer.traceSource("riskSummary",
+                webClient.get().uri("http://risk/api/risk/summary").retrieve().bodyToMono(String.class).retry(1)))
+                .block();
+
+        TraceSummary trace = tracer.slowest().get(0);
+        TraceSummary.Span span = trace.spans().get(0);
+        assertEquals(2, span.attempts());
+        assertEquals(1, trace.criticalPath().retries());
+        assertTrue(span.firstByteMillis() >= 0);
+        assertEquals(List.of("00-" + trace.traceId() + "-" + span.spanId() + "-01",
+                "00-" + trace.traceId() + "-" + span.spanId() + "-01"), traceparents);
+    }
+
+    @Test
+    void finish_ShouldKeepTheSlowestTracesAndContinueIncomingTraceIds() throws InterruptedException {
+        DashboardTracer tracer = tracer(0.0, 2);
+        String traceId = "4bf92f3577b34da6a3ce929d0e0e4736";
+        // Each trace starts before and ends after the faster ones, so the order does not
+        // depend on how long starting a trace takes.
+        RequestTrace slow = tracer.start("GET /api/dashboard", "00-" + traceId + "-00f067aa0ba902b7-01");
+        RequestTrace medium = tracer.start("GET /api/dashboard", null);
+        RequestTrace fast = tracer.start("GET /api/dashboard", null);
+
+        Thread.sleep(5);
+        tracer.finish(fast, false);
+        Thread.sleep(5);
+        tracer.finish(medium, false);
+        Thread.sleep(5);
+        tracer.finish(slow, false);
+
+        assertEquals(List.of(traceId, medium.traceId()),
+                tracer.slowest().stream().map(TraceSummary::traceId).toList());
+        assertEquals(List.of(), tracer.sampled());
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.riskdashboardbff.service;
+
+import com.example.riskdashboardbff.model.DashboardViewModel;
+import com.example.riskdashboardbff.model.DashboardViewModel.LatencyMetrics;
+import com.example.riskdashboardbff.model.DashboardViewModel.RiskSummary;
+import com.example.riskdashboardbff.model.DashboardViewModel.SectionStatus;
+import com.example.riskdashboardbff.model.DashboardViewModel.SystemHealth;
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingOrder;
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingSummary;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the persisted warm-start snapshot and the warmup passes.
+ */
+@ExtendWith(MockitoExtension.class)
+class DashboardWarmupTest {
+
+    @Mock
+    private DashboardAggregationService aggregationService;
+
+    @Mock
+    private DashboardAggregationService restartedService;
+
+    @TempDir
+    private Path dir;
+
+    @Test
+    void restore_ShouldSeedLiveSectionsWithTheirOriginalAge() {
+        Path file = dir.resolve("snapshot.bin");
+        DashboardViewModel viewModel = viewModel();
+        long assembledAt = System.currentTimeMillis() - 5_000;
+        when(aggregationService.latestSnapshot())
+                .thenReturn(new DashboardAggregationService.Snapshot(viewModel, assembledAt));
+        warmup(aggregationService, new LastKnownGoodCache(Duration.ofMinutes(10), Duration.ofSeconds(5)), file)
+                .persist();
+
+        LastKnownGoodCache restartedCache = new LastKnownGoodCache(Duration.ofMinutes(10), Duration.ofSeconds(5));
+        warmup(restartedService, restartedCache, file).restore();
+
+        verify(restartedService).restoreSnapshot(viewModel, assembledAt);
+        assertEquals(viewModel.riskSummary(), restartedCache.peek(DashboardSection.RISK_SUMMARY));
+        assertEquals(viewModel.openOrders(), restartedCache.peek(DashboardSection.OPEN_ORDERS));
+        // Served from the cache when the snapshot was taken, so not restored as a fresh value.
+        assertNull(restartedCache.peek(DashboardSection.TRADING_SUMMARY));
+
+        Map<String, SectionStatus> statuses = new LinkedHashMap<>();
+        restartedCache.serveCached(DashboardSection.RISK_SUMMARY, statuses);
+        assertTrue(statuses.get("riskSummary").ageMs() >= 5_000);
+    }
+
+    @Test
+    void restore_ShouldIgnoreACorruptedSnapshot() throws Exception {
+        Path file = dir.resolve("snapshot.bin");
+        when(aggregationService.latestSnapshot())
+                .thenReturn(new DashboardAggregationService.Snapshot(viewModel(), System.currentTimeMillis()));
+        warmup(aggregationService, new LastKnownGoodCache(Duration.ofMinutes(10), Duration.ofSeconds(5)), file)
+                .persist();
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 0x20;
+        Files.write(file, bytes);
+
+        LastKnownGoodCache restartedCache = new LastKnownGoodCache(Duration.ofMinutes(10), Duration.ofSeconds(5));
+        warmup(restartedService, restartedCache, file).restore();
+
+        verify(restartedService, never()).restoreSnapshot(any(), anyLong());
+        assertNull(restartedCache.peek(DashboardSection.RISK_SUMMARY));
+    }
+
+    @Test
+    void warmUp_ShouldCompleteAfterAllPassesEvenIfDownstreamsAreDown() {
+        when(aggregationService.aggregate()).thenReturn(Mono.just(viewModel()));
+        DashboardWarmup warmup = warmup(aggregationService,
+                new LastKnownGoodCache(Duration.ofMinutes(10), Duration.ofSeconds(5)), null);
+
+        assertFalse(warmup.isComplete());
+        StepVerifier.create(warmup.warmUp()).verifyComplete();
+
+        verify(aggregationService, times(5)).aggregate();
+        assertTrue(warmup.isComplete());
+    }
+
+    private static DashboardWarmup warmup(DashboardAggregationService service, LastKnownGoodCache cache, Path file) {
+        // Nothing listens on port 1, so pings fail fast.
+        return new DashboardWarmup(service, cache, new ObjectMapper(), WebClient.builder(),
+                "http://127.0.0.1:1", "http://127.0.0.1:1", "http://127.0.0.1:1",
+                true, 2, 5, 2, Duration.ofSeconds(10), file == null ? "" : file.toString(), Duration.ofSeconds(30));
+    }
+
+    private static DashboardViewModel viewModel() {
+        Map<String, SectionStatus> status = new LinkedHashMap<>();
+        for (DashboardSection section : DashboardSection.values()) {
+            status.put(section.key(), SectionStatus.live());
+        }
+        status.put("tradingSummary", new SectionStatus(SectionStatus.STALE, "2025-01-01T00:00:00Z", 1_000));
+        return new DashboardViewModel(List.of(), new SystemHealth("HEALTHY", 120.0, 5, 5),
+                new RiskSummary(1_000.0, 0.5), new TradingSummary(1, 2, 3.0), new LatencyMetrics(1.0, 2.0, 3.0),
+                List.of(), List.of(),
+                List.of(new TradingOrder("ORD-000001", "AAPL", "BUY", 100, 10.0, "PENDING")),
+                List.of(), List.of(), List.of(), List.of(), null, status);
+    }
+}
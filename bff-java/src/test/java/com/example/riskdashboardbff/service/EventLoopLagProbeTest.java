@@ -0,0 +1,43 @@
+package com.example.riskdashboardbff.service;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.ReactorResourceFactory;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for EventLoopLagProbe against dedicated Reactor Netty loop resources.
+ */
+class EventLoopLagProbeTest {
+
+    @Test
+    void probe_ShouldRecordALagHistogramPerLoopThread() throws Exception {
+        ReactorResourceFactory resources = new ReactorResourceFactory();
+        resources.setUseGlobalResources(false);
+        resources.afterPropertiesSet();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        EventLoopLagProbe probe = new EventLoopLagProbe(resources, meterRegistry, true, Duration.ofMillis(10));
+        try {
+            probe.start();
+            Thread.sleep(300);
+
+            Collection<Timer> timers = meterRegistry.find("dashboard.event-loop.lag").timers();
+            assertFalse(timers.isEmpty());
+            for (Timer timer : timers) {
+                assertTrue(timer.getId().getTag("loop").contains("-http-"), timer.getId().toString());
+                assertTrue(timer.count() > 0);
+                assertTrue(timer.max(TimeUnit.NANOSECONDS) > 0);
+            }
+        } finally {
+            probe.stop();
+            resources.destroy();
+        }
+    }
+}
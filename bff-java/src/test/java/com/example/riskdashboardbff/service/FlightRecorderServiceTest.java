@@ -0,0 +1,66 @@
+package com.example.riskdashboardbff.service;
+
+import com.example.riskdashboardbff.jfr.CacheLookupEvent;
+import com.example.riskdashboardbff.jfr.FallbackEvent;
+import com.example.riskdashboardbff.model.DashboardViewModel.RiskSummary;
+import com.example.riskdashboardbff.model.FlightRecordingStatus;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the on-demand flight recording and the dashboard JFR events.
+ */
+class FlightRecorderServiceTest {
+
+    private final FlightRecorderService recorder = new FlightRecorderService(
+            "default", Duration.ofMinutes(5), DataSize.ofMegabytes(50), Duration.ofMinutes(1));
+
+    @AfterEach
+    void tearDown() {
+        recorder.close();
+    }
+
+    @Test
+    void dump_ShouldContainDashboardEventsRecordedWhileRunning() throws IOException {
+        LastKnownGoodCache lastKnownGood = new LastKnownGoodCache(Duration.ofMinutes(10), Duration.ofSeconds(5));
+        recorder.start(null);
+
+        lastKnownGood.withFallback(DashboardSection.RISK_SUMMARY,
+                Mono.<RiskSummary>error(new IOException("connection refused")), new RiskSummary(0.0, 0.0)).block();
+        assertEquals("STOPPED", recorder.stop().state());
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recorder.dump());
+        RecordedEvent fallback = events.stream()
+                .filter(event -> event.getEventType().getName().equals(FallbackEvent.NAME))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("riskSummary", fallback.getString("section"));
+        assertEquals("error", fallback.getString("reason"));
+        assertEquals("default", fallback.getString("served"));
+        assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals(CacheLookupEvent.NAME)
+                && !event.getBoolean("hit")));
+    }
+
+    @Test
+    void start_ShouldCapTheDurationAndKeepARunningRecording() {
+        FlightRecordingStatus first = recorder.start(Duration.ofHours(5));
+        FlightRecordingStatus second = recorder.start(Duration.ofSeconds(10));
+
+        assertEquals("RUNNING", first.state());
+        assertEquals(Duration.ofMinutes(1),
+                Duration.between(Instant.parse(first.startedAt()), Instant.parse(first.stopsAt())));
+        assertEquals(first.startedAt(), second.startedAt());
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.riskdashboardbff.service;
+
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingOrder;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Unit tests for the latest-row-per-key materialized view.
+ */
+class KeyedViewTest {
+
+    private final KeyedView<TradingOrder> view = new KeyedView<>(TradingOrder::orderId);
+
+    @Test
+    void upsert_ShouldReplaceTheRowOfAnExistingKeyInPlace() {
+        view.upsert(order("ORD-1", "NEW"));
+        view.upsert(order("ORD-2", "NEW"));
+        view.upsert(order("ORD-1", "PARTIALLY_FILLED"));
+
+        assertEquals(List.of(order("ORD-1", "PARTIALLY_FILLED"), order("ORD-2", "NEW")), view.snapshot());
+    }
+
+    @Test
+    void remove_ShouldDropTheKeyAndIgnoreUnknownKeys() {
+        view.upsert(order("ORD-1", "NEW"));
+        view.upsert(order("ORD-2", "NEW"));
+        List<TradingOrder> before = view.snapshot();
+
+        view.remove("ORD-3");
+        assertSame(before, view.snapshot());
+
+        view.remove("ORD-1");
+        assertEquals(List.of(order("ORD-2", "NEW")), view.snapshot());
+    }
+
+    @Test
+    void reset_ShouldReplaceAllRows() {
+        view.upsert(order("ORD-1", "NEW"));
+
+        view.reset(List.of(order("ORD-2", "NEW"), order("ORD-3", "NEW")));
+
+        assertEquals(List.of(order("ORD-2", "NEW"), order("ORD-3", "NEW")), view.snapshot());
+    }
+
+    private static TradingOrder order(String orderId, String status) {
+        return new TradingOrder(orderId, "AAPL", "BUY", 100, 1.5, status);
+    }
+}
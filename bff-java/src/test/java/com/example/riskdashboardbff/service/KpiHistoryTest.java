@@ -0,0 +1,94 @@
+package com.example.riskdashboardbff.service;
+
+import com.example.riskdashboardbff.model.DashboardViewModel;
+import com.example.riskdashboardbff.model.DashboardViewModel.LatencyMetrics;
+import com.example.riskdashboardbff.model.DashboardViewModel.RiskSummary;
+import com.example.riskdashboardbff.model.DashboardViewModel.SectionStatus;
+import com.example.riskdashboardbff.model.DashboardViewModel.SystemHealth;
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingSummary;
+import com.example.riskdashboardbff.model.HistorySeries;
+import com.example.riskdashboardbff.model.HistorySeries.Point;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the KPI history rings: rollup, retention and persistence.
+ */
+class KpiHistoryTest {
+
+    private static final long T0 = 1_700_000_000_000L - 1_700_000_000_000L % 3_600_000L;
+    private static final List<DashboardKpi> EXPOSURE = List.of(DashboardKpi.TOTAL_NET_EXPOSURE);
+
+    @Test
+    void record_ShouldRollUpIntoEveryResolution() {
+        KpiHistory history = new KpiHistory(true, "");
+        history.record(viewModel(100.0, SectionStatus.LIVE), T0);
+        history.record(viewModel(300.0, SectionStatus.LIVE), T0 + 500);
+        history.record(viewModel(200.0, SectionStatus.LIVE), T0 + 1_500);
+        history.record(viewModel(900.0, SectionStatus.STALE), T0 + 1_600);
+
+        long now = T0 + 2_000;
+        assertEquals(List.of(new Point(T0, 2, 100.0, 300.0, 200.0, 300.0),
+                        new Point(T0 + 1_000, 1, 200.0, 200.0, 200.0, 200.0)),
+                points(history.query(EXPOSURE, HistoryResolution.SECOND, T0, now, now)));
+        Point minute = new Point(T0, 3, 100.0, 300.0, 200.0, 200.0);
+        assertEquals(List.of(minute), points(history.query(EXPOSURE, HistoryResolution.MINUTE, T0, now, now)));
+        assertEquals(List.of(minute), points(history.query(EXPOSURE, HistoryResolution.HOUR, T0, now, now)));
+
+        List<HistorySeries> auto = history.query(EXPOSURE, null, T0 - 7_200_000L, now, now);
+        assertEquals("1m", auto.get(0).resolution());
+    }
+
+    @Test
+    void record_ShouldOverwriteBucketsOlderThanTheRetention() {
+        KpiHistory history = new KpiHistory(true, "");
+        int capacity = HistoryResolution.SECOND.capacity();
+        for (int i = 0; i < capacity + 10; i++) {
+            history.record(viewModel(i, SectionStatus.LIVE), T0 + i * 1_000L);
+        }
+
+        long now = T0 + (capacity + 9) * 1_000L;
+        List<Point> points = points(history.query(EXPOSURE, HistoryResolution.SECOND, T0, now, now));
+        assertEquals(capacity, points.size());
+        assertEquals(T0 + 10_000L, points.get(0).timestamp());
+        assertEquals(capacity + 9, points.get(points.size() - 1).last());
+    }
+
+    @Test
+    void open_ShouldKeepHistoryInAMappedFileAcrossRestarts(@TempDir Path dir) {
+        String file = dir.resolve("kpi-history.bin").toString();
+        KpiHistory first = new KpiHistory(true, file);
+        first.record(viewModel(42.0, SectionStatus.LIVE), T0);
+        first.close();
+
+        KpiHistory second = new KpiHistory(true, file);
+        long now = T0 + 1_000;
+        List<Point> points = points(second.query(EXPOSURE, HistoryResolution.MINUTE, T0, now, now));
+        second.close();
+        assertEquals(List.of(new Point(T0, 1, 42.0, 42.0, 42.0, 42.0)), points);
+        assertTrue(points(new KpiHistory(true, "").query(EXPOSURE, HistoryResolution.MINUTE, T0, now, now)).isEmpty());
+    }
+
+    private static List<Point> points(List<HistorySeries> series) {
+        assertEquals(1, series.size());
+        return series.get(0).points();
+    }
+
+    private static DashboardViewModel viewModel(double exposure, String state) {
+        Map<String, SectionStatus> status = new LinkedHashMap<>();
+        for (DashboardSection section : DashboardSection.values()) {
+            status.put(section.key(), new SectionStatus(state, null, 0));
+        }
+        return new DashboardViewModel(List.of(), new SystemHealth("HEALTHY", 120.0, 5, 5),
+                new RiskSummary(exposure, 0.5), new TradingSummary(1, 2, 3.0), new LatencyMetrics(1.0, 2.0, 3.0),
+                List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), List.of(), null, status);
+    }
+}
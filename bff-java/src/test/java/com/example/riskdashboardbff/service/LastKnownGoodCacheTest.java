@@ -0,0 +1,80 @@
+package com.example.riskdashboardbff.service;
+
+import com.example.riskdashboardbff.model.DashboardViewModel.SectionStatus;
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for LastKnownGoodCache fallback and negative-cache behavior.
+ */
+class LastKnownGoodCacheTest {
+
+    private static final TradingSummary DEFAULT = new TradingSummary(0, 0, 0.0);
+
+    private LastKnownGoodCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new LastKnownGoodCache(Duration.ofMinutes(10), Duration.ofSeconds(30));
+    }
+
+    @Test
+    void withFallback_ShouldServeLastKnownGoodValueOnFailure() {
+        TradingSummary live = new TradingSummary(10, 20, 1_000.0);
+        StepVerifier.create(cache.withFallback(DashboardSection.TRADING_SUMMARY, Mono.just(live), DEFAULT))
+                .expectNext(live)
+                .verifyComplete();
+
+        Map<String, SectionStatus> statuses = new ConcurrentHashMap<>();
+        Mono<TradingSummary> failing = Mono.error(new IllegalStateException("boom"));
+        StepVerifier.create(cache.withFallback(DashboardSection.TRADING_SUMMARY, failing, DEFAULT)
+                        .contextWrite(LastKnownGoodCache.track(statuses)))
+                .expectNext(live)
+                .verifyComplete();
+
+        assertEquals(SectionStatus.STALE, statuses.get("tradingSummary").state());
+    }
+
+    @Test
+    void withFallback_ShouldServeDefaultWhenNothingCached() {
+        Map<String, SectionStatus> statuses = new ConcurrentHashMap<>();
+        Mono<TradingSummary> failing = Mono.error(new IllegalStateException("boom"));
+        StepVerifier.create(cache.withFallback(DashboardSection.TRADING_SUMMARY, failing, DEFAULT)
+                        .contextWrite(LastKnownGoodCache.track(statuses)))
+                .expectNext(DEFAULT)
+                .verifyComplete();
+
+        assertEquals(SectionStatus.DEFAULT, statuses.get("tradingSummary").state());
+    }
+
+    @Test
+    void withFallback_ShouldNotCallFailingSourceWithinNegativeTtl() {
+        AtomicInteger calls = new AtomicInteger();
+        Mono<TradingSummary> failing = Mono.defer(() -> {
+            calls.incrementAndGet();
+            return Mono.error(new IllegalStateException("boom"));
+        });
+
+        cache.withFallback(DashboardSection.TRADING_SUMMARY, failing, DEFAULT).block();
+        cache.withFallback(DashboardSection.TRADING_SUMMARY, failing, DEFAULT).block();
+        cache.withFallback(DashboardSection.TRADING_SUMMARY, failing, DEFAULT).block();
+
+        assertEquals(1, calls.get());
+        assertTrue(cache.isNegativelyCached(DashboardSection.TRADING_SUMMARY));
+
+        cache.put(DashboardSection.TRADING_SUMMARY, DEFAULT);
+        assertFalse(cache.isNegativelyCached(DashboardSection.TRADING_SUMMARY));
+    }
+}
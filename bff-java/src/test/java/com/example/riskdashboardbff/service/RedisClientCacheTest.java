@@ -0,0 +1,84 @@
+package com.example.riskdashboardbff.service;
+
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.api.reactive.RedisReactiveCommands;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the Redis client-side cache, with a mocked tracking connection.
+ */
+class RedisClientCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<StatefulRedisConnection<String, String>> opened = new ArrayList<>();
+    private final RedisClientCache cache = new RedisClientCache(
+            () -> CompletableFuture.completedFuture(trackingConnection()), meterRegistry, 16, "top:");
+    private final AtomicInteger reads = new AtomicInteger();
+    private final Supplier<Mono<String>> read = () -> Mono.just("value-" + reads.incrementAndGet());
+
+    @Test
+    void get_ShouldServeRepeatedReadsLocallyUntilRedisReportsAChange() {
+        assertEquals("value-1", cache.get("top:accounts", read).block());
+        assertEquals("value-1", cache.get("top:accounts", read).block());
+        assertEquals("value-2", cache.get("other:accounts", read).block());
+
+        push(opened.get(0), "top:accounts");
+
+        assertEquals("value-3", cache.get("top:accounts", read).block());
+        assertEquals("value-3", cache.get("top:accounts", read).block());
+        assertEquals(2.0, meterRegistry.get("dashboard.redis.client-cache.requests").tag("result", "hit")
+                .counter().count());
+        assertEquals(1.0, meterRegistry.get("dashboard.redis.client-cache.invalidations").counter().count());
+    }
+
+    @Test
+    void get_ShouldDropLocalCopiesWhenTheTrackingConnectionIsLost() {
+        cache.get("top:accounts", read).block();
+        when(opened.get(0).isOpen()).thenReturn(false);
+
+        // Invalidations may have been missed: the copy is dropped and tracking re-established.
+        assertEquals("value-2", cache.get("top:accounts", read).block());
+        assertEquals("value-2", cache.get("top:accounts", read).block());
+        assertEquals(2, opened.size());
+        assertEquals(1, cache.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private StatefulRedisConnection<String, String> trackingConnection() {
+        StatefulRedisConnection<String, String> connection = mock(StatefulRedisConnection.class);
+        RedisReactiveCommands<String, String> commands = mock(RedisReactiveCommands.class);
+        when(connection.reactive()).thenReturn(commands);
+        when(connection.isOpen()).thenReturn(true);
+        when(commands.clientTracking(any())).thenReturn(Mono.just("OK"));
+        opened.add(connection);
+        return connection;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void push(StatefulRedisConnection<String, String> connection, String... keys) {
+        ArgumentCaptor<PushListener> listener = ArgumentCaptor.forClass(PushListener.class);
+        verify(connection).addListener(listener.capture());
+        PushMessage message = mock(PushMessage.class);
+        when(message.getType()).thenReturn("invalidate");
+        when(message.getContent(any())).thenReturn(List.of("invalidate", Arrays.asList(keys)));
+        listener.getValue().onPushMessage(message);
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.riskdashboardbff.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for RetryBudget.
+ */
+class RetryBudgetTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void retry_ShouldStopRetryingOnceTheHostBudgetIsSpent() {
+        // Two tokens and no refill: the first call retries twice, the second not at all.
+        RetryBudget budget = new RetryBudget(meterRegistry, 2, Duration.ofMillis(1), Duration.ofMillis(5), 0.1, 0.0, 2.0);
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> failing = Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(new IllegalStateException("down"));
+        });
+
+        StepVerifier.create(failing.retryWhen(budget.retry("http://risk:8081", "first", e -> true)))
+                .expectError(IllegalStateException.class)
+                .verify();
+        assertEquals(3, attempts.get());
+
+        // A second client of the same host shares its budget.
+        StepVerifier.create(failing.retryWhen(budget.retry("http://risk:8081/other", "second", e -> true)))
+                .expectError(IllegalStateException.class)
+                .verify();
+        assertEquals(4, attempts.get());
+
+        assertEquals(2.0, meterRegistry.get("dashboard.retry.attempts").tag("host", "risk:8081").counter().count());
+        assertEquals(1.0, meterRegistry.get("dashboard.retry.budget.exhausted").tag("host", "risk:8081").counter().count());
+    }
+
+    @Test
+    void exchangeFilter_ShouldDepositIntoTheBudgetOfTheHostOnSuccess() {
+        // Two tokens, no refill, half a token per successful response.
+        RetryBudget budget = new RetryBudget(meterRegistry, 2, Duration.ofMillis(1), Duration.ofMillis(5), 0.5, 0.0, 2.0);
+        Mono<String> failing = Mono.error(new IllegalStateException("down"));
+        StepVerifier.create(failing.retryWhen(budget.retry("http://risk:8081", "drain", e -> true)))
+                .expectError(IllegalStateException.class)
+                .verify();
+        assertEquals(0.0, budget.tokens("risk:8081"));
+
+        WebClient riskAccounts = client(budget, "http://risk:8081/api/accounts", HttpStatus.OK);
+        WebClient riskMetrics = client(budget, "http://risk:8081/api/metrics", HttpStatus.OK);
+        WebClient riskDown = client(budget, "http://risk:8081/api/summary", HttpStatus.SERVICE_UNAVAILABLE);
+        WebClient trading = client(budget, "http://trading:8082/api/orders", HttpStatus.OK);
+        call(riskAccounts);
+        call(riskMetrics);
+        call(riskDown);
+        call(trading);
+
+        // Both risk clients filled one bucket; the 503 and the trading call did not.
+        assertEquals(1.0, budget.tokens("risk:8081"));
+        assertEquals(2.0, budget.tokens("trading:8082"));
+
+        AtomicInteger attempts = new AtomicInteger();
+        Mono<String> counted = Mono.defer(() -> {
+            attempts.incrementAndGet();
+            return Mono.error(new IllegalStateException("down"));
+        });
+        StepVerifier.create(counted.retryWhen(budget.retry("http://risk:8081", "funded", e -> true)))
+                .expectError(IllegalStateException.class)
+                .verify();
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void backoff_ShouldBeFullyJitteredUpToTheCappedExponentialDelay() {
+        RetryBudget budget = new RetryBudget(meterRegistry, 10, Duration.ofMillis(100), Duration.ofMillis(250), 0.1, 5.0, 20.0);
+        long belowHalf = 0;
+        for (int i = 0; i < 1_000; i++) {
+            Duration first = budget.backoff(0);
+            Duration capped = budget.backoff(8);
+            assertTrue(first.compareTo(Duration.ofMillis(100)) <= 0, first.toString());
+            assertTrue(capped.compareTo(Duration.ofMillis(250)) <= 0, capped.toString());
+            if (capped.compareTo(Duration.ofMillis(125)) < 0) {
+                belowHalf++;
+            }
+        }
+        // Uniform over [0, cap] rather than clustered near the cap.
+        assertTrue(belowHalf > 350 && belowHalf < 650, "below half: " + belowHalf);
+    }
+
+    private static WebClient client(RetryBudget budget, String baseUrl, HttpStatus status) {
+        ExchangeFunction downstream = request -> Mono.just(ClientResponse.create(status).build());
+        return WebClient.builder()
+                .baseUrl(baseUrl)
+                .exchangeFunction(downstream)
+                .filter(budget.exchangeFilter())
+                .build();
+    }
+
+    private static void call(WebClient client) {
+        StepVerifier.create(client.get().exchangeToMono(ClientResponse::releaseBody)).verifyComplete();
+    }
+}
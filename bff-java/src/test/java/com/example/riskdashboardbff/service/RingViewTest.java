@@ -0,0 +1,52 @@
+package com.example.riskdashboardbff.service;
+
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingFill;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for the bounded recent-rows materialized view.
+ */
+class RingViewTest {
+
+    private final RingView<TradingFill> view = new RingView<>(3, TradingFill::fillId);
+
+    @Test
+    void append_ShouldEvictTheOldestRowsOnceFull() {
+        for (int i = 1; i <= 5; i++) {
+            view.append(fill("FIL-" + i));
+        }
+
+        assertEquals(List.of(fill("FIL-3"), fill("FIL-4"), fill("FIL-5")), view.snapshot());
+    }
+
+    @Test
+    void append_ShouldIgnoreReplayedRowsUntilTheyAreEvicted() {
+        view.append(fill("FIL-1"));
+        view.append(fill("FIL-2"));
+        view.append(fill("FIL-1"));
+        assertEquals(List.of(fill("FIL-1"), fill("FIL-2")), view.snapshot());
+
+        view.append(fill("FIL-3"));
+        view.append(fill("FIL-4"));
+        view.append(fill("FIL-1"));
+
+        assertEquals(List.of(fill("FIL-3"), fill("FIL-4"), fill("FIL-1")), view.snapshot());
+    }
+
+    @Test
+    void reset_ShouldKeepOnlyTheMostRecentRows() {
+        view.append(fill("FIL-0"));
+
+        view.reset(List.of(fill("FIL-1"), fill("FIL-2"), fill("FIL-3"), fill("FIL-4")));
+
+        assertEquals(List.of(fill("FIL-2"), fill("FIL-3"), fill("FIL-4")), view.snapshot());
+    }
+
+    private static TradingFill fill(String fillId) {
+        return new TradingFill(fillId, "AAPL", "BUY", 100, 1.5, 0.0);
+    }
+}
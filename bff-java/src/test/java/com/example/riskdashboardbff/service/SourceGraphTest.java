@@ -0,0 +1,73 @@
+package com.example.riskdashboardbff.service;
+
+import com.example.riskdashboardbff.service.DashboardSource.SourceRequest;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for the dependency-graph scheduling of dashboard sources.
+ */
+class SourceGraphTest {
+
+    private static final SourceKey<Integer> FAST = SourceKey.of("fast");
+    private static final SourceKey<Integer> SLOW = SourceKey.of("slow");
+    private static final SourceKey<Integer> DOUBLED = SourceKey.of("doubled");
+    private static final SourceKey<Integer> TOTAL = SourceKey.of("total");
+
+    private static final SourceRequest REQUEST = new SourceRequest(DashboardFilter.NONE, LoadLevel.NORMAL, Map.of());
+
+    @Test
+    void run_ShouldStartEachStepAsSoonAsItsInputsAreAvailable() {
+        List<String> events = new CopyOnWriteArrayList<>();
+        SourceGraph graph = SourceGraph.of(List.of(
+                DashboardSource.derived(TOTAL, List.of(DOUBLED, SLOW),
+                        (request, inputs) -> Mono.just(inputs.get(DOUBLED) + inputs.get(SLOW))),
+                DashboardSource.derived(SLOW, List.of(),
+                        (request, inputs) -> Mono.delay(Duration.ofMillis(500)).map(tick -> 10)
+                                .doOnNext(value -> events.add("slow"))),
+                DashboardSource.derived(DOUBLED, List.of(FAST),
+                        (request, inputs) -> Mono.fromSupplier(() -> {
+                            events.add("doubled");
+                            return inputs.get(FAST) * 2;
+                        })),
+                DashboardSource.derived(FAST, List.of(),
+                        (request, inputs) -> Mono.delay(Duration.ofMillis(50)).map(tick -> 1)
+                                .doOnNext(value -> events.add("fast")))
+        ));
+
+        assertEquals(List.of(SLOW, FAST, DOUBLED, TOTAL),
+                graph.sources().stream().map(DashboardSource::key).toList());
+        StepVerifier.withVirtualTime(() -> graph.run(REQUEST, this::fetch))
+                .thenAwait(Duration.ofMillis(500))
+                .assertNext(results -> assertEquals(12, results.get(TOTAL)))
+                .verifyComplete();
+        // The doubled step did not wait for the unrelated slow source.
+        assertEquals(List.of("fast", "doubled", "slow"), events);
+    }
+
+    @Test
+    void of_ShouldRejectUnknownDependenciesAndCycles() {
+        assertThrows(IllegalArgumentException.class, () -> SourceGraph.of(List.of(
+                DashboardSource.derived(DOUBLED, List.of(FAST), (request, inputs) -> Mono.just(0)))));
+        assertThrows(IllegalArgumentException.class, () -> SourceGraph.of(List.of(
+                DashboardSource.derived(FAST, List.of(TOTAL), (request, inputs) -> Mono.just(0)),
+                DashboardSource.derived(DOUBLED, List.of(FAST), (request, inputs) -> Mono.just(0)),
+                DashboardSource.derived(TOTAL, List.of(DOUBLED), (request, inputs) -> Mono.just(0)))));
+        assertThrows(IllegalArgumentException.class, () -> SourceGraph.of(List.of(
+                DashboardSource.derived(FAST, List.of(), (request, inputs) -> Mono.just(0)),
+                DashboardSource.derived(FAST, List.of(), (request, inputs) -> Mono.just(1)))));
+    }
+
+    private <T> Mono<T> fetch(DashboardSource<T> source, SourceRequest request, SourceResults inputs) {
+        return source.fetcher().fetch(request, inputs);
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.riskdashboardbff.service;
+
+import com.example.riskdashboardbff.model.DashboardViewModel.TradingOrder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for keeping the stream-fed materialized views in sync, with the Redis
+ * stream replaced by an in-memory sink.
+ */
+@ExtendWith(MockitoExtension.class)
+class StreamIngestionServiceTest {
+
+    private static final String TRADING_STREAM = "trading:events";
+
+    @Mock
+    private TradingServiceClient tradingServiceClient;
+
+    @Mock
+    private LedgerServiceClient ledgerServiceClient;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicReference<Sinks.Many<MapRecord<String, String, String>>> events = new AtomicReference<>();
+
+    @Test
+    void follow_ShouldServeTheViewOnlyOnceResyncedAndApplyEventsInSequence() {
+        StreamIngestionService service = service();
+        Sinks.One<List<TradingOrder>> fullFetch = Sinks.one();
+        when(tradingServiceClient.fetchOpenOrders()).thenReturn(fullFetch.asMono());
+        when(tradingServiceClient.fetchRecentFills()).thenReturn(Mono.just(List.of()));
+
+        StepVerifier.create(service.follow(TRADING_STREAM, Mono.empty(), this::events))
+                .then(() -> assertNull(service.materialized(DashboardSection.OPEN_ORDERS)))
+                .then(() -> fullFetch.tryEmitValue(List.of(order("ORD-1"))))
+                .then(() -> assertEquals(List.of(order("ORD-1")), service.materialized(DashboardSection.OPEN_ORDERS)))
+                .then(() -> emit(1, "ORDER_UPSERT", order("ORD-2")))
+                .then(() -> emit(2, "ORDER_REMOVED", order("ORD-1")))
+                .then(() -> assertEquals(List.of(order("ORD-2")), service.materialized(DashboardSection.OPEN_ORDERS)))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void follow_ShouldGoOutOfSyncOnASequenceGapAndResync() {
+        StreamIngestionService service = service();
+        when(tradingServiceClient.fetchOpenOrders()).thenReturn(Mono.just(List.of(order("ORD-1"))));
+        when(tradingServiceClient.fetchRecentFills()).thenReturn(Mono.just(List.of()));
+
+        StepVerifier.withVirtualTime(() -> service.follow(TRADING_STREAM, Mono.empty(), this::events))
+                .expectSubscription()
+                .then(() -> emit(1, "ORDER_UPSERT", order("ORD-2")))
+                .then(() -> assertEquals(2, service.<List<TradingOrder>>materialized(DashboardSection.OPEN_ORDERS).size()))
+                // Event 2 was missed: the view must not be served until it is rebuilt.
+                .then(() -> emit(3, "ORDER_UPSERT", order("ORD-3")))
+                .then(() -> assertNull(service.materialized(DashboardSection.OPEN_ORDERS)))
+                .then(() -> verify(tradingServiceClient, times(1)).fetchOpenOrders())
+                .thenAwait(Duration.ofSeconds(1))
+                .then(() -> verify(tradingServiceClient, times(2)).fetchOpenOrders())
+                .then(() -> assertEquals(List.of(order("ORD-1")), service.materialized(DashboardSection.OPEN_ORDERS)))
+                // Sequence numbers restart with the new subscription.
+                .then(() -> emit(7, "ORDER_UPSERT", order("ORD-4")))
+                .then(() -> assertEquals(2, service.<List<TradingOrder>>materialized(DashboardSection.OPEN_ORDERS).size()))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void materialized_ShouldBeNullForSectionsWithoutAStream() {
+        StreamIngestionService service = service();
+
+        assertNull(service.materialized(DashboardSection.OPEN_ORDERS));
+        assertNull(service.materialized(DashboardSection.RISK_ACCOUNTS));
+    }
+
+    private StreamIngestionService service() {
+        return new StreamIngestionService(null, null, objectMapper, tradingServiceClient, ledgerServiceClient,
+                true, "test", 10, Duration.ofMinutes(5));
+    }
+
+    private Flux<MapRecord<String, String, String>> events() {
+        Sinks.Many<MapRecord<String, String, String>> sink = Sinks.many().unicast().onBackpressureBuffer();
+        events.set(sink);
+        return sink.asFlux();
+    }
+
+    private void emit(long seq, String type, TradingOrder order) {
+        try {
+            Map<String, String> fields = Map.of(
+                    "seq", Long.toString(seq),
+                    "type", type,
+                    "payload", objectMapper.writeValueAsString(order));
+            events.get().tryEmitNext(MapRecord.create(TRADING_STREAM, fields));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static TradingOrder order(String orderId) {
+        return new TradingOrder(orderId, "AAPL", "BUY", 100, 1.5, "NEW");
+    }
+}
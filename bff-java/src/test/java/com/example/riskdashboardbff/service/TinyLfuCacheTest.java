@@ -0,0 +1,60 @@
+package com.example.riskdashboardbff.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for the W-TinyLFU admission and weight bound of TinyLfuCache.
+ */
+class TinyLfuCacheTest {
+
+    @Test
+    void put_ShouldKeepAFrequentKeyThroughAScanOfOneHitKeys() {
+        TinyLfuCache<String, Integer> cache = new TinyLfuCache<>(100, 100, value -> 1);
+        for (int i = 0; i < 100; i++) {
+            cache.put("warm-" + i, i);
+        }
+        // Requested often before it is cached, as a busy desk view would be.
+        for (int i = 0; i < 5; i++) {
+            assertNull(cache.get("hot"));
+        }
+        cache.put("hot", -1);
+
+        for (int i = 0; i < 1_000; i++) {
+            cache.put("scan-" + i, i);
+            assertTrue(cache.weight() <= 100);
+        }
+
+        assertNotNull(cache.get("hot"));
+        assertEquals(100, cache.size());
+    }
+
+    @Test
+    void get_ShouldCountAMissFollowedByAPutAsOneAccess() {
+        TinyLfuCache<String, Integer> cache = new TinyLfuCache<>(100, 100, value -> 1);
+
+        assertNull(cache.get("view"));
+        cache.put("view", 1);
+        assertEquals(1, cache.frequency("view"));
+
+        assertNotNull(cache.get("view"));
+        assertEquals(2, cache.frequency("view"));
+    }
+
+    @Test
+    void put_ShouldBoundTheTotalWeight() {
+        TinyLfuCache<String, Integer> cache = new TinyLfuCache<>(1_000, 16, value -> value);
+        for (int i = 0; i < 200; i++) {
+            cache.put("view-" + i, 1 + i % 50);
+            assertTrue(cache.weight() <= 1_000);
+        }
+        cache.put("too-large", 1_001);
+
+        assertNull(cache.get("too-large"));
+        assertTrue(cache.evictions() > 0);
+    }
+}
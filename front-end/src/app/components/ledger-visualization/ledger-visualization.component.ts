@@ -1,7 +1,7 @@
 import { Component, Input, PLATFORM_ID, inject, OnInit, OnChanges, SimpleChanges, ChangeDetectorRef } from '@angular/core';
 import { isPlatformBrowser, isPlatformServer, CommonModule } from '@angular/common';
 import * as d3 from 'd3';
-import { AccountBalance, Transaction } from '../../services/dashboard.service';
+import { AccountBalance, ChartAggregates, Transaction } from '../../services/dashboard.service';
 import { BarChartComponent, BarChartData, BarChartConfig } from '../shared/bar-chart/bar-chart.component';
 
 @Component({
@@ -10,7 +10,7 @@ import { BarChartComponent, BarChartData, BarChartConfig } from '../shared/bar-c
   imports: [BarChartComponent, CommonModule],
   template: `
     <app-bar-chart [data]="barChartData" [config]="barChartConfig"></app-bar-chart>
-    <div *ngIf="transactions.length > 0" class="tx-container">
+    <div *ngIf="txData.length > 0" class="tx-container">
       <div *ngFor="let item of txData" class="tx-card">
         <div class="tx-type">{{ item.type }}</div>
         <div class="tx-count">{{ item.count }}</div>
@@ -53,6 +53,7 @@ import { BarChartComponent, BarChartData, BarChartConfig } from '../shared/bar-c
 export class LedgerVisualizationComponent implements OnInit, OnChanges {
   @Input() balances: AccountBalance[] = [];
   @Input() transactions: Transaction[] = [];
+  @Input() charts: ChartAggregates | null = null;
 
   barChartData: BarChartData[] = [];
   barChartConfig: BarChartConfig = {};
@@ -79,7 +80,7 @@ export class LedgerVisualizationComponent implements OnInit, OnChanges {
       balancesLength: this.balances?.length
     });
     // Process data for both SSR and browser - same logic
-    if (changes['balances'] || changes['transactions']) {
+    if (changes['balances'] || changes['transactions'] || changes['charts']) {
       this.updateCharts();
       this.cdr.detectChanges();
     }
@@ -95,20 +96,24 @@ export class LedgerVisualizationComponent implements OnInit, OnChanges {
       balancesLength: this.balances?.length
     });
     
-    if (!this.balances || !this.balances.length) {
+    // Prefer cash by currency pre-aggregated by the BFF; fall back to the raw balances.
+    let currencyData: Array<{ currency: string; totalCash: number }>;
+    if (this.charts?.cashByCurrency?.length) {
+      currencyData = this.charts.cashByCurrency.map(group => ({ currency: group.key, totalCash: group.total }));
+    } else if (this.balances?.length) {
+      currencyData = Array.from(
+        d3.group(this.balances, (d: AccountBalance) => d.currency),
+        ([currency, balances]) => ({
+          currency,
+          totalCash: d3.sum(balances, (d: AccountBalance) => d.cashBalance) || 0
+        })
+      );
+    } else {
       this.barChartData = [];
       this.barChartConfig = {};
       return;
     }
-
-    const balancesByCurrency = d3.group(this.balances, (d: AccountBalance) => d.currency);
-    const currencyData = Array.from(balancesByCurrency, ([currency, balances]) => ({
-      currency,
-      totalCash: d3.sum(balances, (d: AccountBalance) => d.cashBalance) || 0,
-      totalMarginUsed: d3.sum(balances, (d: AccountBalance) => d.marginUsed) || 0,
-      totalAvailable: d3.sum(balances, (d: AccountBalance) => d.availableMargin) || 0,
-      accountCount: balances.length
-    })).sort((a, b) => Math.abs(b.totalCash) - Math.abs(a.totalCash));
+    currencyData.sort((a, b) => Math.abs(b.totalCash) - Math.abs(a.totalCash));
 
     this.barChartData = currencyData.map(data => ({
       label: data.currency,
@@ -134,6 +139,10 @@ export class LedgerVisualizationComponent implements OnInit, OnChanges {
   }
 
   private updateTransactionData(): void {
+    if (this.charts?.transactionAmountByType?.length) {
+      this.txData = this.charts.transactionAmountByType.map(group => ({ type: group.key, count: group.count }));
+      return;
+    }
     if (!this.transactions.length) {
       this.txData = [];
       return;
@@ -1,7 +1,7 @@
 import { Component, Input, PLATFORM_ID, inject, OnInit, OnChanges, SimpleChanges, ChangeDetectorRef } from '@angular/core';
 import { isPlatformBrowser, isPlatformServer, CommonModule } from '@angular/common';
 import * as d3 from 'd3';
-import { RiskAccount, RiskMetric } from '../../services/dashboard.service';
+import { ChartAggregates, RiskAccount, RiskMetric } from '../../services/dashboard.service';
 import { BarChartComponent, BarChartData, BarChartConfig } from '../shared/bar-chart/bar-chart.component';
 
 @Component({
@@ -62,6 +62,7 @@ import { BarChartComponent, BarChartData, BarChartConfig } from '../shared/bar-c
 export class RiskVisualizationComponent implements OnInit, OnChanges {
   @Input() riskAccounts: RiskAccount[] = [];
   @Input() riskMetrics: RiskMetric[] = [];
+  @Input() charts: ChartAggregates | null = null;
 
   chartData: BarChartData[] = [];
   chartConfig: BarChartConfig = {};
@@ -87,7 +88,7 @@ export class RiskVisualizationComponent implements OnInit, OnChanges {
       riskAccountsLength: this.riskAccounts?.length
     });
     // Process data for both SSR and browser - same logic
-    if (changes['riskAccounts'] || changes['riskMetrics']) {
+    if (changes['riskAccounts'] || changes['riskMetrics'] || changes['charts']) {
       this.updateChart();
       // Trigger change detection to ensure child component updates
       this.cdr.detectChanges();
@@ -103,19 +104,24 @@ export class RiskVisualizationComponent implements OnInit, OnChanges {
       riskAccountsLength: this.riskAccounts?.length
     });
     
-    if (!this.riskAccounts || !this.riskAccounts.length) {
+    // Prefer the top exposures pre-aggregated by the BFF; fall back to the raw list.
+    if (this.charts?.topExposures?.length) {
+      this.chartData = this.charts.topExposures.map(group => ({
+        label: group.key,
+        value: group.total
+      }));
+    } else if (this.riskAccounts?.length) {
+      const sortedAccounts = [...this.riskAccounts].sort((a, b) => b.exposure - a.exposure).slice(0, 10);
+      this.chartData = sortedAccounts.map(account => ({
+        label: account.accountId,
+        value: account.exposure
+      }));
+    } else {
       this.chartData = [];
       this.chartConfig = {};
       return;
     }
 
-    const sortedAccounts = [...this.riskAccounts].sort((a, b) => b.exposure - a.exposure).slice(0, 10);
-    
-    this.chartData = sortedAccounts.map(account => ({
-      label: account.accountId,
-      value: account.exposure
-    }));
-
     this.chartConfig = {
       width: 600,
       height: 400,
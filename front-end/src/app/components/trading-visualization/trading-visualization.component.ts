@@ -1,7 +1,7 @@
 import { Component, Input, AfterViewInit, ElementRef, ViewChild, PLATFORM_ID, inject, OnInit, OnChanges, SimpleChanges, Renderer2, ChangeDetectorRef } from '@angular/core';
 import { isPlatformBrowser, isPlatformServer, CommonModule } from '@angular/common';
 import * as d3 from 'd3';
-import { TradingOrder, TradingFill } from '../../services/dashboard.service';
+import { ChartAggregates, TradingOrder, TradingFill } from '../../services/dashboard.service';
 import { BarChartComponent, BarChartData, BarChartConfig } from '../shared/bar-chart/bar-chart.component';
 
 @Component({
@@ -33,6 +33,7 @@ export class TradingVisualizationComponent implements OnInit, AfterViewInit, OnC
   @ViewChild('pieSvg', { static: false }) pieSvg!: ElementRef<SVGSVGElement>;
   @Input() orders: TradingOrder[] = [];
   @Input() fills: TradingFill[] = [];
+  @Input() charts: ChartAggregates | null = null;
 
   barChartData: BarChartData[] = [];
   barChartConfig: BarChartConfig = {};
@@ -72,7 +73,7 @@ export class TradingVisualizationComponent implements OnInit, AfterViewInit, OnC
       fillsLength: this.fills?.length
     });
     // Process bar chart data for both SSR and browser
-    if (changes['orders'] || changes['fills']) {
+    if (changes['orders'] || changes['fills'] || changes['charts']) {
       this.updateBarChart();
       this.cdr.detectChanges();
       
@@ -88,25 +89,29 @@ export class TradingVisualizationComponent implements OnInit, AfterViewInit, OnC
       fillsLength: this.fills?.length
     });
     
-    if (!this.fills || !this.fills.length) {
+    // Prefer PnL by symbol pre-aggregated by the BFF; fall back to the raw fills.
+    if (this.charts?.pnlBySymbol?.length) {
+      this.barChartData = this.charts.pnlBySymbol.map(group => ({
+        label: group.key,
+        value: group.total
+      }));
+    } else if (this.fills?.length) {
+      const fillsBySymbol = d3.group(this.fills, (d: TradingFill) => d.symbol);
+      const symbolData = Array.from(fillsBySymbol, ([symbol, fills]) => ({
+        symbol,
+        totalPnl: d3.sum(fills, (d: TradingFill) => d.pnl) || 0
+      })).sort((a, b) => b.totalPnl - a.totalPnl);
+
+      this.barChartData = symbolData.map(data => ({
+        label: data.symbol,
+        value: data.totalPnl
+      }));
+    } else {
       this.barChartData = [];
       this.barChartConfig = {};
       return;
     }
 
-    const fillsBySymbol = d3.group(this.fills, (d: TradingFill) => d.symbol);
-    const symbolData = Array.from(fillsBySymbol, ([symbol, fills]) => ({
-      symbol,
-      totalPnl: d3.sum(fills, (d: TradingFill) => d.pnl) || 0,
-      fillCount: fills.length,
-      avgPrice: d3.mean(fills, (d: TradingFill) => d.price) || 0
-    })).sort((a, b) => b.totalPnl - a.totalPnl);
-
-    this.barChartData = symbolData.map(data => ({
-      label: data.symbol,
-      value: data.totalPnl
-    }));
-
     this.barChartConfig = {
       width: 600,
       height: 400,
@@ -125,23 +130,19 @@ export class TradingVisualizationComponent implements OnInit, AfterViewInit, OnC
   }
 
   private updatePieChart(): void {
-    if (!this.orders.length || !this.pieSvg) return;
+    if ((!this.orders.length && !this.charts?.ordersByStatus?.length) || !this.pieSvg) return;
 
     const container = this.pieSvg.nativeElement;
     while (container.firstChild) {
       this.renderer.removeChild(container, container.firstChild);
     }
 
-    const orderStatusCount = d3.rollup(
-      this.orders,
-      (v: TradingOrder[]) => v.length,
-      (d: TradingOrder) => d.status
-    );
-
-    const pieData = Array.from(orderStatusCount, ([status, count]) => ({
-      status,
-      count: count || 0
-    }));
+    const pieData = this.charts?.ordersByStatus?.length
+      ? this.charts.ordersByStatus.map(group => ({ status: group.key, count: group.count }))
+      : Array.from(
+          d3.rollup(this.orders, (v: TradingOrder[]) => v.length, (d: TradingOrder) => d.status),
+          ([status, count]) => ({ status, count: count || 0 })
+        );
 
     const pieRadius = Math.min(this.pieWidth, this.pieHeight) / 2 - 10;
     const doc = container.ownerDocument;
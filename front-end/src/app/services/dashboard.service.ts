@@ -85,6 +85,49 @@ export interface Transaction {
   status: string;
 }
 
+export interface EnrichedAccount {
+  accountId: string;
+  book: string;
+  exposure: number;
+  utilization: number;
+  /** Currency of the amounts below; null for an account without a balance. */
+  currency: string | null;
+  cashBalance: number;
+  availableMargin: number;
+  pendingTransactionCount: number;
+  pendingTransactionAmount: number;
+}
+
+export interface GroupTotal {
+  key: string;
+  total: number;
+  count: number;
+}
+
+export interface Histogram {
+  min: number;
+  max: number;
+  counts: number[];
+}
+
+/** Chart-ready aggregates computed by the BFF; groups are ordered by descending total. */
+export interface ChartAggregates {
+  topExposures: GroupTotal[];
+  exposureByBook: GroupTotal[];
+  utilization: Histogram;
+  pnlBySymbol: GroupTotal[];
+  ordersByStatus: GroupTotal[];
+  cashByCurrency: GroupTotal[];
+  transactionAmountByType: GroupTotal[];
+  transactionAmountByCurrency: GroupTotal[];
+}
+
+export interface SectionStatus {
+  state: 'LIVE' | 'STALE' | 'DEFAULT' | 'SKIPPED';
+  asOf: string | null;
+  ageMs: number;
+}
+
 export interface DashboardViewModel {
   topRiskyAccounts: RiskyAccount[];
   health: SystemHealth;
@@ -97,6 +140,11 @@ export interface DashboardViewModel {
   recentFills: TradingFill[];
   accountBalances: AccountBalance[];
   recentTransactions: Transaction[];
+  enrichedAccounts?: EnrichedAccount[];
+  charts?: ChartAggregates;
+  sectionStatus?: Record<string, SectionStatus>;
+  /** Full row count of each row-level list; the lists above hold only the first rows. */
+  listRows?: Record<string, number>;
 }
 
 @Injectable({
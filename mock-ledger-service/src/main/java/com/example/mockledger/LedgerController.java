@@ -4,13 +4,14 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.function.Function;
 
 /**
  * Controller that reads mock data from Redis, demonstrating a realistic caching scenario.
@@ -23,13 +24,13 @@ public class LedgerController {
     private static final String LEDGER_BALANCES_KEY = "ledger:balances";
     private static final String LEDGER_TRANSACTIONS_KEY = "ledger:transactions";
 
-    private final StringRedisTemplate redisTemplate;
+    private final RedisClientCache redisCache;
     private final ObjectMapper objectMapper;
     private final Random random = new Random();
     private static final String[] CURRENCIES = {"USD", "EUR", "GBP", "JPY", "CNY"};
 
-    public LedgerController(StringRedisTemplate redisTemplate, ObjectMapper objectMapper) {
-        this.redisTemplate = redisTemplate;
+    public LedgerController(RedisClientCache redisCache, ObjectMapper objectMapper) {
+        this.redisCache = redisCache;
         this.objectMapper = objectMapper;
     }
 
@@ -40,7 +41,7 @@ public class LedgerController {
         Thread.sleep(latency);
 
         try {
-            String json = redisTemplate.opsForValue().get(LEDGER_SUMMARY_KEY);
+            String json = redisCache.get(LEDGER_SUMMARY_KEY);
             if (json != null) {
                 return objectMapper.readValue(json, LedgerSummary.class);
             }
@@ -55,14 +56,23 @@ public class LedgerController {
         );
     }
 
+    /**
+     * Account balances, optionally restricted to the given account ids.
+     */
     @GetMapping("/api/ledger/balances")
-    public List<AccountBalance> getAccountBalances() throws InterruptedException {
+    public List<AccountBalance> getAccountBalances(
+            @RequestParam(name = "accountId", required = false) List<String> accountIds
+    ) throws InterruptedException {
         // Simulate 200–350 ms latency (includes Redis read + network overhead)
         long latency = 200 + random.nextInt(151);
         Thread.sleep(latency);
 
+        return forAccounts(loadBalances(), AccountBalance::accountId, accountIds);
+    }
+
+    private List<AccountBalance> loadBalances() {
         try {
-            String json = redisTemplate.opsForValue().get(LEDGER_BALANCES_KEY);
+            String json = redisCache.get(LEDGER_BALANCES_KEY);
             if (json != null) {
                 return objectMapper.readValue(json, new TypeReference<List<AccountBalance>>() {});
             }
@@ -83,14 +93,23 @@ public class LedgerController {
         return balances;
     }
 
+    /**
+     * Recent transactions, optionally restricted to the given account ids.
+     */
     @GetMapping("/api/ledger/transactions")
-    public List<Transaction> getRecentTransactions() throws InterruptedException {
+    public List<Transaction> getRecentTransactions(
+            @RequestParam(name = "accountId", required = false) List<String> accountIds
+    ) throws InterruptedException {
         // Simulate 160–280 ms latency (includes Redis read + network overhead)
         long latency = 160 + random.nextInt(121);
         Thread.sleep(latency);
 
+        return forAccounts(loadTransactions(), Transaction::accountId, accountIds);
+    }
+
+    private List<Transaction> loadTransactions() {
         try {
-            String json = redisTemplate.opsForValue().get(LEDGER_TRANSACTIONS_KEY);
+            String json = redisCache.get(LEDGER_TRANSACTIONS_KEY);
             if (json != null) {
                 return objectMapper.readValue(json, new TypeReference<List<Transaction>>() {});
             }
@@ -114,6 +133,13 @@ public class LedgerController {
         return transactions;
     }
 
+    private static <T> List<T> forAccounts(List<T> rows, Function<T, String> accountId, List<String> accountIds) {
+        if (accountIds == null || accountIds.isEmpty()) {
+            return rows;
+        }
+        return rows.stream().filter(row -> accountIds.contains(accountId.apply(row))).toList();
+    }
+
     @GetMapping("/api/ledger/ping")
     public void ping() throws InterruptedException {
         Thread.sleep(80);
@@ -0,0 +1,141 @@
+package com.example.mockledger;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Simulates live ledger activity: periodically books a transaction against an account,
+ * applies a settled one to the account's cash balance and available margin, keeps the
+ * Redis snapshot keys up to date and publishes both changes as events on the
+ * {@code ledger:events} Redis Stream. Pending transactions add to the summary's
+ * unsettled cash and settled ones move its margin balance in the same step.
+ * <p>
+ * Each event carries a {@code type}, a JSON {@code payload} and a monotonically
+ * increasing {@code seq} that lets consumers detect gaps and fall back to a resync.
+ */
+@Component
+public class LedgerEventPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerEventPublisher.class);
+    private static final String LEDGER_SUMMARY_KEY = "ledger:summary";
+    private static final String LEDGER_BALANCES_KEY = "ledger:balances";
+    private static final String LEDGER_TRANSACTIONS_KEY = "ledger:transactions";
+    private static final String LEDGER_EVENTS_STREAM = "ledger:events";
+    private static final String LEDGER_EVENTS_SEQ_KEY = "ledger:events:seq";
+    private static final int MAX_TRANSACTIONS = 500;
+    private static final long STREAM_MAX_LENGTH = 10_000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Random random = new Random();
+    private static final String[] TX_TYPES = {"TRADE", "SETTLEMENT", "MARGIN_CALL", "DIVIDEND", "FEE"};
+
+    public LedgerEventPublisher(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${mock.events.enabled:false}") boolean enabled
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+    }
+
+    @Scheduled(fixedDelayString = "${mock.events.interval-ms:1000}")
+    public void publishActivity() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            List<LedgerController.AccountBalance> balances = read(LEDGER_BALANCES_KEY, new TypeReference<>() {});
+            List<LedgerController.Transaction> transactions = read(LEDGER_TRANSACTIONS_KEY, new TypeReference<>() {});
+            String summaryJson = redisTemplate.opsForValue().get(LEDGER_SUMMARY_KEY);
+            if (balances == null || balances.isEmpty() || transactions == null || summaryJson == null) {
+                return;
+            }
+            LedgerController.LedgerSummary summary =
+                    objectMapper.readValue(summaryJson, LedgerController.LedgerSummary.class);
+
+            int index = random.nextInt(balances.size());
+            LedgerController.AccountBalance balance = balances.get(index);
+            long txSeq = nextSeq();
+            LedgerController.Transaction transaction = new LedgerController.Transaction(
+                    "TX-" + String.format("%08d", 10_000_000 + txSeq),
+                    balance.accountId(),
+                    TX_TYPES[random.nextInt(TX_TYPES.length)],
+                    balance.currency(),
+                    -100_000d + random.nextDouble() * 200_000d,
+                    random.nextDouble() > 0.15 ? "SETTLED" : "PENDING"
+            );
+            transactions.add(transaction);
+            if (transactions.size() > MAX_TRANSACTIONS) {
+                transactions = new ArrayList<>(transactions.subList(transactions.size() - MAX_TRANSACTIONS, transactions.size()));
+            }
+            write(LEDGER_TRANSACTIONS_KEY, transactions);
+            publish("TRANSACTION", txSeq, transaction);
+
+            if ("SETTLED".equals(transaction.status())) {
+                // Settled cash is free margin; margin already in use is unaffected.
+                double availableMargin = Math.max(0d, balance.availableMargin() + transaction.amount());
+                LedgerController.AccountBalance updated = new LedgerController.AccountBalance(
+                        balance.accountId(),
+                        balance.currency(),
+                        balance.cashBalance() + transaction.amount(),
+                        balance.marginUsed(),
+                        availableMargin
+                );
+                balances.set(index, updated);
+                long balanceSeq = nextSeq();
+                write(LEDGER_BALANCES_KEY, balances);
+                publish("BALANCE", balanceSeq, updated);
+                summary = new LedgerController.LedgerSummary(summary.unsettledCash(),
+                        summary.marginBalance() + availableMargin - balance.availableMargin());
+            } else {
+                summary = new LedgerController.LedgerSummary(
+                        summary.unsettledCash() + transaction.amount(), summary.marginBalance());
+            }
+            write(LEDGER_SUMMARY_KEY, summary);
+        } catch (Exception e) {
+            log.warn("Failed to publish ledger activity", e);
+        }
+    }
+
+    private long nextSeq() {
+        Long seq = redisTemplate.opsForValue().increment(LEDGER_EVENTS_SEQ_KEY);
+        return seq == null ? 0 : seq;
+    }
+
+    private void publish(String type, long seq, Object payload) throws Exception {
+        Map<String, String> fields = Map.of(
+                "type", type,
+                "seq", String.valueOf(seq),
+                "payload", objectMapper.writeValueAsString(payload)
+        );
+        redisTemplate.opsForStream().add(
+                StreamRecords.newRecord().in(LEDGER_EVENTS_STREAM).ofMap(fields),
+                XAddOptions.maxlen(STREAM_MAX_LENGTH).approximateTrimming(true)
+        );
+    }
+
+    private <T> List<T> read(String key, TypeReference<List<T>> type) throws Exception {
+        String json = redisTemplate.opsForValue().get(key);
+        return json == null ? null : new ArrayList<>(objectMapper.readValue(json, type));
+    }
+
+    private void write(String key, Object value) throws Exception {
+        redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(value));
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.mockledger;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for LedgerEventPublisher against an in-memory stand-in for the Redis keys.
+ */
+class LedgerEventPublisherTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, String> keys = new HashMap<>();
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final LedgerEventPublisher publisher = new LedgerEventPublisher(redisTemplate, objectMapper, true);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        AtomicLong seq = new AtomicLong();
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(redisTemplate.opsForStream()).thenReturn(mock(StreamOperations.class));
+        when(values.get(anyString())).thenAnswer(invocation -> keys.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> keys.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(values).set(anyString(), anyString());
+        when(values.increment(anyString())).thenAnswer(invocation -> seq.incrementAndGet());
+
+        keys.put("ledger:balances", objectMapper.writeValueAsString(List.of(
+                new LedgerController.AccountBalance("ACC-001", "USD", 250_000d, 100_000d, 25_000_000d),
+                new LedgerController.AccountBalance("ACC-002", "EUR", -40_000d, 300_000d, 25_000_000d))));
+        keys.put("ledger:transactions", "[]");
+        keys.put("ledger:summary", objectMapper.writeValueAsString(new LedgerController.LedgerSummary(0d, 50_000_000d)));
+    }
+
+    @Test
+    void publishActivity_ShouldMoveBalancesAndSummaryWithEachTransaction() throws Exception {
+        for (int tick = 0; tick < 200; tick++) {
+            publisher.publishActivity();
+        }
+        List<LedgerController.Transaction> transactions =
+                objectMapper.readValue(keys.get("ledger:transactions"), new TypeReference<>() {});
+        List<LedgerController.AccountBalance> balances =
+                objectMapper.readValue(keys.get("ledger:balances"), new TypeReference<>() {});
+        LedgerController.LedgerSummary summary =
+                objectMapper.readValue(keys.get("ledger:summary"), LedgerController.LedgerSummary.class);
+        assertEquals(200, transactions.size());
+
+        double initialCash = 250_000d - 40_000d;
+        double settled = sum(transactions, "SETTLED");
+        assertEquals(initialCash + settled,
+                balances.stream().mapToDouble(LedgerController.AccountBalance::cashBalance).sum(), 1e-6);
+        // 200 moves of at most 100k cannot exhaust 25M of available margin, so none is floored.
+        assertEquals(50_000_000d + settled,
+                balances.stream().mapToDouble(LedgerController.AccountBalance::availableMargin).sum(), 1e-6);
+        assertEquals(50_000_000d + settled, summary.marginBalance(), 1e-6);
+        assertEquals(sum(transactions, "PENDING"), summary.unsettledCash(), 1e-6);
+    }
+
+    private static double sum(List<LedgerController.Transaction> transactions, String status) {
+        return transactions.stream()
+                .filter(transaction -> transaction.status().equals(status))
+                .mapToDouble(LedgerController.Transaction::amount)
+                .sum();
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.mockledger;
+
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.api.push.PushMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the Redis client-side cache, with a mocked tracking connection.
+ * The same tests run against each mock service's copy, with that service's keys.
+ */
+class RedisClientCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final List<StatefulRedisConnection<String, String>> opened = new ArrayList<>();
+    private final AtomicInteger reads = new AtomicInteger();
+    private final RedisClientCache cache = new RedisClientCache(redisTemplate,
+            () -> CompletableFuture.completedFuture(trackingConnection()),
+            meterRegistry, 16, "ledger:summary", "ledger:balances", "ledger:transactions");
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(values.get(anyString())).thenAnswer(invocation -> "value-" + reads.incrementAndGet());
+    }
+
+    @Test
+    void get_ShouldServeRepeatedReadsLocallyUntilRedisReportsAChange() {
+        assertEquals("value-1", cache.get("ledger:balances"));
+        assertEquals("value-1", cache.get("ledger:balances"));
+
+        push(opened.get(0), "ledger:balances");
+
+        assertEquals("value-2", cache.get("ledger:balances"));
+        assertEquals("value-2", cache.get("ledger:balances"));
+        assertEquals(2.0, meterRegistry.get("redis.client-cache.requests").tag("result", "hit")
+                .counter().count());
+        assertEquals(1.0, meterRegistry.get("redis.client-cache.invalidations").counter().count());
+    }
+
+    @Test
+    void get_ShouldReadKeysOutsideTheServedOnesFromRedis() {
+        // The publisher bumps the sequence counter every tick; it is never tracked or kept.
+        assertEquals("value-1", cache.get("ledger:events:seq"));
+        assertEquals("value-2", cache.get("ledger:events:seq"));
+        assertEquals(0, cache.size());
+        assertEquals(0.0, meterRegistry.get("redis.client-cache.requests").tag("result", "miss")
+                .counter().count());
+    }
+
+    @Test
+    void get_ShouldDropLocalCopiesWhenTheTrackingConnectionIsLost() {
+        cache.get("ledger:summary");
+        when(opened.get(0).isOpen()).thenReturn(false);
+
+        // Invalidations may have been missed: the copy is dropped and tracking re-established.
+        assertEquals("value-2", cache.get("ledger:summary"));
+        assertEquals("value-2", cache.get("ledger:summary"));
+        assertEquals(2, opened.size());
+        assertEquals(1, cache.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private StatefulRedisConnection<String, String> trackingConnection() {
+        StatefulRedisConnection<String, String> connection = mock(StatefulRedisConnection.class);
+        RedisAsyncCommands<String, String> commands = mock(RedisAsyncCommands.class);
+        RedisFuture<String> ok = mock(RedisFuture.class);
+        when(ok.whenComplete(any())).thenAnswer(invocation -> {
+            invocation.<BiConsumer<String, Throwable>>getArgument(0).accept("OK", null);
+            return ok;
+        });
+        when(connection.async()).thenReturn(commands);
+        when(connection.isOpen()).thenReturn(true);
+        when(commands.clientTracking(any())).thenReturn(ok);
+        opened.add(connection);
+        return connection;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void push(StatefulRedisConnection<String, String> connection, String... keys) {
+        ArgumentCaptor<PushListener> listener = ArgumentCaptor.forClass(PushListener.class);
+        verify(connection).addListener(listener.capture());
+        PushMessage message = mock(PushMessage.class);
+        when(message.getType()).thenReturn("invalidate");
+        when(message.getContent(any())).thenReturn(List.of("invalidate", Arrays.asList(keys)));
+        listener.getValue().onPushMessage(message);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.mockrisk;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stress grid kernels: Vector API versus scalar, on the default 875-scenario grid.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class StressEngineBenchmark {
+
+    @Param({"40", "10000"})
+    public int accounts;
+
+    private StressBook book;
+    private StressGrid grid;
+    private double[] out;
+    private final StressKernel scalar = new ScalarStressKernel();
+    private final StressKernel vector = new VectorStressKernel();
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<RiskController.RiskAccount> rows = new ArrayList<>(accounts);
+        for (int i = 0; i < accounts; i++) {
+            rows.add(new RiskController.RiskAccount(
+                    String.format("ACC-%05d", i),
+                    RiskController.BOOKS[random.nextInt(RiskController.BOOKS.length)],
+                    100_000d + random.nextDouble() * 2_000_000d,
+                    0.2 + random.nextDouble() * 0.7));
+        }
+        book = StressBook.of(rows);
+        grid = StressGrid.defaultGrid();
+        out = new double[grid.scenarioCount() * book.bookCount()];
+    }
+
+    @Benchmark
+    public double[] scalarKernel() {
+        Arrays.fill(out, 0d);
+        scalar.run(book, grid, out);
+        return out;
+    }
+
+    @Benchmark
+    public double[] vectorKernel() {
+        Arrays.fill(out, 0d);
+        vector.run(book, grid, out);
+        return out;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.mockrisk;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * VaR engine benchmarks: the scenario x position P&L sweep on one worker versus all
+ * cores, and quantile extraction by partial selection versus a full sort.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VarEngineBenchmark {
+
+    @Param({"100000"})
+    public int positions;
+
+    @Param({"1000"})
+    public int scenarios;
+
+    @Param({"1", "0"})
+    public int parallelism;
+
+    private VarEngine engine;
+    private double[] losses;
+    private double[] scratch;
+
+    @Setup
+    public void setUp() {
+        ScenarioPortfolio portfolio = ScenarioPortfolio.generate(positions, scenarios, RiskController.BOOKS.length, 42);
+        int workers = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        engine = new VarEngine(portfolio, 0.99, workers);
+        losses = engine.scenarioPnl();
+        scratch = new double[losses.length];
+    }
+
+    @Setup(Level.Invocation)
+    public void resetScratch() {
+        System.arraycopy(losses, 0, scratch, 0, losses.length);
+    }
+
+    @TearDown
+    public void tearDown() {
+        engine.shutdown();
+    }
+
+    @Benchmark
+    public double[] scenarioPnl() {
+        return engine.scenarioPnl();
+    }
+
+    @Benchmark
+    public VarEngine.VarResult fullVarCvar() {
+        return engine.compute();
+    }
+
+    @Benchmark
+    public double quantileBySelection() {
+        return Quantiles.select(scratch, scratch.length - 10);
+    }
+
+    @Benchmark
+    public double quantileBySort() {
+        Arrays.sort(scratch);
+        return scratch[scratch.length - 10];
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.mockrisk;
+
+/**
+ * Order statistics on primitive arrays without a full sort.
+ */
+public final class Quantiles {
+
+    private Quantiles() {
+    }
+
+    /**
+     * Rearranges {@code values} so that {@code values[k]} holds the k-th smallest value,
+     * every element before it is {@code <=} and every element after it is {@code >=}
+     * (quickselect with median-of-three pivots, expected O(n)). Returns {@code values[k]}.
+     */
+    public static double select(double[] values, int k) {
+        int lo = 0;
+        int hi = values.length - 1;
+        while (hi > lo) {
+            int mid = (lo + hi) >>> 1;
+            if (values[mid] < values[lo]) {
+                swap(values, lo, mid);
+            }
+            if (values[hi] < values[lo]) {
+                swap(values, lo, hi);
+            }
+            if (values[hi] < values[mid]) {
+                swap(values, mid, hi);
+            }
+            double pivot = values[mid];
+
+            int i = lo;
+            int j = hi;
+            while (i <= j) {
+                while (values[i] < pivot) {
+                    i++;
+                }
+                while (values[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(values, i, j);
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                hi = j;
+            } else if (k >= i) {
+                lo = i;
+            } else {
+                return values[k];
+            }
+        }
+        return values[k];
+    }
+
+    private static void swap(double[] values, int a, int b) {
+        double tmp = values[a];
+        values[a] = values[b];
+        values[b] = tmp;
+    }
+}
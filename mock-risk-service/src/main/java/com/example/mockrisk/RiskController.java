@@ -4,9 +4,14 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -24,14 +29,32 @@ public class RiskController {
     private static final String RISK_ACCOUNTS_KEY = "risk:accounts";
     private static final String RISK_METRICS_KEY = "risk:metrics";
 
-    private final StringRedisTemplate redisTemplate;
+    static final String[] BOOKS = {"EQUITIES", "FUTURES", "OPTIONS", "FX", "CREDIT", "RATES", "COMMODITIES", "BONDS"};
+
+    private final RedisClientCache redisCache;
     private final ObjectMapper objectMapper;
+    private final VarEngine varEngine;
+    private final StressEngine stressEngine;
+    private final double varWarningFraction;
+    private final int maxStressScenarios;
     private final Random random = new Random();
-    private static final String[] BOOKS = {"EQUITIES", "FUTURES", "OPTIONS", "FX", "CREDIT", "RATES", "COMMODITIES", "BONDS"};
+    // Default stress grid over the accounts it was last run for.
+    private volatile DefaultStress defaultStress;
 
-    public RiskController(StringRedisTemplate redisTemplate, ObjectMapper objectMapper) {
-        this.redisTemplate = redisTemplate;
+    public RiskController(
+            RedisClientCache redisCache,
+            ObjectMapper objectMapper,
+            VarEngine varEngine,
+            StressEngine stressEngine,
+            @Value("${risk.var.warning-fraction:0.02}") double varWarningFraction,
+            @Value("${risk.stress.max-scenarios:100000}") int maxStressScenarios
+    ) {
+        this.redisCache = redisCache;
         this.objectMapper = objectMapper;
+        this.varEngine = varEngine;
+        this.stressEngine = stressEngine;
+        this.varWarningFraction = varWarningFraction;
+        this.maxStressScenarios = maxStressScenarios;
     }
 
     @GetMapping("/api/risk/summary")
@@ -41,7 +64,7 @@ public class RiskController {
         Thread.sleep(latency);
 
         try {
-            String json = redisTemplate.opsForValue().get(RISK_SUMMARY_KEY);
+            String json = redisCache.get(RISK_SUMMARY_KEY);
             if (json != null) {
                 return objectMapper.readValue(json, RiskSummary.class);
             }
@@ -56,14 +79,32 @@ public class RiskController {
         );
     }
 
+    /**
+     * Risk accounts, optionally restricted to the given books and/or account ids
+     * (comma-separated or repeated).
+     */
     @GetMapping("/api/risk/accounts")
-    public List<RiskAccount> getRiskAccounts() throws InterruptedException {
+    public List<RiskAccount> getRiskAccounts(
+            @RequestParam(name = "book", required = false) List<String> books,
+            @RequestParam(name = "accountId", required = false) List<String> accountIds
+    ) throws InterruptedException {
         // Simulate 100–200 ms latency (includes Redis read + network overhead)
         long latency = 100 + random.nextInt(101);
         Thread.sleep(latency);
 
+        List<RiskAccount> accounts = loadAccounts();
+        if ((books == null || books.isEmpty()) && (accountIds == null || accountIds.isEmpty())) {
+            return accounts;
+        }
+        return accounts.stream()
+                .filter(account -> books == null || books.isEmpty() || books.contains(account.book()))
+                .filter(account -> accountIds == null || accountIds.isEmpty() || accountIds.contains(account.accountId()))
+                .toList();
+    }
+
+    private List<RiskAccount> loadAccounts() {
         try {
-            String json = redisTemplate.opsForValue().get(RISK_ACCOUNTS_KEY);
+            String json = redisCache.get(RISK_ACCOUNTS_KEY);
             if (json != null) {
                 return objectMapper.readValue(json, new TypeReference<List<RiskAccount>>() {});
             }
@@ -85,14 +126,19 @@ public class RiskController {
 
     @GetMapping("/api/risk/metrics")
     public List<RiskMetric> getRiskMetrics() throws InterruptedException {
-        // Simulate 90–180 ms latency (includes Redis read + network overhead)
+        // Simulate 90–180 ms latency (includes Redis read + network overhead).
+        // VaR/CVaR and the default stress run are computed for real, once per input, and
+        // any compute time counts against that budget.
         long latency = 90 + random.nextInt(91);
-        Thread.sleep(latency);
+        long start = System.nanoTime();
+        VarEngine.VarResult var = varEngine.result();
+        StressEngine.StressReport stress = defaultStress(loadAccounts());
+        Thread.sleep(Math.max(0, latency - (System.nanoTime() - start) / 1_000_000));
 
         try {
-            String json = redisTemplate.opsForValue().get(RISK_METRICS_KEY);
+            String json = redisCache.get(RISK_METRICS_KEY);
             if (json != null) {
-                return objectMapper.readValue(json, new TypeReference<List<RiskMetric>>() {});
+                return withComputedValues(objectMapper.readValue(json, new TypeReference<List<RiskMetric>>() {}), var, stress);
             }
         } catch (Exception e) {
             log.warn("Failed to read from Redis, falling back to in-memory generation", e);
@@ -106,7 +152,7 @@ public class RiskController {
             String status = random.nextDouble() > 0.7 ? "WARNING" : "OK";
             metrics.add(new RiskMetric(type, value, status));
         }
-        return metrics;
+        return withComputedValues(metrics, var, stress);
     }
 
     @GetMapping("/api/risk/ping")
@@ -115,6 +161,84 @@ public class RiskController {
         Thread.sleep(50);
     }
 
+    /**
+     * Runs the stress grid over all risk accounts. Without a body the default grid is
+     * used; any axis left out of the body falls back to its default shocks. Empty axes
+     * and grids above the configured number of scenarios are rejected with 400.
+     */
+    @PostMapping("/api/risk/stress")
+    public StressEngine.StressReport runStress(@RequestBody(required = false) StressRequest request) {
+        StressGrid grid;
+        try {
+            grid = request == null
+                    ? StressGrid.defaultGrid()
+                    : StressGrid.of(
+                            axis(request.equity(), StressGrid.DEFAULT_EQUITY),
+                            axis(request.rates(), StressGrid.DEFAULT_RATES),
+                            axis(request.fx(), StressGrid.DEFAULT_FX),
+                            axis(request.credit(), StressGrid.DEFAULT_CREDIT),
+                            maxStressScenarios);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        return stressEngine.run(loadAccounts(), grid);
+    }
+
+    @GetMapping("/api/risk/stress")
+    public StressEngine.StressReport getStress() {
+        return defaultStress(loadAccounts());
+    }
+
+    /**
+     * The default stress grid over {@code accounts}, rerun only when the accounts differ
+     * from the previous call's.
+     */
+    private StressEngine.StressReport defaultStress(List<RiskAccount> accounts) {
+        DefaultStress current = defaultStress;
+        if (current == null || !current.accounts().equals(accounts)) {
+            current = new DefaultStress(accounts, stressEngine.run(accounts, StressGrid.defaultGrid()));
+            defaultStress = current;
+        }
+        return current.report();
+    }
+
+    private static double[] axis(double[] requested, double[] defaults) {
+        return requested == null ? defaults : requested;
+    }
+
+    /**
+     * Replaces the VaR and CVaR entries with the values computed by {@link VarEngine} and
+     * StressTest with the worst total loss of the default stress grid. VaR and CVaR are
+     * flagged WARNING when they exceed the configured fraction of gross exposure.
+     */
+    private List<RiskMetric> withComputedValues(
+            List<RiskMetric> metrics,
+            VarEngine.VarResult var,
+            StressEngine.StressReport stress
+    ) {
+        double limit = var.grossExposure() * varWarningFraction;
+        double worstLoss = Math.max(0d, -stress.worst().totalPnl());
+        List<RiskMetric> result = new ArrayList<>(metrics.size());
+        for (RiskMetric metric : metrics) {
+            switch (metric.metricType()) {
+                case "VaR" -> result.add(new RiskMetric("VaR", var.var(), var.var() > limit ? "WARNING" : "OK"));
+                case "CVaR" -> result.add(new RiskMetric("CVaR", var.cvar(), var.cvar() > limit ? "WARNING" : "OK"));
+                case "StressTest" -> result.add(new RiskMetric("StressTest", worstLoss, metric.status()));
+                default -> result.add(metric);
+            }
+        }
+        return result;
+    }
+
+    private record DefaultStress(List<RiskAccount> accounts, StressEngine.StressReport report) {}
+
+    public record StressRequest(
+            double[] equity,
+            double[] rates,
+            double[] fx,
+            double[] credit
+    ) {}
+
     public record RiskSummary(
             double totalNetExposure,
             double maxMarginUtilization
@@ -30,9 +30,12 @@ public class RiskDataLoader {
     private final Random random = new Random();
     private static final String[] BOOKS = {"EQUITIES", "FUTURES", "OPTIONS", "FX", "CREDIT", "RATES", "COMMODITIES", "BONDS"};
 
-    public RiskDataLoader(StringRedisTemplate redisTemplate, ObjectMapper objectMapper) {
+    private final VarEngine varEngine;
+
+    public RiskDataLoader(StringRedisTemplate redisTemplate, ObjectMapper objectMapper, VarEngine varEngine) {
         this.redisTemplate = redisTemplate;
         this.objectMapper = objectMapper;
+        this.varEngine = varEngine;
     }
 
     @PostConstruct
@@ -58,11 +61,16 @@ public class RiskDataLoader {
             }
             redisTemplate.opsForValue().set(RISK_ACCOUNTS_KEY, objectMapper.writeValueAsString(accounts));
 
-            // Load metrics (5 records)
+            // Load metrics (5 records); VaR and CVaR come from the historical-simulation engine
+            VarEngine.VarResult var = varEngine.result();
             List<RiskMetric> metrics = new ArrayList<>();
             String[] metricTypes = {"VaR", "CVaR", "StressTest", "Leverage", "Concentration"};
             for (String type : metricTypes) {
-                double value = random.nextDouble() * 1_000_000d;
+                double value = switch (type) {
+                    case "VaR" -> var.var();
+                    case "CVaR" -> var.cvar();
+                    default -> random.nextDouble() * 1_000_000d;
+                };
                 String status = random.nextDouble() > 0.7 ? "WARNING" : "OK";
                 metrics.add(new RiskMetric(type, value, status));
             }
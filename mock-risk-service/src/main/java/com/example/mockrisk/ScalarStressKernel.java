@@ -0,0 +1,37 @@
+package com.example.mockrisk;
+
+/**
+ * Plain Java stress kernel, used when the Vector API is unavailable or disabled.
+ */
+final class ScalarStressKernel implements StressKernel {
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+
+    @Override
+    public void run(StressBook book, StressGrid grid, double[] out) {
+        int books = book.bookCount();
+        double[] shocks = grid.shocks;
+        for (int b = 0; b < books; b++) {
+            int end = book.bookStart[b + 1];
+            for (int from = book.bookStart[b]; from < end; from += BLOCK) {
+                int to = Math.min(end, from + BLOCK);
+                for (int s = 0; s < grid.scenarioCount; s++) {
+                    int row = s * StressBook.FACTORS;
+                    double x0 = shocks[row + StressBook.EQUITY];
+                    double x1 = shocks[row + StressBook.RATES];
+                    double x2 = shocks[row + StressBook.FX];
+                    double x3 = shocks[row + StressBook.CREDIT];
+                    double sum = 0d;
+                    for (int a = from; a < to; a++) {
+                        double pnl = book.equity[a] * x0 + book.rates[a] * x1 + book.fx[a] * x2 + book.credit[a] * x3;
+                        sum += Math.max(book.floor[a], pnl);
+                    }
+                    out[s * books + b] += sum;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.mockrisk;
+
+import java.util.Random;
+
+/**
+ * Positions and historical scenario returns for VaR, kept in primitive arrays
+ * (struct-of-arrays) so the scenario x position loop stays cache friendly.
+ * <p>
+ * Each position is exposed to one risk factor (one per book) with a delta (beta) and
+ * a small convexity (gamma) term. Factor returns are stored factor-major,
+ * {@code factorReturns[factor * scenarioCount + scenario]}, so that the scenarios of one
+ * factor are contiguous.
+ */
+public final class ScenarioPortfolio {
+
+    final int positionCount;
+    final int scenarioCount;
+    final int factorCount;
+    final double[] exposures;
+    final double[] betas;
+    final double[] gammas;
+    final int[] factors;
+    final double[] factorReturns;
+    private double grossExposure;
+
+    private ScenarioPortfolio(int positionCount, int scenarioCount, int factorCount) {
+        this.positionCount = positionCount;
+        this.scenarioCount = scenarioCount;
+        this.factorCount = factorCount;
+        this.exposures = new double[positionCount];
+        this.betas = new double[positionCount];
+        this.gammas = new double[positionCount];
+        this.factors = new int[positionCount];
+        this.factorReturns = new double[scenarioCount * factorCount];
+    }
+
+    /**
+     * Generates a deterministic mock portfolio. Scenario returns combine a common market
+     * move with a book-specific move, so books are correlated and the P&L distribution
+     * has fat-ish tails.
+     */
+    public static ScenarioPortfolio generate(int positions, int scenarios, int factorCount, long seed) {
+        ScenarioPortfolio portfolio = new ScenarioPortfolio(positions, scenarios, factorCount);
+        Random random = new Random(seed);
+
+        for (int i = 0; i < positions; i++) {
+            double notional = 500d + random.nextDouble() * 19_500d;
+            portfolio.exposures[i] = random.nextDouble() < 0.7 ? notional : -notional;
+            portfolio.betas[i] = 0.5 + random.nextDouble();
+            portfolio.gammas[i] = (random.nextDouble() - 0.5) * 4d;
+            portfolio.factors[i] = random.nextInt(factorCount);
+            portfolio.grossExposure += notional;
+        }
+
+        double[] volatility = new double[factorCount];
+        for (int f = 0; f < factorCount; f++) {
+            volatility[f] = 0.005 + random.nextDouble() * 0.02;
+        }
+        for (int s = 0; s < scenarios; s++) {
+            // Occasional stressed days scale every move up.
+            double regime = random.nextDouble() < 0.05 ? 3d : 1d;
+            double market = random.nextGaussian() * 0.01 * regime;
+            for (int f = 0; f < factorCount; f++) {
+                portfolio.factorReturns[f * scenarios + s] =
+                        0.6 * market + random.nextGaussian() * volatility[f] * regime;
+            }
+        }
+        return portfolio;
+    }
+
+    public int positionCount() {
+        return positionCount;
+    }
+
+    public int scenarioCount() {
+        return scenarioCount;
+    }
+
+    public double grossExposure() {
+        return grossExposure;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.mockrisk;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Risk accounts prepared for the stress grid: accounts are grouped by book and stored
+ * as struct-of-arrays, with one sensitivity column per market factor (exposure times
+ * the book's loading on that factor) and a loss floor of {@code -|exposure|}.
+ */
+public final class StressBook {
+
+    static final int FACTORS = 4;
+    static final int EQUITY = 0;
+    static final int RATES = 1;
+    static final int FX = 2;
+    static final int CREDIT = 3;
+
+    // Loadings of each book in RiskController.BOOKS on equity, rates, FX and credit moves.
+    private static final double[][] LOADINGS = {
+            {1.00, 0.10, 0.05, 0.10}, // EQUITIES
+            {0.80, 0.30, 0.10, 0.05}, // FUTURES
+            {1.50, 0.10, 0.05, 0.10}, // OPTIONS
+            {0.10, 0.20, 1.00, 0.05}, // FX
+            {0.30, 0.40, 0.05, 1.00}, // CREDIT
+            {0.05, 1.00, 0.10, 0.20}, // RATES
+            {0.60, 0.10, 0.30, 0.10}, // COMMODITIES
+            {0.10, 0.90, 0.05, 0.50}  // BONDS
+    };
+    private static final double[] UNKNOWN_BOOK_LOADING = {0.50, 0.50, 0.50, 0.50};
+
+    final List<String> books;
+    final int[] bookStart;
+    final double[] equity;
+    final double[] rates;
+    final double[] fx;
+    final double[] credit;
+    final double[] floor;
+
+    private StressBook(List<String> books, int accounts) {
+        this.books = books;
+        this.bookStart = new int[books.size() + 1];
+        this.equity = new double[accounts];
+        this.rates = new double[accounts];
+        this.fx = new double[accounts];
+        this.credit = new double[accounts];
+        this.floor = new double[accounts];
+    }
+
+    public static StressBook of(List<RiskController.RiskAccount> accounts) {
+        List<String> books = new ArrayList<>(List.of(RiskController.BOOKS));
+        for (RiskController.RiskAccount account : accounts) {
+            if (!books.contains(account.book())) {
+                books.add(account.book());
+            }
+        }
+
+        // Counting sort by book so every book is one contiguous range.
+        int[] counts = new int[books.size()];
+        int[] bookOf = new int[accounts.size()];
+        for (int i = 0; i < bookOf.length; i++) {
+            bookOf[i] = books.indexOf(accounts.get(i).book());
+            counts[bookOf[i]]++;
+        }
+        StressBook book = new StressBook(List.copyOf(books), accounts.size());
+        for (int b = 0; b < counts.length; b++) {
+            book.bookStart[b + 1] = book.bookStart[b] + counts[b];
+        }
+        int[] next = book.bookStart.clone();
+        for (int i = 0; i < bookOf.length; i++) {
+            int b = bookOf[i];
+            int slot = next[b]++;
+            double exposure = accounts.get(i).exposure();
+            double[] loading = b < LOADINGS.length ? LOADINGS[b] : UNKNOWN_BOOK_LOADING;
+            book.equity[slot] = exposure * loading[EQUITY];
+            book.rates[slot] = exposure * loading[RATES];
+            book.fx[slot] = exposure * loading[FX];
+            book.credit[slot] = exposure * loading[CREDIT];
+            book.floor[slot] = -Math.abs(exposure);
+        }
+        return book;
+    }
+
+    public int bookCount() {
+        return books.size();
+    }
+
+    public int accountCount() {
+        return floor.length;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.mockrisk;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Applies a grid of equity, rates, FX and credit shocks to every risk account and
+ * reports stressed P&L per book and in total for each scenario.
+ * <p>
+ * The SIMD kernel on the JDK Vector API is used when the JVM was started with
+ * {@code --add-modules jdk.incubator.vector}; otherwise the scalar kernel is used.
+ */
+@Component
+public class StressEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(StressEngine.class);
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    private final StressKernel kernel;
+    private final StressKernel scalarKernel = new ScalarStressKernel();
+    private final int vectorMinAccounts;
+
+    public StressEngine(
+            @Value("${risk.stress.vectorized:true}") boolean vectorized,
+            @Value("${risk.stress.vector-min-accounts:256}") int vectorMinAccounts
+    ) {
+        this.kernel = vectorized && ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()
+                ? vectorKernel()
+                : scalarKernel;
+        this.vectorMinAccounts = vectorMinAccounts;
+        if (vectorized && kernel == scalarKernel) {
+            log.info("{} not available, stress grid uses the scalar kernel", VECTOR_MODULE);
+        }
+    }
+
+    // Kept separate so VectorStressKernel (and the incubator classes) are only loaded
+    // when the module is present.
+    private static StressKernel vectorKernel() {
+        return new VectorStressKernel();
+    }
+
+    public StressReport run(List<RiskController.RiskAccount> accounts, StressGrid grid) {
+        long start = System.nanoTime();
+        StressBook book = StressBook.of(accounts);
+        int books = book.bookCount();
+        double[] pnl = new double[grid.scenarioCount() * books];
+        // With few accounts per book the vector loop is mostly tail handling; stay scalar.
+        StressKernel selected = book.accountCount() < vectorMinAccounts ? scalarKernel : kernel;
+        selected.run(book, grid, pnl);
+
+        List<StressScenario> scenarios = new ArrayList<>(grid.scenarioCount());
+        StressScenario worst = null;
+        for (int s = 0; s < grid.scenarioCount(); s++) {
+            double[] bookPnl = new double[books];
+            System.arraycopy(pnl, s * books, bookPnl, 0, books);
+            double total = 0d;
+            for (double value : bookPnl) {
+                total += value;
+            }
+            StressScenario scenario = new StressScenario(
+                    grid.shock(s, StressBook.EQUITY),
+                    grid.shock(s, StressBook.RATES),
+                    grid.shock(s, StressBook.FX),
+                    grid.shock(s, StressBook.CREDIT),
+                    bookPnl,
+                    total
+            );
+            scenarios.add(scenario);
+            if (worst == null || total < worst.totalPnl()) {
+                worst = scenario;
+            }
+        }
+        return new StressReport(selected.name(), book.books, scenarios, worst, (System.nanoTime() - start) / 1_000);
+    }
+
+    public record StressReport(
+            String kernel,
+            List<String> books,
+            List<StressScenario> scenarios,
+            StressScenario worst,
+            long computeMicros
+    ) {}
+
+    /**
+     * One grid point: the applied shocks, stressed P&L per book (in the order of
+     * {@link StressReport#books()}) and the total.
+     */
+    public record StressScenario(
+            double equity,
+            double rates,
+            double fx,
+            double credit,
+            double[] bookPnl,
+            double totalPnl
+    ) {}
+}
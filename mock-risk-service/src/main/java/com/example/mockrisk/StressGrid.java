@@ -0,0 +1,77 @@
+package com.example.mockrisk;
+
+/**
+ * Full cross product of equity, rates, FX and credit shocks (fractional moves), laid
+ * out as {@code shocks[scenario * 4 + factor]}.
+ */
+public final class StressGrid {
+
+    public static final double[] DEFAULT_EQUITY = {-0.30, -0.20, -0.10, 0.0, 0.10, 0.20, 0.30};
+    public static final double[] DEFAULT_RATES = {-0.04, -0.02, 0.0, 0.02, 0.04};
+    public static final double[] DEFAULT_FX = {-0.10, -0.05, 0.0, 0.05, 0.10};
+    public static final double[] DEFAULT_CREDIT = {-0.08, -0.04, 0.0, 0.04, 0.08};
+
+    final double[] shocks;
+    final int scenarioCount;
+
+    private StressGrid(double[] shocks, int scenarioCount) {
+        this.shocks = shocks;
+        this.scenarioCount = scenarioCount;
+    }
+
+    public static StressGrid defaultGrid() {
+        return of(DEFAULT_EQUITY, DEFAULT_RATES, DEFAULT_FX, DEFAULT_CREDIT);
+    }
+
+    public static StressGrid of(double[] equity, double[] rates, double[] fx, double[] credit) {
+        return of(equity, rates, fx, credit, Integer.MAX_VALUE / StressBook.FACTORS);
+    }
+
+    /**
+     * Builds the grid, rejecting it before anything is allocated if an axis is empty or
+     * the cross product exceeds {@code maxScenarios}.
+     *
+     * @throws IllegalArgumentException if an axis is empty or the grid is too large
+     */
+    public static StressGrid of(double[] equity, double[] rates, double[] fx, double[] credit, int maxScenarios) {
+        double[][] axes = {equity, rates, fx, credit};
+        for (double[] axis : axes) {
+            if (axis.length == 0) {
+                throw new IllegalArgumentException("Every shock axis needs at least one value");
+            }
+        }
+        // Stops as soon as the bound is passed, so the long product cannot overflow.
+        long product = 1;
+        for (double[] axis : axes) {
+            product *= axis.length;
+            if (product > maxScenarios) {
+                throw new IllegalArgumentException("Stress grid has more than " + maxScenarios + " scenarios");
+            }
+        }
+        int scenarios = (int) product;
+        double[] shocks = new double[scenarios * StressBook.FACTORS];
+        int s = 0;
+        for (double e : equity) {
+            for (double r : rates) {
+                for (double f : fx) {
+                    for (double c : credit) {
+                        shocks[s * StressBook.FACTORS + StressBook.EQUITY] = e;
+                        shocks[s * StressBook.FACTORS + StressBook.RATES] = r;
+                        shocks[s * StressBook.FACTORS + StressBook.FX] = f;
+                        shocks[s * StressBook.FACTORS + StressBook.CREDIT] = c;
+                        s++;
+                    }
+                }
+            }
+        }
+        return new StressGrid(shocks, scenarios);
+    }
+
+    public int scenarioCount() {
+        return scenarioCount;
+    }
+
+    public double shock(int scenario, int factor) {
+        return shocks[scenario * StressBook.FACTORS + factor];
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.mockrisk;
+
+/**
+ * Computes stressed P&L per scenario and book. The P&L of an account in a scenario is
+ * the sum of its factor sensitivities times the factor shocks, floored at the loss of
+ * its whole exposure.
+ */
+interface StressKernel {
+
+    // Accounts per block: the block's five columns stay in L1/L2 while every scenario
+    // of the grid is applied to them.
+    int BLOCK = 512;
+
+    String name();
+
+    /**
+     * Fills {@code out[scenario * bookCount + book]} with the stressed P&L.
+     */
+    void run(StressBook book, StressGrid grid, double[] out);
+}
@@ -0,0 +1,61 @@
+package com.example.mockrisk;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Stress kernel on the JDK Vector API ({@code jdk.incubator.vector}): each scenario is
+ * applied to {@code SPECIES.length()} accounts at a time with lane-wise multiply-adds and a
+ * lane-wise max for the loss floor. Only loaded when the incubator module is present
+ * (see {@link StressEngine}).
+ */
+final class VectorStressKernel implements StressKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public String name() {
+        return "vector-" + SPECIES.vectorBitSize();
+    }
+
+    @Override
+    public void run(StressBook book, StressGrid grid, double[] out) {
+        int books = book.bookCount();
+        double[] shocks = grid.shocks;
+        for (int b = 0; b < books; b++) {
+            int end = book.bookStart[b + 1];
+            for (int from = book.bookStart[b]; from < end; from += BLOCK) {
+                int to = Math.min(end, from + BLOCK);
+                int upper = from + SPECIES.loopBound(to - from);
+                for (int s = 0; s < grid.scenarioCount; s++) {
+                    int row = s * StressBook.FACTORS;
+                    double x0 = shocks[row + StressBook.EQUITY];
+                    double x1 = shocks[row + StressBook.RATES];
+                    double x2 = shocks[row + StressBook.FX];
+                    double x3 = shocks[row + StressBook.CREDIT];
+                    DoubleVector v0 = DoubleVector.broadcast(SPECIES, x0);
+                    DoubleVector v1 = DoubleVector.broadcast(SPECIES, x1);
+                    DoubleVector v2 = DoubleVector.broadcast(SPECIES, x2);
+                    DoubleVector v3 = DoubleVector.broadcast(SPECIES, x3);
+
+                    DoubleVector acc = DoubleVector.zero(SPECIES);
+                    int a = from;
+                    for (; a < upper; a += SPECIES.length()) {
+                        DoubleVector pnl = DoubleVector.fromArray(SPECIES, book.equity, a).mul(v0)
+                                .add(DoubleVector.fromArray(SPECIES, book.rates, a).mul(v1))
+                                .add(DoubleVector.fromArray(SPECIES, book.fx, a).mul(v2))
+                                .add(DoubleVector.fromArray(SPECIES, book.credit, a).mul(v3));
+                        acc = acc.add(pnl.max(DoubleVector.fromArray(SPECIES, book.floor, a)));
+                    }
+                    double sum = acc.reduceLanes(VectorOperators.ADD);
+                    for (; a < to; a++) {
+                        double pnl = book.equity[a] * x0 + book.rates[a] * x1 + book.fx[a] * x2 + book.credit[a] * x3;
+                        sum += Math.max(book.floor[a], pnl);
+                    }
+                    out[s * books + b] += sum;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.mockrisk;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for quickselect, checked against a full sort.
+ */
+class QuantilesTest {
+
+    @Test
+    void select_ShouldHandleASingleElement() {
+        assertEquals(7.0, Quantiles.select(new double[] {7.0}, 0));
+    }
+
+    @Test
+    void select_ShouldFindTheSmallestAndLargestValue() {
+        double[] values = {5.0, -1.0, 3.0, 9.0, 0.0, 9.0, -1.0};
+
+        assertEquals(-1.0, Quantiles.select(values.clone(), 0));
+        assertEquals(9.0, Quantiles.select(values.clone(), values.length - 1));
+    }
+
+    @Test
+    void select_ShouldHandleRunsOfDuplicates() {
+        double[] equal = new double[33];
+        Arrays.fill(equal, 2.5);
+        assertEquals(2.5, Quantiles.select(equal, 16));
+
+        double[] twoValues = new double[64];
+        for (int i = 0; i < twoValues.length; i++) {
+            twoValues[i] = i % 3 == 0 ? 1.0 : 0.0;
+        }
+        for (int k = 0; k < twoValues.length; k++) {
+            assertSelects(twoValues, k);
+        }
+    }
+
+    @Test
+    void select_ShouldMatchASortForEveryRankOfRandomArrays() {
+        Random random = new Random(7);
+        for (int n : new int[] {2, 3, 10, 101, 1000}) {
+            double[] values = new double[n];
+            for (int i = 0; i < n; i++) {
+                // Few distinct values in half of the arrays, so ties are common.
+                values[i] = n % 2 == 0 ? random.nextGaussian() : random.nextInt(5);
+            }
+            for (int k = 0; k < n; k++) {
+                assertSelects(values, k);
+            }
+        }
+    }
+
+    @Test
+    void select_ShouldHandleSortedAndReversedInput() {
+        double[] ascending = new double[500];
+        double[] descending = new double[500];
+        for (int i = 0; i < ascending.length; i++) {
+            ascending[i] = i;
+            descending[i] = -i;
+        }
+        for (int k : new int[] {0, 1, 249, 250, 498, 499}) {
+            assertSelects(ascending, k);
+            assertSelects(descending, k);
+        }
+    }
+
+    /**
+     * Checks the selected value and the partition around it on a copy of {@code values}.
+     */
+    private static void assertSelects(double[] values, int k) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        double[] selected = values.clone();
+
+        assertEquals(sorted[k], Quantiles.select(selected, k), "k=" + k);
+        assertEquals(sorted[k], selected[k], "k=" + k);
+        for (int i = 0; i < selected.length; i++) {
+            assertTrue(i < k ? selected[i] <= selected[k] : selected[i] >= selected[k], "k=" + k + ", i=" + i);
+        }
+        Arrays.sort(selected);
+        assertTrue(Arrays.equals(sorted, selected), "select must only permute the values");
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.mockrisk;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Unit tests for RiskController: validation of custom stress grids and reuse of the
+ * computed risk metrics.
+ */
+class RiskControllerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RedisClientCache redisCache = mock(RedisClientCache.class);
+    private final VarEngine varEngine = mock(VarEngine.class);
+    private final StressEngine stressEngine = spy(new StressEngine(false, 256));
+    private final RiskController controller =
+            new RiskController(redisCache, objectMapper, varEngine, stressEngine, 0.02, 1_000);
+    private final MockMvc mvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+    @Test
+    void getRiskMetrics_ShouldRerunTheStressGridOnlyWhenTheAccountsChange() throws Exception {
+        when(varEngine.result()).thenReturn(new VarEngine.VarResult(10_000d, 12_000d, 0.99, 1_000_000d, 0));
+        List<RiskController.RiskAccount> accounts = List.of(
+                new RiskController.RiskAccount("ACC-001", "EQUITIES", 500_000d, 0.4),
+                new RiskController.RiskAccount("ACC-002", "FX", 250_000d, 0.7));
+        when(redisCache.get("risk:accounts")).thenReturn(objectMapper.writeValueAsString(accounts));
+
+        controller.getRiskMetrics();
+        controller.getRiskMetrics();
+        controller.getStress();
+        verify(stressEngine, times(1)).run(any(), any());
+
+        when(redisCache.get("risk:accounts")).thenReturn(objectMapper.writeValueAsString(accounts.subList(0, 1)));
+        controller.getRiskMetrics();
+        verify(stressEngine, times(2)).run(any(), any());
+    }
+
+    @Test
+    void runStress_ShouldRejectAnOversizedGridBeforeBuildingIt() throws Exception {
+        // 2,000^4 scenarios overflow an int; nothing may be allocated for them.
+        double[] axis = new double[2_000];
+        Arrays.fill(axis, 0.01);
+        stress(Map.of("equity", axis, "rates", axis, "fx", axis, "credit", axis))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(redisCache);
+        verify(stressEngine, never()).run(any(), any());
+    }
+
+    @Test
+    void runStress_ShouldRejectAnEmptyAxis() throws Exception {
+        stress(Map.of("equity", new double[0])).andExpect(status().isBadRequest());
+
+        verify(stressEngine, never()).run(any(), any());
+    }
+
+    private ResultActions stress(Map<String, double[]> body) throws Exception {
+        return mvc.perform(post("/api/risk/stress")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(body)));
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.mockrisk;
+
+import jdk.incubator.vector.DoubleVector;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the Vector API stress kernel produces the results of the scalar kernel.
+ */
+class StressKernelTest {
+
+    private static final int LANES = DoubleVector.SPECIES_PREFERRED.length();
+
+    private final StressKernel scalar = new ScalarStressKernel();
+    private final StressKernel vector = new VectorStressKernel();
+
+    @Test
+    void run_ShouldMatchTheScalarKernelOnRandomBooks() {
+        Random random = new Random(35);
+        // Per book: fewer accounts than lanes, a vector loop with a tail, exactly one
+        // block, and several blocks where the last one ends in a tail.
+        int[] accountsPerBook = {1, LANES - 1, LANES + 1, 3 * LANES + 2, StressKernel.BLOCK,
+                StressKernel.BLOCK + 1, 3 * StressKernel.BLOCK + LANES + 3};
+        for (int round = 0; round < 5; round++) {
+            List<RiskController.RiskAccount> accounts = new ArrayList<>();
+            for (int b = 0; b < accountsPerBook.length; b++) {
+                for (int i = 0; i < accountsPerBook[b]; i++) {
+                    double exposure = (random.nextDouble() - 0.3) * 2_000_000d;
+                    accounts.add(new RiskController.RiskAccount(
+                            "ACC-" + accounts.size(), RiskController.BOOKS[b], exposure, random.nextDouble()));
+                }
+            }
+            assertKernelsAgree(StressBook.of(accounts), StressGrid.defaultGrid());
+        }
+    }
+
+    @Test
+    void run_ShouldApplyTheLossFloorInTheVectorLoopAndTheTail() {
+        // Shocks far beyond -100% make every account hit its floor of -|exposure|.
+        StressGrid crash = StressGrid.of(new double[] {-5.0, 5.0}, new double[] {-5.0}, new double[] {-5.0},
+                new double[] {-5.0});
+        List<RiskController.RiskAccount> accounts = new ArrayList<>();
+        int count = StressKernel.BLOCK + 2 * LANES + 1;
+        double exposures = 0d;
+        for (int i = 0; i < count; i++) {
+            double exposure = 1_000d + i;
+            exposures += exposure;
+            accounts.add(new RiskController.RiskAccount("ACC-" + i, "EQUITIES", exposure, 0.5));
+        }
+        StressBook book = StressBook.of(accounts);
+
+        double[] out = assertKernelsAgree(book, crash);
+
+        // Book 0 (EQUITIES) of scenario 0 lost every account's whole exposure.
+        assertEquals(-exposures, out[0], 1e-6 * exposures);
+        assertTrue(out[book.bookCount()] > 0);
+    }
+
+    private double[] assertKernelsAgree(StressBook book, StressGrid grid) {
+        double[] expected = new double[grid.scenarioCount() * book.bookCount()];
+        double[] actual = new double[expected.length];
+        scalar.run(book, grid, expected);
+        vector.run(book, grid, actual);
+        for (int i = 0; i < expected.length; i++) {
+            // Lanes are summed in a different order, so allow for rounding.
+            double tolerance = 1e-9 * Math.max(1d, Math.abs(expected[i]));
+            assertEquals(expected[i], actual[i], tolerance,
+                    "scenario " + i / book.bookCount() + ", book " + i % book.bookCount());
+        }
+        return actual;
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.mockrisk;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Unit tests for historical-simulation VaR / CVaR, checked against a sequential,
+ * sort-based reference.
+ */
+class VarEngineTest {
+
+    @Test
+    void compute_ShouldMatchASortBasedReference() {
+        // More positions than one leaf, so the P&L vectors are computed in forked tasks.
+        ScenarioPortfolio portfolio = ScenarioPortfolio.generate(3 * VarEngine.LEAF_POSITIONS + 17, 1000, 8, 11);
+        VarEngine engine = new VarEngine(portfolio, 0.99, 4);
+        try {
+            double[] pnl = referencePnl(portfolio);
+            assertArrayEquals(pnl, engine.scenarioPnl(), 1e-6);
+
+            double[] losses = Arrays.stream(pnl).map(value -> -value).sorted().toArray();
+            // 1% of 1000 scenarios: the ten largest losses.
+            double var = losses[990];
+            double cvar = Arrays.stream(losses, 990, 1000).average().orElseThrow();
+
+            VarEngine.VarResult result = engine.compute();
+            assertEquals(var, result.var(), 1e-6);
+            assertEquals(cvar, result.cvar(), 1e-6);
+            assertEquals(portfolio.grossExposure(), result.grossExposure());
+        } finally {
+            engine.shutdown();
+        }
+    }
+
+    @Test
+    void result_ShouldComputeOnceAndReuseTheResult() {
+        VarEngine engine = new VarEngine(ScenarioPortfolio.generate(100, 50, 3, 5), 0.95, 1);
+        try {
+            VarEngine.VarResult result = engine.result();
+            assertSame(result, engine.result());
+            assertEquals(engine.compute().var(), result.var());
+        } finally {
+            engine.shutdown();
+        }
+    }
+
+    @Test
+    void tailSize_ShouldCountTheScenariosBeyondTheConfidenceLevel() {
+        assertEquals(10, VarEngine.tailSize(0.99, 1000));
+        assertEquals(50, VarEngine.tailSize(0.95, 1000));
+        assertEquals(3, VarEngine.tailSize(0.99, 250));
+        assertEquals(1, VarEngine.tailSize(0.999, 10));
+        assertEquals(1, VarEngine.tailSize(1.0, 10));
+    }
+
+    @Test
+    void compute_ShouldUseTheWorstScenarioForASingleScenarioTail() {
+        ScenarioPortfolio portfolio = ScenarioPortfolio.generate(100, 5, 3, 3);
+        VarEngine engine = new VarEngine(portfolio, 0.99, 1);
+        try {
+            double worstLoss = -Arrays.stream(referencePnl(portfolio)).min().orElseThrow();
+
+            VarEngine.VarResult result = engine.compute();
+
+            assertEquals(worstLoss, result.var(), 1e-6);
+            assertEquals(worstLoss, result.cvar(), 1e-6);
+        } finally {
+            engine.shutdown();
+        }
+    }
+
+    @Test
+    void context_ShouldCreateTheEngineFromProperties() {
+        new ApplicationContextRunner()
+                .withUserConfiguration(VarEngine.class)
+                .withPropertyValues("risk.var.positions=500", "risk.var.scenarios=100", "risk.var.parallelism=1")
+                .run(context -> assertThat(context).hasNotFailed().hasSingleBean(VarEngine.class));
+    }
+
+    /**
+     * Scenario P&L with one plain loop over positions and scenarios.
+     */
+    private static double[] referencePnl(ScenarioPortfolio portfolio) {
+        double[] pnl = new double[portfolio.scenarioCount];
+        for (int i = 0; i < portfolio.positionCount; i++) {
+            for (int s = 0; s < portfolio.scenarioCount; s++) {
+                double r = portfolio.factorReturns[portfolio.factors[i] * portfolio.scenarioCount + s];
+                pnl[s] += portfolio.exposures[i] * r * (portfolio.betas[i] + 0.5 * portfolio.gammas[i] * r);
+            }
+        }
+        return pnl;
+    }
+}
@@ -0,0 +1,278 @@
+package com.example.mocktrading;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.lettuce.core.resource.ClientResources;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+/**
+ * Local copies of the string keys the controller serves, kept coherent by Redis itself
+ * through RESP3 client tracking.
+ * <p>
+ * A dedicated connection turns on {@code CLIENT TRACKING} in broadcast mode for the
+ * configured key prefixes, so Redis pushes an invalidation on it whenever a key under
+ * one of them changes. A value read while tracking was on is served locally until
+ * then; every invalidation bumps an epoch, and a value is only kept if none arrived
+ * since before it was read. When the tracking connection drops, invalidations may have
+ * been missed, so the cache is cleared and reads go to Redis until tracking is back.
+ * <p>
+ * Each mock service is a separate build (and Docker context), so this class is copied
+ * into mock-risk-service, mock-trading-service and mock-ledger-service; only the
+ * package and the default key prefixes differ. Change the three copies together;
+ * {@code scripts/check-mock-copies.sh} reports any drift.
+ */
+@Component
+public class RedisClientCache {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisClientCache.class);
+    private static final Duration CONNECT_RETRY_INTERVAL = Duration.ofSeconds(1);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Supplier<CompletionStage<StatefulRedisConnection<String, String>>> connector;
+    private final String[] prefixes;
+    private final Map<String, String> entries;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter invalidations;
+
+    // All guarded by this.
+    private long epoch;
+    private StatefulRedisConnection<String, String> connection;
+    private boolean connecting;
+    private long nextConnectNanos = System.nanoTime();
+
+    @Autowired
+    public RedisClientCache(
+            StringRedisTemplate redisTemplate,
+            LettuceConnectionFactory connectionFactory,
+            ClientResources clientResources,
+            MeterRegistry meterRegistry,
+            @Value("${mock.client-cache.enabled:true}") boolean enabled,
+            @Value("${mock.client-cache.max-entries:256}") int maxEntries,
+            @Value("${mock.client-cache.prefixes:trading:summary,trading:orders,trading:fills}") String[] prefixes
+    ) {
+        this(redisTemplate,
+                enabled ? new LettuceConnector(RedisClient.create(clientResources), connectionFactory) : null,
+                meterRegistry, maxEntries, prefixes);
+    }
+
+    /**
+     * @param connector opens the tracking connection, or {@code null} to pass all reads
+     *                  through
+     */
+    RedisClientCache(
+            StringRedisTemplate redisTemplate,
+            Supplier<CompletionStage<StatefulRedisConnection<String, String>>> connector,
+            MeterRegistry meterRegistry,
+            int maxEntries,
+            String... prefixes
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.connector = connector;
+        this.prefixes = prefixes;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.hits = Counter.builder("redis.client-cache.requests").tag("result", "hit")
+                .description("Reads of tracked Redis keys served from the local copy")
+                .register(meterRegistry);
+        this.misses = Counter.builder("redis.client-cache.requests").tag("result", "miss")
+                .description("Reads of tracked Redis keys that went to Redis")
+                .register(meterRegistry);
+        this.invalidations = Counter.builder("redis.client-cache.invalidations")
+                .description("Local copies dropped because Redis reported a change or tracking was lost")
+                .register(meterRegistry);
+        Gauge.builder("redis.client-cache.size", this, RedisClientCache::size)
+                .description("Redis keys with a local copy")
+                .register(meterRegistry);
+    }
+
+    /**
+     * {@code GET key}, from the local copy if there is one. Missing keys are not cached.
+     */
+    public String get(String key) {
+        if (connector == null || !tracked(key)) {
+            return redisTemplate.opsForValue().get(key);
+        }
+        long readEpoch;
+        synchronized (this) {
+            readEpoch = trackingEpoch();
+            String cached = entries.get(key);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        }
+        misses.increment();
+        String value = redisTemplate.opsForValue().get(key);
+        if (value != null) {
+            store(key, value, readEpoch);
+        }
+        return value;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    @PreDestroy
+    public void close() {
+        synchronized (this) {
+            if (connection != null) {
+                connection.closeAsync();
+                connection = null;
+            }
+        }
+        if (connector instanceof LettuceConnector lettuce) {
+            lettuce.client().shutdownAsync();
+        }
+    }
+
+    private boolean tracked(String key) {
+        for (String prefix : prefixes) {
+            if (key.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private synchronized void store(String key, String value, long readEpoch) {
+        if (readEpoch >= 0 && readEpoch == epoch && connection != null) {
+            entries.put(key, value);
+        }
+    }
+
+    /**
+     * The current epoch if tracking is on, else -1 after starting to re-establish it.
+     */
+    private long trackingEpoch() {
+        if (connection != null && connection.isOpen()) {
+            return epoch;
+        }
+        if (connection != null) {
+            log.warn("Redis client tracking connection lost, dropping {} cached keys", entries.size());
+            connection = null;
+            invalidateAll();
+        }
+        if (!connecting && System.nanoTime() - nextConnectNanos >= 0) {
+            connecting = true;
+            startTracking();
+        }
+        return connection != null ? epoch : -1;
+    }
+
+    private void startTracking() {
+        connector.get()
+                .thenAccept(opened -> {
+                    opened.addListener(this::onPush);
+                    opened.async()
+                            .clientTracking(TrackingArgs.Builder.enabled().bcast().prefixes(prefixes))
+                            .whenComplete((ok, error) -> tracking(opened, error));
+                })
+                .exceptionally(error -> {
+                    tracking(null, error);
+                    return null;
+                });
+    }
+
+    private synchronized void tracking(StatefulRedisConnection<String, String> opened, Throwable error) {
+        connecting = false;
+        if (error != null) {
+            nextConnectNanos = System.nanoTime() + CONNECT_RETRY_INTERVAL.toNanos();
+            log.warn("Cannot enable Redis client tracking, reads go to Redis: {}", error.toString());
+            if (opened != null) {
+                opened.closeAsync();
+            }
+            return;
+        }
+        connection = opened;
+        invalidateAll();
+        log.info("Redis client tracking on for prefixes {}", List.of(prefixes));
+    }
+
+    private void onPush(PushMessage message) {
+        if (!"invalidate".equals(message.getType())) {
+            return;
+        }
+        Object keys = message.getContent(StringCodec.UTF8::decodeKey).get(1);
+        synchronized (this) {
+            if (keys instanceof List<?> changed) {
+                epoch++;
+                for (Object key : changed) {
+                    if (entries.remove(key) != null) {
+                        invalidations.increment();
+                    }
+                }
+            } else {
+                // FLUSHALL / FLUSHDB: a null key list invalidates everything.
+                invalidateAll();
+            }
+        }
+    }
+
+    private void invalidateAll() {
+        epoch++;
+        invalidations.increment(entries.size());
+        entries.clear();
+    }
+
+    /**
+     * Opens RESP3 connections to the Redis server Spring Data is configured for, without
+     * automatic reconnects.
+     */
+    private record LettuceConnector(RedisClient client, LettuceConnectionFactory connectionFactory)
+            implements Supplier<CompletionStage<StatefulRedisConnection<String, String>>> {
+
+        LettuceConnector {
+            client.setOptions(ClientOptions.builder()
+                    .protocolVersion(ProtocolVersion.RESP3)
+                    .autoReconnect(false)
+                    .build());
+        }
+
+        @Override
+        public CompletionStage<StatefulRedisConnection<String, String>> get() {
+            RedisStandaloneConfiguration config = connectionFactory.getStandaloneConfiguration();
+            RedisURI.Builder uri = RedisURI.builder()
+                    .withHost(config.getHostName())
+                    .withPort(config.getPort())
+                    .withDatabase(config.getDatabase());
+            config.getPassword().toOptional().ifPresent(password -> {
+                if (config.getUsername() != null) {
+                    uri.withAuthentication(config.getUsername(), password);
+                } else {
+                    uri.withPassword(password);
+                }
+            });
+            return client.connectAsync(StringCodec.UTF8, uri.build());
+        }
+    }
+}
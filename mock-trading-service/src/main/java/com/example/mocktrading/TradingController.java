@@ -4,7 +4,6 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -23,14 +22,14 @@ public class TradingController {
     private static final String TRADING_ORDERS_KEY = "trading:orders";
     private static final String TRADING_FILLS_KEY = "trading:fills";
 
-    private final StringRedisTemplate redisTemplate;
+    private final RedisClientCache redisCache;
     private final ObjectMapper objectMapper;
     private final Random random = new Random();
     private static final String[] SYMBOLS = {"AAPL", "MSFT", "GOOGL", "TSLA", "AMZN", "NVDA", "META", "NFLX"};
     private static final String[] SIDES = {"BUY", "SELL"};
 
-    public TradingController(StringRedisTemplate redisTemplate, ObjectMapper objectMapper) {
-        this.redisTemplate = redisTemplate;
+    public TradingController(RedisClientCache redisCache, ObjectMapper objectMapper) {
+        this.redisCache = redisCache;
         this.objectMapper = objectMapper;
     }
 
@@ -41,7 +40,7 @@ public class TradingController {
         Thread.sleep(latency);
 
         try {
-            String json = redisTemplate.opsForValue().get(TRADING_SUMMARY_KEY);
+            String json = redisCache.get(TRADING_SUMMARY_KEY);
             if (json != null) {
                 return objectMapper.readValue(json, TradingSummary.class);
             }
@@ -64,7 +63,7 @@ public class TradingController {
         Thread.sleep(latency);
 
         try {
-            String json = redisTemplate.opsForValue().get(TRADING_ORDERS_KEY);
+            String json = redisCache.get(TRADING_ORDERS_KEY);
             if (json != null) {
                 return objectMapper.readValue(json, new TypeReference<List<TradingOrder>>() {});
             }
@@ -94,7 +93,7 @@ public class TradingController {
         Thread.sleep(latency);
 
         try {
-            String json = redisTemplate.opsForValue().get(TRADING_FILLS_KEY);
+            String json = redisCache.get(TRADING_FILLS_KEY);
             if (json != null) {
                 return objectMapper.readValue(json, new TypeReference<List<TradingFill>>() {});
             }
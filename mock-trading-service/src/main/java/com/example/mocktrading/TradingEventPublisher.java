@@ -0,0 +1,172 @@
+package com.example.mocktrading;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Simulates live trading activity: periodically creates, fills and cancels orders,
+ * keeps the Redis snapshot keys (summary included) up to date and publishes every change
+ * as an event on the {@code trading:events} Redis Stream so consumers can apply deltas
+ * instead of re-fetching the full lists.
+ * <p>
+ * New orders are likelier below {@link #TARGET_OPEN_ORDERS} than above it, so the book
+ * hovers around that size instead of growing with every tick.
+ * <p>
+ * Each event carries a {@code type}, a JSON {@code payload} and a monotonically
+ * increasing {@code seq} that lets consumers detect gaps and fall back to a resync.
+ */
+@Component
+public class TradingEventPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(TradingEventPublisher.class);
+    private static final String TRADING_SUMMARY_KEY = "trading:summary";
+    private static final String TRADING_ORDERS_KEY = "trading:orders";
+    private static final String TRADING_FILLS_KEY = "trading:fills";
+    private static final String TRADING_EVENTS_STREAM = "trading:events";
+    private static final String TRADING_EVENTS_SEQ_KEY = "trading:events:seq";
+    private static final int MAX_FILLS = 500;
+    // Roughly the size of the pre-loaded book.
+    static final int TARGET_OPEN_ORDERS = 40;
+    private static final long STREAM_MAX_LENGTH = 10_000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Random random = new Random();
+    private static final String[] SYMBOLS = {"AAPL", "MSFT", "GOOGL", "TSLA", "AMZN", "NVDA", "META", "NFLX"};
+    private static final String[] SIDES = {"BUY", "SELL"};
+
+    public TradingEventPublisher(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${mock.events.enabled:false}") boolean enabled
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+    }
+
+    @Scheduled(fixedDelayString = "${mock.events.interval-ms:1000}")
+    public void publishActivity() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            List<TradingController.TradingOrder> orders = read(TRADING_ORDERS_KEY, new TypeReference<>() {});
+            List<TradingController.TradingFill> fills = read(TRADING_FILLS_KEY, new TypeReference<>() {});
+            String summaryJson = redisTemplate.opsForValue().get(TRADING_SUMMARY_KEY);
+            if (orders == null || fills == null || summaryJson == null) {
+                return;
+            }
+            TradingController.TradingSummary summary =
+                    objectMapper.readValue(summaryJson, TradingController.TradingSummary.class);
+            long filledToday = summary.filledToday();
+            double realizedPnl = summary.realizedPnl();
+
+            // Cancels (15% of ticks) and the third of fills that complete an order remove
+            // one on 28% of ticks below the target and 35% above it, so adding on 45% or
+            // 25% of them pulls the book back towards the target from either side.
+            double newOrder = orders.size() < TARGET_OPEN_ORDERS ? 0.45 : 0.25;
+            double action = random.nextDouble();
+            if (action < newOrder || orders.isEmpty()) {
+                // New order
+                long seq = nextSeq();
+                TradingController.TradingOrder order = new TradingController.TradingOrder(
+                        "ORD-" + String.format("%06d", 100_000 + seq),
+                        SYMBOLS[random.nextInt(SYMBOLS.length)],
+                        SIDES[random.nextInt(SIDES.length)],
+                        100 + random.nextInt(900),
+                        100d + random.nextDouble() * 200d,
+                        "PENDING"
+                );
+                orders.add(order);
+                write(TRADING_ORDERS_KEY, orders);
+                publish("ORDER_UPSERT", seq, order);
+            } else if (action < 0.85) {
+                // Fill (part of) an existing order
+                int index = random.nextInt(orders.size());
+                TradingController.TradingOrder order = orders.get(index);
+                int quantity = Math.max(1, order.quantity() / (1 + random.nextInt(3)));
+                long fillSeq = nextSeq();
+                TradingController.TradingFill fill = new TradingController.TradingFill(
+                        "FILL-" + String.format("%06d", 100_000 + fillSeq),
+                        order.symbol(),
+                        order.side(),
+                        quantity,
+                        order.price(),
+                        -5_000d + random.nextDouble() * 10_000d
+                );
+                fills.add(fill);
+                if (fills.size() > MAX_FILLS) {
+                    fills = new ArrayList<>(fills.subList(fills.size() - MAX_FILLS, fills.size()));
+                }
+                write(TRADING_FILLS_KEY, fills);
+                publish("FILL", fillSeq, fill);
+                filledToday++;
+                realizedPnl += fill.pnl();
+
+                long orderSeq = nextSeq();
+                if (quantity >= order.quantity()) {
+                    orders.remove(index);
+                    write(TRADING_ORDERS_KEY, orders);
+                    publish("ORDER_REMOVED", orderSeq, Map.of("orderId", order.orderId()));
+                } else {
+                    TradingController.TradingOrder partial = new TradingController.TradingOrder(
+                            order.orderId(), order.symbol(), order.side(),
+                            order.quantity() - quantity, order.price(), "PARTIAL");
+                    orders.set(index, partial);
+                    write(TRADING_ORDERS_KEY, orders);
+                    publish("ORDER_UPSERT", orderSeq, partial);
+                }
+            } else {
+                // Cancel an existing order
+                TradingController.TradingOrder order = orders.remove(random.nextInt(orders.size()));
+                long seq = nextSeq();
+                write(TRADING_ORDERS_KEY, orders);
+                publish("ORDER_REMOVED", seq, Map.of("orderId", order.orderId()));
+            }
+            write(TRADING_SUMMARY_KEY, new TradingController.TradingSummary(orders.size(), filledToday, realizedPnl));
+        } catch (Exception e) {
+            log.warn("Failed to publish trading activity", e);
+        }
+    }
+
+    private long nextSeq() {
+        Long seq = redisTemplate.opsForValue().increment(TRADING_EVENTS_SEQ_KEY);
+        return seq == null ? 0 : seq;
+    }
+
+    private void publish(String type, long seq, Object payload) throws Exception {
+        Map<String, String> fields = Map.of(
+                "type", type,
+                "seq", String.valueOf(seq),
+                "payload", objectMapper.writeValueAsString(payload)
+        );
+        redisTemplate.opsForStream().add(
+                StreamRecords.newRecord().in(TRADING_EVENTS_STREAM).ofMap(fields),
+                XAddOptions.maxlen(STREAM_MAX_LENGTH).approximateTrimming(true)
+        );
+    }
+
+    private <T> List<T> read(String key, TypeReference<List<T>> type) throws Exception {
+        String json = redisTemplate.opsForValue().get(key);
+        return json == null ? null : new ArrayList<>(objectMapper.readValue(json, type));
+    }
+
+    private void write(String key, Object value) throws Exception {
+        redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(value));
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.mocktrading;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for TradingEventPublisher against an in-memory stand-in for the Redis keys.
+ */
+class TradingEventPublisherTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, String> keys = new HashMap<>();
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final TradingEventPublisher publisher = new TradingEventPublisher(redisTemplate, objectMapper, true);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        AtomicLong seq = new AtomicLong();
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(redisTemplate.opsForStream()).thenReturn(mock(StreamOperations.class));
+        when(values.get(anyString())).thenAnswer(invocation -> keys.get(invocation.<String>getArgument(0)));
+        doAnswer(invocation -> keys.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(values).set(anyString(), anyString());
+        when(values.increment(anyString())).thenAnswer(invocation -> seq.incrementAndGet());
+
+        List<TradingController.TradingOrder> orders = new ArrayList<>();
+        for (int i = 0; i < TradingEventPublisher.TARGET_OPEN_ORDERS; i++) {
+            orders.add(new TradingController.TradingOrder(
+                    String.format("ORD-%06d", i), "AAPL", "BUY", 100 + i, 150d, "PENDING"));
+        }
+        keys.put("trading:orders", objectMapper.writeValueAsString(orders));
+        keys.put("trading:fills", "[]");
+        keys.put("trading:summary",
+                objectMapper.writeValueAsString(new TradingController.TradingSummary(99, 7, 1_000d)));
+    }
+
+    @Test
+    void publishActivity_ShouldKeepTheBookNearItsTargetSize() throws Exception {
+        int largest = 0;
+        for (int tick = 0; tick < 5_000; tick++) {
+            publisher.publishActivity();
+            largest = Math.max(largest, orders().size());
+        }
+        // A fixed mix that adds more than it removes would grow it by hundreds here.
+        assertTrue(largest < 4 * TradingEventPublisher.TARGET_OPEN_ORDERS, "largest book " + largest);
+    }
+
+    @Test
+    void publishActivity_ShouldKeepTheSummaryInStepWithTheLists() throws Exception {
+        for (int tick = 0; tick < 500; tick++) {
+            publisher.publishActivity();
+            TradingController.TradingSummary summary =
+                    objectMapper.readValue(keys.get("trading:summary"), TradingController.TradingSummary.class);
+            assertEquals(orders().size(), summary.openOrders());
+        }
+        List<TradingController.TradingFill> fills =
+                objectMapper.readValue(keys.get("trading:fills"), new TypeReference<>() {});
+        TradingController.TradingSummary summary =
+                objectMapper.readValue(keys.get("trading:summary"), TradingController.TradingSummary.class);
+        assertEquals(7 + fills.size(), summary.filledToday());
+        assertEquals(1_000d + fills.stream().mapToDouble(TradingController.TradingFill::pnl).sum(),
+                summary.realizedPnl(), 1e-6);
+    }
+
+    private List<TradingController.TradingOrder> orders() throws Exception {
+        return objectMapper.readValue(keys.get("trading:orders"), new TypeReference<>() {});
+    }
+}
@@ -0,0 +1,34 @@
+#!/usr/bin/env bash
+#
+# Checks that the classes copied between the mock services have not drifted apart.
+#
+#   scripts/check-mock-copies.sh
+#
+# Each mock service builds on its own, so shared code is copied rather than depended
+# on. The copies in mock-trading-service and mock-ledger-service are compared with
+# mock-risk-service after normalizing the package name and the default key prefixes;
+# any other difference is printed and the script exits 1.
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+FILES=(
+    src/main/java/com/example/mock@/RedisClientCache.java
+)
+
+normalize() {
+    sed -e "s/com\.example\.mock$1/com.example.mock/g" \
+        -e 's/\(mock\.client-cache\.prefixes:\)[^}]*/\1/' "$2"
+}
+
+status=0
+for file in "${FILES[@]}"; do
+    reference="$ROOT/mock-risk-service/${file//@/risk}"
+    for service in trading ledger; do
+        copy="$ROOT/mock-$service-service/${file//@/$service}"
+        if ! diff -u --label "${reference#"$ROOT"/}" --label "${copy#"$ROOT"/}" \
+                <(normalize risk "$reference") <(normalize "$service" "$copy"); then
+            status=1
+        fi
+    done
+done
+exit "$status"
@@ -0,0 +1,102 @@
+#!/usr/bin/env bash
+#
+# Time-to-ready of a service with and without Spring AOT + AppCDS.
+#
+#   scripts/startup-time.sh [service ...] [-n runs]
+#
+# Services: bff-java, mock-risk-service, mock-trading-service, mock-ledger-service
+# (default: all). Each is built with `mvn -Paot package` if target/cds is missing,
+# then started `runs` times (default 5) per mode, one process at a time:
+#
+#   baseline  java -jar target/<artifact>.jar
+#   aot+cds   java -XX:SharedArchiveFile=target/cds/application.jsa
+#                  -Dspring.aot.enabled=true -jar target/cds/<artifact>.jar
+#
+# Time-to-ready is measured from process launch until the ready URL of the service
+# answers 200. For the BFF that is the readiness probe, which stays OUT_OF_SERVICE
+# until the JIT warmup (dashboard.warmup) has run against the downstreams, so the
+# figure is the time until it takes traffic. Start Redis first (docker compose up -d
+# redis) so the mock services load their data as they would in production, and have
+# the mock services running before timing the BFF; REDIS_HOST defaults to localhost.
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+RUNS=5
+SERVICES=()
+while [[ $# -gt 0 ]]; do
+    case "$1" in
+        -n) RUNS="$2"; shift 2 ;;
+        *) SERVICES+=("$1"); shift ;;
+    esac
+done
+if [[ ${#SERVICES[@]} -eq 0 ]]; then
+    SERVICES=(bff-java mock-risk-service mock-trading-service mock-ledger-service)
+fi
+
+ready_url() {
+    case "$1" in
+        bff-java) echo "http://localhost:8080/actuator/health/readiness" ;;
+        mock-risk-service) echo "http://localhost:9001/api/risk/ping" ;;
+        mock-trading-service) echo "http://localhost:9002/api/trading/ping" ;;
+        mock-ledger-service) echo "http://localhost:9003/api/ledger/ping" ;;
+        *) echo "Unknown service: $1" >&2; exit 1 ;;
+    esac
+}
+
+jvm_args() {
+    local args=("-Dspring.data.redis.host=${REDIS_HOST:-localhost}")
+    if [[ "$1" == mock-risk-service ]]; then
+        args+=(--add-modules jdk.incubator.vector)
+    fi
+    echo "${args[@]}"
+}
+
+now_ms() {
+    date +%s%3N
+}
+
+# Starts the service, waits for the ready URL and prints the elapsed milliseconds.
+time_to_ready() {
+    local url="$1"; shift
+    local start pid elapsed
+    start=$(now_ms)
+    java "$@" > /dev/null 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null "$url"; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "Process exited before becoming ready: java $*" >&2
+            exit 1
+        fi
+        sleep 0.02
+    done
+    elapsed=$(( $(now_ms) - start ))
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+    echo "$elapsed"
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+printf '%-22s %14s %14s %9s\n' service "baseline (ms)" "aot+cds (ms)" speedup
+for service in "${SERVICES[@]}"; do
+    dir="$ROOT/$service"
+    jar_name="$(cd "$dir" && mvn -q help:evaluate -Dexpression=project.build.finalName -DforceStdout).jar"
+    if [[ ! -f "$dir/target/cds/application.jsa" ]]; then
+        (cd "$dir" && mvn -q -B -Paot package -DskipTests > /dev/null)
+    fi
+    url="$(ready_url "$service")"
+    read -r -a args <<< "$(jvm_args "$service")"
+
+    baseline=$(for _ in $(seq "$RUNS"); do
+        time_to_ready "$url" "${args[@]}" -jar "$dir/target/$jar_name"
+    done | median)
+    optimized=$(for _ in $(seq "$RUNS"); do
+        time_to_ready "$url" "${args[@]}" -XX:SharedArchiveFile="$dir/target/cds/application.jsa" \
+            -Dspring.aot.enabled=true -jar "$dir/target/cds/$jar_name"
+    done | median)
+
+    printf '%-22s %14d %14d %8.2fx\n' "$service" "$baseline" "$optimized" \
+        "$(awk -v b="$baseline" -v o="$optimized" 'BEGIN { print b / o }')"
+done